@@ -0,0 +1,35 @@
+package com.nike.backstopper.apierror;
+
+import org.jetbrains.annotations.NotNull;
+
+import jakarta.validation.Payload;
+
+/**
+ * A JSR 303 {@link Payload} that binds a constraint directly to the {@link ApiError} it should produce, rather than
+ * relying on the constraint's message being the name of an {@link ApiError} that has to be looked up. For example:
+ *
+ * <pre>
+ *  public class MissingEmail implements ApiErrorPayload {
+ *      public ApiError getApiError() {
+ *          return MyProjectApiError.MISSING_EMAIL;
+ *      }
+ *  }
+ *
+ *  public class SignupRequest {
+ *      &#64;NotBlank(message = "MISSING_EMAIL", payload = MissingEmail.class)
+ *      public String email;
+ *  }
+ * </pre>
+ *
+ * <p>Implementations must have an accessible no-arg constructor. {@link ConstraintApiErrorResolver} creates one
+ * instance per constraint descriptor and caches the result, so {@link #getApiError()} should always return the same
+ * {@link ApiError}. Keeping the message as the {@link ApiError} name (as shown above) is still a good idea so that
+ * the constraint works the same way with handlers that don't look at the payload.
+ */
+public interface ApiErrorPayload extends Payload {
+
+    /**
+     * @return The {@link ApiError} that a violation of the constraint this payload is attached to should produce.
+     */
+    @NotNull ApiError getApiError();
+}
@@ -0,0 +1,182 @@
+package com.nike.backstopper.apierror;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Finds the {@link ApiError} that a {@link ConstraintViolation} is bound to without looking at its message. Two kinds
+ * of bindings are supported, checked in this order:
+ * <ol>
+ *     <li>
+ *         A Hibernate Validator dynamic payload of type {@link ApiError}, i.e. a custom {@code ConstraintValidator}
+ *         called {@code HibernateConstraintValidatorContext.withDynamicPayload(someApiError)}. This is looked up
+ *         reflectively, so Hibernate Validator does not need to be on the classpath.
+ *     </li>
+ *     <li>
+ *         An {@link ApiErrorPayload} in the constraint's {@code payload} attribute. This is resolved once per
+ *         {@link ConstraintDescriptor} and cached. If a constraint declares more than one {@link ApiErrorPayload},
+ *         the one whose class name sorts first wins.
+ *     </li>
+ * </ol>
+ *
+ * <p>{@link #resolve(ConstraintViolation)} returns null if the violation has neither, in which case callers should
+ * fall back to the usual message-based lookup.
+ *
+ * <p>Once the cache holds {@link #maxSize} descriptors, new descriptors are still resolved but not cached.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ConstraintApiErrorResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstraintApiErrorResolver.class);
+
+    /**
+     * The default max number of constraint descriptors an instance will cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final String HIBERNATE_CONSTRAINT_VIOLATION_CLASS_NAME =
+        "org.hibernate.validator.engine.HibernateConstraintViolation";
+    private static final Class<?> HIBERNATE_CONSTRAINT_VIOLATION_CLASS;
+    private static final Method GET_DYNAMIC_PAYLOAD_METHOD;
+
+    static {
+        Class<?> hibernateConstraintViolationClass = null;
+        Method getDynamicPayloadMethod = null;
+        try {
+            hibernateConstraintViolationClass = Class.forName(
+                HIBERNATE_CONSTRAINT_VIOLATION_CLASS_NAME, false, ConstraintApiErrorResolver.class.getClassLoader()
+            );
+            getDynamicPayloadMethod = hibernateConstraintViolationClass.getMethod("getDynamicPayload", Class.class);
+        }
+        catch (Exception | LinkageError ex) {
+            // Hibernate Validator isn't available, so there are no dynamic payloads to look at.
+            hibernateConstraintViolationClass = null;
+            getDynamicPayloadMethod = null;
+        }
+        HIBERNATE_CONSTRAINT_VIOLATION_CLASS = hibernateConstraintViolationClass;
+        GET_DYNAMIC_PAYLOAD_METHOD = getDynamicPayloadMethod;
+    }
+
+    protected final int maxSize;
+    protected final ConcurrentHashMap<ConstraintDescriptor<?>, Optional<ApiError>> descriptorCache =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance that caches up to {@link #DEFAULT_MAX_SIZE} constraint descriptors.
+     */
+    public ConstraintApiErrorResolver() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new instance that caches up to the given number of constraint descriptors.
+     */
+    public ConstraintApiErrorResolver(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative.");
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The {@link ApiError} the given violation is bound to via a dynamic payload or an {@link ApiErrorPayload},
+     * or null if it isn't bound to one.
+     */
+    public @Nullable ApiError resolve(@NotNull ConstraintViolation<?> violation) {
+        //noinspection ConstantConditions
+        if (violation == null) {
+            throw new NullPointerException("violation cannot be null.");
+        }
+
+        ApiError dynamicPayloadApiError = extractDynamicPayloadApiError(violation);
+        if (dynamicPayloadApiError != null) {
+            return dynamicPayloadApiError;
+        }
+
+        ConstraintDescriptor<?> descriptor = violation.getConstraintDescriptor();
+        if (descriptor == null) {
+            return null;
+        }
+
+        Optional<ApiError> cached = descriptorCache.get(descriptor);
+        if (cached == null) {
+            cached = Optional.ofNullable(resolveFromDescriptorPayload(descriptor));
+            if (descriptorCache.size() < maxSize) {
+                descriptorCache.putIfAbsent(descriptor, cached);
+            }
+        }
+
+        return cached.orElse(null);
+    }
+
+    /**
+     * @return The number of constraint descriptors currently cached.
+     */
+    public int size() {
+        return descriptorCache.size();
+    }
+
+    /**
+     * @return The Hibernate Validator dynamic payload of the given violation if it is an {@link ApiError}, otherwise
+     * null.
+     */
+    protected @Nullable ApiError extractDynamicPayloadApiError(@NotNull ConstraintViolation<?> violation) {
+        if (GET_DYNAMIC_PAYLOAD_METHOD == null || !HIBERNATE_CONSTRAINT_VIOLATION_CLASS.isInstance(violation)) {
+            return null;
+        }
+
+        try {
+            return (ApiError) GET_DYNAMIC_PAYLOAD_METHOD.invoke(violation, ApiError.class);
+        }
+        catch (Exception ex) {
+            // Hibernate throws a ClassCastException (wrapped in an InvocationTargetException) if the dynamic payload
+            // isn't an ApiError. Either way there's nothing usable here.
+            return null;
+        }
+    }
+
+    /**
+     * Does the actual (uncached) {@link ApiErrorPayload} lookup for the given constraint descriptor.
+     */
+    protected @Nullable ApiError resolveFromDescriptorPayload(@NotNull ConstraintDescriptor<?> descriptor) {
+        Class<? extends ApiErrorPayload> chosenPayloadClass = null;
+        for (Class<? extends Payload> payloadClass : descriptor.getPayload()) {
+            if (!ApiErrorPayload.class.isAssignableFrom(payloadClass)) {
+                continue;
+            }
+
+            if (chosenPayloadClass == null || payloadClass.getName().compareTo(chosenPayloadClass.getName()) < 0) {
+                chosenPayloadClass = payloadClass.asSubclass(ApiErrorPayload.class);
+            }
+        }
+
+        if (chosenPayloadClass == null) {
+            return null;
+        }
+
+        try {
+            Constructor<? extends ApiErrorPayload> constructor = chosenPayloadClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance().getApiError();
+        }
+        catch (Exception ex) {
+            logger.warn(
+                "Unable to get the ApiError from ApiErrorPayload {}. Falling back to the constraint message. "
+                + "ApiErrorPayload classes must have a no-arg constructor.", chosenPayloadClass.getName(), ex
+            );
+            return null;
+        }
+    }
+}
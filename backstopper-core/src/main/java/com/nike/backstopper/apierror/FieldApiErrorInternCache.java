@@ -0,0 +1,210 @@
+package com.nike.backstopper.apierror;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, concurrent intern cache of the {@link ApiErrorWithMetadata}s used for field-level validation errors,
+ * i.e. a base {@link ApiError} plus a {@code field} metadata entry. The same (error, field) combinations tend to come
+ * up request after request, so rather than allocating a new metadata map and {@link ApiErrorWithMetadata} every time,
+ * {@link #getOrCreate(ApiError, String)} hands back the same immutable instance.
+ *
+ * <p>Base errors are matched by identity, which is what you get when they come from {@link
+ * com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors}. This avoids calling {@link ApiError#hashCode()},
+ * which is not cheap for most implementations. The key's hash is computed once when the key is created.
+ *
+ * <p>The cache holds at most (roughly) {@link #maxSize} entries. Field paths come from client payloads and can include
+ * list indexes (e.g. {@code items[1234].name}), so a single large request can bring in lots of one-off combinations.
+ * To keep those from crowding out the common ones for good, a full cache evicts an entry to make room for each new
+ * one using the CLOCK (second chance) policy: the cached keys sit in a ring with a hand that moves around it, every
+ * hit marks its entry as recently used, and eviction moves the hand past (and unmarks) recently used entries, replacing
+ * the first one that hasn't been used since the hand last passed it. A new entry takes the evicted entry's place just
+ * behind the hand, so it gets a full trip of the hand to be used before it can be evicted - entries that keep getting
+ * used stay cached however many one-off combinations pass through. If another thread is already adding an entry, the
+ * new combination is returned without being cached rather than waiting.
+ */
+@SuppressWarnings("WeakerAccess")
+public class FieldApiErrorInternCache {
+
+    /**
+     * The metadata key for the path to the field an error is about. This is the key used for field-level errors
+     * throughout Backstopper.
+     */
+    public static final String FIELD_METADATA_KEY = "field";
+
+    /**
+     * The default max number of entries an instance will cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    protected final int maxSize;
+    protected final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    // The CLOCK ring. The first ringSize slots hold the keys of the cached entries. Only accessed under evictionLock.
+    protected final Key[] ring;
+    protected int ringSize;
+    protected int clockHand;
+
+    /**
+     * Creates a new instance that caches up to {@link #DEFAULT_MAX_SIZE} entries.
+     */
+    public FieldApiErrorInternCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new instance that caches up to the given number of entries.
+     */
+    public FieldApiErrorInternCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative.");
+        }
+
+        this.maxSize = maxSize;
+        this.ring = new Key[maxSize];
+    }
+
+    /**
+     * @return An {@link ApiErrorWithMetadata} that combines the given base error with a {@link #FIELD_METADATA_KEY}
+     * metadata entry for the given field. Returns the cached instance if there is one.
+     */
+    public @NotNull ApiErrorWithMetadata getOrCreate(@NotNull ApiError baseError, @Nullable String field) {
+        //noinspection ConstantConditions
+        if (baseError == null) {
+            throw new NullPointerException("baseError cannot be null.");
+        }
+
+        if (field == null) {
+            // Not worth caching.
+            return createFieldApiError(baseError, null);
+        }
+
+        Key key = new Key(baseError, field);
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.recentlyUsed) {
+                cached.recentlyUsed = true;
+            }
+            return cached.apiError;
+        }
+
+        ApiErrorWithMetadata created = createFieldApiError(baseError, field);
+        if (maxSize == 0 || !evictionLock.tryLock()) {
+            return created;
+        }
+
+        try {
+            Entry existing = cache.get(key);
+            if (existing != null) {
+                // Another thread added it in the meantime.
+                return existing.apiError;
+            }
+
+            addToRing(key);
+            cache.put(key, new Entry(created));
+            return created;
+        }
+        finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Puts the given key in the CLOCK ring, evicting an entry to make room if the cache is full as described in the
+     * class javadocs. Must be called while holding {@link #evictionLock}.
+     */
+    protected void addToRing(@NotNull Key key) {
+        if (ringSize < maxSize) {
+            ring[ringSize++] = key;
+            return;
+        }
+
+        // The first trip around the ring unmarks everything, so by the end of the second trip the hand has found an
+        //      entry to evict, even if hits keep marking entries concurrently.
+        for (int step = 0; ; step++) {
+            Entry entry = cache.get(ring[clockHand]);
+            if (entry.recentlyUsed && step < 2 * maxSize) {
+                entry.recentlyUsed = false;
+                clockHand = (clockHand + 1) % maxSize;
+            }
+            else {
+                cache.remove(ring[clockHand]);
+                ring[clockHand] = key;
+                clockHand = (clockHand + 1) % maxSize;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The number of entries currently cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            Arrays.fill(ring, null);
+            ringSize = 0;
+            clockHand = 0;
+        }
+        finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected @NotNull ApiErrorWithMetadata createFieldApiError(@NotNull ApiError baseError, @Nullable String field) {
+        return new ApiErrorWithMetadata(baseError, Collections.singletonMap(FIELD_METADATA_KEY, field));
+    }
+
+    protected static final class Entry {
+
+        private final ApiErrorWithMetadata apiError;
+        // Starts out false, so one-off entries go the first time the hand reaches them.
+        private volatile boolean recentlyUsed;
+
+        Entry(ApiErrorWithMetadata apiError) {
+            this.apiError = apiError;
+        }
+    }
+
+    protected static final class Key {
+
+        private final ApiError baseError;
+        private final String field;
+        private final int hash;
+
+        Key(ApiError baseError, String field) {
+            this.baseError = baseError;
+            this.field = field;
+            this.hash = 31 * System.identityHashCode(baseError) + field.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return hash == other.hash && baseError == other.baseError && field.equals(other.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -26,12 +26,28 @@ public class ClientDataValidationError extends RuntimeException {
     private final List<Object> objectsThatFailedValidation;
     private final List<ConstraintViolation<Object>> violations;
     private final Class<?>[] validationGroups;
+    private final List<Integer> violationItemIndexes;
 
     public ClientDataValidationError(List<Object> objectsThatFailedValidation,
                                      List<ConstraintViolation<Object>> violations, Class<?>[] validationGroups) {
+        this(objectsThatFailedValidation, violations, validationGroups, null);
+    }
+
+    /**
+     * Creates a new instance for a failed batch validation, where {@code violationItemIndexes} contains the index of
+     * the batch item that each of the {@code violations} came from (i.e. it's the same size as {@code violations}).
+     */
+    public ClientDataValidationError(List<Object> objectsThatFailedValidation,
+                                     List<ConstraintViolation<Object>> violations, Class<?>[] validationGroups,
+                                     List<Integer> violationItemIndexes) {
+        if (violationItemIndexes != null && (violations == null || violations.size() != violationItemIndexes.size())) {
+            throw new IllegalArgumentException("violationItemIndexes must be the same size as violations");
+        }
+
         this.objectsThatFailedValidation = objectsThatFailedValidation;
         this.violations = violations;
         this.validationGroups = validationGroups;
+        this.violationItemIndexes = violationItemIndexes;
     }
 
     /**
@@ -58,4 +74,15 @@ public class ClientDataValidationError extends RuntimeException {
     public Class<?>[] getValidationGroups() {
         return validationGroups;
     }
+
+    /**
+     * @return For batch validations (see
+     *          {@link com.nike.backstopper.service.ClientDataValidationService#validateBatchWithGroupsFailFast(
+     *          java.util.Collection, Class[])}), the index of the batch item that each violation in
+     *          {@link #getViolations()} came from, in the same order. This is null if this error wasn't the result of a
+     *          batch validation.
+     */
+    public List<Integer> getViolationItemIndexes() {
+        return violationItemIndexes;
+    }
 }
@@ -1,6 +1,8 @@
 package com.nike.backstopper.handler;
 
 import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.FieldApiErrorInternCache;
 import com.nike.backstopper.apierror.SortedApiErrorSet;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.exception.ApiException;
@@ -9,23 +11,31 @@ import com.nike.backstopper.exception.WrapperException;
 import com.nike.backstopper.exception.network.NetworkExceptionBase;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.AsyncApiExceptionHandlerListener;
+import com.nike.backstopper.handler.listener.AsyncApiExceptionHandlerListenerBridge;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
 import com.nike.internal.util.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 
+import static com.nike.backstopper.apierror.FieldApiErrorInternCache.FIELD_METADATA_KEY;
 import static com.nike.backstopper.exception.StackTraceLoggingBehavior.FORCE_NO_STACK_TRACE;
 import static com.nike.backstopper.exception.StackTraceLoggingBehavior.FORCE_STACK_TRACE;
 
@@ -70,9 +80,30 @@ public abstract class ApiExceptionHandlerBase<T> {
     protected final ProjectApiErrors projectApiErrors;
     protected final List<ApiExceptionHandlerListener> apiExceptionHandlerListenerList;
     protected final ApiExceptionHandlerUtils utils;
+    /**
+     * True if {@link #apiExceptionHandlerListenerList} contains any {@link AsyncApiExceptionHandlerListenerBridge}s.
+     * Frameworks that support async composition can use this to decide whether they need
+     * {@link #maybeHandleExceptionAsync(Throwable, RequestInfoForLogging)}, or can stay on the synchronous
+     * {@link #maybeHandleException(Throwable, RequestInfoForLogging)} fast path.
+     */
+    protected final boolean hasAsyncListeners;
+    /**
+     * True if errors that only differ by their {@link FieldApiErrorInternCache#FIELD_METADATA_KEY} metadata should be
+     * merged into a single error for the response. This is returned by {@link #shouldMergeRepeatedFieldErrors()}
+     * unless you override that method.
+     */
+    protected final boolean mergeRepeatedFieldErrorsEnabled;
+    /**
+     * True if a subclass overrides {@link #shouldHandleApiException(Throwable)}. The default
+     * {@link #shouldHandleApiExceptionAsync(Throwable)} uses the override in that case (rather than running the
+     * listeners itself), so that adding an async listener doesn't change which exceptions a customized handler handles.
+     */
+    protected final boolean shouldHandleApiExceptionOverridden;
 
     /**
-     * Creates a new instance with the given arguments.
+     * Creates a new instance with the given arguments. Repeated field errors are not merged - see
+     * {@link #ApiExceptionHandlerBase(ProjectApiErrors, List, ApiExceptionHandlerUtils, boolean)} if you want them to
+     * be.
      *
      * @param projectApiErrors The {@link ProjectApiErrors} used for this project - cannot be null.
      * @param apiExceptionHandlerListenerList
@@ -88,6 +119,27 @@ public abstract class ApiExceptionHandlerBase<T> {
     public ApiExceptionHandlerBase(ProjectApiErrors projectApiErrors,
                                    List<ApiExceptionHandlerListener> apiExceptionHandlerListenerList,
                                    ApiExceptionHandlerUtils utils) {
+        this(projectApiErrors, apiExceptionHandlerListenerList, utils, false);
+    }
+
+    /**
+     * Creates a new instance with the given arguments.
+     *
+     * @param projectApiErrors The {@link ProjectApiErrors} used for this project - cannot be null.
+     * @param apiExceptionHandlerListenerList
+     *          The list of {@link ApiExceptionHandlerListener}s that will be used for this project to analyze
+     *          exceptions and see if they should be handled (and how they should be handled if so). These will be
+     *          executed in list order. This cannot be null.
+     * @param utils The {@link ApiExceptionHandlerUtils} that should be used by this instance. You can pass in
+     *              {@link ApiExceptionHandlerUtils#DEFAULT_IMPL} if you don't need custom logic. Cannot be null.
+     * @param mergeRepeatedFieldErrors Pass in true to merge errors that only differ by their
+     *                                 {@link FieldApiErrorInternCache#FIELD_METADATA_KEY} metadata into a single error
+     *                                 for the response - see {@link #shouldMergeRepeatedFieldErrors()}.
+     */
+    public ApiExceptionHandlerBase(ProjectApiErrors projectApiErrors,
+                                   List<ApiExceptionHandlerListener> apiExceptionHandlerListenerList,
+                                   ApiExceptionHandlerUtils utils,
+                                   boolean mergeRepeatedFieldErrors) {
         if (projectApiErrors == null)
             throw new IllegalArgumentException("projectApiErrors cannot be null.");
 
@@ -100,6 +152,25 @@ public abstract class ApiExceptionHandlerBase<T> {
         this.projectApiErrors = projectApiErrors;
         this.apiExceptionHandlerListenerList = apiExceptionHandlerListenerList;
         this.utils = utils;
+        this.mergeRepeatedFieldErrorsEnabled = mergeRepeatedFieldErrors;
+        this.hasAsyncListeners = apiExceptionHandlerListenerList.stream().anyMatch(
+            listener -> listener instanceof AsyncApiExceptionHandlerListenerBridge
+        );
+        this.shouldHandleApiExceptionOverridden = isShouldHandleApiExceptionOverridden(this.getClass());
+    }
+
+    private static boolean isShouldHandleApiExceptionOverridden(Class<?> handlerClass) {
+        for (Class<?> type = handlerClass; type != ApiExceptionHandlerBase.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("shouldHandleApiException", Throwable.class);
+                return true;
+            }
+            catch (NoSuchMethodException ex) {
+                // Not overridden at this level - keep looking.
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -187,18 +258,74 @@ public abstract class ApiExceptionHandlerBase<T> {
                                             ex, request);
         }
         catch(Exception ohNoException) {
-            throw new UnexpectedMajorExceptionHandlingError(
-                "Unexpected major error in " + this.getClass().getName() + ". We had an inner exception while trying "
-                + "to handle the original controller exception. This needs to be fixed ASAP. "
-                + "major_error_in_api_exception_handler=true",
-                ohNoException
-            );
+            throw unexpectedMajorExceptionHandlingError(ohNoException);
         }
 
         // Any other exceptions should be handled by an UnhandledExceptionHandlerBase implementation
         return null;
     }
 
+    /**
+     * The non-blocking equivalent of {@link #maybeHandleException(Throwable, RequestInfoForLogging)}, for frameworks
+     * that can compose asynchronously. Synchronous listeners are called inline, and
+     * {@link AsyncApiExceptionHandlerListenerBridge}s are composed via their delegate's
+     * {@link AsyncApiExceptionHandlerListener#shouldHandleExceptionAsync(Throwable)}
+     * rather than blocking. Listener order is preserved. If no async listener needs to be consulted then the returned
+     * stage will already be complete.
+     *
+     * @param ex The exception that this class may or may not want to handle.
+     * @param request The incoming request.
+     * @return A {@link CompletionStage} that completes with the same thing
+     *          {@link #maybeHandleException(Throwable, RequestInfoForLogging)} would have returned (including null if
+     *          this class did not want to handle the exception), or completes exceptionally with an
+     *          {@link UnexpectedMajorExceptionHandlingError} in the cases where that method would have thrown one.
+     */
+    public CompletionStage<ErrorResponseInfo<T>> maybeHandleExceptionAsync(
+        Throwable ex, RequestInfoForLogging request
+    ) {
+        CompletionStage<ApiExceptionHandlerListenerResult> resultStage;
+        try {
+            resultStage = shouldHandleApiExceptionAsync(ex);
+        }
+        catch(Exception ohNoException) {
+            return CompletableFuture.failedFuture(unexpectedMajorExceptionHandlingError(ohNoException));
+        }
+
+        return resultStage.handle((result, error) -> {
+            if (error != null) {
+                Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                                  ? error.getCause()
+                                  : error;
+                throw new CompletionException(unexpectedMajorExceptionHandlingError(cause));
+            }
+
+            if (!result.shouldHandleResponse) {
+                // Any other exceptions should be handled by an UnhandledExceptionHandlerBase implementation
+                return null;
+            }
+
+            try {
+                return doHandleApiException(result.errors, result.extraDetailsForLogging, result.extraResponseHeaders,
+                                            ex, request);
+            }
+            catch(Exception ohNoException) {
+                throw new CompletionException(unexpectedMajorExceptionHandlingError(ohNoException));
+            }
+        });
+    }
+
+    /**
+     * @return The {@link UnexpectedMajorExceptionHandlingError} to surface when handling blew up with the given cause.
+     */
+    protected UnexpectedMajorExceptionHandlingError unexpectedMajorExceptionHandlingError(Throwable cause) {
+        return new UnexpectedMajorExceptionHandlingError(
+            "Unexpected major error in " + this.getClass().getName() + ". We had an inner exception while trying "
+            + "to handle the original controller exception. This needs to be fixed ASAP. "
+            + "major_error_in_api_exception_handler=true",
+            cause
+        );
+    }
+
     /**
      * @return An {@link ApiExceptionHandlerListenerResult} indicating whether we should handle the given exception.
      *          If {@link ApiExceptionHandlerListenerResult#shouldHandleResponse} is true then
@@ -208,6 +335,13 @@ public abstract class ApiExceptionHandlerBase<T> {
      *          {@link #doHandleApiException(SortedApiErrorSet, List, List, Throwable, RequestInfoForLogging)}. If it is
      *          false then the given exception will be ignored by this class (and should therefore ultimately be handled
      *          by this project's implementation of {@link UnhandledExceptionHandlerBase}).
+     *
+     *          <p>NOTE: If you override this then the default {@link #shouldHandleApiExceptionAsync(Throwable)} calls
+     *          your override instead of composing the listeners itself, so any {@link
+     *          AsyncApiExceptionHandlerListenerBridge}s your override reaches are run via their blocking
+     *          {@link ApiExceptionHandlerListener#shouldHandleException(Throwable)}. Override
+     *          {@link #shouldHandleApiExceptionAsync(Throwable)} as well if you need your customization to stay
+     *          non-blocking.
      */
     protected ApiExceptionHandlerListenerResult shouldHandleApiException(Throwable ex) {
         // The original exception might be a "wrapper" exception. If so, unwrap it so we can send the core exception
@@ -225,6 +359,46 @@ public abstract class ApiExceptionHandlerBase<T> {
         return ApiExceptionHandlerListenerResult.ignoreResponse();
     }
 
+    /**
+     * The non-blocking equivalent of {@link #shouldHandleApiException(Throwable)}, used by
+     * {@link #maybeHandleExceptionAsync(Throwable, RequestInfoForLogging)}. If a subclass overrides
+     * {@link #shouldHandleApiException(Throwable)} (see {@link #shouldHandleApiExceptionOverridden}) then this returns
+     * the result of that override, so the same exceptions are handled whether or not there are async listeners.
+     */
+    protected CompletionStage<ApiExceptionHandlerListenerResult> shouldHandleApiExceptionAsync(Throwable ex) {
+        if (shouldHandleApiExceptionOverridden) {
+            return CompletableFuture.completedFuture(shouldHandleApiException(ex));
+        }
+
+        // The original exception might be a "wrapper" exception. If so, unwrap it so we can send the core exception
+        //      through our list of listeners.
+        return runListenersAsync(unwrapAndFindCoreException(ex), 0);
+    }
+
+    private CompletionStage<ApiExceptionHandlerListenerResult> runListenersAsync(Throwable coreEx, int startIndex) {
+        for (int i = startIndex; i < apiExceptionHandlerListenerList.size(); i++) {
+            ApiExceptionHandlerListener listener = apiExceptionHandlerListenerList.get(i);
+
+            if (listener instanceof AsyncApiExceptionHandlerListenerBridge bridge) {
+                // Compose the async listener rather than blocking on it, and pick up with the next listener when it
+                //      completes if it didn't want to handle the exception.
+                int nextIndex = i + 1;
+                return bridge.getDelegate().shouldHandleExceptionAsync(coreEx).thenCompose(
+                    result -> result.shouldHandleResponse
+                              ? CompletableFuture.completedFuture(result)
+                              : runListenersAsync(coreEx, nextIndex)
+                );
+            }
+
+            ApiExceptionHandlerListenerResult result = listener.shouldHandleException(coreEx);
+            if (result.shouldHandleResponse)
+                return CompletableFuture.completedFuture(result);
+        }
+
+        // We didn't have any handler that wanted to deal with this exception, so return an "ignore it" response.
+        return CompletableFuture.completedFuture(ApiExceptionHandlerListenerResult.ignoreResponse());
+    }
+
     /**
      * "Unwraps" the given exception by digging through the {@link Throwable#getCause()} chain until a non-wrapper
      * exception type is found. Uses {@link #getWrapperExceptionClassNames()} as the set of exception classes that are
@@ -311,21 +485,37 @@ public abstract class ApiExceptionHandlerBase<T> {
             highestPriorityStatusCode = genericServiceError.getHttpStatusCode();
         }
 
-        // Log all the relevant error/debugging info.
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("ApiExceptionHandlerBase handled exception occurred: ");
-        String errorId = utils.buildErrorMessageForLogs(
-            logMessage, request, filteredClientErrors, highestPriorityStatusCode, coreException, extraDetailsForLogging
-        );
-
         // Don't log the stack trace on 4xx validation exceptions, but do log it on anything else.
-        if (shouldLogStackTrace(
+        boolean logStackTrace = shouldLogStackTrace(
             highestPriorityStatusCode, filteredClientErrors, originalException, coreException, request
-        )) {
-            logger.error(logMessage.toString(), originalException);
+        );
+
+        // Log all the relevant error/debugging info - but only build the log message if it's going to be logged, since
+        //      that's where any LazyLogDetail values in the extra details get built.
+        String errorId;
+        if (logStackTrace ? logger.isErrorEnabled() : logger.isWarnEnabled()) {
+            StringBuilder logMessage = new StringBuilder();
+            logMessage.append("ApiExceptionHandlerBase handled exception occurred: ");
+            errorId = utils.buildErrorMessageForLogs(
+                logMessage, request, filteredClientErrors, highestPriorityStatusCode, coreException,
+                extraDetailsForLogging
+            );
+
+            if (logStackTrace) {
+                logger.error(logMessage.toString(), originalException);
+            }
+            else {
+                logger.warn(logMessage.toString());
+            }
         }
         else {
-            logger.warn(logMessage.toString());
+            errorId = utils.generateErrorUid();
+        }
+
+        // Collapse repeated field errors into one error per code/message/status if this handler has opted in. This
+        //      happens after logging so the logs still show every individual error.
+        if (shouldMergeRepeatedFieldErrors()) {
+            filteredClientErrors = mergeRepeatedFieldErrors(filteredClientErrors);
         }
 
         // Generate our internal default representation of the error contract (the DefaultErrorContractDTO), and
@@ -357,6 +547,82 @@ public abstract class ApiExceptionHandlerBase<T> {
         return new ErrorResponseInfo<>(highestPriorityStatusCode, frameworkRepresentation, finalHeadersForResponse);
     }
 
+    /**
+     * @return true if errors that only differ by their {@link FieldApiErrorInternCache#FIELD_METADATA_KEY} metadata
+     *          should be merged into a single error for the response - see
+     *          {@link #mergeRepeatedFieldErrors(Collection)}. Returns {@link #mergeRepeatedFieldErrorsEnabled}, which
+     *          is false unless it was turned on via the constructor. Turn it on (or override this method) for bulk
+     *          endpoints where many fields can fail the same constraint, as it can greatly reduce the size of the
+     *          response. Note that this changes the {@code field} metadata of merged errors from a single value to a
+     *          list of values, so callers must be able to handle both.
+     */
+    protected boolean shouldMergeRepeatedFieldErrors() {
+        return mergeRepeatedFieldErrorsEnabled;
+    }
+
+    /**
+     * Groups the given errors by error code, message, HTTP status code, and any metadata other than
+     * {@link FieldApiErrorInternCache#FIELD_METADATA_KEY}. Each group with more than one error is replaced by a single
+     * error (based on the first error in the group) whose {@link FieldApiErrorInternCache#FIELD_METADATA_KEY} metadata
+     * is the list of the group's field values, in order. Errors without a
+     * {@link FieldApiErrorInternCache#FIELD_METADATA_KEY} metadata entry are never merged. The result keeps the order
+     * in which each group was first seen, so it's still sorted if the given errors were.
+     *
+     * <p>This is only called if {@link #shouldMergeRepeatedFieldErrors()} returns true.
+     *
+     * @param clientErrors The errors to merge.
+     * @return The merged errors.
+     */
+    protected Collection<ApiError> mergeRepeatedFieldErrors(Collection<ApiError> clientErrors) {
+        if (clientErrors.size() < 2) {
+            return clientErrors;
+        }
+
+        Map<Object, List<ApiError>> groups = new LinkedHashMap<>();
+        boolean foundRepeatedError = false;
+        for (ApiError error : clientErrors) {
+            Map<String, Object> metadata = error.getMetadata();
+            Object groupKey;
+            if (metadata == null || !metadata.containsKey(FIELD_METADATA_KEY)) {
+                // Not a field error - give it a group of its own.
+                groupKey = new Object();
+            }
+            else {
+                Map<String, Object> metadataWithoutField = new HashMap<>(metadata);
+                metadataWithoutField.remove(FIELD_METADATA_KEY);
+                groupKey = Arrays.asList(
+                    error.getErrorCode(), error.getMessage(), error.getHttpStatusCode(), metadataWithoutField
+                );
+            }
+
+            List<ApiError> group = groups.computeIfAbsent(groupKey, key -> new ArrayList<>(1));
+            group.add(error);
+            foundRepeatedError |= (group.size() > 1);
+        }
+
+        if (!foundRepeatedError) {
+            return clientErrors;
+        }
+
+        List<ApiError> mergedErrors = new ArrayList<>(groups.size());
+        for (List<ApiError> group : groups.values()) {
+            if (group.size() == 1) {
+                mergedErrors.add(group.get(0));
+                continue;
+            }
+
+            List<Object> fields = new ArrayList<>(group.size());
+            for (ApiError error : group) {
+                fields.add(error.getMetadata().get(FIELD_METADATA_KEY));
+            }
+            Map<String, Object> mergedFieldMetadata =
+                Collections.singletonMap(FIELD_METADATA_KEY, Collections.unmodifiableList(fields));
+            mergedErrors.add(new ApiErrorWithMetadata(group.get(0), mergedFieldMetadata));
+        }
+
+        return mergedErrors;
+    }
+
     /**
      * @param statusCode The HTTP status code associated with this error.
      * @param filteredClientErrors The filtered collection of {@link ApiError}s associated with this error.
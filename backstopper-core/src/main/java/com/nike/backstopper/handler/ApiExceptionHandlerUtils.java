@@ -72,6 +72,10 @@ public class ApiExceptionHandlerUtils {
      * The header key for the distributed trace ID header.
      */
     protected final String distributedTraceIdHeaderKey;
+    /**
+     * Optional framework-specific trace ID extraction logic. See {@link #extractDistributedTraceId(RequestInfoForLogging)}.
+     */
+    protected final @Nullable TraceIdExtractor traceIdExtractor;
 
     /**
      * Default constructor that causes this instance to mask {@link #DEFAULT_MASKED_HEADER_KEYS} headers and use
@@ -96,6 +100,19 @@ public class ApiExceptionHandlerUtils {
      */
     public ApiExceptionHandlerUtils(boolean maskSensitiveHeaders, Set<String> sensitiveHeaderKeysForMasking,
                                     String distributedTraceIdHeaderKey) {
+        this(maskSensitiveHeaders, sensitiveHeaderKeysForMasking, distributedTraceIdHeaderKey, null);
+    }
+
+    /**
+     * Same as {@link #ApiExceptionHandlerUtils(boolean, Set, String)}, but also lets you specify a {@link
+     * TraceIdExtractor} for finding the distributed trace ID in framework-specific places (e.g. the Reactor
+     * {@code Context} for Spring WebFlux) before falling back to the SLF4J {@link MDC}.
+     *
+     * @param traceIdExtractor The {@link TraceIdExtractor} to use when the trace ID isn't in the
+     *                         {@code distributedTraceIdHeaderKey} header or attribute. This can safely be null.
+     */
+    public ApiExceptionHandlerUtils(boolean maskSensitiveHeaders, Set<String> sensitiveHeaderKeysForMasking,
+                                    String distributedTraceIdHeaderKey, @Nullable TraceIdExtractor traceIdExtractor) {
         if (sensitiveHeaderKeysForMasking == null)
             sensitiveHeaderKeysForMasking = Collections.emptySet();
 
@@ -105,6 +122,7 @@ public class ApiExceptionHandlerUtils {
         this.maskSensitiveHeaders = maskSensitiveHeaders;
         this.sensitiveHeaderKeysForMasking = sensitiveHeaderKeysForMasking;
         this.distributedTraceIdHeaderKey = distributedTraceIdHeaderKey;
+        this.traceIdExtractor = traceIdExtractor;
     }
 
     /**
@@ -128,12 +146,12 @@ public class ApiExceptionHandlerUtils {
     }
 
     /**
-     * @return The distributed trace ID if available in the request or the SLF4J {@link MDC}, or null if it cannot be
-     *          found. Will also return null if the distributed trace ID exists but its trimmed length is 0
-     *          (i.e. the distributed trace ID must be non-empty and contain something besides whitespace for it to be
-     *          used). If you are using a distributed tracing system that uses different keys or where the trace ID is
-     *          otherwise unobtainable using the rules defined here, then you can override this method and provide
-     *          whatever rules you want.
+     * @return The distributed trace ID if available in the request, the {@link #traceIdExtractor} (if there is one),
+     *          or the SLF4J {@link MDC}, or null if it cannot be found. Will also return null if the distributed trace
+     *          ID exists but its trimmed length is 0 (i.e. the distributed trace ID must be non-empty and contain
+     *          something besides whitespace for it to be used). If you are using a distributed tracing system that
+     *          uses different keys or where the trace ID is otherwise unobtainable using the rules defined here, then
+     *          you can supply a {@link TraceIdExtractor}, or override this method and provide whatever rules you want.
      */
     public String extractDistributedTraceId(RequestInfoForLogging request) {
         String traceIdToUse = null;
@@ -147,6 +165,12 @@ public class ApiExceptionHandlerUtils {
                 traceIdToUse = dtraceIdFromAttribute.toString().trim();
         }
 
+        if (traceIdToUse == null && traceIdExtractor != null) {
+            String fromExtractor = traceIdExtractor.extractTraceId(request);
+            if (StringUtils.isNotBlank(fromExtractor))
+                traceIdToUse = fromExtractor.trim();
+        }
+
         if (traceIdToUse == null) {
             // As a last resort try to get it from the MDC since some distributed systems (e.g. Wingtips) put the
             //      trace ID there.
@@ -171,7 +195,7 @@ public class ApiExceptionHandlerUtils {
                                            Collection<ApiError> contributingErrors, Integer httpStatusCode,
                                            Throwable cause, List<Pair<String, String>> extraDetailsForLogging) {
 
-        String errorUid = UUID.randomUUID().toString();
+        String errorUid = generateErrorUid();
         String traceId = extractDistributedTraceId(request);
         String requestUri = request.getRequestUri();
         String requestMethod = request.getRequestHttpMethod();
@@ -210,6 +234,15 @@ public class ApiExceptionHandlerUtils {
         return errorUid;
     }
 
+    /**
+     * @return A new unique ID for an error response. Used by
+     *          {@link #buildErrorMessageForLogs(StringBuilder, RequestInfoForLogging, Collection, Integer, Throwable,
+     *          List)}, and directly by {@link ApiExceptionHandlerBase} when the log message isn't going to be logged.
+     */
+    public String generateErrorUid() {
+        return UUID.randomUUID().toString();
+    }
+
     protected @Nullable Object extractOrigErrorRequestUriAttr(@NotNull RequestInfoForLogging request) {
         // Corresponds to jakarta.servlet.RequestDispatcher.ERROR_REQUEST_URI.
         return request.getAttribute("jakarta.servlet.error.request_uri");
@@ -0,0 +1,128 @@
+package com.nike.backstopper.handler;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Helper for detecting exceptions that indicate the client has gone away (broken pipes, connection resets, aborted
+ * requests, etc). There's no point running the full exception handling machinery for these - the response can't be
+ * delivered, and during a "broken pipe storm" the error logs would be flooded with noise. Framework integrations
+ * should call {@link #isClientDisconnectedException(Throwable)} before doing any expensive work, and use
+ * {@link #recordDisconnectedClient()} to keep a cheap running count instead of logging each one.
+ *
+ * <p>The exception type check is cached per exception class via {@link ClassValue}, and the message phrase check is
+ * a case-insensitive region match that doesn't allocate (no lower-casing of the message).
+ *
+ * <p>The detection rules are the same as Spring's {@code DisconnectedClientHelper}:
+ * <ul>
+ *     <li>ClientAbortException or EOFException for Tomcat</li>
+ *     <li>EofException for Jetty</li>
+ *     <li>AbortedException for Reactor Netty</li>
+ *     <li>AsyncRequestNotUsableException for Spring MVC</li>
+ *     <li>Any exception whose most specific cause has a message containing "broken pipe" or "connection reset"</li>
+ * </ul>
+ */
+@SuppressWarnings("WeakerAccess")
+public class DisconnectedClientHelper {
+
+    /**
+     * The request/exchange attribute key that framework integrations can use to make sure a given disconnected client
+     * is only counted once via {@link #recordDisconnectedClient()}, even if it passes through multiple handlers.
+     */
+    public static final String DISCONNECTED_CLIENT_RECORDED_ATTR_KEY =
+        DisconnectedClientHelper.class.getName() + ".recorded";
+
+    protected static final List<String> EXCEPTION_PHRASES = List.of("broken pipe", "connection reset");
+
+    protected static final Set<String> EXCEPTION_TYPE_NAMES = Set.of(
+        "AbortedException", "ClientAbortException", "EOFException", "EofException", "AsyncRequestNotUsableException"
+    );
+
+    // Protects against pathological (e.g. cyclic) cause chains.
+    protected static final int MAX_CAUSE_CHAIN_DEPTH = 50;
+
+    protected static final ClassValue<Boolean> IS_DISCONNECTED_CLIENT_EXCEPTION_TYPE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return EXCEPTION_TYPE_NAMES.contains(type.getSimpleName());
+        }
+    };
+
+    private static final LongAdder DISCONNECTED_CLIENT_COUNTER = new LongAdder();
+
+    private DisconnectedClientHelper() {
+        // Do nothing.
+    }
+
+    /**
+     * @return true if the given exception indicates the client has gone away, false otherwise (including when the
+     * given exception is null).
+     */
+    public static boolean isClientDisconnectedException(Throwable ex) {
+        if (ex == null) {
+            return false;
+        }
+
+        if (IS_DISCONNECTED_CLIENT_EXCEPTION_TYPE.get(ex.getClass())) {
+            return true;
+        }
+
+        String message = getMostSpecificCause(ex).getMessage();
+        if (message != null) {
+            for (String phrase : EXCEPTION_PHRASES) {
+                if (containsIgnoreCase(message, phrase)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Increments the running count of disconnected client exceptions that were short-circuited.
+     */
+    public static void recordDisconnectedClient() {
+        DISCONNECTED_CLIENT_COUNTER.increment();
+    }
+
+    /**
+     * @return The running count of disconnected client exceptions that were short-circuited (via
+     * {@link #recordDisconnectedClient()}) since startup. Useful for exposing as a metric.
+     */
+    public static long getDisconnectedClientCount() {
+        return DISCONNECTED_CLIENT_COUNTER.sum();
+    }
+
+    /**
+     * @return The root cause of the given exception, or the given exception itself if it has no cause.
+     */
+    protected static Throwable getMostSpecificCause(Throwable ex) {
+        Throwable current = ex;
+        for (int depth = 0; depth < MAX_CAUSE_CHAIN_DEPTH; depth++) {
+            Throwable cause = current.getCause();
+            if (cause == null || cause == current) {
+                break;
+            }
+            current = cause;
+        }
+
+        return current;
+    }
+
+    /**
+     * @return true if the given text contains the given (lower-case) phrase, ignoring case. Does not allocate.
+     */
+    protected static boolean containsIgnoreCase(String text, String phrase) {
+        int phraseLength = phrase.length();
+        int lastPossibleStart = text.length() - phraseLength;
+        for (int i = 0; i <= lastPossibleStart; i++) {
+            if (text.regionMatches(true, i, phrase, 0, phraseLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
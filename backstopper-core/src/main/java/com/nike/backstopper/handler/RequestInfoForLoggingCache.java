@@ -0,0 +1,73 @@
+package com.nike.backstopper.handler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Framework-agnostic helper for caching a {@link RequestInfoForLogging} in a request attribute so that it only has to
+ * be created once per request, no matter how many exception handler passes touch that request (e.g. an
+ * {@link ApiExceptionHandlerBase} that gives up and hands off to an {@link UnhandledExceptionHandlerBase}, or an error
+ * that is forwarded by the container to an error controller and handled again).
+ *
+ * <p>The Backstopper framework integrations (Servlet API, Spring WebFlux) already use this under the hood via their
+ * {@link RequestInfoForLogging} adapters. If you're writing a custom framework integration you can use
+ * {@link #getOrCreate(Class, Function, BiConsumer, Predicate, Supplier)} the same way - you just need to supply
+ * functions for getting and setting attributes on your framework's request object.
+ */
+@SuppressWarnings("WeakerAccess")
+public class RequestInfoForLoggingCache {
+
+    /**
+     * The request attribute key that the cached {@link RequestInfoForLogging} is stored under.
+     */
+    public static final String CACHED_REQUEST_INFO_ATTRIBUTE_KEY =
+        RequestInfoForLogging.class.getName() + ".CACHED_INSTANCE";
+
+    private RequestInfoForLoggingCache() {
+        // Do nothing.
+    }
+
+    /**
+     * Returns the {@link RequestInfoForLogging} cached in the {@link #CACHED_REQUEST_INFO_ATTRIBUTE_KEY} request
+     * attribute if there is one, it's of the expected type, and it passes the given {@code isReusable} check.
+     * Otherwise a new one is created with the given factory, stored in the request attribute, and returned.
+     *
+     * @param expectedType The type of {@link RequestInfoForLogging} the caller expects. A cached object of any other
+     * type will be ignored (and replaced).
+     * @param attributeGetter Function for retrieving a request attribute from your framework's request.
+     * @param attributeSetter Function for setting a request attribute on your framework's request.
+     * @param isReusable Extra check for whether a cached object of the expected type can be reused for the current
+     * request. Pass {@code x -> true} if no extra check is needed.
+     * @param factory Creates a new {@link RequestInfoForLogging} when there is no reusable cached one.
+     * @return The cached {@link RequestInfoForLogging} if there's a usable one, otherwise a newly created (and now
+     * cached) one. Never returns null.
+     */
+    public static <R extends RequestInfoForLogging> @NotNull R getOrCreate(
+        @NotNull Class<R> expectedType,
+        @NotNull Function<String, Object> attributeGetter,
+        @NotNull BiConsumer<String, Object> attributeSetter,
+        @NotNull Predicate<? super R> isReusable,
+        @NotNull Supplier<? extends R> factory
+    ) {
+        Object cached = attributeGetter.apply(CACHED_REQUEST_INFO_ATTRIBUTE_KEY);
+        if (expectedType.isInstance(cached)) {
+            R cachedTyped = expectedType.cast(cached);
+            if (isReusable.test(cachedTyped)) {
+                return cachedTyped;
+            }
+        }
+
+        R result = factory.get();
+        //noinspection ConstantConditions
+        if (result == null) {
+            throw new NullPointerException("factory cannot return null.");
+        }
+
+        attributeSetter.accept(CACHED_REQUEST_INFO_ATTRIBUTE_KEY, result);
+        return result;
+    }
+}
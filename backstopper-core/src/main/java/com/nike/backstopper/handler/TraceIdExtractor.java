@@ -0,0 +1,23 @@
+package com.nike.backstopper.handler;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * SPI for pulling the distributed trace ID out of a request in a framework-specific way. An instance can be passed to
+ * {@link ApiExceptionHandlerUtils#ApiExceptionHandlerUtils(boolean, java.util.Set, String, TraceIdExtractor)}, in
+ * which case {@link ApiExceptionHandlerUtils#extractDistributedTraceId(RequestInfoForLogging)} consults it after the
+ * trace ID header/attribute and before falling back to the SLF4J MDC.
+ *
+ * <p>This is mainly useful for frameworks where the MDC isn't reliable at exception handling time, e.g. reactive
+ * frameworks where the handling thread is an event loop thread that has nothing to do with the request.
+ */
+@FunctionalInterface
+public interface TraceIdExtractor {
+
+    /**
+     * @param request The request being handled. Will never be null.
+     * @return The distributed trace ID for the given request, or null if this extractor can't find one.
+     */
+    @Nullable String extractTraceId(@NotNull RequestInfoForLogging request);
+}
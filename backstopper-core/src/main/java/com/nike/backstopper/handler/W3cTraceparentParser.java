@@ -0,0 +1,141 @@
+package com.nike.backstopper.handler;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parser for the <a href="https://www.w3.org/TR/trace-context/#traceparent-header">W3C Trace Context</a>
+ * {@code traceparent} header, which has the format {@code version-traceid-parentid-flags}, e.g.
+ * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+ *
+ * <p>Validation is done in place on the given {@link CharSequence} - the only allocation is the returned trace ID
+ * string itself (and nothing at all is allocated by {@link #isValidTraceparent(CharSequence)}).
+ */
+@SuppressWarnings("WeakerAccess")
+public class W3cTraceparentParser {
+
+    /**
+     * The {@code traceparent} header name.
+     */
+    public static final String TRACEPARENT_HEADER_KEY = "traceparent";
+
+    protected static final int VERSION_LENGTH = 2;
+    protected static final int TRACE_ID_OFFSET = VERSION_LENGTH + 1;
+    protected static final int TRACE_ID_LENGTH = 32;
+    protected static final int PARENT_ID_OFFSET = TRACE_ID_OFFSET + TRACE_ID_LENGTH + 1;
+    protected static final int PARENT_ID_LENGTH = 16;
+    protected static final int FLAGS_OFFSET = PARENT_ID_OFFSET + PARENT_ID_LENGTH + 1;
+    protected static final int FLAGS_LENGTH = 2;
+    protected static final int VERSION_00_LENGTH = FLAGS_OFFSET + FLAGS_LENGTH;
+
+    private W3cTraceparentParser() {
+        // Do nothing.
+    }
+
+    /**
+     * @param traceparent The {@code traceparent} header value - may be null. Leading and trailing spaces/tabs are
+     * ignored.
+     * @return The 32 character lowercase hex trace ID from the given {@code traceparent} value, or null if the value is
+     * null or not a valid {@code traceparent}.
+     */
+    public static @Nullable String extractTraceId(@Nullable CharSequence traceparent) {
+        if (traceparent == null) {
+            return null;
+        }
+
+        int start = firstNonWhitespaceIndex(traceparent);
+        int end = lastNonWhitespaceIndex(traceparent) + 1;
+        if (!isValidTraceparent(traceparent, start, end)) {
+            return null;
+        }
+
+        return traceparent.subSequence(start + TRACE_ID_OFFSET, start + TRACE_ID_OFFSET + TRACE_ID_LENGTH).toString();
+    }
+
+    /**
+     * @param traceparent The {@code traceparent} header value - may be null. Leading and trailing spaces/tabs are
+     * ignored.
+     * @return true if the given value is a valid {@code traceparent}, false otherwise.
+     */
+    public static boolean isValidTraceparent(@Nullable CharSequence traceparent) {
+        if (traceparent == null) {
+            return false;
+        }
+
+        return isValidTraceparent(
+            traceparent, firstNonWhitespaceIndex(traceparent), lastNonWhitespaceIndex(traceparent) + 1
+        );
+    }
+
+    protected static boolean isValidTraceparent(CharSequence value, int start, int end) {
+        int length = end - start;
+        if (length < VERSION_00_LENGTH) {
+            return false;
+        }
+
+        // Version: 2 hex chars, and ff is forbidden.
+        if (!isLowerHex(value, start, VERSION_LENGTH)
+            || (value.charAt(start) == 'f' && value.charAt(start + 1) == 'f')) {
+            return false;
+        }
+
+        boolean isVersion00 = value.charAt(start) == '0' && value.charAt(start + 1) == '0';
+        // Version 00 must be exactly the expected length. Future versions may append more fields, but they must be
+        //      separated by a dash.
+        if (isVersion00 ? length != VERSION_00_LENGTH
+                        : (length > VERSION_00_LENGTH && value.charAt(start + VERSION_00_LENGTH) != '-')) {
+            return false;
+        }
+
+        return value.charAt(start + TRACE_ID_OFFSET - 1) == '-'
+               && isLowerHex(value, start + TRACE_ID_OFFSET, TRACE_ID_LENGTH)
+               && !isAllZeros(value, start + TRACE_ID_OFFSET, TRACE_ID_LENGTH)
+               && value.charAt(start + PARENT_ID_OFFSET - 1) == '-'
+               && isLowerHex(value, start + PARENT_ID_OFFSET, PARENT_ID_LENGTH)
+               && !isAllZeros(value, start + PARENT_ID_OFFSET, PARENT_ID_LENGTH)
+               && value.charAt(start + FLAGS_OFFSET - 1) == '-'
+               && isLowerHex(value, start + FLAGS_OFFSET, FLAGS_LENGTH);
+    }
+
+    protected static boolean isLowerHex(CharSequence value, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    protected static boolean isAllZeros(CharSequence value, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    protected static int firstNonWhitespaceIndex(CharSequence value) {
+        int index = 0;
+        while (index < value.length() && isOptionalWhitespace(value.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    protected static int lastNonWhitespaceIndex(CharSequence value) {
+        int index = value.length() - 1;
+        while (index >= 0 && isOptionalWhitespace(value.charAt(index))) {
+            index--;
+        }
+
+        return index;
+    }
+
+    protected static boolean isOptionalWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,31 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.backstopper.handler.ApiExceptionHandlerBase;
+import com.nike.backstopper.handler.RequestInfoForLogging;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A non-blocking variant of {@link ApiExceptionHandlerListener}, for listeners that need to consult something
+ * asynchronous (a rate-limit store, a feature flag cache, etc) before deciding whether and how to handle an
+ * exception.
+ *
+ * <p>Async listeners go into the normal listener list wrapped in an {@link AsyncApiExceptionHandlerListenerBridge}.
+ * Handlers that can compose asynchronously (e.g. Spring WebFlux) use
+ * {@link ApiExceptionHandlerBase#maybeHandleExceptionAsync(Throwable, RequestInfoForLogging)}, which calls
+ * {@link #shouldHandleExceptionAsync(Throwable)} without blocking. Handlers that can't (e.g. the Servlet API based
+ * handlers) go through the bridge's synchronous {@link ApiExceptionHandlerListener#shouldHandleException(Throwable)},
+ * which waits for the result with a timeout.
+ */
+@FunctionalInterface
+public interface AsyncApiExceptionHandlerListener {
+
+    /**
+     * @return A {@link CompletionStage} that completes with an {@link ApiExceptionHandlerListenerResult} representing
+     *          whether or not this instance wishes to handle the exception. See
+     *          {@link ApiExceptionHandlerListener#shouldHandleException(Throwable)} for details on the result. This
+     *          should never return null, and the returned stage should never complete with null.
+     */
+    CompletionStage<ApiExceptionHandlerListenerResult> shouldHandleExceptionAsync(Throwable ex);
+
+}
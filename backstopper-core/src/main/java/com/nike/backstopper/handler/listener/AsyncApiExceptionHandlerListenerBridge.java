@@ -0,0 +1,105 @@
+package com.nike.backstopper.handler.listener;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wraps an {@link AsyncApiExceptionHandlerListener} so it can be placed in a normal {@link ApiExceptionHandlerListener}
+ * list. Handlers that compose listeners asynchronously detect this bridge and call the {@link #delegate} directly
+ * without blocking. Handlers that can only run listeners synchronously (e.g. the Servlet API based handlers) call
+ * {@link #shouldHandleException(Throwable)}, which blocks for at most {@link #timeout} waiting on the delegate.
+ *
+ * <p>If the delegate doesn't complete in time (or the waiting thread is interrupted) then a warning is logged and the
+ * exception is ignored by this listener, so exception handling moves on to the next listener rather than hanging.
+ */
+@SuppressWarnings("WeakerAccess")
+public class AsyncApiExceptionHandlerListenerBridge implements ApiExceptionHandlerListener {
+
+    /**
+     * The default amount of time {@link #shouldHandleException(Throwable)} will wait for the delegate.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(500);
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    protected final @NotNull AsyncApiExceptionHandlerListener delegate;
+    protected final @NotNull Duration timeout;
+
+    /**
+     * Creates a new instance that wraps the given delegate and uses {@link #DEFAULT_TIMEOUT}.
+     */
+    public AsyncApiExceptionHandlerListenerBridge(@NotNull AsyncApiExceptionHandlerListener delegate) {
+        this(delegate, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a new instance that wraps the given delegate and uses the given timeout for blocking callers.
+     */
+    public AsyncApiExceptionHandlerListenerBridge(
+        @NotNull AsyncApiExceptionHandlerListener delegate,
+        @NotNull Duration timeout
+    ) {
+        //noinspection ConstantConditions
+        if (delegate == null) {
+            throw new NullPointerException("delegate cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (timeout == null) {
+            throw new NullPointerException("timeout cannot be null.");
+        }
+
+        this.delegate = delegate;
+        this.timeout = timeout;
+    }
+
+    public @NotNull AsyncApiExceptionHandlerListener getDelegate() {
+        return delegate;
+    }
+
+    public @NotNull Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public ApiExceptionHandlerListenerResult shouldHandleException(Throwable ex) {
+        try {
+            return delegate.shouldHandleExceptionAsync(ex)
+                           .toCompletableFuture()
+                           .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException timeoutEx) {
+            logger.warn(
+                "Timed out waiting for async listener {} after {} ms - ignoring it for this exception. "
+                + "async_listener_timeout=true",
+                delegate.getClass().getName(), timeout.toMillis()
+            );
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        }
+        catch (InterruptedException interruptedEx) {
+            Thread.currentThread().interrupt();
+            logger.warn(
+                "Interrupted while waiting for async listener {} - ignoring it for this exception.",
+                delegate.getClass().getName()
+            );
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        }
+        catch (ExecutionException executionEx) {
+            // Surface the delegate's failure the same way a synchronous listener failure would surface.
+            Throwable cause = executionEx.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Async listener " + delegate.getClass().getName() + " failed.", cause);
+        }
+    }
+}
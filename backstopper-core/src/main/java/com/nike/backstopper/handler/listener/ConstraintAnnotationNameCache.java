@@ -0,0 +1,78 @@
+package com.nike.backstopper.handler.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A bounded, concurrent cache of the constraint annotation class names that validation listeners put in their log
+ * details, keyed by {@link ConstraintDescriptor}. Getting the name from a violation goes through the descriptor's
+ * annotation (usually a dynamic proxy), and the same few descriptors tend to show up over and over, so it's worth
+ * remembering the answer.
+ *
+ * <p>Once the cache holds {@link #maxSize} descriptors, new descriptors still get their names looked up but not cached.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ConstraintAnnotationNameCache {
+
+    /**
+     * The default max number of constraint descriptors an instance will cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    protected final int maxSize;
+    protected final ConcurrentHashMap<ConstraintDescriptor<?>, String> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance that caches up to {@link #DEFAULT_MAX_SIZE} descriptors.
+     */
+    public ConstraintAnnotationNameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new instance that caches up to the given number of descriptors.
+     */
+    public ConstraintAnnotationNameCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative.");
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The fully qualified class name of the constraint annotation that the given violation came from, or
+     * "null" if the violation doesn't have a descriptor or annotation.
+     */
+    public @NotNull String getAnnotationName(@NotNull ConstraintViolation<?> violation) {
+        ConstraintDescriptor<?> descriptor = violation.getConstraintDescriptor();
+        if (descriptor == null) {
+            return "null";
+        }
+
+        String cached = cache.get(descriptor);
+        if (cached != null) {
+            return cached;
+        }
+
+        Annotation annotation = descriptor.getAnnotation();
+        String name = (annotation == null) ? "null" : annotation.annotationType().getName();
+        if (cache.size() < maxSize) {
+            cache.putIfAbsent(descriptor, name);
+        }
+
+        return name;
+    }
+
+    /**
+     * @return The number of descriptors currently cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+}
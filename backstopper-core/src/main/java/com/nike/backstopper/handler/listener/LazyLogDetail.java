@@ -0,0 +1,87 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.internal.util.Pair;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ApiExceptionHandlerListenerResult#extraDetailsForLogging} entry whose value is computed the first time it's
+ * asked for, rather than when the listener creates it. Use this for values that are expensive to build (e.g. a
+ * description of every constraint violation) so the work only happens if the value ends up in a log message. The
+ * computed value is remembered, so the supplier runs at most once.
+ *
+ * <p>This is a {@link Pair} like any other log detail, so {@link #equals(Object)}, {@link #hashCode()}, and
+ * {@link #toString()} all work on the computed value. Serializing it serializes the computed value as a normal
+ * immutable {@link Pair}.
+ */
+public class LazyLogDetail extends Pair<String, String> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String key;
+    private transient Supplier<String> valueSupplier;
+    private volatile String value;
+    private volatile boolean computed;
+
+    /**
+     * @param key The log detail key. Should not be null.
+     * @param valueSupplier Computes the log detail value. May return null. Cannot be null.
+     */
+    public LazyLogDetail(String key, @NotNull Supplier<String> valueSupplier) {
+        //noinspection ConstantConditions
+        if (valueSupplier == null) {
+            throw new NullPointerException("valueSupplier cannot be null.");
+        }
+
+        this.key = key;
+        this.valueSupplier = valueSupplier;
+    }
+
+    /**
+     * @return A new {@link LazyLogDetail} with the given key and value supplier.
+     */
+    public static LazyLogDetail of(String key, @NotNull Supplier<String> valueSupplier) {
+        return new LazyLogDetail(key, valueSupplier);
+    }
+
+    /**
+     * @return true if the value has already been computed, false if the supplier hasn't been called yet.
+     */
+    public boolean isComputed() {
+        return computed;
+    }
+
+    @Override
+    public String getLeft() {
+        return key;
+    }
+
+    @Override
+    public String getRight() {
+        if (!computed) {
+            synchronized (this) {
+                if (!computed) {
+                    value = valueSupplier.get();
+                    computed = true;
+                    // Don't hold on to whatever the supplier references any longer than we need to.
+                    valueSupplier = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String setValue(String value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return Pair.of(key, getRight());
+    }
+}
@@ -0,0 +1,140 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorBase;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.SortedApiErrorSet;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+
+/**
+ * Caps on how many validation errors a listener will convert into {@link ApiError}s for a single response, and how
+ * many it will describe in its log details. Without these caps a bulk request with thousands of invalid items would
+ * have every violation converted, sorted into a {@link SortedApiErrorSet}, appended to the log details, and serialized
+ * into the response.
+ *
+ * <p>Listeners stop converting once {@link #maxErrorsPerResponse} errors have been collected, and add a marker error
+ * (see {@link #addOmittedErrorsMarker(SortedApiErrorSet, int, ProjectApiErrors)}) with an
+ * {@link #OMITTED_ERROR_COUNT_METADATA_KEY} metadata entry that says how many validation errors were left out.
+ *
+ * <p>The listeners use {@link #UNLIMITED} unless you give them caps, so capping is opt-in. {@link #DEFAULT} is a
+ * reasonable starting point if you want it.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ValidationErrorCardinalityCaps {
+
+    /**
+     * The default max number of errors converted for a single response.
+     */
+    public static final int DEFAULT_MAX_ERRORS_PER_RESPONSE = 100;
+
+    /**
+     * The default max number of violations described in a single log details entry.
+     */
+    public static final int DEFAULT_MAX_VIOLATIONS_PER_LOG_ENTRY = 100;
+
+    /**
+     * The metadata key on the marker error that holds the number of validation errors that were omitted.
+     */
+    public static final String OMITTED_ERROR_COUNT_METADATA_KEY = "omitted_error_count";
+
+    /**
+     * Uses {@link #DEFAULT_MAX_ERRORS_PER_RESPONSE} and {@link #DEFAULT_MAX_VIOLATIONS_PER_LOG_ENTRY}.
+     */
+    public static final ValidationErrorCardinalityCaps DEFAULT = new ValidationErrorCardinalityCaps(
+        DEFAULT_MAX_ERRORS_PER_RESPONSE, DEFAULT_MAX_VIOLATIONS_PER_LOG_ENTRY
+    );
+
+    /**
+     * Effectively no caps. Use this only if you trust the callers of your service, or if you otherwise limit the size
+     * of the objects that are validated.
+     */
+    public static final ValidationErrorCardinalityCaps UNLIMITED = new ValidationErrorCardinalityCaps(
+        Integer.MAX_VALUE, Integer.MAX_VALUE
+    );
+
+    public final int maxErrorsPerResponse;
+    public final int maxViolationsPerLogEntry;
+    /**
+     * The error to add as the omitted errors marker, or null to use
+     * {@link ProjectApiErrors#getGenericBadRequestApiError()}.
+     */
+    public final @Nullable ApiError omittedErrorsMarker;
+
+    /**
+     * Creates caps that use {@link ProjectApiErrors#getGenericBadRequestApiError()} as the omitted errors marker.
+     *
+     * @param maxErrorsPerResponse The max number of errors to convert for a single response. Must be at least 1.
+     * @param maxViolationsPerLogEntry The max number of violations to describe in a single log details entry. Cannot
+     *                                 be negative.
+     */
+    public ValidationErrorCardinalityCaps(int maxErrorsPerResponse, int maxViolationsPerLogEntry) {
+        this(maxErrorsPerResponse, maxViolationsPerLogEntry, null);
+    }
+
+    /**
+     * @param maxErrorsPerResponse The max number of errors to convert for a single response. Must be at least 1.
+     * @param maxViolationsPerLogEntry The max number of violations to describe in a single log details entry. Cannot
+     *                                 be negative.
+     * @param omittedErrorsMarker The error to add as the omitted errors marker - usually one of the errors from your
+     *                            project's {@link ProjectApiErrors}. Pass in null to use
+     *                            {@link ProjectApiErrors#getGenericBadRequestApiError()}.
+     */
+    public ValidationErrorCardinalityCaps(
+        int maxErrorsPerResponse,
+        int maxViolationsPerLogEntry,
+        @Nullable ApiError omittedErrorsMarker
+    ) {
+        if (maxErrorsPerResponse < 1) {
+            throw new IllegalArgumentException("maxErrorsPerResponse must be at least 1.");
+        }
+
+        if (maxViolationsPerLogEntry < 0) {
+            throw new IllegalArgumentException("maxViolationsPerLogEntry cannot be negative.");
+        }
+
+        this.maxErrorsPerResponse = maxErrorsPerResponse;
+        this.maxViolationsPerLogEntry = maxViolationsPerLogEntry;
+        this.omittedErrorsMarker = omittedErrorsMarker;
+    }
+
+    /**
+     * Adds a marker error to the given set saying that the given number of validation errors were omitted. Does
+     * nothing if the omitted count is not positive or the set is empty.
+     *
+     * <p>The marker is {@link #omittedErrorsMarker} (or {@link ProjectApiErrors#getGenericBadRequestApiError()} if
+     * that is null) with the omitted count added to its metadata. Its HTTP status code is replaced with the one the
+     * errors already in the set resolve to, so that adding it can't change the status code of the response.
+     */
+    public void addOmittedErrorsMarker(
+        @NotNull SortedApiErrorSet apiErrors,
+        int omittedCount,
+        @NotNull ProjectApiErrors projectApiErrors
+    ) {
+        if (omittedCount <= 0 || apiErrors.isEmpty()) {
+            return;
+        }
+
+        Integer httpStatusCode = projectApiErrors.determineHighestPriorityHttpStatusCode(apiErrors);
+        if (httpStatusCode == null) {
+            httpStatusCode = apiErrors.first().getHttpStatusCode();
+        }
+
+        ApiError marker = (omittedErrorsMarker == null)
+                          ? projectApiErrors.getGenericBadRequestApiError()
+                          : omittedErrorsMarker;
+        if (marker.getHttpStatusCode() != httpStatusCode) {
+            marker = new ApiErrorBase(
+                marker.getName(), marker.getErrorCode(), marker.getMessage(), httpStatusCode, marker.getMetadata()
+            );
+        }
+
+        apiErrors.add(new ApiErrorWithMetadata(
+            marker, Collections.singletonMap(OMITTED_ERROR_COUNT_METADATA_KEY, (Object) omittedCount)
+        ));
+    }
+}
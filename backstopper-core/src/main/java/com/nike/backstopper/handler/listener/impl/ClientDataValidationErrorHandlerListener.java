@@ -1,19 +1,24 @@
 package com.nike.backstopper.handler.listener.impl;
 
 import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorPayload;
 import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.ConstraintApiErrorResolver;
+import com.nike.backstopper.apierror.FieldApiErrorInternCache;
 import com.nike.backstopper.apierror.SortedApiErrorSet;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.exception.ClientDataValidationError;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.ConstraintAnnotationNameCache;
+import com.nike.backstopper.handler.listener.LazyLogDetail;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 import com.nike.internal.util.Pair;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -26,7 +31,16 @@ import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSet
  * Handles {@link ClientDataValidationError} exceptions by adding the relevant logging info useful for debugging to the
  * returned {@link ApiExceptionHandlerListenerResult#extraDetailsForLogging} and setting the returned
  * {@link ApiExceptionHandlerListenerResult#errors} to the appropriate mapped errors from {@link #projectApiErrors}
- * based on the messages in the constraint violations.
+ * based on the messages in the constraint violations. Constraints that are bound directly to an {@link ApiError} (see
+ * {@link ApiErrorPayload} and {@link ConstraintApiErrorResolver}) skip the message lookup.
+ *
+ * <p>The number of violations converted into errors and described in the logs can be limited by passing in
+ * {@link #cardinalityCaps} (there is no limit by default) - see {@link ValidationErrorCardinalityCaps} for details. The
+ * violation description for the logs is a {@link LazyLogDetail}, so it's only built if the log message is.
+ *
+ * <p>If the exception came from a batch validation (i.e. {@link ClientDataValidationError#getViolationItemIndexes()}
+ * is not null) then each error gets an {@link #ITEM_INDEX_METADATA_KEY} metadata entry with the index of the batch
+ * item it came from, so the caller can tell which item needs fixing.
  *
  * @author Nic Munroe
  */
@@ -35,8 +49,28 @@ import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSet
 @SuppressWarnings("WeakerAccess")
 public class ClientDataValidationErrorHandlerListener implements ApiExceptionHandlerListener {
 
+    /**
+     * The metadata key used for the batch item index of errors from batch validations.
+     */
+    public static final String ITEM_INDEX_METADATA_KEY = "item_index";
+
     protected final ProjectApiErrors projectApiErrors;
     protected final ApiExceptionHandlerUtils utils;
+    protected final ValidationErrorCardinalityCaps cardinalityCaps;
+    /**
+     * Reuses the field-level {@link ApiErrorWithMetadata}s created by
+     * {@link #convertValidationErrorToApiError(ConstraintViolation)}, since the same combinations come up repeatedly.
+     */
+    protected final FieldApiErrorInternCache fieldApiErrorCache = new FieldApiErrorInternCache();
+    /**
+     * Finds the {@link ApiError}s that constraints are bound to via payloads, so they don't need to be looked up by
+     * message.
+     */
+    protected final ConstraintApiErrorResolver constraintApiErrorResolver = new ConstraintApiErrorResolver();
+    /**
+     * Remembers the constraint annotation class names used in the violation details for the logs.
+     */
+    protected final ConstraintAnnotationNameCache annotationNameCache = new ConstraintAnnotationNameCache();
 
     /**
      * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
@@ -47,14 +81,33 @@ public class ClientDataValidationErrorHandlerListener implements ApiExceptionHan
     @Inject
     public ClientDataValidationErrorHandlerListener(ProjectApiErrors projectApiErrors,
                                                     ApiExceptionHandlerUtils utils) {
+        this(projectApiErrors, utils, ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    /**
+     * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
+     *                          {@link ApiError}s. Cannot be null.
+     * @param utils The {@link ApiExceptionHandlerUtils} that should be used by this instance. You can pass in
+     *              {@link ApiExceptionHandlerUtils#DEFAULT_IMPL} if you don't need custom logic.
+     * @param cardinalityCaps The caps on how many violations are converted into errors and described in the logs.
+     *                        You can pass in {@link ValidationErrorCardinalityCaps#DEFAULT} for reasonable caps, or
+     *                        {@link ValidationErrorCardinalityCaps#UNLIMITED} for none. Cannot be null.
+     */
+    public ClientDataValidationErrorHandlerListener(ProjectApiErrors projectApiErrors,
+                                                    ApiExceptionHandlerUtils utils,
+                                                    ValidationErrorCardinalityCaps cardinalityCaps) {
         if (projectApiErrors == null)
             throw new IllegalArgumentException("ProjectApiErrors cannot be null");
 
         if (utils == null)
             throw new IllegalArgumentException("apiExceptionHandlerUtils cannot be null.");
 
+        if (cardinalityCaps == null)
+            throw new IllegalArgumentException("cardinalityCaps cannot be null.");
+
         this.projectApiErrors = projectApiErrors;
         this.utils = utils;
+        this.cardinalityCaps = cardinalityCaps;
     }
 
     @Override
@@ -105,49 +158,116 @@ public class ClientDataValidationErrorHandlerListener implements ApiExceptionHan
         if (ex.getViolations() == null || ex.getViolations().isEmpty())
             return singletonSortedSetOf(projectApiErrors.getGenericServiceError());
 
-        // Add full details about the violations.
-        StringBuilder sb = new StringBuilder();
-        for (ConstraintViolation<Object> violation : ex.getViolations()) {
-            if (!sb.isEmpty())
+        // Add full details about the violations, up to the cap. Building the description is relatively expensive, so
+        //      it's deferred until the log message is built.
+        List<Integer> itemIndexes = ex.getViolationItemIndexes();
+        List<ConstraintViolation<Object>> violations = ex.getViolations();
+        int numViolationsDescribed = Math.min(violations.size(), cardinalityCaps.maxViolationsPerLogEntry);
+        extraDetailsForLogging.add(LazyLogDetail.of(
+            "constraint_violation_details",
+            () -> utils.quotesToApostrophes(describeViolations(violations, itemIndexes, numViolationsDescribed))
+        ));
+        int numViolationsNotDescribed = violations.size() - numViolationsDescribed;
+        if (numViolationsNotDescribed > 0) {
+            extraDetailsForLogging.add(
+                Pair.of("constraint_violation_details_omitted_count", String.valueOf(numViolationsNotDescribed))
+            );
+        }
+
+        // Convert the violations to ApiErrors and return them as a SortedApiErrorSet.
+        if (itemIndexes != null)
+            return convertValidationErrorsToApiErrors(ex.getViolations(), itemIndexes);
+
+        return convertValidationErrorsToApiErrors(ex.getViolations());
+    }
+
+    /**
+     * @return A description of the first numToDescribe of the given violations for the logs, in the form
+     *          {@code [itemIndex]RootBeanClass.property.path|constraint.annotation.Class|message}, comma separated.
+     *          The {@code [itemIndex]} prefix is only included if itemIndexes is not null.
+     */
+    protected String describeViolations(List<ConstraintViolation<Object>> violations, List<Integer> itemIndexes,
+                                        int numToDescribe) {
+        StringBuilder sb = new StringBuilder(numToDescribe * 64);
+        int i = 0;
+        for (ConstraintViolation<Object> violation : violations) {
+            if (i >= numToDescribe)
+                break;
+
+            if (i > 0)
                 sb.append(",");
 
+            if (itemIndexes != null)
+                sb.append("[").append(itemIndexes.get(i)).append("]");
+
+            i++;
             sb.append(violation.getRootBeanClass().getSimpleName())
-              .append(".").append(violation.getPropertyPath().toString())
-              .append("|").append(violation.getConstraintDescriptor().getAnnotation().annotationType().getName())
+              .append(".").append(violation.getPropertyPath())
+              .append("|").append(annotationNameCache.getAnnotationName(violation))
               .append("|").append(violation.getMessage());
         }
-        extraDetailsForLogging.add(Pair.of("constraint_violation_details", utils.quotesToApostrophes(sb.toString())));
-
-        // Convert the violations to ApiErrors and return them as a SortedApiErrorSet.
-        return convertValidationErrorsToApiErrors(ex.getViolations());
+        return sb.toString();
     }
 
     /**
      * Helper method for translating the given set of constraint violations set into a set of {@link ApiError} objects
-     * by calling {@link #convertValidationErrorToApiError(ConstraintViolation)} on each one.
+     * by calling {@link #convertValidationErrorToApiError(ConstraintViolation)} on each one. Stops converting once
+     * {@link ValidationErrorCardinalityCaps#maxErrorsPerResponse} errors have been collected, and adds a marker error
+     * for the violations that were skipped.
      */
     protected SortedApiErrorSet convertValidationErrorsToApiErrors(List<ConstraintViolation<Object>> validationErrors) {
         SortedApiErrorSet apiErrors = new SortedApiErrorSet();
+        int numConverted = 0;
         for (ConstraintViolation<Object> validationError : validationErrors) {
+            if (apiErrors.size() >= cardinalityCaps.maxErrorsPerResponse)
+                break;
+
             apiErrors.add(convertValidationErrorToApiError(validationError));
+            numConverted++;
         }
 
+        cardinalityCaps.addOmittedErrorsMarker(apiErrors, validationErrors.size() - numConverted, projectApiErrors);
         return apiErrors;
     }
 
     /**
-     * @return Converts the given constraint violation to a {@link ApiError} if the constraint violation's
-     *          {@link ConstraintViolation#getMessage()} can be converted via
+     * Same as {@link #convertValidationErrorsToApiErrors(List)}, except each error also gets the batch item index at
+     * the same position in the given itemIndexes as {@link #ITEM_INDEX_METADATA_KEY} metadata.
+     */
+    protected SortedApiErrorSet convertValidationErrorsToApiErrors(List<ConstraintViolation<Object>> validationErrors,
+                                                                   List<Integer> itemIndexes) {
+        SortedApiErrorSet apiErrors = new SortedApiErrorSet();
+        int numConverted = 0;
+        for (ConstraintViolation<Object> validationError : validationErrors) {
+            if (apiErrors.size() >= cardinalityCaps.maxErrorsPerResponse)
+                break;
+
+            apiErrors.add(new ApiErrorWithMetadata(
+                convertValidationErrorToApiError(validationError),
+                Collections.singletonMap(ITEM_INDEX_METADATA_KEY, (Object) itemIndexes.get(numConverted))
+            ));
+            numConverted++;
+        }
+
+        cardinalityCaps.addOmittedErrorsMarker(apiErrors, validationErrors.size() - numConverted, projectApiErrors);
+        return apiErrors;
+    }
+
+    /**
+     * @return Converts the given constraint violation to the {@link ApiError} it is bound to via
+     *          {@link #constraintApiErrorResolver} if there is one, otherwise to the {@link ApiError} its
+     *          {@link ConstraintViolation#getMessage()} can be converted to via
      *          {@link ProjectApiErrors#convertToApiError(String, ApiError)}, otherwise falls back to
      *          {@link ProjectApiErrors#getGenericServiceError()}.
      */
     protected ApiError convertValidationErrorToApiError(ConstraintViolation<Object> validationError) {
-        String message = validationError.getMessage();
-        Map<String, Object> errorMetadata = new HashMap<>();
-        errorMetadata.put("field", validationError.getPropertyPath().toString());
-        return new ApiErrorWithMetadata(
-                projectApiErrors.convertToApiError(message, projectApiErrors.getGenericServiceError()),
-                errorMetadata
-        );
+        ApiError apiError = constraintApiErrorResolver.resolve(validationError);
+        if (apiError == null) {
+            apiError = projectApiErrors.convertToApiError(
+                validationError.getMessage(), projectApiErrors.getGenericServiceError()
+            );
+        }
+
+        return fieldApiErrorCache.getOrCreate(apiError, validationError.getPropertyPath().toString());
     }
 }
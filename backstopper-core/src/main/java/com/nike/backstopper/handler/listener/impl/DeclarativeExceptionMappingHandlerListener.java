@@ -0,0 +1,498 @@
+package com.nike.backstopper.handler.listener.impl;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.internal.util.Pair;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
+
+/**
+ * An {@link ApiExceptionHandlerListener} that maps exceptions to {@link ApiError}s based on a properties file (or
+ * {@link Properties} object) rather than code. This lets you map third-party exceptions without writing a listener or
+ * subclassing one of the one-off framework listeners. Each mapping is a group of properties sharing a mapping name:
+ *
+ * <pre>
+ *     # Required - the exception class (or a superclass of the exceptions you want to match).
+ *     payment-declined.exception=com.example.payments.PaymentDeclinedException
+ *     # Required - the ApiError name, as found via ProjectApiErrors.convertToApiError(String).
+ *     payment-declined.api-error=PAYMENT_DECLINED
+ *
+ *     # Optional message predicates. If more than one is given then they all must match.
+ *     upstream-timeout.exception=com.example.client.UpstreamException
+ *     upstream-timeout.api-error=TEMPORARY_SERVICE_PROBLEM
+ *     upstream-timeout.message-starts-with=Upstream
+ *     upstream-timeout.message-contains=timed out
+ *     # Regexes must match the whole message. Remember that backslashes must be doubled in properties files.
+ *     upstream-timeout.message-regex=.*after \\d+ ms.*
+ * </pre>
+ *
+ * <p>Matching is hierarchy-aware: the exception's own class is checked first, then each superclass in turn, and the
+ * first mapping that matches wins. Mappings for the same class are checked in mapping name order. Exception classes
+ * are matched by name, so they don't need to be loadable by this class.
+ *
+ * <p>Mappings are compiled into an immutable {@link CompiledExceptionMappings} snapshot that caches the resolved
+ * mappings per exception class. {@link #reload()} builds a new snapshot and swaps it in, so the
+ * {@link #shouldHandleException(Throwable)} read path never takes a lock. If the mappings came from a file, then
+ * {@link #startWatching()} will reload them automatically whenever the file changes, using a {@link WatchService} on
+ * a daemon thread. A reload that fails (e.g. a typo in the file) is logged and the previous mappings are kept. Call
+ * {@link #close()} to stop watching.
+ */
+@SuppressWarnings("WeakerAccess")
+public class DeclarativeExceptionMappingHandlerListener implements ApiExceptionHandlerListener, Closeable {
+
+    public static final String EXCEPTION_PROPERTY_SUFFIX = "exception";
+    public static final String API_ERROR_PROPERTY_SUFFIX = "api-error";
+    public static final String MESSAGE_CONTAINS_PROPERTY_SUFFIX = "message-contains";
+    public static final String MESSAGE_STARTS_WITH_PROPERTY_SUFFIX = "message-starts-with";
+    public static final String MESSAGE_REGEX_PROPERTY_SUFFIX = "message-regex";
+
+    private static final Logger logger = LoggerFactory.getLogger(DeclarativeExceptionMappingHandlerListener.class);
+
+    protected final @NotNull ProjectApiErrors projectApiErrors;
+    protected final @Nullable Path mappingsFile;
+
+    protected volatile @NotNull CompiledExceptionMappings compiledMappings;
+
+    private @Nullable WatchService watchService;
+    private @Nullable Thread watchThread;
+
+    /**
+     * Creates a new instance that loads its mappings from the given properties file. The file is loaded immediately,
+     * and any problems with it result in an {@link IllegalArgumentException}. Call {@link #startWatching()} if you
+     * want changes to the file to be picked up automatically.
+     *
+     * @param projectApiErrors The {@link ProjectApiErrors} used to look up {@link ApiError}s by name. Cannot be null.
+     * @param mappingsFile The properties file containing the mappings. Cannot be null.
+     */
+    public DeclarativeExceptionMappingHandlerListener(
+        @NotNull ProjectApiErrors projectApiErrors,
+        @NotNull Path mappingsFile
+    ) {
+        //noinspection ConstantConditions
+        if (mappingsFile == null) {
+            throw new NullPointerException("mappingsFile cannot be null.");
+        }
+
+        this.projectApiErrors = requireProjectApiErrors(projectApiErrors);
+        this.mappingsFile = mappingsFile;
+        try {
+            this.compiledMappings = compileMappings(loadProperties(mappingsFile));
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to read exception mappings file: " + mappingsFile, ex);
+        }
+    }
+
+    /**
+     * Creates a new instance with the given mappings. Instances created this way have no file to reload from, so
+     * {@link #reload()} and {@link #startWatching()} are not supported.
+     *
+     * @param projectApiErrors The {@link ProjectApiErrors} used to look up {@link ApiError}s by name. Cannot be null.
+     * @param mappings The mapping properties. Cannot be null.
+     */
+    public DeclarativeExceptionMappingHandlerListener(
+        @NotNull ProjectApiErrors projectApiErrors,
+        @NotNull Properties mappings
+    ) {
+        //noinspection ConstantConditions
+        if (mappings == null) {
+            throw new NullPointerException("mappings cannot be null.");
+        }
+
+        this.projectApiErrors = requireProjectApiErrors(projectApiErrors);
+        this.mappingsFile = null;
+        this.compiledMappings = compileMappings(mappings);
+    }
+
+    private static @NotNull ProjectApiErrors requireProjectApiErrors(ProjectApiErrors projectApiErrors) {
+        //noinspection ConstantConditions
+        if (projectApiErrors == null) {
+            throw new NullPointerException("projectApiErrors cannot be null.");
+        }
+        return projectApiErrors;
+    }
+
+    @Override
+    public ApiExceptionHandlerListenerResult shouldHandleException(Throwable ex) {
+        if (ex == null) {
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        }
+
+        ExceptionMappingRule rule = compiledMappings.findMatchingRule(ex);
+        if (rule == null) {
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        }
+
+        List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>();
+        extraDetailsForLogging.add(Pair.of("exception_mapping_name", rule.mappingName));
+        return ApiExceptionHandlerListenerResult.handleResponse(
+            singletonSortedSetOf(rule.apiError), extraDetailsForLogging
+        );
+    }
+
+    /**
+     * Reloads the mappings from the file this instance was created with. If the file can't be read or has problems
+     * then the error is logged, the previous mappings stay in effect, and this returns false.
+     *
+     * @return true if the mappings were reloaded, false if they were left as they were.
+     * @throws IllegalStateException if this instance was not created with a mappings file.
+     */
+    public boolean reload() {
+        Path file = requireMappingsFile();
+        try {
+            compiledMappings = compileMappings(loadProperties(file));
+            logger.info("Reloaded exception mappings from {}", file);
+            return true;
+        }
+        catch (Exception ex) {
+            logger.error("Unable to reload exception mappings from {} - keeping the previous mappings.", file, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Starts watching the mappings file on a daemon thread, calling {@link #reload()} whenever it is created or
+     * modified. Does nothing if this instance is already watching.
+     *
+     * @throws IllegalStateException if this instance was not created with a mappings file.
+     * @throws IOException if the {@link WatchService} can't be set up.
+     */
+    public synchronized void startWatching() throws IOException {
+        Path file = requireMappingsFile();
+        if (watchService != null) {
+            return;
+        }
+
+        Path absoluteFile = file.toAbsolutePath();
+        Path directory = absoluteFile.getParent();
+        Path fileName = absoluteFile.getFileName();
+
+        WatchService newWatchService = directory.getFileSystem().newWatchService();
+        directory.register(
+            newWatchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY
+        );
+
+        Thread newWatchThread = new Thread(
+            () -> watchForChanges(newWatchService, fileName),
+            "backstopper-exception-mappings-watcher"
+        );
+        newWatchThread.setDaemon(true);
+
+        this.watchService = newWatchService;
+        this.watchThread = newWatchThread;
+        newWatchThread.start();
+    }
+
+    /**
+     * @return true if {@link #startWatching()} has been called and {@link #close()} has not.
+     */
+    public synchronized boolean isWatching() {
+        return watchService != null;
+    }
+
+    /**
+     * Stops watching the mappings file, if {@link #startWatching()} was called. The current mappings stay in effect.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+            if (watchThread != null) {
+                watchThread.interrupt();
+            }
+        }
+        finally {
+            watchService = null;
+            watchThread = null;
+        }
+    }
+
+    protected void watchForChanges(@NotNull WatchService watcher, @NotNull Path fileName) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean mappingsFileChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        mappingsFileChanged = true;
+                    }
+                }
+
+                // A single save can produce several events, so only reload once per batch.
+                if (mappingsFileChanged) {
+                    reload();
+                }
+
+                if (!key.reset()) {
+                    logger.warn("Exception mappings directory is no longer accessible - no longer watching {}",
+                                mappingsFile);
+                    return;
+                }
+            }
+        }
+        catch (ClosedWatchServiceException | InterruptedException ex) {
+            // close() was called. Nothing left to do.
+        }
+    }
+
+    private @NotNull Path requireMappingsFile() {
+        if (mappingsFile == null) {
+            throw new IllegalStateException(
+                "This instance was not created with a mappings file, so there is nothing to reload or watch."
+            );
+        }
+        return mappingsFile;
+    }
+
+    protected @NotNull Properties loadProperties(@NotNull Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * Validates the given mapping properties and compiles them into a {@link CompiledExceptionMappings}.
+     *
+     * @throws IllegalArgumentException if any of the mappings are invalid - e.g. missing a required property, has an
+     * unknown property, refers to an {@link ApiError} name that doesn't exist in {@link #projectApiErrors}, or has an
+     * invalid regex.
+     */
+    protected @NotNull CompiledExceptionMappings compileMappings(@NotNull Properties mappings) {
+        // Group the properties by mapping name. A TreeMap gives us mapping name order for the rules.
+        Map<String, Map<String, String>> propertiesByMappingName = new TreeMap<>();
+        for (String key : mappings.stringPropertyNames()) {
+            int separatorIndex = key.lastIndexOf('.');
+            if (separatorIndex <= 0 || separatorIndex == key.length() - 1) {
+                throw new IllegalArgumentException(
+                    "Invalid exception mapping property key (expected [mapping-name].[property]): " + key
+                );
+            }
+
+            propertiesByMappingName
+                .computeIfAbsent(key.substring(0, separatorIndex), k -> new HashMap<>())
+                .put(key.substring(separatorIndex + 1), mappings.getProperty(key).trim());
+        }
+
+        Map<String, List<ExceptionMappingRule>> rulesByExceptionClassName = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : propertiesByMappingName.entrySet()) {
+            ExceptionMappingRule rule = compileRule(entry.getKey(), entry.getValue());
+            rulesByExceptionClassName.computeIfAbsent(rule.exceptionClassName, k -> new ArrayList<>()).add(rule);
+        }
+
+        return new CompiledExceptionMappings(rulesByExceptionClassName);
+    }
+
+    protected @NotNull ExceptionMappingRule compileRule(
+        @NotNull String mappingName,
+        @NotNull Map<String, String> properties
+    ) {
+        for (String propertyName : properties.keySet()) {
+            switch (propertyName) {
+                case EXCEPTION_PROPERTY_SUFFIX, API_ERROR_PROPERTY_SUFFIX, MESSAGE_CONTAINS_PROPERTY_SUFFIX,
+                     MESSAGE_STARTS_WITH_PROPERTY_SUFFIX, MESSAGE_REGEX_PROPERTY_SUFFIX -> {
+                    // Known property.
+                }
+                default -> throw new IllegalArgumentException(
+                    "Unknown property '" + propertyName + "' for exception mapping: " + mappingName
+                );
+            }
+        }
+
+        String exceptionClassName = requireProperty(mappingName, properties, EXCEPTION_PROPERTY_SUFFIX);
+        String apiErrorName = requireProperty(mappingName, properties, API_ERROR_PROPERTY_SUFFIX);
+
+        ApiError apiError = projectApiErrors.convertToApiError(apiErrorName);
+        if (apiError == null) {
+            throw new IllegalArgumentException(
+                "Exception mapping " + mappingName + " refers to an ApiError that doesn't exist in the "
+                + "ProjectApiErrors: " + apiErrorName
+            );
+        }
+
+        Pattern messageRegex = null;
+        String messageRegexString = properties.get(MESSAGE_REGEX_PROPERTY_SUFFIX);
+        if (messageRegexString != null) {
+            try {
+                messageRegex = Pattern.compile(messageRegexString);
+            }
+            catch (PatternSyntaxException ex) {
+                throw new IllegalArgumentException(
+                    "Exception mapping " + mappingName + " has an invalid " + MESSAGE_REGEX_PROPERTY_SUFFIX, ex
+                );
+            }
+        }
+
+        return new ExceptionMappingRule(
+            mappingName,
+            exceptionClassName,
+            apiError,
+            properties.get(MESSAGE_CONTAINS_PROPERTY_SUFFIX),
+            properties.get(MESSAGE_STARTS_WITH_PROPERTY_SUFFIX),
+            messageRegex
+        );
+    }
+
+    private static @NotNull String requireProperty(
+        @NotNull String mappingName,
+        @NotNull Map<String, String> properties,
+        @NotNull String propertyName
+    ) {
+        String value = properties.get(propertyName);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Exception mapping " + mappingName + " is missing the required property: " + propertyName
+            );
+        }
+        return value;
+    }
+
+    /**
+     * A single compiled mapping from an exception class name (plus optional message predicates) to an
+     * {@link ApiError}.
+     */
+    protected static final class ExceptionMappingRule {
+
+        public final @NotNull String mappingName;
+        public final @NotNull String exceptionClassName;
+        public final @NotNull ApiError apiError;
+        public final @Nullable String messageContains;
+        public final @Nullable String messageStartsWith;
+        public final @Nullable Pattern messageRegex;
+
+        protected ExceptionMappingRule(
+            @NotNull String mappingName,
+            @NotNull String exceptionClassName,
+            @NotNull ApiError apiError,
+            @Nullable String messageContains,
+            @Nullable String messageStartsWith,
+            @Nullable Pattern messageRegex
+        ) {
+            this.mappingName = mappingName;
+            this.exceptionClassName = exceptionClassName;
+            this.apiError = apiError;
+            this.messageContains = messageContains;
+            this.messageStartsWith = messageStartsWith;
+            this.messageRegex = messageRegex;
+        }
+
+        public boolean hasMessagePredicate() {
+            return messageContains != null || messageStartsWith != null || messageRegex != null;
+        }
+
+        public boolean matchesMessage(@Nullable String message) {
+            if (!hasMessagePredicate()) {
+                return true;
+            }
+
+            if (message == null) {
+                return false;
+            }
+
+            return (messageContains == null || message.contains(messageContains))
+                   && (messageStartsWith == null || message.startsWith(messageStartsWith))
+                   && (messageRegex == null || messageRegex.matcher(message).matches());
+        }
+    }
+
+    /**
+     * An immutable snapshot of compiled mappings. The candidate rules for a given exception class (the rules for the
+     * class itself followed by the rules for each of its superclasses) are resolved the first time that class is seen
+     * and cached via {@link ClassValue}. A reload creates a whole new snapshot, so there is nothing to invalidate.
+     */
+    protected static final class CompiledExceptionMappings {
+
+        private static final ExceptionMappingRule[] NO_RULES = new ExceptionMappingRule[0];
+
+        protected final @NotNull Map<String, List<ExceptionMappingRule>> rulesByExceptionClassName;
+
+        protected final ClassValue<ExceptionMappingRule[]> candidateRulesCache = new ClassValue<>() {
+            @Override
+            protected ExceptionMappingRule[] computeValue(Class<?> exClass) {
+                return resolveCandidateRules(exClass);
+            }
+        };
+
+        protected CompiledExceptionMappings(@NotNull Map<String, List<ExceptionMappingRule>> rulesByExceptionClassName) {
+            Map<String, List<ExceptionMappingRule>> copy = new HashMap<>();
+            rulesByExceptionClassName.forEach((k, v) -> copy.put(k, Collections.unmodifiableList(new ArrayList<>(v))));
+            this.rulesByExceptionClassName = Collections.unmodifiableMap(copy);
+        }
+
+        public @Nullable ExceptionMappingRule findMatchingRule(@NotNull Throwable ex) {
+            ExceptionMappingRule[] candidates = candidateRulesCache.get(ex.getClass());
+            if (candidates.length == 0) {
+                return null;
+            }
+
+            String message = null;
+            boolean messageRetrieved = false;
+            for (ExceptionMappingRule candidate : candidates) {
+                if (!candidate.hasMessagePredicate()) {
+                    return candidate;
+                }
+
+                // Only ask the exception for its message if a rule actually needs it.
+                if (!messageRetrieved) {
+                    message = ex.getMessage();
+                    messageRetrieved = true;
+                }
+
+                if (candidate.matchesMessage(message)) {
+                    return candidate;
+                }
+            }
+
+            return null;
+        }
+
+        protected @NotNull ExceptionMappingRule[] resolveCandidateRules(@NotNull Class<?> exClass) {
+            if (rulesByExceptionClassName.isEmpty()) {
+                return NO_RULES;
+            }
+
+            List<ExceptionMappingRule> candidates = new ArrayList<>();
+            for (Class<?> current = exClass; current != null; current = current.getSuperclass()) {
+                List<ExceptionMappingRule> rulesForClass = rulesByExceptionClassName.get(current.getName());
+                if (rulesForClass != null) {
+                    candidates.addAll(rulesForClass);
+                }
+            }
+
+            return candidates.isEmpty() ? NO_RULES : candidates.toArray(NO_RULES);
+        }
+    }
+}
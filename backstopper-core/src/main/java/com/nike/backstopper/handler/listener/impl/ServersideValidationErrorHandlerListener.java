@@ -8,10 +8,15 @@ import com.nike.backstopper.exception.network.DownstreamRequestOrResponseBodyFai
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.ConstraintAnnotationNameCache;
+import com.nike.backstopper.handler.listener.LazyLogDetail;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 import com.nike.internal.util.Pair;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -29,6 +34,9 @@ import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSet
  * way if the exception's cause is a {@link ServersideValidationError}. It will just extract the wrapped
  * {@link ServersideValidationError} and use that as if it was passed in directly.
  *
+ * <p>The violation description for the logs is a {@link LazyLogDetail}, so it's only built if the log message is, and
+ * it describes at most {@link ValidationErrorCardinalityCaps#maxViolationsPerLogEntry} violations.
+ *
  * @author Nic Munroe
  */
 @Named
@@ -38,6 +46,11 @@ public class ServersideValidationErrorHandlerListener implements ApiExceptionHan
 
     protected final ProjectApiErrors projectApiErrors;
     protected final ApiExceptionHandlerUtils utils;
+    protected final ValidationErrorCardinalityCaps cardinalityCaps;
+    /**
+     * Remembers the constraint annotation class names used in the violation details for the logs.
+     */
+    protected final ConstraintAnnotationNameCache annotationNameCache = new ConstraintAnnotationNameCache();
 
     /**
      * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
@@ -48,14 +61,35 @@ public class ServersideValidationErrorHandlerListener implements ApiExceptionHan
     @Inject
     public ServersideValidationErrorHandlerListener(ProjectApiErrors projectApiErrors,
                                                     ApiExceptionHandlerUtils utils) {
+        this(projectApiErrors, utils, ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    /**
+     * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
+     *                          {@link ApiError}s. Cannot be null.
+     * @param utils The {@link ApiExceptionHandlerUtils} that should be used by this instance. You can pass in
+     *              {@link ApiExceptionHandlerUtils#DEFAULT_IMPL} if you don't need custom logic.
+     * @param cardinalityCaps The caps on how many violations are described in the logs (only
+     *                        {@link ValidationErrorCardinalityCaps#maxViolationsPerLogEntry} applies, since this
+     *                        listener always returns a single error). You can pass in
+     *                        {@link ValidationErrorCardinalityCaps#DEFAULT} for reasonable caps, or
+     *                        {@link ValidationErrorCardinalityCaps#UNLIMITED} for none. Cannot be null.
+     */
+    public ServersideValidationErrorHandlerListener(ProjectApiErrors projectApiErrors,
+                                                    ApiExceptionHandlerUtils utils,
+                                                    ValidationErrorCardinalityCaps cardinalityCaps) {
         if (projectApiErrors == null)
             throw new IllegalArgumentException("ProjectApiErrors cannot be null");
 
         if (utils == null)
             throw new IllegalArgumentException("apiExceptionHandlerUtils cannot be null.");
 
+        if (cardinalityCaps == null)
+            throw new IllegalArgumentException("cardinalityCaps cannot be null.");
+
         this.projectApiErrors = projectApiErrors;
         this.utils = utils;
+        this.cardinalityCaps = cardinalityCaps;
     }
 
     @Override
@@ -92,22 +126,45 @@ public class ServersideValidationErrorHandlerListener implements ApiExceptionHan
                 Pair.of("serverside_validation_object", ex.getObjectThatFailedValidation().getClass().getName())
             );
 
-        // Add info about each violation that occurred.
-        if (ex.getViolations() != null) {
-            StringBuilder sb = new StringBuilder();
-            for (ConstraintViolation<Object> violation : ex.getViolations()) {
-                if (!sb.isEmpty())
-                    sb.append(", ");
-
-                sb.append(violation.getPropertyPath().toString())
-                  .append("|") .append(violation.getConstraintDescriptor().getAnnotation().annotationType().getName())
-                  .append("|").append(violation.getMessage());
+        // Add info about each violation that occurred, up to the cap. Building the description is relatively
+        //      expensive, so it's deferred until the log message is built.
+        Set<ConstraintViolation<Object>> violations = ex.getViolations();
+        if (violations != null) {
+            int numViolationsDescribed = Math.min(violations.size(), cardinalityCaps.maxViolationsPerLogEntry);
+            extraDetailsForLogging.add(LazyLogDetail.of(
+                "serverside_validation_errors",
+                () -> utils.quotesToApostrophes(describeViolations(violations, numViolationsDescribed))
+            ));
+            int numViolationsNotDescribed = violations.size() - numViolationsDescribed;
+            if (numViolationsNotDescribed > 0) {
+                extraDetailsForLogging.add(
+                    Pair.of("serverside_validation_errors_omitted_count", String.valueOf(numViolationsNotDescribed))
+                );
             }
-            extraDetailsForLogging.add(
-                Pair.of("serverside_validation_errors", utils.quotesToApostrophes(sb.toString()))
-            );
         }
 
         return singletonSortedSetOf(projectApiErrors.getServersideValidationApiError());
     }
+
+    /**
+     * @return A description of the first numToDescribe of the given violations for the logs, in the form
+     *          {@code property.path|constraint.annotation.Class|message}, comma separated.
+     */
+    protected String describeViolations(Collection<ConstraintViolation<Object>> violations, int numToDescribe) {
+        StringBuilder sb = new StringBuilder(numToDescribe * 64);
+        int numDescribed = 0;
+        for (ConstraintViolation<Object> violation : violations) {
+            if (numDescribed >= numToDescribe)
+                break;
+
+            if (numDescribed > 0)
+                sb.append(", ");
+
+            numDescribed++;
+            sb.append(violation.getPropertyPath())
+              .append("|").append(annotationNameCache.getAnnotationName(violation))
+              .append("|").append(violation.getMessage());
+        }
+        return sb.toString();
+    }
 }
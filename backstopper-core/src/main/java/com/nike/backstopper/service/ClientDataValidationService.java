@@ -4,14 +4,22 @@ import com.nike.backstopper.exception.ClientDataValidationError;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
 
 /**
  * Provides methods for performing JSR 303 validation on objects that will throw a {@link ClientDataValidationError} if
@@ -25,6 +33,26 @@ import jakarta.validation.Validator;
  * a no-op impl, thus satisfying the constructor requirements without pulling in a JSR 303 implementation dependency
  * into your project.
  *
+ * <p>Objects whose class has no constraints for the requested groups (see {@link ConstraintPresenceCache}) are skipped
+ * without calling the {@link Validator}. When validating the Default group, objects whose class is annotated with
+ * backstopper-custom-validators' {@code @PrecompiledValidation} are validated by the reflection-free validator
+ * generated for them at compile time (see {@link PrecompiledValidatorLookup}) instead of the {@link Validator}.
+ * Generated validators bypass the {@link Validator} completely, so anything it was configured with (XML constraint
+ * mappings, a custom {@link jakarta.validation.MessageInterpolator}, etc.) is not applied to those objects. If you
+ * rely on that configuration then construct this class with {@link PrecompiledValidatorLookup#DISABLED}.
+ *
+ * <p>If you construct this class with a {@link ValidationResultMemoizer} then immutable objects (classes annotated with
+ * {@link ImmutableForValidation}, and records whose components are all known-immutable types) are only validated until
+ * they pass for a given set of groups - after that, validating the same instance again for the same groups is a cache
+ * lookup. This is off by default. Records with mutable components (e.g. a {@code List}) are not memoized unless
+ * annotated, since mutating such a component after validation would otherwise go unnoticed.
+ *
+ * <p>The {@code validateBatch...} methods are for validating large collections of objects (e.g. bulk-ingest requests).
+ * Batches with at least {@link #parallelBatchThreshold} items are split into contiguous slices that are validated
+ * concurrently on {@link #batchExecutor}. Either way the resulting {@link ClientDataValidationError} records the index
+ * of the item each violation came from (see {@link ClientDataValidationError#getViolationItemIndexes()}), and its
+ * violations are always in item index order regardless of which slice finished first.
+ *
  * @author Nic Munroe
  */
 @Named
@@ -32,15 +60,120 @@ import jakarta.validation.Validator;
 @SuppressWarnings("WeakerAccess")
 public class ClientDataValidationService {
 
+    /**
+     * The default value for {@link #parallelBatchThreshold}.
+     */
+    public static final int DEFAULT_PARALLEL_BATCH_THRESHOLD = 512;
+
+    // Orders the violations for a single batch item, since validators return them as a Set.
+    private static final Comparator<ConstraintViolation<Object>> VIOLATION_COMPARATOR =
+        Comparator.<ConstraintViolation<Object>, String>comparing(v -> String.valueOf(v.getPropertyPath()))
+                  .thenComparing(v -> String.valueOf(v.getMessage()));
+
     private final Validator validator;
+    /**
+     * Used to skip the {@link Validator} call for objects whose class has nothing to validate.
+     */
+    protected final ConstraintPresenceCache constraintPresenceCache;
+    /**
+     * Used to validate objects with their generated validators (when there is one) instead of the {@link Validator}.
+     */
+    protected final PrecompiledValidatorLookup precompiledValidatorLookup;
+    /**
+     * Used to skip validating immutable objects that already passed validation. Null if memoization is disabled.
+     */
+    protected final ValidationResultMemoizer validationResultMemoizer;
+    /**
+     * The executor used to validate slices of large batches concurrently.
+     */
+    protected final Executor batchExecutor;
+    /**
+     * Batches with fewer than this many items are validated on the caller thread, since splitting them up costs more
+     * than it saves.
+     */
+    protected final int parallelBatchThreshold;
 
+    /**
+     * Creates a new instance that validates large batches on {@link ForkJoinPool#commonPool()} using
+     * {@link #DEFAULT_PARALLEL_BATCH_THRESHOLD}.
+     */
     @Inject
     public ClientDataValidationService(Validator validator) {
+        this(validator, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_BATCH_THRESHOLD);
+    }
+
+    /**
+     * @param validator The {@link Validator} to use. Cannot be null.
+     * @param batchExecutor The executor used to validate slices of large batches concurrently, e.g. a
+     *                      {@link ForkJoinPool} or
+     *                      {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}. Cannot be null.
+     * @param parallelBatchThreshold Batches with at least this many items are validated concurrently, smaller ones
+     *                               are validated on the caller thread. Must be positive - pass in
+     *                               {@link Integer#MAX_VALUE} to never validate concurrently.
+     */
+    public ClientDataValidationService(Validator validator, Executor batchExecutor, int parallelBatchThreshold) {
+        this(validator, batchExecutor, parallelBatchThreshold, null);
+    }
+
+    /**
+     * @param validator The {@link Validator} to use. Cannot be null.
+     * @param batchExecutor The executor used to validate slices of large batches concurrently. Cannot be null.
+     * @param parallelBatchThreshold Batches with at least this many items are validated concurrently, smaller ones
+     *                               are validated on the caller thread. Must be positive.
+     * @param validationResultMemoizer The {@link ValidationResultMemoizer} used to skip validating immutable objects
+     *                                 that already passed validation, or null to always validate everything. Only
+     *                                 enable this if objects annotated with {@link ImmutableForValidation} really are
+     *                                 deeply immutable, since records are only shallowly immutable and an annotated
+     *                                 object that changes after passing validation keeps being reported as valid.
+     */
+    public ClientDataValidationService(Validator validator, Executor batchExecutor, int parallelBatchThreshold,
+                                       ValidationResultMemoizer validationResultMemoizer) {
+        this(validator, batchExecutor, parallelBatchThreshold, validationResultMemoizer,
+             (validator instanceof NoOpJsr303Validator)
+             ? PrecompiledValidatorLookup.DISABLED
+             : PrecompiledValidatorLookup.DEFAULT_IMPL
+        );
+    }
+
+    /**
+     * @param validator The {@link Validator} to use. Cannot be null.
+     * @param batchExecutor The executor used to validate slices of large batches concurrently. Cannot be null.
+     * @param parallelBatchThreshold Batches with at least this many items are validated concurrently, smaller ones
+     *                               are validated on the caller thread. Must be positive.
+     * @param validationResultMemoizer The {@link ValidationResultMemoizer} used to skip validating immutable objects
+     *                                 that already passed validation, or null to always validate everything.
+     * @param precompiledValidatorLookup Used to validate objects with their generated validators instead of the
+     *                                   {@link Validator}. Pass in {@link PrecompiledValidatorLookup#DISABLED} to
+     *                                   always use the {@link Validator}. The other constructors use
+     *                                   {@link PrecompiledValidatorLookup#DEFAULT_IMPL}, or
+     *                                   {@link PrecompiledValidatorLookup#DISABLED} if the {@link Validator} is
+     *                                   {@link NoOpJsr303Validator}. Cannot be null.
+     */
+    public ClientDataValidationService(Validator validator, Executor batchExecutor, int parallelBatchThreshold,
+                                       ValidationResultMemoizer validationResultMemoizer,
+                                       PrecompiledValidatorLookup precompiledValidatorLookup) {
         if (validator == null) {
             throw new IllegalArgumentException("Validator cannot be null");
         }
 
+        if (batchExecutor == null) {
+            throw new IllegalArgumentException("batchExecutor cannot be null");
+        }
+
+        if (parallelBatchThreshold <= 0) {
+            throw new IllegalArgumentException("parallelBatchThreshold must be positive");
+        }
+
+        if (precompiledValidatorLookup == null) {
+            throw new IllegalArgumentException("precompiledValidatorLookup cannot be null");
+        }
+
         this.validator = validator;
+        this.constraintPresenceCache = new ConstraintPresenceCache(validator);
+        this.precompiledValidatorLookup = precompiledValidatorLookup;
+        this.validationResultMemoizer = validationResultMemoizer;
+        this.batchExecutor = batchExecutor;
+        this.parallelBatchThreshold = parallelBatchThreshold;
     }
 
     /**
@@ -111,8 +244,7 @@ public class ClientDataValidationService {
         List<Object> objectsThatFailedValidation = new ArrayList<>();
         for (Object obj : validateTheseObjects) {
             if (obj != null) {
-                Set<ConstraintViolation<Object>> objViolations =
-                    (groups == null) ? validator.validate(obj) : validator.validate(obj, groups);
+                Set<ConstraintViolation<Object>> objViolations = validateObject(obj, groups);
                 if (!objViolations.isEmpty()) {
                     violations.addAll(objViolations);
                     objectsThatFailedValidation.add(obj);
@@ -129,4 +261,185 @@ public class ClientDataValidationService {
         throw new ClientDataValidationError(objectsThatFailedValidation, violations, groups);
     }
 
+    /**
+     * Performs JSR 303 validation of the given batch of objects (using the default validation group), and throws a
+     * single {@link ClientDataValidationError} if any constraint violations are found. Equivalent to
+     * {@link #validateBatchWithGroupsFailFast(Collection, Class[])} with null groups.
+     */
+    public void validateBatchFailFast(Collection<?> batch) {
+        validateBatchWithGroupsFailFast(batch, (Class<?>[]) null);
+    }
+
+    /**
+     * Performs JSR 303 validation of each item in the given batch for the given groups, and throws a single
+     * {@link ClientDataValidationError} if any constraint violations are found. Null items are skipped, and passing in
+     * a null or empty batch does nothing. If you pass in null or empty groups then the Default group will be used.
+     *
+     * <p>Batches with at least {@link #parallelBatchThreshold} items are validated concurrently on
+     * {@link #batchExecutor}. The thrown exception is the same either way: its violations (and
+     * {@link ClientDataValidationError#getViolationItemIndexes()}) are ordered by item index, and the violations for
+     * any single item are ordered by property path and then message.
+     *
+     * <p>NOTE: The {@link Validator} must be thread safe if you use a {@link #parallelBatchThreshold} that can be
+     * reached - all {@link Validator}s created by a spec-compliant {@link jakarta.validation.ValidatorFactory} are.
+     */
+    public void validateBatchWithGroupsFailFast(Collection<?> batch, Class<?>... groups) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        Class<?>[] groupsToUse = (groups == null || groups.length == 0) ? null : groups;
+        // The slices index into the items, so copy anything that isn't cheap to index (e.g. a LinkedList).
+        List<?> items = (batch instanceof List && batch instanceof RandomAccess)
+                        ? (List<?>) batch
+                        : new ArrayList<>(batch);
+        List<List<ConstraintViolation<Object>>> violationsPerItem =
+            (items.size() < parallelBatchThreshold)
+            ? validateBatchSlice(items, 0, items.size(), groupsToUse)
+            : validateBatchConcurrently(items, groupsToUse);
+
+        // Gather the results in item index order.
+        List<ConstraintViolation<Object>> violations = new ArrayList<>();
+        List<Integer> violationItemIndexes = new ArrayList<>();
+        List<Object> objectsThatFailedValidation = new ArrayList<>();
+        for (int i = 0; i < violationsPerItem.size(); i++) {
+            List<ConstraintViolation<Object>> itemViolations = violationsPerItem.get(i);
+            if (itemViolations != null) {
+                violations.addAll(itemViolations);
+                for (int j = 0; j < itemViolations.size(); j++) {
+                    violationItemIndexes.add(i);
+                }
+                objectsThatFailedValidation.add(items.get(i));
+            }
+        }
+
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        throw new ClientDataValidationError(objectsThatFailedValidation, violations, groupsToUse, violationItemIndexes);
+    }
+
+    /**
+     * Validates the given batch by splitting it into contiguous slices (see {@link #determineBatchSliceSize(int)})
+     * and validating each slice on {@link #batchExecutor}.
+     *
+     * @return The violations for each item in the batch, in item index order. Items without violations are null.
+     */
+    protected List<List<ConstraintViolation<Object>>> validateBatchConcurrently(List<?> items, Class<?>[] groups) {
+        int sliceSize = Math.max(1, determineBatchSliceSize(items.size()));
+        List<CompletableFuture<List<List<ConstraintViolation<Object>>>>> sliceFutures = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += sliceSize) {
+            int sliceStart = start;
+            int sliceEnd = Math.min(items.size(), start + sliceSize);
+            sliceFutures.add(CompletableFuture.supplyAsync(
+                () -> validateBatchSlice(items, sliceStart, sliceEnd, groups), batchExecutor
+            ));
+        }
+
+        List<List<ConstraintViolation<Object>>> result = new ArrayList<>(items.size());
+        try {
+            for (CompletableFuture<List<List<ConstraintViolation<Object>>>> sliceFuture : sliceFutures) {
+                result.addAll(sliceFuture.join());
+            }
+        }
+        catch (CompletionException ex) {
+            // Surface whatever the validator threw, just like the non-concurrent path would.
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return How many items each concurrently-validated slice of a batch of the given size should contain. Defaults
+     * to splitting the batch into roughly 4 slices per available processor, so that uneven slices still balance out.
+     */
+    protected int determineBatchSliceSize(int batchSize) {
+        int numSlices = Runtime.getRuntime().availableProcessors() * 4;
+        return (batchSize + numSlices - 1) / numSlices;
+    }
+
+    /**
+     * Validates a single non-null object for the given groups. Skips objects that are already known to be valid for
+     * the groups (see {@link #validationResultMemoizer}), uses the object's generated validator (see
+     * {@link #precompiledValidatorLookup}) if there is one and only the Default group is being validated, skips
+     * objects whose class has no constraints for the groups (see {@link #constraintPresenceCache}), and otherwise
+     * calls the {@link Validator}.
+     *
+     * @return The violations found - never null.
+     */
+    protected Set<ConstraintViolation<Object>> validateObject(Object obj, Class<?>[] groups) {
+        if (validationResultMemoizer == null || !validationResultMemoizer.isMemoizable(obj.getClass())) {
+            return doValidateObject(obj, groups);
+        }
+
+        if (validationResultMemoizer.isKnownValid(obj, groups)) {
+            return Collections.emptySet();
+        }
+
+        Set<ConstraintViolation<Object>> violations = doValidateObject(obj, groups);
+        if (violations.isEmpty()) {
+            validationResultMemoizer.rememberValid(obj, groups);
+        }
+        return violations;
+    }
+
+    private Set<ConstraintViolation<Object>> doValidateObject(Object obj, Class<?>[] groups) {
+        if (isDefaultGroupOnly(groups)) {
+            Set<ConstraintViolation<Object>> precompiledViolations =
+                precompiledValidatorLookup.validateIfPrecompiled(obj);
+            if (precompiledViolations != null) {
+                return precompiledViolations;
+            }
+        }
+
+        if (!constraintPresenceCache.isConstrained(obj.getClass(), groups)) {
+            return Collections.emptySet();
+        }
+
+        return (groups == null) ? validator.validate(obj) : validator.validate(obj, groups);
+    }
+
+    private static boolean isDefaultGroupOnly(Class<?>[] groups) {
+        if (groups == null) {
+            return true;
+        }
+        for (Class<?> group : groups) {
+            if (group != Default.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The violations for each item from {@code start} (inclusive) to {@code end} (exclusive) of the given
+     * items, in order. Items without violations (including null items) are null in the returned list.
+     */
+    protected List<List<ConstraintViolation<Object>>> validateBatchSlice(List<?> items, int start, int end,
+                                                                         Class<?>[] groups) {
+        List<List<ConstraintViolation<Object>>> result = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            Object obj = items.get(i);
+            List<ConstraintViolation<Object>> itemViolations = null;
+            if (obj != null) {
+                Set<ConstraintViolation<Object>> objViolations = validateObject(obj, groups);
+                if (!objViolations.isEmpty()) {
+                    itemViolations = new ArrayList<>(objViolations);
+                    // Validators return a Set, so sort to keep the overall ordering deterministic.
+                    itemViolations.sort(VIOLATION_COMPARATOR);
+                }
+            }
+            result.add(itemViolations);
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.nike.backstopper.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+/**
+ * Remembers, per class and set of validation groups, whether a {@link Validator} could ever find constraint violations
+ * on an instance of that class. Plain DTO wrappers, records without constraint annotations, and collection types are
+ * common validation targets that have nothing to check, and asking the {@link Validator} to validate them still costs
+ * a full walk of the object. {@link ClientDataValidationService} and {@link FailFastServersideValidationService} use
+ * this to skip the {@link Validator} call for those objects.
+ *
+ * <p>The answer is worked out once per class and set of groups from the {@link Validator}'s {@link BeanDescriptor},
+ * and is always conservative - a class is only considered unconstrained if the descriptor shows no constraints that
+ * match the groups (on the class, its properties, or its container elements) and no cascaded properties. If the
+ * {@link Validator} can't provide a descriptor (e.g. {@link NoOpJsr303Validator}) then the class is considered
+ * constrained. The per-class results live in a {@link ClassValue}, so they don't prevent the class from being unloaded.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ConstraintPresenceCache {
+
+    private static final List<Class<?>> DEFAULT_GROUPS = List.of(Default.class);
+
+    protected final Validator validator;
+
+    private final ClassValue<Map<List<Class<?>>, Boolean>> constrainedByGroups = new ClassValue<>() {
+        @Override
+        protected Map<List<Class<?>>, Boolean> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public ConstraintPresenceCache(Validator validator) {
+        if (validator == null) {
+            throw new IllegalArgumentException("Validator cannot be null");
+        }
+
+        this.validator = validator;
+    }
+
+    /**
+     * @param type The class of the object that would be validated.
+     * @param groups The validation groups that would be used. Null or empty means the Default group.
+     * @return true if validating an instance of the given class with the given groups could produce constraint
+     * violations, false if the {@link Validator} call can safely be skipped.
+     */
+    public boolean isConstrained(Class<?> type, Class<?>... groups) {
+        List<Class<?>> groupsKey = (groups == null || groups.length == 0) ? DEFAULT_GROUPS : List.of(groups);
+        return constrainedByGroups.get(type).computeIfAbsent(
+            groupsKey, key -> computeIsConstrained(type, key.toArray(new Class<?>[0]))
+        );
+    }
+
+    /**
+     * Does the actual (uncached) check for {@link #isConstrained(Class, Class[])}.
+     */
+    protected boolean computeIsConstrained(Class<?> type, Class<?>[] groups) {
+        BeanDescriptor beanDescriptor;
+        try {
+            beanDescriptor = validator.getConstraintsForClass(type);
+        }
+        catch (RuntimeException ex) {
+            // Can't tell, so play it safe.
+            return true;
+        }
+
+        if (beanDescriptor == null) {
+            return true;
+        }
+
+        if (!beanDescriptor.isBeanConstrained()) {
+            return false;
+        }
+
+        // It has constraints for some group - see if any of them apply to these groups. Group sequences, group
+        // inheritance, and Default group redefinition are all handled by unorderedAndMatchingGroups().
+        if (beanDescriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+            return true;
+        }
+
+        for (PropertyDescriptor property : beanDescriptor.getConstrainedProperties()) {
+            if (property.isCascaded()
+                || !property.getConstrainedContainerElementTypes().isEmpty()
+                || property.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()
+            ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
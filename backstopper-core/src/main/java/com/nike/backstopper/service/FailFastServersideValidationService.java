@@ -2,13 +2,29 @@ package com.nike.backstopper.service;
 
 import com.nike.backstopper.exception.ServersideValidationError;
 
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorContext;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 /**
  * Helper service that provides a method for fail-fast JSR 303 validation of serverside objects (e.g. objects received
@@ -23,32 +39,144 @@ import jakarta.validation.Validator;
  * a no-op impl, thus satisfying the constructor requirements without pulling in a JSR 303 implementation dependency
  * into your project.
  *
+ * <p>By default every violation in the object graph is collected before the {@link ServersideValidationError} is
+ * thrown. Since serverside validation errors always map to a single generic error for the caller that's usually wasted
+ * work, so you can opt in to stopping at the first violation with {@link #stopAtFirstViolation} (see the constructors
+ * that take it). In that mode the object is validated with Hibernate Validator's fail-fast mode when you give this
+ * class a Hibernate Validator {@link ValidatorFactory}, and otherwise with a walk of the object graph that stops at the
+ * first property with violations (see {@link #validateUntilFirstViolation(Object)}). Either way the
+ * {@link ServersideValidationError} only contains some of the violations.
+ *
  * @author Nic Munroe
  */
 @Named
 @Singleton
+@SuppressWarnings("WeakerAccess")
 public class FailFastServersideValidationService {
 
+    private static final String HIBERNATE_VALIDATOR_CONTEXT_CLASS_NAME =
+        "org.hibernate.validator.HibernateValidatorContext";
+
     private final Validator validator;
+    /**
+     * Used to skip the {@link Validator} call for objects whose class has nothing to validate.
+     */
+    protected final ConstraintPresenceCache constraintPresenceCache;
+    /**
+     * If true then validation stops at the first violation rather than collecting every violation in the object graph.
+     */
+    protected final boolean stopAtFirstViolation;
+    /**
+     * A validator that was configured to stop at the first violation by the validation provider itself, or null if
+     * that wasn't possible. Only used when {@link #stopAtFirstViolation} is true.
+     */
+    protected final Validator providerFailFastValidator;
+
+    private final ClassValue<Map<String, AccessibleObject>> propertyAccessors = new ClassValue<>() {
+        @Override
+        protected Map<String, AccessibleObject> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     @Inject
     public FailFastServersideValidationService(Validator validator) {
+        this(validator, false);
+    }
+
+    /**
+     * @param validator The {@link Validator} to use. Cannot be null.
+     * @param stopAtFirstViolation Pass in true to stop at the first violation using
+     *                             {@link #validateUntilFirstViolation(Object)}, or false to collect every violation.
+     */
+    public FailFastServersideValidationService(Validator validator, boolean stopAtFirstViolation) {
+        this(validator, stopAtFirstViolation, null);
+    }
+
+    /**
+     * @param validatorFactory The {@link ValidatorFactory} to get {@link Validator}s from. Cannot be null.
+     * @param stopAtFirstViolation Pass in true to stop at the first violation, or false to collect every violation.
+     *                             If this is true and the factory is a Hibernate Validator factory then a fail-fast
+     *                             Hibernate Validator is used, otherwise {@link #validateUntilFirstViolation(Object)}
+     *                             is used.
+     */
+    public FailFastServersideValidationService(ValidatorFactory validatorFactory, boolean stopAtFirstViolation) {
+        this(
+            requireValidatorFactory(validatorFactory).getValidator(),
+            stopAtFirstViolation,
+            (stopAtFirstViolation) ? createProviderFailFastValidator(validatorFactory) : null
+        );
+    }
+
+    protected FailFastServersideValidationService(Validator validator,
+                                                  boolean stopAtFirstViolation,
+                                                  Validator providerFailFastValidator) {
         if (validator == null) {
             throw new IllegalArgumentException("Validator cannot be null");
         }
 
         this.validator = validator;
+        this.constraintPresenceCache = new ConstraintPresenceCache(validator);
+        this.stopAtFirstViolation = stopAtFirstViolation;
+        this.providerFailFastValidator = providerFailFastValidator;
+    }
+
+    private static ValidatorFactory requireValidatorFactory(ValidatorFactory validatorFactory) {
+        if (validatorFactory == null) {
+            throw new IllegalArgumentException("ValidatorFactory cannot be null");
+        }
+
+        return validatorFactory;
+    }
+
+    /**
+     * @return A {@link Validator} from the given factory that stops at the first violation, if the factory is from a
+     * validation provider that supports that (currently Hibernate Validator, via its {@code failFast(true)} context
+     * option). Returns null otherwise. Hibernate Validator is looked up reflectively so it doesn't need to be on the
+     * classpath.
+     */
+    protected static Validator createProviderFailFastValidator(ValidatorFactory validatorFactory) {
+        try {
+            ValidatorContext context = validatorFactory.usingContext();
+            Class<?> hibernateContextClass = Class.forName(
+                HIBERNATE_VALIDATOR_CONTEXT_CLASS_NAME, false, context.getClass().getClassLoader()
+            );
+            if (!hibernateContextClass.isInstance(context)) {
+                return null;
+            }
+
+            Method failFastMethod = hibernateContextClass.getMethod("failFast", boolean.class);
+            return ((ValidatorContext) failFastMethod.invoke(context, true)).getValidator();
+        }
+        catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            return null;
+        }
     }
 
     /**
      * Performs JSR 303 validation of the given object, and throws a {@link ServersideValidationError} if any constraint
      * violations are found. If this method returns without throwing an exception then the object successfully passed
-     * validation.
+     * validation. Objects whose class has no constraints (see {@link ConstraintPresenceCache}) pass without calling the
+     * {@link Validator}. If {@link #stopAtFirstViolation} is true then the exception only contains the first
+     * violation(s) found.
      */
-    @SuppressWarnings("WeakerAccess")
     public void validateObjectFailFast(Object validateMe) {
+        // Nothing to check if the object's class isn't constrained.
+        if (validateMe != null && !constraintPresenceCache.isConstrained(validateMe.getClass())) {
+            return;
+        }
+
         // Check the object for JSR 303 validation errors.
-        Set<ConstraintViolation<Object>> violations = validator.validate(validateMe);
+        Set<ConstraintViolation<Object>> violations;
+        if (!stopAtFirstViolation) {
+            violations = validator.validate(validateMe);
+        }
+        else if (providerFailFastValidator != null) {
+            violations = providerFailFastValidator.validate(validateMe);
+        }
+        else {
+            violations = validateUntilFirstViolation(validateMe);
+        }
 
         // If it came back clean we're done - just return.
         if (violations.isEmpty()) {
@@ -58,4 +186,150 @@ public class FailFastServersideValidationService {
         // If we reach here then it didn't come back clean. We have at least one validation error.
         throw new ServersideValidationError(validateMe, violations);
     }
+
+    /**
+     * Validates the given object's graph one property at a time with {@link Validator#validateProperty(Object, String,
+     * Class[])}, following cascaded ({@code @Valid}) properties and container elements, and returns as soon as a
+     * property has violations. Used when {@link #stopAtFirstViolation} is true and the validation provider doesn't
+     * support fail-fast itself.
+     *
+     * <p>Class-level constraints can't be checked on their own, so any bean in the graph that has them (or that
+     * can't be walked, e.g. because a cascaded property can't be read) is handed to {@link Validator#validate(Object,
+     * Class[])} as a whole instead. Violations for nested beans are relative to that bean rather than the root object.
+     *
+     * @return The first violations found, or an empty set if the object graph is valid.
+     */
+    protected Set<ConstraintViolation<Object>> validateUntilFirstViolation(Object validateMe) {
+        if (validateMe == null) {
+            // Let the validator complain about a null object the same way it does in the other modes.
+            return validator.validate(null);
+        }
+
+        return validateBeanUntilFirstViolation(validateMe, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private Set<ConstraintViolation<Object>> validateBeanUntilFirstViolation(Object bean, Set<Object> visited) {
+        if (!visited.add(bean) || !constraintPresenceCache.isConstrained(bean.getClass())) {
+            return Collections.emptySet();
+        }
+
+        BeanDescriptor beanDescriptor = validator.getConstraintsForClass(bean.getClass());
+        if (beanDescriptor == null || beanDescriptor.hasConstraints()) {
+            return validator.validate(bean);
+        }
+
+        // Check the properties' own constraints first since they're cheap, and then walk into the cascaded ones.
+        List<PropertyDescriptor> cascadedProperties = new ArrayList<>();
+        for (PropertyDescriptor property : beanDescriptor.getConstrainedProperties()) {
+            if (property.hasConstraints() || !property.getConstrainedContainerElementTypes().isEmpty()) {
+                Set<ConstraintViolation<Object>> violations = validator.validateProperty(
+                    bean, property.getPropertyName()
+                );
+                if (!violations.isEmpty()) {
+                    return violations;
+                }
+            }
+
+            if (isCascaded(property)) {
+                cascadedProperties.add(property);
+            }
+        }
+
+        for (PropertyDescriptor property : cascadedProperties) {
+            Object value;
+            try {
+                value = readProperty(bean, property.getPropertyName());
+            }
+            catch (ReflectiveOperationException | RuntimeException ex) {
+                return validator.validate(bean);
+            }
+
+            for (Object cascadeTarget : cascadeTargets(value)) {
+                Set<ConstraintViolation<Object>> violations = validateBeanUntilFirstViolation(cascadeTarget, visited);
+                if (!violations.isEmpty()) {
+                    return violations;
+                }
+            }
+        }
+
+        return Collections.emptySet();
+    }
+
+    private static boolean isCascaded(PropertyDescriptor property) {
+        if (property.isCascaded()) {
+            return true;
+        }
+
+        for (ContainerElementTypeDescriptor containerElementType : property.getConstrainedContainerElementTypes()) {
+            if (containerElementType.isCascaded()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<Object> cascadeTargets(Object value) {
+        List<Object> targets = new ArrayList<>();
+        if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(targets::add);
+        }
+        else if (value instanceof Map<?, ?> map) {
+            targets.addAll(map.values());
+        }
+        else if (value instanceof Object[] array) {
+            targets.addAll(Arrays.asList(array));
+        }
+        else if (value instanceof Optional<?> optional) {
+            optional.ifPresent(targets::add);
+        }
+        else if (value != null) {
+            targets.add(value);
+        }
+
+        targets.removeIf(target -> target == null);
+        return targets;
+    }
+
+    private Object readProperty(Object bean, String propertyName) throws ReflectiveOperationException {
+        Map<String, AccessibleObject> accessors = propertyAccessors.get(bean.getClass());
+        AccessibleObject accessor = accessors.get(propertyName);
+        if (accessor == null) {
+            accessor = findPropertyAccessor(bean.getClass(), propertyName);
+            accessors.put(propertyName, accessor);
+        }
+
+        return (accessor instanceof Method method) ? method.invoke(bean) : ((Field) accessor).get(bean);
+    }
+
+    private static AccessibleObject findPropertyAccessor(Class<?> type, String propertyName)
+        throws NoSuchFieldException {
+        // Prefer the field, since that's where constraint annotations usually live.
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(propertyName);
+                if (field.trySetAccessible()) {
+                    return field;
+                }
+            }
+            catch (NoSuchFieldException ex) {
+                // Keep looking in the superclass.
+            }
+        }
+
+        String capitalized = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (String methodName : new String[]{"get" + capitalized, "is" + capitalized, propertyName}) {
+            try {
+                Method method = type.getMethod(methodName);
+                if (method.getReturnType() != void.class && method.trySetAccessible()) {
+                    return method;
+                }
+            }
+            catch (NoSuchMethodException ex) {
+                // Try the next naming convention.
+            }
+        }
+
+        throw new NoSuchFieldException("Unable to read property " + propertyName + " of " + type.getName());
+    }
 }
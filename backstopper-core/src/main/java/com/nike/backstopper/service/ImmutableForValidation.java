@@ -0,0 +1,23 @@
+package com.nike.backstopper.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose instances never change after construction (including anything they reference that validation
+ * looks at), so that a {@link ValidationResultMemoizer} can remember that an instance passed validation instead of
+ * validating it again. Records whose components are all known-immutable types (see
+ * {@link ValidationResultMemoizer#isMemoizable(Class)}) are treated this way without needing this annotation, but since
+ * records are only shallowly immutable any other record needs it too.
+ *
+ * <p>Only put this on classes that really are deeply immutable - if an annotated object is mutated after it passed
+ * validation then a {@link ClientDataValidationService} with memoization enabled will keep reporting it as valid.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ImmutableForValidation {
+}
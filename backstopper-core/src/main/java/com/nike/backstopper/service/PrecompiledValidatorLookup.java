@@ -0,0 +1,94 @@
+package com.nike.backstopper.service;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Finds and runs validators generated at compile time (e.g. by backstopper-custom-validators'
+ * {@code PrecompiledValidationProcessor} for classes annotated with {@code @PrecompiledValidation}), so that
+ * {@link ClientDataValidationService} can use them instead of its {@link jakarta.validation.Validator}. The generated
+ * validators are reached through a {@link PrecompiledValidatorProvider}, so backstopper-core doesn't depend on the
+ * module that generates them.
+ *
+ * <p>{@link #DEFAULT_IMPL} uses the {@link PrecompiledValidatorProvider} found by {@link ServiceLoader}. If there isn't
+ * one (e.g. backstopper-custom-validators isn't on the runtime classpath) then it never finds any generated
+ * validators.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PrecompiledValidatorLookup {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledValidatorLookup.class);
+
+    /**
+     * Uses the {@link PrecompiledValidatorProvider} found by {@link ServiceLoader}, if there is one.
+     */
+    public static final PrecompiledValidatorLookup DEFAULT_IMPL = new PrecompiledValidatorLookup(
+        loadProvider(ServiceLoader.load(
+            PrecompiledValidatorProvider.class, PrecompiledValidatorLookup.class.getClassLoader()
+        ))
+    );
+
+    /**
+     * Never uses generated validators.
+     */
+    public static final PrecompiledValidatorLookup DISABLED = new PrecompiledValidatorLookup(null);
+
+    /**
+     * The provider of the generated validators, or null if this instance is disabled.
+     */
+    protected final @Nullable PrecompiledValidatorProvider provider;
+
+    /**
+     * @param provider The provider of the generated validators, or null to never use generated validators.
+     */
+    public PrecompiledValidatorLookup(@Nullable PrecompiledValidatorProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * @return true if this instance will look for generated validators.
+     */
+    public boolean isEnabled() {
+        return provider != null;
+    }
+
+    /**
+     * Validates the given object against the Default group with the validator generated for its class, if there is
+     * one.
+     *
+     * @return The violations found by the generated validator, or null if this instance is disabled or there is no
+     * generated validator for the object's class (in which case the caller should fall back to a
+     * {@link jakarta.validation.Validator}).
+     */
+    public @Nullable Set<ConstraintViolation<Object>> validateIfPrecompiled(@NotNull Object object) {
+        if (provider == null) {
+            return null;
+        }
+
+        return provider.validateIfPrecompiled(object);
+    }
+
+    /**
+     * @return The first provider the given loader finds, or null if it finds none or can't load them.
+     */
+    static @Nullable PrecompiledValidatorProvider loadProvider(Iterable<PrecompiledValidatorProvider> loader) {
+        try {
+            Iterator<PrecompiledValidatorProvider> providers = loader.iterator();
+            return providers.hasNext() ? providers.next() : null;
+        }
+        catch (ServiceConfigurationError | LinkageError ex) {
+            logger.warn("Unable to load a {} - generated validators will not be used.",
+                        PrecompiledValidatorProvider.class.getName(), ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nike.backstopper.service;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * Service provider interface for validators that are generated at compile time rather than driven by Bean Validation
+ * metadata at runtime. {@link PrecompiledValidatorLookup#DEFAULT_IMPL} loads the first implementation it finds with
+ * {@link java.util.ServiceLoader}, so to plug one in list its class name in a
+ * {@code META-INF/services/com.nike.backstopper.service.PrecompiledValidatorProvider} resource.
+ * backstopper-custom-validators provides one for the validators its {@code PrecompiledValidationProcessor} generates.
+ *
+ * <p>Implementations must be thread safe, and should be cheap to call for classes that don't have a generated validator
+ * since they're called for every object {@link ClientDataValidationService} validates against the Default group.
+ */
+public interface PrecompiledValidatorProvider {
+
+    /**
+     * Validates the given object against the Default group with the validator generated for its class, if there is
+     * one.
+     *
+     * @return The violations found by the generated validator, or null if there is no generated validator for the
+     * object's class (in which case the caller falls back to a {@link jakarta.validation.Validator}).
+     */
+    @Nullable Set<ConstraintViolation<Object>> validateIfPrecompiled(@NotNull Object object);
+}
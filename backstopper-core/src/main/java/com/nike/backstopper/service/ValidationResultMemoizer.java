@@ -0,0 +1,252 @@
+package com.nike.backstopper.service;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * Remembers which immutable objects have already passed validation for which groups, so that
+ * {@link ClientDataValidationService} can skip validating them again. This is useful when the same configuration or
+ * reference-data objects are validated over and over (e.g. on every request) - after the first successful validation
+ * each repeat costs a hash lookup.
+ *
+ * <p>Only instances of classes annotated with {@link ImmutableForValidation}, and of records whose components are all
+ * known-immutable types, are memoized (see {@link #isMemoizable(Class)}). Records are only shallowly immutable - a
+ * record with e.g. a {@code List} or a mutable bean component can change after it passed validation - so records with
+ * any other kind of component must be annotated to be memoized. Objects are tracked by identity rather than
+ * {@code equals()}, and are only weakly referenced, so memoizing an object doesn't keep it from being garbage
+ * collected. At most {@link #maxSize} objects are tracked at a time - once full, new objects are simply validated
+ * every time until some of the tracked ones are collected.
+ *
+ * <p>Only successful results are remembered. Objects that fail validation are validated again each time, since the
+ * {@link jakarta.validation.ConstraintViolation}s describing the failure reference the object itself and would
+ * otherwise keep it (and its cache entry) alive forever. Failing validation is the exceptional case for the kind of
+ * objects worth memoizing anyway.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ValidationResultMemoizer {
+
+    /**
+     * The default value for {@link #maxSize}.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final List<Class<?>> DEFAULT_GROUPS = List.of(Default.class);
+
+    private static final ClassValue<Boolean> MEMOIZABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(ImmutableForValidation.class) || isRecordOfImmutableComponents(type);
+        }
+    };
+
+    // All final, so a component of one of these types can't hold a mutable subclass. BigInteger and BigDecimal are
+    //      deliberately left out since they aren't.
+    private static final Set<Class<?>> KNOWN_IMMUTABLE_TYPES = Set.of(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+        Double.class, UUID.class
+    );
+
+    /**
+     * The maximum number of objects tracked at a time.
+     */
+    protected final int maxSize;
+
+    private final ConcurrentHashMap<Object, Set<List<Class<?>>>> validGroupsByObject = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedObjects = new ReferenceQueue<>();
+
+    /**
+     * Creates a new instance that tracks up to {@link #DEFAULT_MAX_SIZE} objects.
+     */
+    public ValidationResultMemoizer() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize The maximum number of objects to track at a time. Must be positive.
+     */
+    public ValidationResultMemoizer(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return true if instances of the given class can be memoized, i.e. it is annotated with
+     * {@link ImmutableForValidation}, or it is a record whose components are all primitives, strings, boxed primitives,
+     * enums, {@link UUID}s, final {@code java.time} value types, or records that follow these same rules.
+     */
+    public boolean isMemoizable(Class<?> type) {
+        return MEMOIZABLE_TYPES.get(type);
+    }
+
+    /**
+     * @param obj The object that would be validated.
+     * @param groups The validation groups that would be used. Null or empty means the Default group.
+     * @return true if the given object (this exact instance) is known to have passed validation for the given groups.
+     */
+    public boolean isKnownValid(Object obj, Class<?>... groups) {
+        Set<List<Class<?>>> validGroups = validGroupsByObject.get(new LookupKey(obj));
+        return validGroups != null && validGroups.contains(groupsKey(groups));
+    }
+
+    /**
+     * Remembers that the given object passed validation for the given groups. Does nothing if the object isn't
+     * {@link #isMemoizable(Class) memoizable}, or if it's not already tracked and {@link #maxSize} objects already are.
+     *
+     * @param obj The object that passed validation.
+     * @param groups The validation groups that were used. Null or empty means the Default group.
+     */
+    public void rememberValid(Object obj, Class<?>... groups) {
+        if (!isMemoizable(obj.getClass())) {
+            return;
+        }
+
+        removeCollectedObjects();
+
+        Set<List<Class<?>>> validGroups = validGroupsByObject.get(new LookupKey(obj));
+        if (validGroups == null) {
+            if (validGroupsByObject.size() >= maxSize) {
+                return;
+            }
+
+            validGroups = validGroupsByObject.computeIfAbsent(
+                new WeakKey(obj, collectedObjects), key -> ConcurrentHashMap.newKeySet()
+            );
+        }
+
+        validGroups.add(groupsKey(groups));
+    }
+
+    /**
+     * @return The number of objects currently tracked.
+     */
+    public int size() {
+        removeCollectedObjects();
+        return validGroupsByObject.size();
+    }
+
+    /**
+     * Forgets everything that has been remembered.
+     */
+    public void clear() {
+        validGroupsByObject.clear();
+    }
+
+    private static boolean isRecordOfImmutableComponents(Class<?> type) {
+        return type.isRecord() && hasOnlyImmutableComponents(type, new HashSet<>());
+    }
+
+    private static boolean hasOnlyImmutableComponents(Class<?> recordType, Set<Class<?>> recordsBeingChecked) {
+        if (!recordsBeingChecked.add(recordType)) {
+            // A record that (indirectly) contains itself - its other components decide whether it's immutable.
+            return true;
+        }
+
+        for (RecordComponent component : recordType.getRecordComponents()) {
+            if (!isKnownImmutable(component.getType(), recordsBeingChecked)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isKnownImmutable(Class<?> type, Set<Class<?>> recordsBeingChecked) {
+        if (type.isPrimitive() || type.isEnum() || KNOWN_IMMUTABLE_TYPES.contains(type)) {
+            return true;
+        }
+
+        // The final java.time classes are all immutable. The others (e.g. Clock) could hold a mutable subclass.
+        if (type.getPackageName().equals("java.time")) {
+            return Modifier.isFinal(type.getModifiers());
+        }
+
+        // Records are final, so a record component can't hold a mutable subclass of its declared type.
+        return type.isRecord() && (type.isAnnotationPresent(ImmutableForValidation.class)
+                                   || hasOnlyImmutableComponents(type, recordsBeingChecked));
+    }
+
+    private void removeCollectedObjects() {
+        Reference<?> collected;
+        while ((collected = collectedObjects.poll()) != null) {
+            validGroupsByObject.remove(collected);
+        }
+    }
+
+    private static List<Class<?>> groupsKey(Class<?>[] groups) {
+        return (groups == null || groups.length == 0) ? DEFAULT_GROUPS : List.of(groups);
+    }
+
+    /**
+     * The map key for a tracked object. Compares by the identity of the referenced object, and once that object is
+     * collected only equals itself (so it can still be removed from the map).
+     */
+    private static final class WeakKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            Object referent = get();
+            if (referent == null) {
+                return false;
+            }
+
+            if (other instanceof WeakKey otherKey) {
+                return referent == otherKey.get();
+            }
+
+            return other instanceof LookupKey lookupKey && referent == lookupKey.referent;
+        }
+    }
+
+    /**
+     * A short-lived key used to look up a tracked object without allocating a {@link WeakReference} or registering
+     * anything with the reference queue.
+     */
+    private static final class LookupKey {
+
+        private final Object referent;
+
+        LookupKey(Object referent) {
+            this.referent = referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // Only ever compared against the WeakKeys in the map.
+            return other instanceof WeakKey weakKey && referent == weakKey.get();
+        }
+    }
+}
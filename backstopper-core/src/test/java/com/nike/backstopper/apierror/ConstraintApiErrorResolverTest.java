@@ -0,0 +1,212 @@
+package com.nike.backstopper.apierror;
+
+import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.junit.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link ConstraintApiErrorResolver}.
+ */
+public class ConstraintApiErrorResolverTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    public static class MissingExpectedContent implements ApiErrorPayload {
+        @Override
+        public ApiError getApiError() {
+            return BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT;
+        }
+    }
+
+    public static class TypeConversionError implements ApiErrorPayload {
+        @Override
+        public ApiError getApiError() {
+            return BarebonesCoreApiErrorForTesting.TYPE_CONVERSION_ERROR;
+        }
+    }
+
+    public static class NotAnApiErrorPayload implements Payload { }
+
+    public static class NoDefaultConstructor implements ApiErrorPayload {
+        public NoDefaultConstructor(String ignored) { }
+
+        @Override
+        public ApiError getApiError() {
+            return BarebonesCoreApiErrorForTesting.MALFORMED_REQUEST;
+        }
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = AlwaysInvalidWithDynamicPayloadValidator.class)
+    public @interface AlwaysInvalidWithDynamicPayload {
+        String message() default "I_Am_Invalid";
+        Class<?>[] groups() default {};
+        Class<? extends Payload>[] payload() default {};
+        boolean apiErrorPayload() default true;
+    }
+
+    public static class AlwaysInvalidWithDynamicPayloadValidator
+        implements ConstraintValidator<AlwaysInvalidWithDynamicPayload, Object> {
+
+        private boolean apiErrorPayload;
+
+        @Override
+        public void initialize(AlwaysInvalidWithDynamicPayload constraintAnnotation) {
+            apiErrorPayload = constraintAnnotation.apiErrorPayload();
+        }
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            context.unwrap(HibernateConstraintValidatorContext.class).withDynamicPayload(
+                (apiErrorPayload) ? BarebonesCoreApiErrorForTesting.GENERIC_BAD_REQUEST : "not an ApiError"
+            );
+            return false;
+        }
+    }
+
+    private static class Widget {
+        @NotNull(message = "I_Am_Invalid", payload = MissingExpectedContent.class)
+        String boundField;
+
+        @NotNull(message = "I_Am_Invalid", payload = {TypeConversionError.class, MissingExpectedContent.class})
+        String multiBoundField = null;
+
+        @NotNull(message = "I_Am_Invalid", payload = NotAnApiErrorPayload.class)
+        String unboundField;
+
+        @NotNull(message = "I_Am_Invalid", payload = NoDefaultConstructor.class)
+        String brokenPayloadField;
+
+        @AlwaysInvalidWithDynamicPayload(payload = MissingExpectedContent.class)
+        String dynamicPayloadField;
+
+        @AlwaysInvalidWithDynamicPayload(apiErrorPayload = false)
+        String nonApiErrorDynamicPayloadField;
+    }
+
+    private static ConstraintViolation<Widget> violationFor(String propertyName) {
+        Set<ConstraintViolation<Widget>> violations = VALIDATOR.validateProperty(new Widget(), propertyName);
+        assertThat(violations).hasSize(1);
+        return violations.iterator().next();
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_negative_maxSize() {
+        // when
+        Throwable ex = catchThrowable(() -> new ConstraintApiErrorResolver(-1));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void resolve_throws_NullPointerException_for_null_violation() {
+        // when
+        Throwable ex = catchThrowable(() -> new ConstraintApiErrorResolver().resolve(null));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void resolve_returns_ApiError_from_ApiErrorPayload() {
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolve(violationFor("boundField")))
+            .isSameAs(BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT);
+    }
+
+    @Test
+    public void resolve_picks_payload_with_first_class_name_when_there_are_several() {
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolve(violationFor("multiBoundField")))
+            .isSameAs(BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT);
+    }
+
+    @Test
+    public void resolve_returns_null_if_there_is_no_ApiErrorPayload_or_it_cannot_be_created() {
+        // given
+        ConstraintApiErrorResolver resolver = new ConstraintApiErrorResolver();
+
+        // expect
+        assertThat(resolver.resolve(violationFor("unboundField"))).isNull();
+        assertThat(resolver.resolve(violationFor("brokenPayloadField"))).isNull();
+    }
+
+    @Test
+    public void resolve_prefers_ApiError_dynamic_payload_over_ApiErrorPayload() {
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolve(violationFor("dynamicPayloadField")))
+            .isSameAs(BarebonesCoreApiErrorForTesting.GENERIC_BAD_REQUEST);
+    }
+
+    @Test
+    public void resolve_ignores_dynamic_payload_that_is_not_an_ApiError() {
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolve(violationFor("nonApiErrorDynamicPayloadField"))).isNull();
+    }
+
+    @Test
+    public void resolve_returns_null_for_violation_without_descriptor() {
+        // given
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<Object> violationMock = mock(ConstraintViolation.class);
+
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolve(violationMock)).isNull();
+    }
+
+    @Test
+    public void resolve_caches_result_per_descriptor_up_to_maxSize() {
+        // given
+        ConstraintApiErrorResolver resolver = spy(new ConstraintApiErrorResolver(1));
+        ConstraintViolation<Widget> boundViolation = violationFor("boundField");
+        ConstraintViolation<Widget> unboundViolation = violationFor("unboundField");
+
+        // when
+        resolver.resolve(boundViolation);
+        resolver.resolve(violationFor("boundField"));
+        resolver.resolve(unboundViolation);
+        resolver.resolve(unboundViolation);
+
+        // then
+        assertThat(resolver.size()).isEqualTo(1);
+        verify(resolver, times(1)).resolveFromDescriptorPayload(boundViolation.getConstraintDescriptor());
+        verify(resolver, times(2)).resolveFromDescriptorPayload(unboundViolation.getConstraintDescriptor());
+    }
+
+    @Test
+    public void resolveFromDescriptorPayload_returns_null_for_empty_payload() {
+        // given
+        ConstraintDescriptor<?> descriptorMock = mock(ConstraintDescriptor.class);
+        doReturn(Set.of()).when(descriptorMock).getPayload();
+
+        // expect
+        assertThat(new ConstraintApiErrorResolver().resolveFromDescriptorPayload(descriptorMock)).isNull();
+    }
+}
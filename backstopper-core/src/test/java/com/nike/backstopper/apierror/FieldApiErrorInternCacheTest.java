@@ -0,0 +1,277 @@
+package com.nike.backstopper.apierror;
+
+import com.nike.internal.util.MapBuilder;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link FieldApiErrorInternCache}.
+ */
+public class FieldApiErrorInternCacheTest {
+
+    private final ApiError baseError = new ApiErrorBase(
+        "base_error", 42, "some error", 400, MapBuilder.builder("foo", (Object) "bar").build()
+    );
+    private final ApiError otherBaseError = new ApiErrorBase("other_error", 4242, "some other error", 400);
+
+    @Test
+    public void getOrCreate_combines_base_error_with_field_metadata() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache();
+        Map<String, Object> expectedMetadata =
+            MapBuilder.builder("foo", (Object) "bar").put("field", "some.field").build();
+
+        // when
+        ApiErrorWithMetadata result = cache.getOrCreate(baseError, "some.field");
+
+        // then
+        assertThat(result).isEqualTo(new ApiErrorWithMetadata(baseError, Collections.singletonMap("field", "some.field")));
+        assertThat(result.getName()).isEqualTo(baseError.getName());
+        assertThat(result.getMetadata()).isEqualTo(expectedMetadata);
+    }
+
+    @Test
+    public void getOrCreate_returns_same_instance_for_same_base_error_and_field() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache();
+
+        // when
+        ApiErrorWithMetadata first = cache.getOrCreate(baseError, "some.field");
+        ApiErrorWithMetadata second = cache.getOrCreate(baseError, new String("some.field"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrCreate_returns_different_instances_for_different_base_errors_or_fields() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache();
+
+        // when
+        ApiErrorWithMetadata base = cache.getOrCreate(baseError, "some.field");
+        ApiErrorWithMetadata otherField = cache.getOrCreate(baseError, "other.field");
+        ApiErrorWithMetadata otherError = cache.getOrCreate(otherBaseError, "some.field");
+
+        // then
+        assertThat(otherField).isNotEqualTo(base);
+        assertThat(otherError).isNotEqualTo(base);
+        assertThat(otherError.getName()).isEqualTo(otherBaseError.getName());
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void getOrCreate_does_not_cache_null_fields() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache();
+
+        // when
+        ApiErrorWithMetadata first = cache.getOrCreate(baseError, null);
+        ApiErrorWithMetadata second = cache.getOrCreate(baseError, null);
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(first.getMetadata()).containsEntry("field", null);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void getOrCreate_evicts_an_entry_that_was_not_recently_used_when_full() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(2);
+        ApiErrorWithMetadata a = cache.getOrCreate(baseError, "a");
+        ApiErrorWithMetadata b = cache.getOrCreate(baseError, "b");
+        assertThat(cache.getOrCreate(baseError, "a")).isSameAs(a);
+
+        // when
+        ApiErrorWithMetadata c = cache.getOrCreate(baseError, "c");
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getOrCreate(baseError, "c")).isSameAs(c);
+        assertThat(cache.getOrCreate(baseError, "a")).isSameAs(a);
+        assertThat(cache.getOrCreate(baseError, "b")).isNotSameAs(b).isEqualTo(b);
+    }
+
+    @Test
+    public void getOrCreate_keeps_caching_after_a_flood_of_one_off_fields() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(4);
+        for (int i = 0; i < 1000; i++) {
+            cache.getOrCreate(baseError, "items[" + i + "].name");
+        }
+
+        // when
+        ApiErrorWithMetadata first = cache.getOrCreate(baseError, "some.field");
+        ApiErrorWithMetadata second = cache.getOrCreate(baseError, "some.field");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void getOrCreate_never_caches_if_max_size_is_zero() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(0);
+
+        // when
+        ApiErrorWithMetadata first = cache.getOrCreate(baseError, "a");
+        ApiErrorWithMetadata second = cache.getOrCreate(baseError, "a");
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void getOrCreate_does_not_cache_new_entries_while_another_thread_is_evicting() throws Exception {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(1);
+        ApiErrorWithMetadata a = cache.getOrCreate(baseError, "a");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread evictingThread = new Thread(() -> {
+            cache.evictionLock.lock();
+            try {
+                locked.countDown();
+                release.await();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                cache.evictionLock.unlock();
+            }
+        });
+        evictingThread.start();
+        locked.await();
+
+        // when
+        ApiErrorWithMetadata first;
+        ApiErrorWithMetadata second;
+        try {
+            first = cache.getOrCreate(baseError, "b");
+            second = cache.getOrCreate(baseError, "b");
+        }
+        finally {
+            release.countDown();
+            evictingThread.join();
+        }
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(cache.getOrCreate(baseError, "a")).isSameAs(a);
+    }
+
+    @Test
+    public void getOrCreate_keeps_hot_entries_cached_while_one_off_fields_churn_through() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(256);
+        List<ApiErrorWithMetadata> hot = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            hot.add(cache.getOrCreate(baseError, "hot" + i));
+        }
+
+        // when
+        int hotMisses = 0;
+        int oneOffIndex = 0;
+        for (int round = 0; round < 2000; round++) {
+            for (int i = 0; i < 16; i++) {
+                if (cache.getOrCreate(baseError, "hot" + i) != hot.get(i)) {
+                    hotMisses++;
+                }
+            }
+            for (int i = 0; i < 20; i++) {
+                cache.getOrCreate(baseError, "items[" + oneOffIndex++ + "].name");
+            }
+        }
+
+        // then
+        assertThat(hotMisses).isZero();
+        assertThat(cache.size()).isEqualTo(256);
+    }
+
+    @Test
+    public void getOrCreate_does_not_evict_an_entry_used_since_the_hand_last_passed_it() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache(3);
+        ApiErrorWithMetadata a = cache.getOrCreate(baseError, "a");
+        cache.getOrCreate(baseError, "b");
+        cache.getOrCreate(baseError, "c");
+        cache.getOrCreate(baseError, "a");
+
+        // when
+        cache.getOrCreate(baseError, "d");
+        cache.getOrCreate(baseError, "e");
+        cache.getOrCreate(baseError, "a");
+        cache.getOrCreate(baseError, "f");
+
+        // then
+        assertThat(cache.getOrCreate(baseError, "a")).isSameAs(a);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void clear_removes_all_entries() {
+        // given
+        FieldApiErrorInternCache cache = new FieldApiErrorInternCache();
+        ApiErrorWithMetadata before = cache.getOrCreate(baseError, "a");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.ringSize).isZero();
+        assertThat(cache.getOrCreate(baseError, "a")).isNotSameAs(before).isEqualTo(before);
+    }
+
+    @Test
+    public void default_constructor_uses_default_max_size() {
+        // expect
+        assertThat(new FieldApiErrorInternCache().maxSize).isEqualTo(FieldApiErrorInternCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_negative_max_size() {
+        // when
+        Throwable ex = catchThrowable(() -> new FieldApiErrorInternCache(-1));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getOrCreate_throws_NullPointerException_for_null_base_error() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = catchThrowable(() -> new FieldApiErrorInternCache().getOrCreate(null, "a"));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class).hasMessage("baseError cannot be null.");
+    }
+
+    @Test
+    public void key_equality_works_as_expected() {
+        // given
+        FieldApiErrorInternCache.Key key = new FieldApiErrorInternCache.Key(baseError, "a");
+
+        // expect
+        assertThat(key).isEqualTo(key);
+        assertThat(key).isEqualTo(new FieldApiErrorInternCache.Key(baseError, "a"));
+        assertThat(key).isNotEqualTo(new FieldApiErrorInternCache.Key(otherBaseError, "a"));
+        assertThat(key).isNotEqualTo(new FieldApiErrorInternCache.Key(baseError, "b"));
+        assertThat(key).isNotEqualTo("a");
+    }
+}
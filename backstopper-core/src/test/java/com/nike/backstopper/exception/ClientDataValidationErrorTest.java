@@ -0,0 +1,70 @@
+package com.nike.backstopper.exception;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.groups.Default;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the functionality of {@link ClientDataValidationError}.
+ */
+public class ClientDataValidationErrorTest {
+
+    @SuppressWarnings("unchecked")
+    private final List<ConstraintViolation<Object>> violations = Arrays.asList(
+        mock(ConstraintViolation.class), mock(ConstraintViolation.class)
+    );
+
+    @Test
+    public void constructor_sets_fields_and_leaves_item_indexes_null_for_non_batch_errors() {
+        // given
+        List<Object> objects = Collections.singletonList(new Object());
+        Class<?>[] groups = new Class<?>[]{Default.class};
+
+        // when
+        ClientDataValidationError ex = new ClientDataValidationError(objects, violations, groups);
+
+        // then
+        assertThat(ex.getObjectsThatFailedValidation()).isSameAs(objects);
+        assertThat(ex.getViolations()).isSameAs(violations);
+        assertThat(ex.getValidationGroups()).isSameAs(groups);
+        assertThat(ex.getViolationItemIndexes()).isNull();
+    }
+
+    @Test
+    public void batch_constructor_sets_item_indexes() {
+        // given
+        List<Integer> itemIndexes = Arrays.asList(3, 5);
+
+        // when
+        ClientDataValidationError ex = new ClientDataValidationError(null, violations, null, itemIndexes);
+
+        // then
+        assertThat(ex.getViolations()).isSameAs(violations);
+        assertThat(ex.getViolationItemIndexes()).isSameAs(itemIndexes);
+    }
+
+    @Test
+    public void batch_constructor_throws_IllegalArgumentException_if_item_indexes_do_not_line_up_with_violations() {
+        // when
+        Throwable wrongSizeEx = catchThrowable(
+            () -> new ClientDataValidationError(null, violations, null, Collections.singletonList(1))
+        );
+        Throwable nullViolationsEx = catchThrowable(
+            () -> new ClientDataValidationError(null, null, null, Collections.singletonList(1))
+        );
+
+        // then
+        assertThat(wrongSizeEx).isInstanceOf(IllegalArgumentException.class)
+                                .hasMessage("violationItemIndexes must be the same size as violations");
+        assertThat(nullViolationsEx).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,6 +2,7 @@ package com.nike.backstopper.handler;
 
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.ApiErrorBase;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
 import com.nike.backstopper.apierror.SortedApiErrorSet;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectSpecificErrorCodeRange;
@@ -13,6 +14,8 @@ import com.nike.backstopper.exception.WrapperException;
 import com.nike.backstopper.exception.network.ServerTimeoutException;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.AsyncApiExceptionHandlerListenerBridge;
+import com.nike.backstopper.handler.listener.LazyLogDetail;
 import com.nike.backstopper.handler.listener.impl.DownstreamNetworkExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.impl.GenericApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.impl.ServersideValidationErrorHandlerListener;
@@ -20,16 +23,19 @@ import com.nike.backstopper.model.DefaultErrorContractDTO;
 import com.nike.backstopper.model.DefaultErrorDTO;
 import com.nike.internal.util.MapBuilder;
 import com.nike.internal.util.Pair;
+import com.nike.internal.util.testing.Glassbox;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.slf4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,7 +45,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
 import static java.util.Collections.singletonList;
@@ -53,8 +62,12 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -204,6 +217,199 @@ public class ApiExceptionHandlerBaseTest {
         }
     }
 
+    @Test
+    public void hasAsyncListeners_is_false_when_there_are_no_async_listener_bridges() {
+        // expect
+        assertThat(handler.hasAsyncListeners, is(false));
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_uses_sync_listeners_and_returns_already_completed_stage() throws Exception {
+        // when
+        CompletionStage<ErrorResponseInfo<TestDTO>> stage =
+            handler.maybeHandleExceptionAsync(new CustomExceptionOfDoom(), reqMock);
+
+        // then
+        CompletableFuture<ErrorResponseInfo<TestDTO>> future = stage.toCompletableFuture();
+        assertThat(future.isDone(), is(true));
+        validateResponse(future.get(), singletonList(CUSTOM_API_ERROR));
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_completes_with_null_if_no_listener_handles_the_exception() throws Exception {
+        // when
+        ErrorResponseInfo<TestDTO> result =
+            handler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture().get();
+
+        // then
+        assertThat(result, nullValue());
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_composes_async_listeners_without_blocking_and_preserves_order() throws Exception {
+        // given
+        CompletableFuture<ApiExceptionHandlerListenerResult> firstAsyncResult = new CompletableFuture<>();
+        List<String> callOrder = new ArrayList<>();
+        AsyncApiExceptionHandlerListenerBridge firstAsync = new AsyncApiExceptionHandlerListenerBridge(ex -> {
+            callOrder.add("firstAsync");
+            return firstAsyncResult;
+        });
+        ApiExceptionHandlerListener sync = ex -> {
+            callOrder.add("sync");
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        };
+        AsyncApiExceptionHandlerListenerBridge secondAsync = new AsyncApiExceptionHandlerListenerBridge(ex -> {
+            callOrder.add("secondAsync");
+            return CompletableFuture.completedFuture(
+                ApiExceptionHandlerListenerResult.handleResponse(singletonSortedSetOf(CUSTOM_API_ERROR))
+            );
+        });
+        TestApiExceptionHandler asyncHandler = new TestApiExceptionHandler(Arrays.asList(firstAsync, sync, secondAsync));
+
+        // when
+        CompletableFuture<ErrorResponseInfo<TestDTO>> future =
+            asyncHandler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture();
+
+        // then
+        assertThat(asyncHandler.hasAsyncListeners, is(true));
+        assertThat(future.isDone(), is(false));
+        assertThat(callOrder, is(singletonList("firstAsync")));
+
+        // and when
+        firstAsyncResult.complete(ApiExceptionHandlerListenerResult.ignoreResponse());
+
+        // then
+        assertThat(callOrder, is(Arrays.asList("firstAsync", "sync", "secondAsync")));
+        validateResponse(future.get(), singletonList(CUSTOM_API_ERROR));
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_stops_at_first_async_listener_that_handles_the_exception() throws Exception {
+        // given
+        ApiExceptionHandlerListener laterListenerMock = mock(ApiExceptionHandlerListener.class);
+        AsyncApiExceptionHandlerListenerBridge asyncListener = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.completedFuture(
+                ApiExceptionHandlerListenerResult.handleResponse(singletonSortedSetOf(CUSTOM_API_ERROR))
+            )
+        );
+        TestApiExceptionHandler asyncHandler = new TestApiExceptionHandler(Arrays.asList(asyncListener, laterListenerMock));
+
+        // when
+        ErrorResponseInfo<TestDTO> result =
+            asyncHandler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture().get();
+
+        // then
+        validateResponse(result, singletonList(CUSTOM_API_ERROR));
+        verifyNoMoreInteractions(laterListenerMock);
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_honors_an_overridden_shouldHandleApiException() throws Exception {
+        // given
+        List<String> callOrder = new ArrayList<>();
+        AsyncApiExceptionHandlerListenerBridge asyncListener = new AsyncApiExceptionHandlerListenerBridge(ex -> {
+            callOrder.add("asyncListener");
+            return CompletableFuture.completedFuture(
+                ApiExceptionHandlerListenerResult.handleResponse(singletonSortedSetOf(CUSTOM_API_ERROR))
+            );
+        });
+        TestApiExceptionHandler asyncHandler = new TestApiExceptionHandler(singletonList(asyncListener)) {
+            @Override
+            protected ApiExceptionHandlerListenerResult shouldHandleApiException(Throwable ex) {
+                callOrder.add("override");
+                return ApiExceptionHandlerListenerResult.ignoreResponse();
+            }
+        };
+
+        // when
+        ErrorResponseInfo<TestDTO> result =
+            asyncHandler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture().get();
+
+        // then
+        assertThat(asyncHandler.shouldHandleApiExceptionOverridden, is(true));
+        assertThat(result, nullValue());
+        assertThat(callOrder, is(singletonList("override")));
+    }
+
+    @Test
+    public void shouldHandleApiExceptionOverridden_detects_overrides_further_up_the_class_hierarchy() {
+        // given
+        class OverridingHandler extends TestApiExceptionHandler {
+            OverridingHandler() {
+                super(Collections.emptyList());
+            }
+
+            @Override
+            protected ApiExceptionHandlerListenerResult shouldHandleApiException(Throwable ex) {
+                return super.shouldHandleApiException(ex);
+            }
+        }
+        class SubclassOfOverridingHandler extends OverridingHandler {
+        }
+
+        // expect
+        assertThat(handler.shouldHandleApiExceptionOverridden, is(false));
+        assertThat(new SubclassOfOverridingHandler().shouldHandleApiExceptionOverridden, is(true));
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_completes_exceptionally_with_UnexpectedMajorExceptionHandlingError_if_async_listener_fails() {
+        // given
+        RuntimeException listenerEx = new RuntimeException("listener kaboom");
+        TestApiExceptionHandler asyncHandler = new TestApiExceptionHandler(singletonList(
+            new AsyncApiExceptionHandlerListenerBridge(ex -> CompletableFuture.failedFuture(listenerEx))
+        ));
+
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> asyncHandler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture().get()
+        );
+
+        // then
+        Assertions.assertThat(ex).isInstanceOf(ExecutionException.class);
+        Assertions.assertThat(ex.getCause())
+                  .isInstanceOf(UnexpectedMajorExceptionHandlingError.class)
+                  .hasCause(listenerEx);
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_completes_exceptionally_with_UnexpectedMajorExceptionHandlingError_if_sync_listener_throws() {
+        // given
+        RuntimeException listenerEx = new RuntimeException("listener kaboom");
+        TestApiExceptionHandler asyncHandler = new TestApiExceptionHandler(singletonList(ex -> { throw listenerEx; }));
+
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> asyncHandler.maybeHandleExceptionAsync(new Exception(), reqMock).toCompletableFuture().get()
+        );
+
+        // then
+        Assertions.assertThat(ex.getCause())
+                  .isInstanceOf(UnexpectedMajorExceptionHandlingError.class)
+                  .hasCause(listenerEx);
+    }
+
+    @Test
+    public void maybeHandleExceptionAsync_completes_exceptionally_with_UnexpectedMajorExceptionHandlingError_if_doHandleApiException_throws() {
+        // given
+        RuntimeException innerEx = new RuntimeException("Bizarro inner exception");
+
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> handler.maybeHandleExceptionAsync(new ApiException(testProjectApiErrors.getGenericServiceError()) {
+                @Override
+                public List<ApiError> getApiErrors() {
+                    throw innerEx;
+                }
+            }, reqMock).toCompletableFuture().get()
+        );
+
+        // then
+        Assertions.assertThat(ex.getCause())
+                  .isInstanceOf(UnexpectedMajorExceptionHandlingError.class)
+                  .hasCause(innerEx);
+    }
+
     @Test
     public void verifyErrorIdIsValidUuid() throws UnexpectedMajorExceptionHandlingError {
         ErrorResponseInfo<TestDTO> result = handler.maybeHandleException(new ApiException(testProjectApiErrors.getGenericServiceError()), reqMock);
@@ -275,6 +481,122 @@ public class ApiExceptionHandlerBaseTest {
         validateResponse(result, singletonList(testProjectApiErrors.getGenericServiceError()));
     }
 
+    private List<ApiError> repeatedFieldErrors() {
+        ApiError missingContent = testProjectApiErrors.getMissingExpectedContentApiError();
+        return Arrays.asList(
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", "items[0].name")),
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", "items[1].name")),
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", "items[2].name")),
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", "other"), Pair.of("foo", "bar")),
+            new ApiErrorWithMetadata(testProjectApiErrors.getTypeConversionApiError(), Pair.of("field", "count")),
+            testProjectApiErrors.getGenericBadRequestApiError()
+        );
+    }
+
+    @Test
+    public void doHandleApiException_does_not_merge_repeated_field_errors_by_default()
+        throws UnexpectedMajorExceptionHandlingError {
+        // given
+        List<ApiError> errors = repeatedFieldErrors();
+
+        // when
+        ErrorResponseInfo<TestDTO> result = handler.maybeHandleException(
+            ApiException.newBuilder().withApiErrors(errors).build(), reqMock
+        );
+
+        // then
+        Assertions.assertThat(handler.mergeRepeatedFieldErrorsEnabled).isFalse();
+        Assertions.assertThat(handler.shouldMergeRepeatedFieldErrors()).isFalse();
+        Assertions.assertThat(result.frameworkRepresentationObj.erv.errors).hasSize(errors.size());
+    }
+
+    @Test
+    public void doHandleApiException_merges_repeated_field_errors_when_enabled_via_constructor()
+        throws UnexpectedMajorExceptionHandlingError {
+        // given
+        ApiExceptionHandlerBase<TestDTO> mergingHandler = new TestApiExceptionHandler(
+            singletonList(new GenericApiExceptionHandlerListener()), true
+        );
+        Assertions.assertThat(mergingHandler.shouldMergeRepeatedFieldErrors()).isTrue();
+        ApiError missingContent = testProjectApiErrors.getMissingExpectedContentApiError();
+
+        // when
+        ErrorResponseInfo<TestDTO> result = mergingHandler.maybeHandleException(
+            ApiException.newBuilder().withApiErrors(repeatedFieldErrors()).build(), reqMock
+        );
+
+        // then
+        List<DefaultErrorDTO> errorDtos = result.frameworkRepresentationObj.erv.errors;
+        Assertions.assertThat(errorDtos).hasSize(4);
+
+        List<DefaultErrorDTO> mergedDtos = errorDtos
+            .stream()
+            .filter(dto -> dto.code.equals(missingContent.getErrorCode()) && !dto.metadata.containsKey("foo"))
+            .toList();
+        Assertions.assertThat(mergedDtos).hasSize(1);
+        Assertions.assertThat(mergedDtos.get(0).message).isEqualTo(missingContent.getMessage());
+        Assertions.assertThat(mergedDtos.get(0).metadata.get("field"))
+                  .asInstanceOf(InstanceOfAssertFactories.LIST)
+                  .containsExactlyInAnyOrder("items[0].name", "items[1].name", "items[2].name");
+
+        // Errors that differ by other metadata, or that don't have field metadata, are left alone.
+        Assertions.assertThat(errorDtos).anySatisfy(dto -> {
+            Assertions.assertThat(dto.code).isEqualTo(missingContent.getErrorCode());
+            Assertions.assertThat(dto.metadata).containsEntry("field", "other").containsEntry("foo", "bar");
+        });
+        Assertions.assertThat(errorDtos).anySatisfy(dto -> {
+            Assertions.assertThat(dto.code).isEqualTo(testProjectApiErrors.getTypeConversionApiError().getErrorCode());
+            Assertions.assertThat(dto.metadata).containsEntry("field", "count");
+        });
+        Assertions.assertThat(errorDtos).anySatisfy(
+            dto -> Assertions.assertThat(dto.code)
+                             .isEqualTo(testProjectApiErrors.getGenericBadRequestApiError().getErrorCode())
+        );
+    }
+
+    @Test
+    public void mergeRepeatedFieldErrors_returns_passed_in_collection_when_nothing_is_repeated() {
+        // given
+        List<ApiError> singleError = singletonList(testProjectApiErrors.getGenericBadRequestApiError());
+        List<ApiError> distinctErrors = Arrays.asList(
+            new ApiErrorWithMetadata(testProjectApiErrors.getMissingExpectedContentApiError(), Pair.of("field", "a")),
+            new ApiErrorWithMetadata(testProjectApiErrors.getTypeConversionApiError(), Pair.of("field", "b")),
+            testProjectApiErrors.getGenericBadRequestApiError(),
+            testProjectApiErrors.getGenericBadRequestApiError()
+        );
+
+        // expect
+        Assertions.assertThat(handler.mergeRepeatedFieldErrors(singleError)).isSameAs(singleError);
+        Assertions.assertThat(handler.mergeRepeatedFieldErrors(distinctErrors)).isSameAs(distinctErrors);
+    }
+
+    @Test
+    public void mergeRepeatedFieldErrors_keeps_first_seen_order_and_first_error_of_each_group() {
+        // given
+        ApiError missingContent = testProjectApiErrors.getMissingExpectedContentApiError();
+        ApiError typeConversion = testProjectApiErrors.getTypeConversionApiError();
+        List<ApiError> errors = Arrays.asList(
+            new ApiErrorWithMetadata(typeConversion, Pair.of("field", "a")),
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", "b")),
+            new ApiErrorWithMetadata(typeConversion, Pair.of("field", "c")),
+            new ApiErrorWithMetadata(missingContent, Pair.of("field", null))
+        );
+
+        // when
+        List<ApiError> result = new ArrayList<>(handler.mergeRepeatedFieldErrors(errors));
+
+        // then
+        Assertions.assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0).getName()).isEqualTo(typeConversion.getName());
+        Assertions.assertThat(result.get(0).getMetadata().get("field"))
+                  .asInstanceOf(InstanceOfAssertFactories.LIST)
+                  .containsExactly("a", "c");
+        Assertions.assertThat(result.get(1).getName()).isEqualTo(missingContent.getName());
+        Assertions.assertThat(result.get(1).getMetadata().get("field"))
+                  .asInstanceOf(InstanceOfAssertFactories.LIST)
+                  .containsExactly("b", null);
+    }
+
     @Test
     public void shouldIgnoreExceptionsNotCoveredByAnyHandlerListeners() throws UnexpectedMajorExceptionHandlingError {
         ErrorResponseInfo<TestDTO> result = handler.maybeHandleException(new Exception(), reqMock);
@@ -291,6 +613,52 @@ public class ApiExceptionHandlerBaseTest {
         }, reqMock);
     }
 
+    @DataProvider(value = {
+        "400    |   false   |   false",
+        "400    |   true    |   true",
+        "500    |   false   |   false",
+        "500    |   true    |   true",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void doHandleApiException_only_builds_log_message_if_it_will_be_logged(
+        int httpStatusCode, boolean logLevelEnabled, boolean expectLogMessageBuilt
+    ) {
+        // given
+        Logger loggerMock = mock(Logger.class);
+        doReturn(logLevelEnabled).when(loggerMock).isWarnEnabled();
+        doReturn(logLevelEnabled).when(loggerMock).isErrorEnabled();
+        Glassbox.setInternalState(handler, "logger", loggerMock);
+        ApiError apiError = (httpStatusCode == 400)
+                            ? testProjectApiErrors.getGenericBadRequestApiError()
+                            : testProjectApiErrors.getGenericServiceError();
+        AtomicInteger lazyDetailBuildCount = new AtomicInteger();
+        List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>(singletonList(
+            LazyLogDetail.of("lazy_detail", () -> "built-" + lazyDetailBuildCount.incrementAndGet())
+        ));
+        Exception ex = new Exception("intentional test exception");
+
+        // when
+        ErrorResponseInfo<TestDTO> result = handler.doHandleApiException(
+            singletonSortedSetOf(apiError), extraDetailsForLogging, null, ex, reqMock
+        );
+
+        // then
+        String errorId = result.frameworkRepresentationObj.erv.error_id;
+        Assertions.assertThat(errorId).isNotBlank();
+        Assertions.assertThat(result.headersToAddToResponse.get("error_uid")).containsExactly(errorId);
+        Assertions.assertThat(lazyDetailBuildCount.get()).isEqualTo(expectLogMessageBuilt ? 1 : 0);
+        if (!expectLogMessageBuilt) {
+            verify(loggerMock, never()).warn(anyString());
+            verify(loggerMock, never()).error(anyString(), any(Throwable.class));
+        }
+        else if (httpStatusCode == 400) {
+            verify(loggerMock).warn(contains("lazy_detail=\"built-1\""));
+        }
+        else {
+            verify(loggerMock).error(contains("error_uid=" + errorId), same(ex));
+        }
+    }
+
     @Test
     public void handleExceptionShouldAddConnectionTypeToLoggingDetailsWhenPassedANetworkException() {
         List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>();
@@ -685,6 +1053,14 @@ public class ApiExceptionHandlerBaseTest {
             this(testProjectApiErrors);
         }
 
+        private TestApiExceptionHandler(List<ApiExceptionHandlerListener> listeners) {
+            super(testProjectApiErrors, listeners, ApiExceptionHandlerUtils.DEFAULT_IMPL);
+        }
+
+        private TestApiExceptionHandler(List<ApiExceptionHandlerListener> listeners, boolean mergeRepeatedFieldErrors) {
+            super(testProjectApiErrors, listeners, ApiExceptionHandlerUtils.DEFAULT_IMPL, mergeRepeatedFieldErrors);
+        }
+
         @Override
         protected TestDTO prepareFrameworkRepresentation(DefaultErrorContractDTO errorContractDTO, int httpStatusCode, Collection<ApiError> rawFilteredApiErrors,
                                                          Throwable originalException, RequestInfoForLogging request) {
@@ -37,6 +37,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -66,6 +67,7 @@ public class ApiExceptionHandlerUtilsTest {
         assertThat(DEFAULT_IMPL.sensitiveHeaderKeysForMasking, is(ApiExceptionHandlerUtils.DEFAULT_MASKED_HEADER_KEYS));
         assertThat(DEFAULT_IMPL.distributedTraceIdHeaderKey,
                    is(ApiExceptionHandlerUtils.DEFAULT_DISTRIBUTED_TRACE_ID_HEADER_KEY));
+        assertThat(DEFAULT_IMPL.traceIdExtractor, nullValue());
     }
 
     @Test
@@ -151,6 +153,52 @@ public class ApiExceptionHandlerUtilsTest {
         }
     }
 
+    @Test
+    public void extractDistributedTraceIdShouldUseTraceIdExtractorBeforeMdcIfNotAvailableInRequest() {
+        ApiExceptionHandlerUtils implWithExtractor = new ApiExceptionHandlerUtils(
+            true, ApiExceptionHandlerUtils.DEFAULT_MASKED_HEADER_KEYS,
+            ApiExceptionHandlerUtils.DEFAULT_DISTRIBUTED_TRACE_ID_HEADER_KEY, request -> " aDTraceIdFromExtractor "
+        );
+
+        try {
+            MDC.put(ApiExceptionHandlerUtils.TRACE_ID_MDC_KEY, UUID.randomUUID().toString());
+            assertThat(implWithExtractor.extractDistributedTraceId(reqMock), is("aDTraceIdFromExtractor"));
+        }
+        finally {
+            MDC.remove(ApiExceptionHandlerUtils.TRACE_ID_MDC_KEY);
+        }
+    }
+
+    @Test
+    public void extractDistributedTraceIdShouldPreferRequestOverTraceIdExtractor() {
+        TraceIdExtractor extractorMock = mock(TraceIdExtractor.class);
+        ApiExceptionHandlerUtils implWithExtractor = new ApiExceptionHandlerUtils(
+            true, ApiExceptionHandlerUtils.DEFAULT_MASKED_HEADER_KEYS,
+            ApiExceptionHandlerUtils.DEFAULT_DISTRIBUTED_TRACE_ID_HEADER_KEY, extractorMock
+        );
+        when(reqMock.getHeader(ApiExceptionHandlerUtils.DEFAULT_DISTRIBUTED_TRACE_ID_HEADER_KEY)).thenReturn("aDTraceIdFromHeader");
+
+        assertThat(implWithExtractor.extractDistributedTraceId(reqMock), is("aDTraceIdFromHeader"));
+        verifyNoInteractions(extractorMock);
+    }
+
+    @Test
+    public void extractDistributedTraceIdShouldFallBackToMdcIfTraceIdExtractorReturnsBlank() {
+        ApiExceptionHandlerUtils implWithExtractor = new ApiExceptionHandlerUtils(
+            true, ApiExceptionHandlerUtils.DEFAULT_MASKED_HEADER_KEYS,
+            ApiExceptionHandlerUtils.DEFAULT_DISTRIBUTED_TRACE_ID_HEADER_KEY, request -> " "
+        );
+
+        try {
+            String expectedTraceId = UUID.randomUUID().toString();
+            MDC.put(ApiExceptionHandlerUtils.TRACE_ID_MDC_KEY, expectedTraceId);
+            assertThat(implWithExtractor.extractDistributedTraceId(reqMock), is(expectedTraceId));
+        }
+        finally {
+            MDC.remove(ApiExceptionHandlerUtils.TRACE_ID_MDC_KEY);
+        }
+    }
+
     private void verifyBuildErrorMessageForLogs(boolean requestHasDtraceId, String dtraceIdToUse, List<Pair<String, String>> extraDetailsForLogging) {
         String requestUri = "/some/request/uri";
         String requestMethod = "GET";
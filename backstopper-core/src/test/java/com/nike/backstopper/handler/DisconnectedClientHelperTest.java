@@ -0,0 +1,165 @@
+package com.nike.backstopper.handler;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.EOFException;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link DisconnectedClientHelper}
+ */
+@RunWith(DataProviderRunner.class)
+public class DisconnectedClientHelperTest {
+
+    @Test
+    public void code_coverage_hoops() throws Exception {
+        // jump!
+        Constructor<DisconnectedClientHelper> constructor = DisconnectedClientHelper.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    public enum IsDisconnectedClientErrorScenario {
+        ABORTED_EXCEPTION(new AbortedException(), true),
+        CLIENT_ABORT_EXCEPTION(new ClientAbortException(), true),
+        EOF_EXCEPTION_1(new EOFException(), true),
+        EOF_EXCEPTION_2(new EofException(), true),
+        ASYNC_REQUEST_NOT_USABLE_EXCEPTION(new AsyncRequestNotUsableException(), true),
+        UNKNOWN_EXCEPTION_BUT_BROKEN_PIPE_MESSAGE(
+            new RuntimeException("somewhere in here is broken pipe hooray"),
+            true
+        ),
+        UNKNOWN_EXCEPTION_BUT_MIXED_CASE_BROKEN_PIPE_MESSAGE(
+            new RuntimeException("Broken Pipe"),
+            true
+        ),
+        UNKNOWN_EXCEPTION_WITH_MOST_SPECIFIC_CAUSE_HAVING_BROKEN_PIPE_MESSAGE(
+            new RuntimeException(
+                new Exception(
+                    new IllegalArgumentException("somewhere in here is broken pipe hooray")
+                )
+            ),
+            true
+        ),
+        UNKNOWN_EXCEPTION_BUT_CONNECTION_RESET_MESSAGE(
+            new RuntimeException("somewhere in here is connection reset by peer hooray"),
+            true
+        ),
+        UNKNOWN_EXCEPTION_BUT_UPPER_CASE_CONNECTION_RESET_MESSAGE(
+            new RuntimeException("CONNECTION RESET"),
+            true
+        ),
+        UNKNOWN_EXCEPTION_WITH_CAUSE_HAVING_CONNECTION_RESET_MESSAGE(
+            new RuntimeException(
+                new Exception(
+                    new IllegalArgumentException("somewhere in here is connection reset by peer hooray")
+                )
+            ),
+            true
+        ),
+        UNKNOWN_EXCEPTION_WITH_OUTER_BROKEN_PIPE_MESSAGE_BUT_UNKNOWN_CAUSE_MESSAGE(
+            new RuntimeException("broken pipe", new IllegalArgumentException("foo")),
+            false
+        ),
+        UNKNOWN_EXCEPTION_WITH_PARTIAL_PHRASE_MESSAGE(
+            new RuntimeException("broken pip"),
+            false
+        ),
+        UNKNOWN_EXCEPTION_NULL_MESSAGE(
+            new RuntimeException((String) null),
+            false
+        ),
+        UNKNOWN_EXCEPTION_EMPTY_MESSAGE(
+            new RuntimeException(""),
+            false
+        ),
+        UNKNOWN_EXCEPTION_UNKNOWN_MESSAGE(
+            new RuntimeException("foo"),
+            false
+        ),
+        NULL_EXCEPTION(null, false);
+
+        public final Throwable ex;
+        public final boolean expectedResult;
+
+        IsDisconnectedClientErrorScenario(Throwable ex, boolean expectedResult) {
+            this.ex = ex;
+            this.expectedResult = expectedResult;
+        }
+    }
+
+    @DataProvider
+    public static List<List<IsDisconnectedClientErrorScenario>> isDisconnectedClientErrorScenarioDataProvider() {
+        return Stream.of(IsDisconnectedClientErrorScenario.values())
+                     .map(Collections::singletonList)
+                     .collect(Collectors.toList());
+    }
+
+    @UseDataProvider("isDisconnectedClientErrorScenarioDataProvider")
+    @Test
+    public void isClientDisconnectedException_works_as_expected(IsDisconnectedClientErrorScenario scenario) {
+        // when
+        boolean result = DisconnectedClientHelper.isClientDisconnectedException(scenario.ex);
+
+        // then
+        assertThat(result).isEqualTo(scenario.expectedResult);
+    }
+
+    @Test
+    public void isClientDisconnectedException_handles_cyclic_cause_chains() {
+        // given
+        CyclicCauseException first = new CyclicCauseException("foo");
+        CyclicCauseException second = new CyclicCauseException("broken pipe");
+        first.cause = second;
+        second.cause = first;
+
+        // when
+        boolean result = DisconnectedClientHelper.isClientDisconnectedException(first);
+
+        // then
+        // The cause chain walk gives up after MAX_CAUSE_CHAIN_DEPTH, which is even, so we end up back on the first.
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void recordDisconnectedClient_increments_count() {
+        // given
+        long countBefore = DisconnectedClientHelper.getDisconnectedClientCount();
+
+        // when
+        DisconnectedClientHelper.recordDisconnectedClient();
+        DisconnectedClientHelper.recordDisconnectedClient();
+
+        // then
+        assertThat(DisconnectedClientHelper.getDisconnectedClientCount()).isEqualTo(countBefore + 2);
+    }
+
+    private static class AbortedException extends RuntimeException {}
+    private static class ClientAbortException extends RuntimeException {}
+    private static class EofException extends RuntimeException {}
+    private static class AsyncRequestNotUsableException extends RuntimeException {}
+
+    private static class CyclicCauseException extends RuntimeException {
+        Throwable cause;
+
+        CyclicCauseException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable getCause() {
+            return cause;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.nike.backstopper.handler;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Constructor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link W3cTraceparentParser}
+ */
+@RunWith(DataProviderRunner.class)
+public class W3cTraceparentParserTest {
+
+    private static final String VALID_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Test
+    public void code_coverage_hoops() throws Exception {
+        // jump!
+        Constructor<W3cTraceparentParser> constructor = W3cTraceparentParser.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    @DataProvider(value = {
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00",
+        "  00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01\t",
+        // Future versions can have extra fields appended, as long as they're dash-separated.
+        "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-whatever",
+    })
+    @Test
+    public void extractTraceId_returns_trace_id_for_valid_traceparent(String traceparent) {
+        // when
+        String result = W3cTraceparentParser.extractTraceId(traceparent);
+
+        // then
+        assertThat(result).isEqualTo(VALID_TRACE_ID);
+        assertThat(W3cTraceparentParser.isValidTraceparent(traceparent)).isTrue();
+    }
+
+    @DataProvider(value = {
+        "null",
+        "",
+        "   ",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7",
+        // Version 00 can't have anything extra.
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-whatever",
+        // Future versions must dash-separate anything extra.
+        "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01whatever",
+        // Version ff is forbidden.
+        "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        // Uppercase hex isn't allowed.
+        "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+        "0g-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e473z-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902bz-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-0z",
+        // All-zero trace and parent IDs are invalid.
+        "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+        // Bad separators.
+        "00_4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7_01",
+    }, trimValues = false)
+    @Test
+    public void extractTraceId_returns_null_for_invalid_traceparent(String traceparent) {
+        // when
+        String result = W3cTraceparentParser.extractTraceId(traceparent);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(W3cTraceparentParser.isValidTraceparent(traceparent)).isFalse();
+    }
+
+    @Test
+    public void extractTraceId_works_with_non_String_CharSequences() {
+        // given
+        StringBuilder traceparent = new StringBuilder("00-").append(VALID_TRACE_ID).append("-00f067aa0ba902b7-01");
+
+        // expect
+        assertThat(W3cTraceparentParser.extractTraceId(traceparent)).isEqualTo(VALID_TRACE_ID);
+    }
+}
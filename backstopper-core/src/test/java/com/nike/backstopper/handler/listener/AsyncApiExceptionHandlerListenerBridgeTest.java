@@ -0,0 +1,154 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link AsyncApiExceptionHandlerListenerBridge}.
+ */
+public class AsyncApiExceptionHandlerListenerBridgeTest {
+
+    @After
+    public void afterMethod() {
+        // Clear any interrupted flag a test may have left behind.
+        //noinspection ResultOfMethodCallIgnored
+        Thread.interrupted();
+    }
+
+    @Test
+    public void single_arg_constructor_uses_default_timeout() {
+        // given
+        AsyncApiExceptionHandlerListener delegate = ex -> new CompletableFuture<>();
+
+        // when
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(delegate);
+
+        // then
+        assertThat(bridge.getDelegate()).isSameAs(delegate);
+        assertThat(bridge.getTimeout()).isEqualTo(AsyncApiExceptionHandlerListenerBridge.DEFAULT_TIMEOUT);
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_delegate() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = catchThrowable(() -> new AsyncApiExceptionHandlerListenerBridge(null, Duration.ofMillis(1)));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class).hasMessage("delegate cannot be null.");
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_timeout() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = catchThrowable(
+            () -> new AsyncApiExceptionHandlerListenerBridge(e -> new CompletableFuture<>(), null)
+        );
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class).hasMessage("timeout cannot be null.");
+    }
+
+    @Test
+    public void shouldHandleException_returns_delegate_result() {
+        // given
+        ApiExceptionHandlerListenerResult expected = ApiExceptionHandlerListenerResult.handleResponse(
+            singletonSortedSetOf(BarebonesCoreApiErrorForTesting.GENERIC_SERVICE_ERROR)
+        );
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.completedFuture(expected)
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = bridge.shouldHandleException(new RuntimeException("kaboom"));
+
+        // then
+        assertThat(result).isSameAs(expected);
+    }
+
+    @Test
+    public void shouldHandleException_ignores_exception_if_delegate_times_out() {
+        // given
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> new CompletableFuture<>(), Duration.ofMillis(10)
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = bridge.shouldHandleException(new RuntimeException("kaboom"));
+
+        // then
+        assertThat(result.shouldHandleResponse).isFalse();
+    }
+
+    @Test
+    public void shouldHandleException_ignores_exception_and_keeps_interrupt_flag_if_interrupted() {
+        // given
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> new CompletableFuture<>(), Duration.ofSeconds(10)
+        );
+        Thread.currentThread().interrupt();
+
+        // when
+        ApiExceptionHandlerListenerResult result = bridge.shouldHandleException(new RuntimeException("kaboom"));
+
+        // then
+        assertThat(result.shouldHandleResponse).isFalse();
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+
+    @Test
+    public void shouldHandleException_rethrows_RuntimeException_from_delegate() {
+        // given
+        RuntimeException delegateEx = new IllegalArgumentException("boom");
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.failedFuture(delegateEx)
+        );
+
+        // when
+        Throwable ex = catchThrowable(() -> bridge.shouldHandleException(new RuntimeException("kaboom")));
+
+        // then
+        assertThat(ex).isSameAs(delegateEx);
+    }
+
+    @Test
+    public void shouldHandleException_rethrows_Error_from_delegate() {
+        // given
+        Error delegateError = new AssertionError("boom");
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.failedFuture(delegateError)
+        );
+
+        // when
+        Throwable ex = catchThrowable(() -> bridge.shouldHandleException(new RuntimeException("kaboom")));
+
+        // then
+        assertThat(ex).isSameAs(delegateError);
+    }
+
+    @Test
+    public void shouldHandleException_wraps_checked_exception_from_delegate() {
+        // given
+        IOException delegateEx = new IOException("boom");
+        AsyncApiExceptionHandlerListenerBridge bridge = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.failedFuture(delegateEx)
+        );
+
+        // when
+        Throwable ex = catchThrowable(() -> bridge.shouldHandleException(new RuntimeException("kaboom")));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalStateException.class).hasCause(delegateEx);
+    }
+}
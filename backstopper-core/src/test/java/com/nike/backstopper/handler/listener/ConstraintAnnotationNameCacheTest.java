@@ -0,0 +1,89 @@
+package com.nike.backstopper.handler.listener;
+
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link ConstraintAnnotationNameCache}.
+ */
+public class ConstraintAnnotationNameCacheTest {
+
+    private static ConstraintViolation<?> violationWithDescriptor(ConstraintDescriptor<?> descriptor) {
+        ConstraintViolation<?> violationMock = mock(ConstraintViolation.class);
+        doReturn(descriptor).when(violationMock).getConstraintDescriptor();
+        return violationMock;
+    }
+
+    private static ConstraintDescriptor<?> descriptorFor(Class<? extends Annotation> annotationType) {
+        Annotation annotationMock = mock(Annotation.class);
+        doReturn(annotationType).when(annotationMock).annotationType();
+        ConstraintDescriptor<?> descriptorMock = mock(ConstraintDescriptor.class);
+        doReturn(annotationMock).when(descriptorMock).getAnnotation();
+        return descriptorMock;
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_negative_maxSize() {
+        // when
+        Throwable ex = catchThrowable(() -> new ConstraintAnnotationNameCache(-1));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getAnnotationName_returns_annotation_class_name_and_caches_it_per_descriptor() {
+        // given
+        ConstraintAnnotationNameCache cache = new ConstraintAnnotationNameCache();
+        ConstraintDescriptor<?> descriptor = descriptorFor(NotNull.class);
+
+        // when
+        String first = cache.getAnnotationName(violationWithDescriptor(descriptor));
+        String second = cache.getAnnotationName(violationWithDescriptor(descriptor));
+
+        // then
+        assertThat(first).isEqualTo(NotNull.class.getName());
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(descriptor, times(1)).getAnnotation();
+    }
+
+    @Test
+    public void getAnnotationName_stops_caching_at_maxSize() {
+        // given
+        ConstraintAnnotationNameCache cache = new ConstraintAnnotationNameCache(0);
+        ConstraintDescriptor<?> descriptor = descriptorFor(NotNull.class);
+
+        // when
+        cache.getAnnotationName(violationWithDescriptor(descriptor));
+        String result = cache.getAnnotationName(violationWithDescriptor(descriptor));
+
+        // then
+        assertThat(result).isEqualTo(NotNull.class.getName());
+        assertThat(cache.size()).isZero();
+        verify(descriptor, times(2)).getAnnotation();
+    }
+
+    @Test
+    public void getAnnotationName_returns_null_string_if_descriptor_or_annotation_is_missing() {
+        // given
+        ConstraintAnnotationNameCache cache = new ConstraintAnnotationNameCache();
+
+        // expect
+        assertThat(cache.getAnnotationName(violationWithDescriptor(null))).isEqualTo("null");
+        assertThat(cache.getAnnotationName(violationWithDescriptor(mock(ConstraintDescriptor.class))))
+            .isEqualTo("null");
+    }
+}
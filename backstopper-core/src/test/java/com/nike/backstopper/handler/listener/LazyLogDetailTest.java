@@ -0,0 +1,102 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.internal.util.ImmutablePair;
+import com.nike.internal.util.Pair;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link LazyLogDetail}.
+ */
+public class LazyLogDetailTest {
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_supplier() {
+        // when
+        Throwable ex = catchThrowable(() -> new LazyLogDetail("foo", null));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void value_is_computed_on_first_use_only() {
+        // given
+        AtomicInteger numCalls = new AtomicInteger();
+        Supplier<String> supplier = () -> "bar" + numCalls.incrementAndGet();
+
+        // when
+        LazyLogDetail detail = LazyLogDetail.of("foo", supplier);
+
+        // then
+        assertThat(detail.getLeft()).isEqualTo("foo");
+        assertThat(detail.isComputed()).isFalse();
+        assertThat(numCalls.get()).isZero();
+
+        assertThat(detail.getRight()).isEqualTo("bar1");
+        assertThat(detail.getValue()).isEqualTo("bar1");
+        assertThat(detail.isComputed()).isTrue();
+        assertThat(numCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void null_value_is_supported() {
+        // when
+        LazyLogDetail detail = LazyLogDetail.of("foo", () -> null);
+
+        // then
+        assertThat(detail.getRight()).isNull();
+        assertThat(detail.isComputed()).isTrue();
+    }
+
+    @Test
+    public void equals_hashCode_and_toString_match_an_eager_pair() {
+        // given
+        LazyLogDetail detail = LazyLogDetail.of("foo", () -> "bar");
+        Pair<String, String> eager = Pair.of("foo", "bar");
+
+        // expect
+        assertThat(detail).isEqualTo(eager);
+        assertThat(eager).isEqualTo(detail);
+        assertThat(detail.hashCode()).isEqualTo(eager.hashCode());
+        assertThat(detail.toString()).isEqualTo(eager.toString());
+    }
+
+    @Test
+    public void setValue_throws_UnsupportedOperationException() {
+        // when
+        Throwable ex = catchThrowable(() -> LazyLogDetail.of("foo", () -> "bar").setValue("baz"));
+
+        // then
+        assertThat(ex).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void serializes_as_an_ImmutablePair_with_the_computed_value() throws Exception {
+        // given
+        LazyLogDetail detail = LazyLogDetail.of("foo", () -> "bar");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // when
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(detail);
+        }
+        Object deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = in.readObject();
+        }
+
+        // then
+        assertThat(deserialized).isInstanceOf(ImmutablePair.class).isEqualTo(Pair.of("foo", "bar"));
+    }
+}
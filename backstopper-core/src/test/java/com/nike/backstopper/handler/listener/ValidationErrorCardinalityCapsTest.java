@@ -0,0 +1,171 @@
+package com.nike.backstopper.handler.listener;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorBase;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.SortedApiErrorSet;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.testutil.ProjectApiErrorsForTesting;
+import com.nike.internal.util.Pair;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
+import static com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link ValidationErrorCardinalityCaps}.
+ */
+@RunWith(DataProviderRunner.class)
+public class ValidationErrorCardinalityCapsTest {
+
+    private static final ProjectApiErrors testProjectApiErrors =
+        ProjectApiErrorsForTesting.withProjectSpecificData(null, null);
+
+    private final ValidationErrorCardinalityCaps caps = new ValidationErrorCardinalityCaps(5, 10);
+
+    @Test
+    public void constructor_sets_fields_to_passed_in_args() {
+        // expect
+        assertThat(caps.maxErrorsPerResponse).isEqualTo(5);
+        assertThat(caps.maxViolationsPerLogEntry).isEqualTo(10);
+        assertThat(caps.omittedErrorsMarker).isNull();
+        assertThat(ValidationErrorCardinalityCaps.DEFAULT.maxErrorsPerResponse)
+            .isEqualTo(ValidationErrorCardinalityCaps.DEFAULT_MAX_ERRORS_PER_RESPONSE);
+        assertThat(ValidationErrorCardinalityCaps.DEFAULT.maxViolationsPerLogEntry)
+            .isEqualTo(ValidationErrorCardinalityCaps.DEFAULT_MAX_VIOLATIONS_PER_LOG_ENTRY);
+    }
+
+    @DataProvider(value = {
+        "0  |   0",
+        "-1 |   0",
+        "1  |   -1",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_invalid_caps(
+        int maxErrorsPerResponse, int maxViolationsPerLogEntry
+    ) {
+        // when
+        Throwable ex = catchThrowable(
+            () -> new ValidationErrorCardinalityCaps(maxErrorsPerResponse, maxViolationsPerLogEntry)
+        );
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void three_arg_constructor_sets_omittedErrorsMarker() {
+        // given
+        ApiError marker = testProjectApiErrors.getForbiddenApiError();
+
+        // when
+        ValidationErrorCardinalityCaps capsWithMarker = new ValidationErrorCardinalityCaps(5, 10, marker);
+
+        // then
+        assertThat(capsWithMarker.maxErrorsPerResponse).isEqualTo(5);
+        assertThat(capsWithMarker.maxViolationsPerLogEntry).isEqualTo(10);
+        assertThat(capsWithMarker.omittedErrorsMarker).isSameAs(marker);
+    }
+
+    @Test
+    public void constructor_allows_zero_maxViolationsPerLogEntry() {
+        // expect
+        assertThat(new ValidationErrorCardinalityCaps(1, 0).maxViolationsPerLogEntry).isZero();
+    }
+
+    @Test
+    public void addOmittedErrorsMarker_adds_marker_with_omitted_count_and_existing_status_code() {
+        // given
+        ApiError existingError = new ApiErrorBase("SOME_ERROR", 42, "some error", 422);
+        SortedApiErrorSet apiErrors = singletonSortedSetOf(existingError);
+
+        // when
+        caps.addOmittedErrorsMarker(apiErrors, 7, testProjectApiErrors);
+
+        // then
+        assertThat(apiErrors).hasSize(2);
+        ApiError marker = apiErrors.stream().filter(e -> e != existingError).findFirst().orElseThrow();
+        ApiError genericBadRequest = testProjectApiErrors.getGenericBadRequestApiError();
+        assertThat(marker.getName()).isEqualTo(genericBadRequest.getName());
+        assertThat(marker.getErrorCode()).isEqualTo(genericBadRequest.getErrorCode());
+        assertThat(marker.getMessage()).isEqualTo(genericBadRequest.getMessage());
+        assertThat(marker.getHttpStatusCode()).isEqualTo(422);
+        assertThat(marker.getMetadata())
+            .containsEntry(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY, 7);
+        assertThat(testProjectApiErrors.determineHighestPriorityHttpStatusCode(apiErrors))
+            .isEqualTo(testProjectApiErrors.determineHighestPriorityHttpStatusCode(singletonSortedSetOf(existingError)));
+    }
+
+    @Test
+    public void addOmittedErrorsMarker_uses_highest_priority_status_code_when_there_is_one() {
+        // given
+        SortedApiErrorSet apiErrors = new SortedApiErrorSet();
+        apiErrors.add(new ApiErrorBase("SOME_ERROR", 42, "some error", 400));
+        apiErrors.add(new ApiErrorBase("OTHER_ERROR", 43, "other error", 403));
+
+        // when
+        caps.addOmittedErrorsMarker(apiErrors, 1, testProjectApiErrors);
+
+        // then
+        ApiError marker = apiErrors.stream()
+            .filter(e -> e.getMetadata().containsKey(OMITTED_ERROR_COUNT_METADATA_KEY))
+            .findFirst()
+            .orElseThrow();
+        assertThat(marker.getHttpStatusCode()).isEqualTo(403);
+    }
+
+    @Test
+    public void addOmittedErrorsMarker_uses_the_configured_marker_when_there_is_one() {
+        // given
+        ApiError configuredMarker = new ApiErrorBase("TOO_MANY_ERRORS", 99, "too many errors", 400);
+        ValidationErrorCardinalityCaps capsWithMarker = new ValidationErrorCardinalityCaps(5, 10, configuredMarker);
+        ApiError existingError = new ApiErrorBase("SOME_ERROR", 42, "some error", 400);
+        SortedApiErrorSet apiErrors = singletonSortedSetOf(existingError);
+
+        // when
+        capsWithMarker.addOmittedErrorsMarker(apiErrors, 3, testProjectApiErrors);
+
+        // then
+        assertThat(apiErrors).containsExactlyInAnyOrder(
+            existingError,
+            new ApiErrorWithMetadata(
+                configuredMarker, Pair.of(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY, (Object) 3)
+            )
+        );
+    }
+
+    @DataProvider(value = {
+        "0",
+        "-1"
+    })
+    @Test
+    public void addOmittedErrorsMarker_does_nothing_if_nothing_was_omitted(int omittedCount) {
+        // given
+        SortedApiErrorSet apiErrors = singletonSortedSetOf(testProjectApiErrors.getGenericBadRequestApiError());
+
+        // when
+        caps.addOmittedErrorsMarker(apiErrors, omittedCount, testProjectApiErrors);
+
+        // then
+        assertThat(apiErrors).containsExactly(testProjectApiErrors.getGenericBadRequestApiError());
+    }
+
+    @Test
+    public void addOmittedErrorsMarker_does_nothing_if_set_is_empty() {
+        // given
+        SortedApiErrorSet apiErrors = new SortedApiErrorSet();
+
+        // when
+        caps.addOmittedErrorsMarker(apiErrors, 3, testProjectApiErrors);
+
+        // then
+        assertThat(apiErrors).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.nike.backstopper.handler.listener.impl;
 
 import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorPayload;
 import com.nike.backstopper.apierror.ApiErrorWithMetadata;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
@@ -9,6 +10,8 @@ import com.nike.backstopper.exception.ApiException;
 import com.nike.backstopper.exception.ClientDataValidationError;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.LazyLogDetail;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 import com.nike.internal.util.Pair;
 
 import org.assertj.core.api.Assertions;
@@ -19,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -32,6 +36,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -58,6 +64,33 @@ public class ClientDataValidationErrorHandlerListenerTest extends ListenerTestBa
         // then
         Assertions.assertThat(impl.projectApiErrors).isSameAs(projectErrorsMock);
         Assertions.assertThat(impl.utils).isSameAs(utilsMock);
+        Assertions.assertThat(impl.cardinalityCaps).isSameAs(ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    @Test
+    public void constructor_sets_cardinalityCaps_to_passed_in_arg() {
+        // given
+        ValidationErrorCardinalityCaps caps = new ValidationErrorCardinalityCaps(1, 1);
+
+        // when
+        ClientDataValidationErrorHandlerListener impl = new ClientDataValidationErrorHandlerListener(
+            testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, caps
+        );
+
+        // then
+        Assertions.assertThat(impl.cardinalityCaps).isSameAs(caps);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_if_passed_null_cardinalityCaps() {
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> new ClientDataValidationErrorHandlerListener(
+                testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, null
+            ));
+
+        // then
+        Assertions.assertThat(ex).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -197,6 +230,38 @@ public class ClientDataValidationErrorHandlerListenerTest extends ListenerTestBa
         ));
     }
 
+    public static class MissingExpectedContentPayload implements ApiErrorPayload {
+        @Override
+        public ApiError getApiError() {
+            return BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT;
+        }
+    }
+
+    @Test
+    public void shouldUseApiErrorPayloadInsteadOfMessageWhenConstraintHasOne() {
+        // given
+        ConstraintViolation<Object> violation = setupConstraintViolation(
+            SomeValidatableObject.class, "path.to.violation", NotNull.class, "I_Am_Invalid"
+        );
+        ConstraintDescriptor<?> descriptor = violation.getConstraintDescriptor();
+        doReturn(Set.of(MissingExpectedContentPayload.class)).when(descriptor).getPayload();
+        ClientDataValidationError ex = new ClientDataValidationError(
+            Collections.singletonList(new SomeValidatableObject("someArg1", "someArg2")),
+            Collections.singletonList(violation),
+            null
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(ex);
+
+        // then
+        validateResponse(result, true, Collections.<ApiError>singletonList(
+            new ApiErrorWithMetadata(
+                BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT, Pair.of("field", "path.to.violation")
+            )
+        ));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void shouldAddExtraLoggingDetailsForClientDataValidationError() {
@@ -219,6 +284,131 @@ public class ClientDataValidationErrorHandlerListenerTest extends ListenerTestBa
         );
     }
 
+    @Test
+    public void shouldHandleException_stops_converting_and_logging_violations_at_the_cardinality_caps() {
+        // given
+        ClientDataValidationErrorHandlerListener cappedListener = new ClientDataValidationErrorHandlerListener(
+            testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, new ValidationErrorCardinalityCaps(2, 3)
+        );
+        List<ConstraintViolation<Object>> violations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            violations.add(
+                setupConstraintViolation(Object.class, "items[" + i + "]", NotNull.class, "MISSING_EXPECTED_CONTENT")
+            );
+        }
+        ClientDataValidationError ex = new ClientDataValidationError(null, violations, null);
+
+        // when
+        ApiExceptionHandlerListenerResult result = cappedListener.shouldHandleException(ex);
+
+        // then
+        Assertions.assertThat(result.shouldHandleResponse).isTrue();
+        Assertions.assertThat(result.errors).hasSize(3);
+        Assertions.assertThat(result.errors).contains(
+            new ApiErrorWithMetadata(BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT, Pair.of("field", "items[0]")),
+            new ApiErrorWithMetadata(BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT, Pair.of("field", "items[1]"))
+        );
+        ApiError marker = result.errors.stream()
+            .filter(e -> e.getMetadata().containsKey(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertThat(marker.getMetadata())
+                  .containsEntry(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY, 3);
+
+        Assertions.assertThat(result.extraDetailsForLogging).contains(
+            Pair.of("constraint_violation_details",
+                    "Object.items[0]|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT,"
+                    + "Object.items[1]|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT,"
+                    + "Object.items[2]|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT"),
+            Pair.of("constraint_violation_details_omitted_count", "2")
+        );
+
+        // The violations past both caps were never looked at.
+        verify(violations.get(3), never()).getMessage();
+        verify(violations.get(4), never()).getMessage();
+    }
+
+    @Test
+    public void shouldHandleException_does_not_add_omitted_markers_when_under_the_cardinality_caps() {
+        // given
+        ClientDataValidationErrorHandlerListener cappedListener = new ClientDataValidationErrorHandlerListener(
+            testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, new ValidationErrorCardinalityCaps(2, 2)
+        );
+        ConstraintViolation<Object> violation1 = setupConstraintViolation(Object.class, "a", NotNull.class, "MISSING_EXPECTED_CONTENT");
+        ConstraintViolation<Object> violation2 = setupConstraintViolation(Object.class, "b", NotNull.class, "MISSING_EXPECTED_CONTENT");
+        ClientDataValidationError ex = new ClientDataValidationError(null, Arrays.asList(violation1, violation2), null);
+
+        // when
+        ApiExceptionHandlerListenerResult result = cappedListener.shouldHandleException(ex);
+
+        // then
+        Assertions.assertThat(result.errors).hasSize(2);
+        Assertions.assertThat(result.errors).noneMatch(
+            e -> e.getMetadata().containsKey(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY)
+        );
+        Assertions.assertThat(result.extraDetailsForLogging)
+                  .noneMatch(p -> p.getLeft().equals("constraint_violation_details_omitted_count"));
+    }
+
+    @Test
+    public void shouldHandleException_adds_item_index_metadata_and_logging_for_batch_validation_errors() {
+        // given
+        ConstraintViolation<Object> violation1 = setupConstraintViolation(Object.class, "foo", NotNull.class, "MISSING_EXPECTED_CONTENT");
+        ConstraintViolation<Object> violation2 = setupConstraintViolation(Object.class, "foo", NotNull.class, "MISSING_EXPECTED_CONTENT");
+        ConstraintViolation<Object> violation3 = setupConstraintViolation(Object.class, "bar", NotEmpty.class, "TYPE_CONVERSION_ERROR");
+        ClientDataValidationError ex = new ClientDataValidationError(
+            null, Arrays.asList(violation1, violation2, violation3), null, Arrays.asList(2, 7, 7)
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(ex);
+
+        // then
+        validateResponse(result, true, Arrays.<ApiError>asList(
+            new ApiErrorWithMetadata(
+                BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT,
+                Pair.of("field", (Object) "foo"), Pair.of(ClientDataValidationErrorHandlerListener.ITEM_INDEX_METADATA_KEY, (Object) 2)
+            ),
+            new ApiErrorWithMetadata(
+                BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT,
+                Pair.of("field", (Object) "foo"), Pair.of(ClientDataValidationErrorHandlerListener.ITEM_INDEX_METADATA_KEY, (Object) 7)
+            ),
+            new ApiErrorWithMetadata(
+                BarebonesCoreApiErrorForTesting.TYPE_CONVERSION_ERROR,
+                Pair.of("field", (Object) "bar"), Pair.of(ClientDataValidationErrorHandlerListener.ITEM_INDEX_METADATA_KEY, (Object) 7)
+            )
+        ));
+        Assertions.assertThat(result.extraDetailsForLogging).contains(
+            Pair.of("constraint_violation_details",
+                    "[2]Object.foo|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT,"
+                    + "[7]Object.foo|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT,"
+                    + "[7]Object.bar|jakarta.validation.constraints.NotEmpty|TYPE_CONVERSION_ERROR")
+        );
+    }
+
+    @Test
+    public void processClientDataValidationError_defers_describing_violations_until_log_detail_is_used() {
+        // given
+        ConstraintViolation<Object> violation = setupConstraintViolation(Object.class, "foo", NotNull.class, "MISSING_EXPECTED_CONTENT");
+        ClientDataValidationError ex = new ClientDataValidationError(null, Collections.singletonList(violation), null);
+        List<Pair<String, String>> extraLoggingDetails = new ArrayList<>();
+
+        // when
+        listener.processClientDataValidationError(ex, extraLoggingDetails);
+
+        // then
+        Pair<String, String> details = extraLoggingDetails.stream()
+            .filter(p -> p.getLeft().equals("constraint_violation_details"))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertThat(details).isInstanceOf(LazyLogDetail.class);
+        Assertions.assertThat(((LazyLogDetail) details).isComputed()).isFalse();
+        verify(violation, never()).getRootBeanClass();
+
+        Assertions.assertThat(details.getRight())
+                  .isEqualTo("Object.foo|jakarta.validation.constraints.NotNull|MISSING_EXPECTED_CONTENT");
+    }
+
     private interface SomeValidationGroup {}
 
     private record SomeValidatableObject(
@@ -0,0 +1,329 @@
+package com.nike.backstopper.handler.listener.impl;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
+import com.nike.backstopper.apierror.testutil.ProjectApiErrorsForTesting;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.internal.util.Pair;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link DeclarativeExceptionMappingHandlerListener}.
+ */
+@RunWith(DataProviderRunner.class)
+public class DeclarativeExceptionMappingHandlerListenerTest extends ListenerTestBase {
+
+    private static final ProjectApiErrors testProjectApiErrors =
+        ProjectApiErrorsForTesting.withProjectSpecificData(null, null);
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private DeclarativeExceptionMappingHandlerListener listenerToClose;
+
+    @After
+    public void afterMethod() throws IOException {
+        if (listenerToClose != null) {
+            listenerToClose.close();
+        }
+    }
+
+    private static class BaseTestException extends RuntimeException {
+        BaseTestException(String message) {
+            super(message);
+        }
+    }
+
+    private static class ChildTestException extends BaseTestException {
+        ChildTestException(String message) {
+            super(message);
+        }
+    }
+
+    private static Properties properties(String... keysAndValues) {
+        Properties props = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            props.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return props;
+    }
+
+    private static DeclarativeExceptionMappingHandlerListener listenerFor(String... keysAndValues) {
+        return new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, properties(keysAndValues));
+    }
+
+    private void verifyHandledWith(
+        ApiExceptionHandlerListenerResult result, ApiError expectedError, String expectedMappingName
+    ) {
+        validateResponse(result, true, singletonList(expectedError));
+        assertThat(result.extraDetailsForLogging).containsExactly(Pair.of("exception_mapping_name", expectedMappingName));
+    }
+
+    @Test
+    public void shouldHandleException_maps_exception_class_to_ApiError() {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor(
+            "foo.exception", BaseTestException.class.getName(),
+            "foo.api-error", BarebonesCoreApiErrorForTesting.NOT_FOUND.getName()
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(new BaseTestException("blah"));
+
+        // then
+        verifyHandledWith(result, BarebonesCoreApiErrorForTesting.NOT_FOUND, "foo");
+    }
+
+    @Test
+    public void shouldHandleException_ignores_null_and_unmapped_exceptions() {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor(
+            "foo.exception", ChildTestException.class.getName(),
+            "foo.api-error", BarebonesCoreApiErrorForTesting.NOT_FOUND.getName()
+        );
+
+        // expect
+        validateResponse(listener.shouldHandleException(null), false, null);
+        validateResponse(listener.shouldHandleException(new BaseTestException("blah")), false, null);
+        validateResponse(listener.shouldHandleException(new RuntimeException("blah")), false, null);
+    }
+
+    @Test
+    public void shouldHandleException_matches_superclass_mappings_and_prefers_most_specific_class() {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor(
+            "a-base.exception", BaseTestException.class.getName(),
+            "a-base.api-error", BarebonesCoreApiErrorForTesting.NOT_FOUND.getName(),
+            "z-child.exception", ChildTestException.class.getName(),
+            "z-child.api-error", BarebonesCoreApiErrorForTesting.FORBIDDEN.getName()
+        );
+
+        // expect
+        verifyHandledWith(
+            listener.shouldHandleException(new ChildTestException("blah")),
+            BarebonesCoreApiErrorForTesting.FORBIDDEN, "z-child"
+        );
+        verifyHandledWith(
+            listener.shouldHandleException(new BaseTestException("blah")),
+            BarebonesCoreApiErrorForTesting.NOT_FOUND, "a-base"
+        );
+        verifyHandledWith(
+            listener.shouldHandleException(new BaseTestException("blah") { }),
+            BarebonesCoreApiErrorForTesting.NOT_FOUND, "a-base"
+        );
+    }
+
+    @DataProvider(value = {
+        "upstream timed out after 42 ms |   TEMPORARY_SERVICE_PROBLEM   |   1-timeout",
+        "Upstream timed out             |   TEMPORARY_SERVICE_PROBLEM   |   1-timeout",
+        "Upstream unavailable           |   TEMPORARY_SERVICE_PROBLEM   |   2-unavailable",
+        "something else entirely        |   GENERIC_SERVICE_ERROR       |   3-fallback",
+        "null                           |   GENERIC_SERVICE_ERROR       |   3-fallback",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldHandleException_uses_message_predicates_in_mapping_name_order(
+        String message, BarebonesCoreApiErrorForTesting expectedError, String expectedMappingName
+    ) {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor(
+            "1-timeout.exception", BaseTestException.class.getName(),
+            "1-timeout.api-error", BarebonesCoreApiErrorForTesting.TEMPORARY_SERVICE_PROBLEM.getName(),
+            "1-timeout.message-regex", "(?i).*timed out.*",
+            "2-unavailable.exception", BaseTestException.class.getName(),
+            "2-unavailable.api-error", BarebonesCoreApiErrorForTesting.TEMPORARY_SERVICE_PROBLEM.getName(),
+            "2-unavailable.message-starts-with", "Upstream",
+            "2-unavailable.message-contains", "unavailable",
+            "3-fallback.exception", BaseTestException.class.getName(),
+            "3-fallback.api-error", BarebonesCoreApiErrorForTesting.GENERIC_SERVICE_ERROR.getName()
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(new BaseTestException(message));
+
+        // then
+        verifyHandledWith(result, expectedError, expectedMappingName);
+    }
+
+    @Test
+    public void shouldHandleException_ignores_exception_if_no_message_predicate_matches() {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor(
+            "foo.exception", BaseTestException.class.getName(),
+            "foo.api-error", BarebonesCoreApiErrorForTesting.NOT_FOUND.getName(),
+            "foo.message-contains", "nope"
+        );
+
+        // expect
+        validateResponse(listener.shouldHandleException(new BaseTestException("blah")), false, null);
+        validateResponse(listener.shouldHandleException(new BaseTestException(null)), false, null);
+    }
+
+    @DataProvider(value = {
+        "foo.exception  |   java.lang.RuntimeException  |   foo.api-error   |   DOES_NOT_EXIST      |   ApiError that doesn't exist",
+        "foo.exception  |   java.lang.RuntimeException  |   foo.blah        |   NOT_FOUND           |   Unknown property 'blah'",
+        "foo.exception  |   java.lang.RuntimeException  |   noseparator     |   NOT_FOUND           |   Invalid exception mapping property key",
+        "foo.exception  |   java.lang.RuntimeException  |   foo.            |   NOT_FOUND           |   Invalid exception mapping property key",
+        "foo.api-error  |   NOT_FOUND                   |   foo.message-contains    |   bar     |   missing the required property: exception",
+        "foo.exception  |   java.lang.RuntimeException  |   foo.message-contains    |   bar     |   missing the required property: api-error",
+    }, splitBy = "\\|")
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_invalid_mappings(
+        String key1, String value1, String key2, String value2, String expectedMessageSnippet
+    ) {
+        // when
+        Throwable ex = catchThrowable(() -> listenerFor(key1, value1, key2, value2));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class).hasMessageContaining(expectedMessageSnippet);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_invalid_regex() {
+        // when
+        Throwable ex = catchThrowable(() -> listenerFor(
+            "foo.exception", BaseTestException.class.getName(),
+            "foo.api-error", BarebonesCoreApiErrorForTesting.NOT_FOUND.getName(),
+            "foo.message-regex", "["
+        ));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("invalid message-regex");
+    }
+
+    @Test
+    public void constructors_throw_NullPointerException_for_null_args() {
+        // expect
+        //noinspection DataFlowIssue
+        assertThat(catchThrowable(() -> new DeclarativeExceptionMappingHandlerListener(null, new Properties())))
+            .isInstanceOf(NullPointerException.class).hasMessage("projectApiErrors cannot be null.");
+        //noinspection DataFlowIssue
+        assertThat(catchThrowable(() -> new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, (Properties) null)))
+            .isInstanceOf(NullPointerException.class).hasMessage("mappings cannot be null.");
+        //noinspection DataFlowIssue
+        assertThat(catchThrowable(() -> new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, (Path) null)))
+            .isInstanceOf(NullPointerException.class).hasMessage("mappingsFile cannot be null.");
+    }
+
+    @Test
+    public void file_constructor_throws_IllegalArgumentException_if_file_cannot_be_read() {
+        // given
+        Path missingFile = tempFolder.getRoot().toPath().resolve("does-not-exist.properties");
+
+        // when
+        Throwable ex = catchThrowable(
+            () -> new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, missingFile)
+        );
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void reload_and_startWatching_throw_IllegalStateException_if_created_without_file() {
+        // given
+        DeclarativeExceptionMappingHandlerListener listener = listenerFor();
+
+        // expect
+        assertThat(catchThrowable(listener::reload)).isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(listener::startWatching)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path writeMappingsFile(Path file, String apiErrorName) throws IOException {
+        String contents = "foo.exception=" + BaseTestException.class.getName() + "\n"
+                          + "foo.api-error=" + apiErrorName + "\n";
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void reload_picks_up_file_changes_and_keeps_previous_mappings_if_file_is_invalid() throws IOException {
+        // given
+        Path file = writeMappingsFile(
+            tempFolder.newFile("mappings.properties").toPath(), BarebonesCoreApiErrorForTesting.NOT_FOUND.getName()
+        );
+        DeclarativeExceptionMappingHandlerListener listener =
+            new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, file);
+        verifyHandledWith(
+            listener.shouldHandleException(new BaseTestException("blah")),
+            BarebonesCoreApiErrorForTesting.NOT_FOUND, "foo"
+        );
+
+        // when
+        writeMappingsFile(file, BarebonesCoreApiErrorForTesting.FORBIDDEN.getName());
+        boolean firstReloadResult = listener.reload();
+
+        // then
+        assertThat(firstReloadResult).isTrue();
+        verifyHandledWith(
+            listener.shouldHandleException(new BaseTestException("blah")),
+            BarebonesCoreApiErrorForTesting.FORBIDDEN, "foo"
+        );
+
+        // and when
+        writeMappingsFile(file, "DOES_NOT_EXIST");
+        boolean secondReloadResult = listener.reload();
+
+        // then
+        assertThat(secondReloadResult).isFalse();
+        verifyHandledWith(
+            listener.shouldHandleException(new BaseTestException("blah")),
+            BarebonesCoreApiErrorForTesting.FORBIDDEN, "foo"
+        );
+    }
+
+    @Test
+    public void startWatching_reloads_mappings_when_file_changes() throws Exception {
+        // given
+        Path file = writeMappingsFile(
+            tempFolder.newFile("watched.properties").toPath(), BarebonesCoreApiErrorForTesting.NOT_FOUND.getName()
+        );
+        DeclarativeExceptionMappingHandlerListener listener =
+            new DeclarativeExceptionMappingHandlerListener(testProjectApiErrors, file);
+        listenerToClose = listener;
+
+        // when
+        listener.startWatching();
+        // Calling it again should be a no-op.
+        listener.startWatching();
+        writeMappingsFile(file, BarebonesCoreApiErrorForTesting.FORBIDDEN.getName());
+
+        // then
+        assertThat(listener.isWatching()).isTrue();
+        long deadline = System.currentTimeMillis() + 30_000;
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(new BaseTestException("blah"));
+        while (!result.errors.contains(BarebonesCoreApiErrorForTesting.FORBIDDEN)
+               && System.currentTimeMillis() < deadline
+        ) {
+            Thread.sleep(20);
+            result = listener.shouldHandleException(new BaseTestException("blah"));
+        }
+        verifyHandledWith(result, BarebonesCoreApiErrorForTesting.FORBIDDEN, "foo");
+
+        // and when
+        listener.close();
+        // Closing again should be a no-op.
+        listener.close();
+
+        // then
+        assertThat(listener.isWatching()).isFalse();
+    }
+}
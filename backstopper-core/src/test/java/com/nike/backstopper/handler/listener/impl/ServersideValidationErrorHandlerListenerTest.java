@@ -7,6 +7,8 @@ import com.nike.backstopper.exception.ServersideValidationError;
 import com.nike.backstopper.exception.network.DownstreamRequestOrResponseBodyFailedValidationException;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.LazyLogDetail;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 import com.nike.internal.util.Pair;
 
 import org.assertj.core.api.Assertions;
@@ -29,6 +31,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -54,6 +58,34 @@ public class ServersideValidationErrorHandlerListenerTest extends ListenerTestBa
         // then
         Assertions.assertThat(impl.projectApiErrors).isSameAs(projectErrorsMock);
         Assertions.assertThat(impl.utils).isSameAs(utilsMock);
+        Assertions.assertThat(impl.cardinalityCaps).isSameAs(ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    @Test
+    public void constructor_sets_cardinalityCaps_to_passed_in_arg() {
+        // given
+        ValidationErrorCardinalityCaps caps = new ValidationErrorCardinalityCaps(1, 1);
+
+        // when
+        ServersideValidationErrorHandlerListener impl = new ServersideValidationErrorHandlerListener(
+            testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, caps
+        );
+
+        // then
+        Assertions.assertThat(impl.cardinalityCaps).isSameAs(caps);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_if_passed_null_cardinalityCaps() {
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> new ServersideValidationErrorHandlerListener(
+                testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, null
+            )
+        );
+
+        // then
+        Assertions.assertThat(ex).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -141,6 +173,37 @@ public class ServersideValidationErrorHandlerListenerTest extends ListenerTestBa
                     + "path.to.violation2|jakarta.validation.constraints.NotEmpty|Violation_2_Message")));
     }
 
+    @Test
+    public void processServersideValidationError_describes_violations_lazily_up_to_the_cap() {
+        // given
+        ServersideValidationErrorHandlerListener cappedListener = new ServersideValidationErrorHandlerListener(
+            testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL, new ValidationErrorCardinalityCaps(1, 2)
+        );
+        List<ConstraintViolation<Object>> violations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            violations.add(setupConstraintViolation("path" + i, NotNull.class, "Violation_" + i + "_\"Message\""));
+        }
+        ServersideValidationError ex = new ServersideValidationError(null, new LinkedHashSet<>(violations));
+        List<Pair<String, String>> extraLoggingDetails = new ArrayList<>();
+
+        // when
+        cappedListener.processServersideValidationError(ex, extraLoggingDetails);
+
+        // then
+        Assertions.assertThat(extraLoggingDetails).hasSize(2);
+        Assertions.assertThat(extraLoggingDetails.get(0)).isInstanceOf(LazyLogDetail.class);
+        Assertions.assertThat(((LazyLogDetail) extraLoggingDetails.get(0)).isComputed()).isFalse();
+        violations.forEach(v -> verify(v, never()).getMessage());
+
+        Assertions.assertThat(extraLoggingDetails).containsExactly(
+            Pair.of("serverside_validation_errors",
+                    "path0|jakarta.validation.constraints.NotNull|Violation_0_'Message', "
+                    + "path1|jakarta.validation.constraints.NotNull|Violation_1_'Message'"),
+            Pair.of("serverside_validation_errors_omitted_count", "1")
+        );
+        verify(violations.get(2), never()).getMessage();
+    }
+
     private record SomeValidatableObject(
         @NotEmpty(message = "INVALID_TRUSTED_HEADERS_ERROR") String arg1,
         @NotEmpty(message = "INVALID_TRUSTED_HEADERS_ERROR") String arg2
@@ -1,7 +1,9 @@
 package com.nike.backstopper.service;
 
 import com.nike.backstopper.exception.ClientDataValidationError;
+import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
 
+import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -10,21 +12,36 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
 
 import static junit.framework.TestCase.fail;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
@@ -132,6 +149,7 @@ public class ClientDataValidationServiceTest {
         given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
         Object objToValidate = new Object();
         validationServiceSpy.validateObjectsWithGroupsFailFast((Class<?>[])null, objToValidate, null);
+        verify(validatorMock).getConstraintsForClass(Object.class);
         verify(validatorMock).validate(objToValidate);
         verifyNoMoreInteractions(validatorMock);
     }
@@ -166,4 +184,394 @@ public class ClientDataValidationServiceTest {
             assertThat(ex.getValidationGroups(), is(groups));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void single_arg_constructor_uses_default_batch_settings() {
+        // expect
+        Assertions.assertThat(validationServiceSpy.batchExecutor).isSameAs(ForkJoinPool.commonPool());
+        Assertions.assertThat(validationServiceSpy.parallelBatchThreshold)
+                  .isEqualTo(ClientDataValidationService.DEFAULT_PARALLEL_BATCH_THRESHOLD);
+    }
+
+    @Test
+    public void batch_constructor_throws_IllegalArgumentException_for_invalid_args() {
+        // expect
+        Assertions.assertThatThrownBy(() -> new ClientDataValidationService(validatorMock, null, 1))
+                  .isInstanceOf(IllegalArgumentException.class)
+                  .hasMessage("batchExecutor cannot be null");
+        Assertions.assertThatThrownBy(() -> new ClientDataValidationService(validatorMock, Runnable::run, 0))
+                  .isInstanceOf(IllegalArgumentException.class)
+                  .hasMessage("parallelBatchThreshold must be positive");
+    }
+
+    @Test
+    public void validateBatchFailFast_delegates_with_null_groups() {
+        // given
+        List<Object> batch = Arrays.asList(new Object(), new Object());
+
+        // when
+        validationServiceSpy.validateBatchFailFast(batch);
+
+        // then
+        verify(validationServiceSpy).validateBatchWithGroupsFailFast(batch, (Class<?>[]) null);
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_does_nothing_for_null_or_empty_batch() {
+        // when
+        validationServiceSpy.validateBatchWithGroupsFailFast(null);
+        validationServiceSpy.validateBatchWithGroupsFailFast(Collections.emptyList());
+
+        // then
+        verifyNoMoreInteractions(validatorMock);
+    }
+
+    private ConstraintViolation<Object> violation(String path, String message) {
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+        Path pathMock = mock(Path.class);
+        doReturn(path).when(pathMock).toString();
+        doReturn(pathMock).when(violation).getPropertyPath();
+        doReturn(message).when(violation).getMessage();
+        return violation;
+    }
+
+    private void verifyBatchValidationError(ClientDataValidationService service, int batchSize, Class<?>... groups) {
+        verifyBatchValidationError(service, new ArrayList<>(), batchSize, groups);
+    }
+
+    private void verifyBatchValidationError(
+        ClientDataValidationService service, List<Object> batch, int batchSize, Class<?>... groups
+    ) {
+        // given
+        List<ConstraintViolation<Object>> expectedViolations = new ArrayList<>();
+        List<Integer> expectedItemIndexes = new ArrayList<>();
+        List<Object> expectedFailedObjects = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            Object item = (i == 1) ? null : new Object();
+            batch.add(item);
+            if (item == null) {
+                continue;
+            }
+
+            if (i % 3 == 0) {
+                ConstraintViolation<Object> v1 = violation("a", "MSG_" + i);
+                ConstraintViolation<Object> v2 = violation("b", "MSG_" + i);
+                // Hand them back out of order to make sure they're sorted by path.
+                given(validatorMock.validate(item, groups)).willReturn(new LinkedHashSet<>(Arrays.asList(v2, v1)));
+                given(validatorMock.validate(item)).willReturn(new LinkedHashSet<>(Arrays.asList(v2, v1)));
+                expectedViolations.addAll(Arrays.asList(v1, v2));
+                expectedItemIndexes.addAll(Arrays.asList(i, i));
+                expectedFailedObjects.add(item);
+            }
+            else {
+                given(validatorMock.validate(item, groups)).willReturn(Collections.emptySet());
+                given(validatorMock.validate(item)).willReturn(Collections.emptySet());
+            }
+        }
+
+        // when
+        Throwable ex = Assertions.catchThrowable(() -> service.validateBatchWithGroupsFailFast(batch, groups));
+
+        // then
+        Assertions.assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        ClientDataValidationError cdve = (ClientDataValidationError) ex;
+        Assertions.assertThat(cdve.getViolations()).containsExactlyElementsOf(expectedViolations);
+        Assertions.assertThat(cdve.getViolationItemIndexes()).containsExactlyElementsOf(expectedItemIndexes);
+        Assertions.assertThat(cdve.getObjectsThatFailedValidation()).containsExactlyElementsOf(expectedFailedObjects);
+        Assertions.assertThat(cdve.getValidationGroups()).isEqualTo(groups.length == 0 ? null : groups);
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_validates_small_batches_on_caller_thread() {
+        // given
+        AtomicInteger executorCalls = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            executorCalls.incrementAndGet();
+            task.run();
+        };
+        ClientDataValidationService service = new ClientDataValidationService(validatorMock, countingExecutor, 100);
+
+        // expect
+        verifyBatchValidationError(service, 10, Default.class);
+        Assertions.assertThat(executorCalls.get()).isZero();
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_validates_large_batches_concurrently_with_deterministic_ordering() {
+        // given
+        AtomicInteger executorCalls = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            executorCalls.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        };
+        ClientDataValidationService service = new ClientDataValidationService(validatorMock, countingExecutor, 10) {
+            @Override
+            protected int determineBatchSliceSize(int batchSize) {
+                return 7;
+            }
+        };
+
+        // expect
+        verifyBatchValidationError(service, 100);
+        Assertions.assertThat(executorCalls.get()).isEqualTo(15);
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_handles_lists_without_random_access() {
+        // given
+        ClientDataValidationService service = new ClientDataValidationService(
+            validatorMock, ForkJoinPool.commonPool(), 10
+        ) {
+            @Override
+            protected int determineBatchSliceSize(int batchSize) {
+                return 7;
+            }
+        };
+
+        // expect
+        verifyBatchValidationError(service, new LinkedList<>(), 100);
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_does_not_throw_if_there_are_no_violations() {
+        // given
+        ClientDataValidationService service = new ClientDataValidationService(validatorMock, Runnable::run, 1);
+        given(validatorMock.validate(any())).willReturn(Collections.emptySet());
+
+        // when
+        service.validateBatchWithGroupsFailFast(Arrays.asList(new Object(), new Object(), null));
+
+        // then
+        verify(validatorMock, times(2)).validate(any());
+    }
+
+    @Test
+    public void validateBatchWithGroupsFailFast_rethrows_validator_exceptions_from_concurrent_slices_unwrapped() {
+        // given
+        ClientDataValidationService service = new ClientDataValidationService(
+            validatorMock, ForkJoinPool.commonPool(), 1
+        );
+        ValidationException validatorEx = new ValidationException("kaboom");
+        given(validatorMock.validate(any())).willThrow(validatorEx);
+
+        // when
+        Throwable ex = Assertions.catchThrowable(
+            () -> service.validateBatchWithGroupsFailFast(Arrays.asList(new Object(), new Object()))
+        );
+
+        // then
+        Assertions.assertThat(ex).isSameAs(validatorEx);
+    }
+
+    @Test
+    public void determineBatchSliceSize_splits_into_multiple_slices_per_processor() {
+        // given
+        int numSlices = Runtime.getRuntime().availableProcessors() * 4;
+
+        // expect
+        Assertions.assertThat(validationServiceSpy.determineBatchSliceSize(numSlices * 10)).isEqualTo(10);
+        Assertions.assertThat(validationServiceSpy.determineBatchSliceSize(1)).isEqualTo(1);
+    }
+
+    private record UnconstrainedThing(String foo) { }
+
+    @Test
+    public void validate_methods_skip_validator_for_objects_whose_class_is_not_constrained() {
+        // given
+        BeanDescriptor beanDescriptor = mock(BeanDescriptor.class);
+        given(beanDescriptor.isBeanConstrained()).willReturn(false);
+        given(validatorMock.getConstraintsForClass(UnconstrainedThing.class)).willReturn(beanDescriptor);
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        UnconstrainedThing unconstrained = new UnconstrainedThing("foo");
+        Object constrained = new Object();
+
+        // when
+        validationServiceSpy.validateObjectsFailFast(unconstrained, constrained);
+        validationServiceSpy.validateBatchFailFast(Arrays.asList(unconstrained, unconstrained));
+
+        // then
+        verify(validatorMock, never()).validate(unconstrained);
+        verify(validatorMock).validate(constrained);
+        // The answer is cached, so the validator is only asked about the class once.
+        verify(validatorMock).getConstraintsForClass(UnconstrainedThing.class);
+    }
+
+    @PrecompiledValidation
+    public static class PrecompiledThing {
+        @NotBlank(message = "FOO_REQUIRED")
+        String foo;
+
+        PrecompiledThing(String foo) {
+            this.foo = foo;
+        }
+    }
+
+    @Test
+    public void validate_methods_use_generated_validator_instead_of_validator_for_default_group() {
+        // given
+        PrecompiledThing invalid = new PrecompiledThing(" ");
+        PrecompiledThing valid = new PrecompiledThing("foo");
+
+        // when
+        Throwable ex = Assertions.catchThrowable(() -> validationServiceSpy.validateObjectsFailFast(valid, invalid));
+        Throwable batchEx = Assertions.catchThrowable(
+            () -> validationServiceSpy.validateBatchWithGroupsFailFast(Arrays.asList(invalid, valid), Default.class)
+        );
+
+        // then
+        Assertions.assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        ClientDataValidationError error = (ClientDataValidationError) ex;
+        Assertions.assertThat(error.getObjectsThatFailedValidation()).containsExactly(invalid);
+        Assertions.assertThat(error.getViolations()).hasSize(1);
+        ConstraintViolation<Object> violation = error.getViolations().get(0);
+        Assertions.assertThat(violation.getMessage()).isEqualTo("FOO_REQUIRED");
+        Assertions.assertThat(violation.getPropertyPath().toString()).isEqualTo("foo");
+        Assertions.assertThat(violation.getInvalidValue()).isEqualTo(" ");
+        Assertions.assertThat(violation.getConstraintDescriptor().getAnnotation()).isInstanceOf(NotBlank.class);
+
+        Assertions.assertThat(batchEx).isInstanceOf(ClientDataValidationError.class);
+        Assertions.assertThat(((ClientDataValidationError) batchEx).getViolationItemIndexes()).containsExactly(0);
+
+        verifyNoInteractions(validatorMock);
+    }
+
+    @Test
+    public void validate_methods_use_validator_for_other_groups_even_if_there_is_a_generated_validator() {
+        // given
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        PrecompiledThing invalid = new PrecompiledThing(" ");
+
+        // when
+        validationServiceSpy.validateObjectsWithGroupFailFast(String.class, invalid);
+
+        // then
+        verify(validatorMock).validate(invalid, String.class);
+    }
+
+    @Test
+    public void generated_validators_are_not_used_if_validator_is_NoOpJsr303Validator() {
+        // given
+        ClientDataValidationService service = new ClientDataValidationService(NoOpJsr303Validator.SINGLETON_IMPL);
+
+        // when
+        service.validateObjectsFailFast(new PrecompiledThing(" "));
+
+        // then
+        Assertions.assertThat(service.precompiledValidatorLookup).isSameAs(PrecompiledValidatorLookup.DISABLED);
+    }
+
+    @Test
+    public void generated_validators_are_not_used_if_constructed_with_a_disabled_PrecompiledValidatorLookup() {
+        // given
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        ClientDataValidationService service = new ClientDataValidationService(
+            validatorMock, ForkJoinPool.commonPool(), Integer.MAX_VALUE, null, PrecompiledValidatorLookup.DISABLED
+        );
+        PrecompiledThing invalid = new PrecompiledThing(" ");
+
+        // when
+        service.validateObjectsFailFast(invalid);
+
+        // then
+        Assertions.assertThat(service.precompiledValidatorLookup).isSameAs(PrecompiledValidatorLookup.DISABLED);
+        verify(validatorMock).validate(invalid);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_null_PrecompiledValidatorLookup() {
+        // expect
+        Assertions.assertThatThrownBy(
+                      () -> new ClientDataValidationService(validatorMock, Runnable::run, 1, null, null)
+                  )
+                  .isInstanceOf(IllegalArgumentException.class)
+                  .hasMessage("precompiledValidatorLookup cannot be null");
+    }
+
+    public record MemoizableThing(String foo) {
+    }
+
+    private ClientDataValidationService memoizingService() {
+        return new ClientDataValidationService(
+            validatorMock, ForkJoinPool.commonPool(), Integer.MAX_VALUE, new ValidationResultMemoizer()
+        );
+    }
+
+    @Test
+    public void memoizing_service_only_validates_an_immutable_object_until_it_passes() {
+        // given
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        ClientDataValidationService service = memoizingService();
+        MemoizableThing thing = new MemoizableThing("foo");
+
+        // when
+        service.validateObjectsFailFast(thing);
+        service.validateObjectsFailFast(thing);
+        service.validateBatchFailFast(Arrays.asList(thing, thing));
+
+        // then
+        verify(validatorMock, times(1)).validate(thing);
+        Assertions.assertThat(service.validationResultMemoizer.isKnownValid(thing)).isTrue();
+    }
+
+    @Test
+    public void memoizing_service_validates_again_for_different_groups_and_different_instances() {
+        // given
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        ClientDataValidationService service = memoizingService();
+        MemoizableThing thing = new MemoizableThing("foo");
+        MemoizableThing equalThing = new MemoizableThing("foo");
+
+        // when
+        service.validateObjectsFailFast(thing);
+        service.validateObjectsWithGroupFailFast(String.class, thing);
+        service.validateObjectsWithGroupFailFast(String.class, thing);
+        service.validateObjectsFailFast(equalThing);
+
+        // then
+        verify(validatorMock).validate(same(thing));
+        verify(validatorMock).validate(same(thing), eq(String.class));
+        verify(validatorMock).validate(same(equalThing));
+    }
+
+    @Test
+    public void memoizing_service_does_not_memoize_failed_validation() {
+        // given
+        ConstraintViolation<Object> violation = violation("foo", "FOO_BAD");
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.singleton(violation));
+        ClientDataValidationService service = memoizingService();
+        MemoizableThing thing = new MemoizableThing("foo");
+
+        // when
+        Throwable firstEx = Assertions.catchThrowable(() -> service.validateObjectsFailFast(thing));
+        Throwable secondEx = Assertions.catchThrowable(() -> service.validateObjectsFailFast(thing));
+
+        // then
+        Assertions.assertThat(firstEx).isInstanceOf(ClientDataValidationError.class);
+        Assertions.assertThat(secondEx).isInstanceOf(ClientDataValidationError.class);
+        verify(validatorMock, times(2)).validate(thing);
+        Assertions.assertThat(service.validationResultMemoizer.size()).isZero();
+    }
+
+    @Test
+    public void memoizing_service_always_validates_objects_that_are_not_immutable() {
+        // given
+        given(validatorMock.validate(any(), any(Class[].class))).willReturn(Collections.emptySet());
+        ClientDataValidationService service = memoizingService();
+        Object obj = new Object();
+
+        // when
+        service.validateObjectsFailFast(obj);
+        service.validateObjectsFailFast(obj);
+
+        // then
+        verify(validatorMock, times(2)).validate(obj);
+        Assertions.assertThat(service.validationResultMemoizer.size()).isZero();
+    }
+
+    @Test
+    public void memoization_is_disabled_by_default() {
+        // expect
+        Assertions.assertThat(new ClientDataValidationService(validatorMock).validationResultMemoizer).isNull();
+    }
+}
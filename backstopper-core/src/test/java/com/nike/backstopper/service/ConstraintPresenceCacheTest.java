@@ -0,0 +1,147 @@
+package com.nike.backstopper.service;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.ElementDescriptor.ConstraintFinder;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link ConstraintPresenceCache}.
+ */
+@RunWith(DataProviderRunner.class)
+public class ConstraintPresenceCacheTest {
+
+    private Validator validatorMock;
+    private BeanDescriptor beanDescriptorMock;
+    private ConstraintPresenceCache cache;
+
+    @Before
+    public void beforeMethod() {
+        validatorMock = mock(Validator.class);
+        beanDescriptorMock = mock(BeanDescriptor.class);
+        doReturn(beanDescriptorMock).when(validatorMock).getConstraintsForClass(any());
+        doReturn(constraintFinder(false)).when(beanDescriptorMock).findConstraints();
+        doReturn(Collections.emptySet()).when(beanDescriptorMock).getConstrainedProperties();
+        cache = new ConstraintPresenceCache(validatorMock);
+    }
+
+    private static ConstraintFinder constraintFinder(boolean hasConstraints) {
+        ConstraintFinder finderMock = mock(ConstraintFinder.class);
+        doReturn(finderMock).when(finderMock).unorderedAndMatchingGroups(any(Class[].class));
+        doReturn(hasConstraints).when(finderMock).hasConstraints();
+        return finderMock;
+    }
+
+    private static PropertyDescriptor property(boolean cascaded, boolean hasContainerElementConstraints,
+                                               boolean hasMatchingConstraints) {
+        PropertyDescriptor propertyMock = mock(PropertyDescriptor.class);
+        doReturn(cascaded).when(propertyMock).isCascaded();
+        Set<ContainerElementTypeDescriptor> containerElementTypes = (hasContainerElementConstraints)
+                                                                    ? Set.of(mock(ContainerElementTypeDescriptor.class))
+                                                                    : Collections.emptySet();
+        doReturn(containerElementTypes).when(propertyMock).getConstrainedContainerElementTypes();
+        ConstraintFinder finder = constraintFinder(hasMatchingConstraints);
+        doReturn(finder).when(propertyMock).findConstraints();
+        return propertyMock;
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_if_passed_null_validator() {
+        // when
+        Throwable ex = catchThrowable(() -> new ConstraintPresenceCache(null));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isConstrained_returns_false_for_unconstrained_bean() {
+        // given
+        doReturn(false).when(beanDescriptorMock).isBeanConstrained();
+
+        // expect
+        assertThat(cache.isConstrained(String.class)).isFalse();
+    }
+
+    @Test
+    public void isConstrained_returns_true_if_bean_level_constraints_match_groups() {
+        // given
+        doReturn(true).when(beanDescriptorMock).isBeanConstrained();
+        doReturn(constraintFinder(true)).when(beanDescriptorMock).findConstraints();
+
+        // expect
+        assertThat(cache.isConstrained(String.class, Default.class)).isTrue();
+    }
+
+    @DataProvider(value = {
+        "true   |   false   |   false   |   true",
+        "false  |   true    |   false   |   true",
+        "false  |   false   |   true    |   true",
+        "false  |   false   |   false   |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void isConstrained_checks_constrained_properties(
+        boolean cascaded, boolean hasContainerElementConstraints, boolean hasMatchingConstraints, boolean expected
+    ) {
+        // given
+        doReturn(true).when(beanDescriptorMock).isBeanConstrained();
+        doReturn(Set.of(property(cascaded, hasContainerElementConstraints, hasMatchingConstraints)))
+            .when(beanDescriptorMock).getConstrainedProperties();
+
+        // expect
+        assertThat(cache.isConstrained(String.class)).isEqualTo(expected);
+    }
+
+    @Test
+    public void isConstrained_returns_true_if_validator_cannot_describe_the_class() {
+        // given
+        doReturn(null).when(validatorMock).getConstraintsForClass(Integer.class);
+        doThrow(new ValidationException("nope")).when(validatorMock).getConstraintsForClass(Long.class);
+
+        // expect
+        assertThat(cache.isConstrained(Integer.class)).isTrue();
+        assertThat(cache.isConstrained(Long.class)).isTrue();
+        assertThat(new ConstraintPresenceCache(NoOpJsr303Validator.SINGLETON_IMPL).isConstrained(String.class)).isTrue();
+    }
+
+    @Test
+    public void isConstrained_caches_result_per_class_and_groups() {
+        // given
+        doReturn(false).when(beanDescriptorMock).isBeanConstrained();
+
+        // when
+        cache.isConstrained(String.class);
+        cache.isConstrained(String.class, (Class<?>[]) null);
+        cache.isConstrained(String.class, Default.class);
+        cache.isConstrained(String.class, Object.class);
+        cache.isConstrained(String.class, Object.class);
+        cache.isConstrained(Integer.class, Object.class);
+
+        // then
+        // Null, empty, and {Default} are all the same key.
+        verify(validatorMock, times(2)).getConstraintsForClass(String.class);
+        verify(validatorMock, times(1)).getConstraintsForClass(Integer.class);
+    }
+}
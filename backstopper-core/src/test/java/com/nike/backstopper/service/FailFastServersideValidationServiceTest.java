@@ -4,18 +4,38 @@ import com.nike.backstopper.exception.ServersideValidationError;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorContext;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -25,7 +45,6 @@ import static org.mockito.Mockito.when;
  */
 public class FailFastServersideValidationServiceTest {
 
-    @InjectMocks
     private FailFastServersideValidationService validationService;
     @Mock
     private Validator validator;
@@ -34,6 +53,7 @@ public class FailFastServersideValidationServiceTest {
     public void beforeMethod() {
         //noinspection resource
         MockitoAnnotations.openMocks(this);
+        validationService = new FailFastServersideValidationService(validator);
     }
 
     @Test
@@ -51,4 +71,208 @@ public class FailFastServersideValidationServiceTest {
         when(validator.validate(validateMe)).thenReturn(mockReturnVal);
         validationService.validateObjectFailFast(validateMe);
     }
+
+    @Test
+    public void shouldSkipValidatorIfObjectClassIsNotConstrained() {
+        Object validateMe = new Object();
+        BeanDescriptor beanDescriptor = mock(BeanDescriptor.class);
+        when(beanDescriptor.isBeanConstrained()).thenReturn(false);
+        when(validator.getConstraintsForClass(Object.class)).thenReturn(beanDescriptor);
+        validationService.validateObjectFailFast(validateMe);
+        verify(validator, never()).validate(any());
+    }
+
+    private static final ValidatorFactory HIBERNATE_VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    private record Child(@NotBlank String name, @Positive int count) { }
+
+    private static class Parent {
+        @NotNull
+        private final String id;
+        @Valid
+        private final List<Child> children;
+        private final Map<String, @Valid Child> childrenByName;
+        @Valid
+        private final Child[] childArray;
+        private final Optional<@Valid Child> favoriteChild;
+        @Valid
+        private Parent cycle;
+
+        private Parent(String id, List<Child> children) {
+            this.id = id;
+            this.children = children;
+            this.childrenByName = Map.of("valid", new Child("valid", 1));
+            this.childArray = new Child[]{new Child("valid", 1), null};
+            this.favoriteChild = Optional.of(new Child("valid", 1));
+        }
+    }
+
+    private static Parent parentWithChildren(Child... children) {
+        return new Parent("some-id", new ArrayList<>(Arrays.asList(children)));
+    }
+
+    private static ServersideValidationError catchServersideValidationError(
+        FailFastServersideValidationService service, Object validateMe
+    ) {
+        Throwable ex = catchThrowable(() -> service.validateObjectFailFast(validateMe));
+        assertThat(ex).isInstanceOf(ServersideValidationError.class);
+        return (ServersideValidationError) ex;
+    }
+
+    @Test
+    public void default_mode_collects_every_violation() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY.getValidator()
+        );
+
+        // when
+        ServersideValidationError ex = catchServersideValidationError(
+            service, parentWithChildren(new Child("", 0), new Child(" ", -1))
+        );
+
+        // then
+        assertThat(service.stopAtFirstViolation).isFalse();
+        assertThat(ex.getViolations()).hasSize(4);
+    }
+
+    @Test
+    public void ValidatorFactory_constructor_uses_hibernate_validator_fail_fast_mode() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY, true
+        );
+
+        // when
+        ServersideValidationError ex = catchServersideValidationError(
+            service, parentWithChildren(new Child("", 0), new Child(" ", -1))
+        );
+
+        // then
+        assertThat(service.providerFailFastValidator).isNotNull();
+        assertThat(ex.getViolations()).hasSize(1);
+    }
+
+    @Test
+    public void ValidatorFactory_constructor_does_not_create_fail_fast_validator_if_not_stopping_at_first_violation() {
+        // when
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY, false
+        );
+
+        // then
+        assertThat(service.stopAtFirstViolation).isFalse();
+        assertThat(service.providerFailFastValidator).isNull();
+    }
+
+    @Test
+    public void ValidatorFactory_constructor_throws_IllegalArgumentException_if_factory_is_null() {
+        // when
+        Throwable ex = catchThrowable(() -> new FailFastServersideValidationService((ValidatorFactory) null, true));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class).hasMessage("ValidatorFactory cannot be null");
+    }
+
+    @Test
+    public void createProviderFailFastValidator_returns_null_for_non_hibernate_validator_factories() {
+        // given
+        ValidatorFactory factoryMock = mock(ValidatorFactory.class);
+        doReturn(mock(ValidatorContext.class)).when(factoryMock).usingContext();
+        ValidatorFactory explodingFactoryMock = mock(ValidatorFactory.class);
+        doReturn(null).when(explodingFactoryMock).usingContext();
+
+        // expect
+        assertThat(FailFastServersideValidationService.createProviderFailFastValidator(factoryMock)).isNull();
+        assertThat(FailFastServersideValidationService.createProviderFailFastValidator(explodingFactoryMock)).isNull();
+    }
+
+    @Test
+    public void graph_walk_stops_at_first_violating_property_of_root_object() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY.getValidator(), true
+        );
+
+        // when
+        ServersideValidationError ex = catchServersideValidationError(service, new Parent(null, null));
+
+        // then
+        assertThat(service.providerFailFastValidator).isNull();
+        assertThat(ex.getViolations()).hasSize(1);
+        assertThat(ex.getViolations().iterator().next().getPropertyPath().toString()).isEqualTo("id");
+    }
+
+    @Test
+    public void graph_walk_follows_cascades_and_stops_at_first_violating_nested_bean() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY.getValidator(), true
+        );
+        Child badChild = new Child("", 1);
+
+        // when
+        ServersideValidationError ex = catchServersideValidationError(
+            service, parentWithChildren(new Child("good", 1), badChild, new Child("", -1))
+        );
+
+        // then
+        assertThat(ex.getObjectThatFailedValidation()).isNotSameAs(badChild);
+        assertThat(ex.getViolations()).hasSize(1);
+        assertThat(ex.getViolations().iterator().next().getRootBean()).isSameAs(badChild);
+    }
+
+    @Test
+    public void graph_walk_passes_valid_object_graphs_including_cycles() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(
+            HIBERNATE_VALIDATOR_FACTORY.getValidator(), true
+        );
+        Parent parent = parentWithChildren(new Child("foo", 1), null);
+        parent.cycle = parent;
+
+        // expect
+        service.validateObjectFailFast(parent);
+        assertThat(service.validateUntilFirstViolation(parent)).isEmpty();
+    }
+
+    @Test
+    public void graph_walk_delegates_to_validator_for_null_objects() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(validator, true);
+
+        // when
+        service.validateObjectFailFast(null);
+
+        // then
+        verify(validator).validate(null);
+    }
+
+    @Test
+    public void graph_walk_validates_whole_bean_if_it_has_class_level_constraints_or_cannot_be_walked() {
+        // given
+        FailFastServersideValidationService service = new FailFastServersideValidationService(validator, true);
+        BeanDescriptor classLevelConstrained = mock(BeanDescriptor.class, RETURNS_DEEP_STUBS);
+        doReturn(true).when(classLevelConstrained).isBeanConstrained();
+        doReturn(true).when(classLevelConstrained).hasConstraints();
+        when(classLevelConstrained.findConstraints().unorderedAndMatchingGroups(any(Class[].class)).hasConstraints())
+            .thenReturn(true);
+        doReturn(classLevelConstrained).when(validator).getConstraintsForClass(String.class);
+
+        PropertyDescriptor unreadableProperty = mock(PropertyDescriptor.class);
+        doReturn("doesNotExist").when(unreadableProperty).getPropertyName();
+        doReturn(true).when(unreadableProperty).isCascaded();
+        BeanDescriptor unwalkable = mock(BeanDescriptor.class, RETURNS_DEEP_STUBS);
+        doReturn(true).when(unwalkable).isBeanConstrained();
+        doReturn(Set.of(unreadableProperty)).when(unwalkable).getConstrainedProperties();
+        doReturn(unwalkable).when(validator).getConstraintsForClass(Integer.class);
+
+        @SuppressWarnings("unchecked")
+        Set<ConstraintViolation<Object>> violations = Collections.singleton(mock(ConstraintViolation.class));
+        when(validator.validate(any())).thenReturn(violations);
+
+        // expect
+        assertThat(service.validateUntilFirstViolation("foo")).isSameAs(violations);
+        assertThat(service.validateUntilFirstViolation(42)).isSameAs(violations);
+    }
 }
@@ -0,0 +1,99 @@
+package com.nike.backstopper.service;
+
+import com.nike.backstopper.validation.precompiled.GeneratedPrecompiledValidatorProvider;
+import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the functionality of {@link PrecompiledValidatorLookup}.
+ */
+public class PrecompiledValidatorLookupTest {
+
+    @PrecompiledValidation
+    public static class PrecompiledThing {
+        @NotNull(message = "FOO_REQUIRED")
+        String foo;
+    }
+
+    @Test
+    public void DEFAULT_IMPL_is_enabled_when_backstopper_custom_validators_is_on_the_classpath() {
+        // expect
+        assertThat(PrecompiledValidatorLookup.DEFAULT_IMPL.isEnabled()).isTrue();
+        assertThat(PrecompiledValidatorLookup.DEFAULT_IMPL.provider)
+            .isInstanceOf(GeneratedPrecompiledValidatorProvider.class);
+    }
+
+    @Test
+    public void DEFAULT_IMPL_validates_with_the_generated_validator() {
+        // when
+        Set<ConstraintViolation<Object>> violations =
+            PrecompiledValidatorLookup.DEFAULT_IMPL.validateIfPrecompiled(new PrecompiledThing());
+
+        // then
+        assertThat(violations).extracting(ConstraintViolation::getMessage).containsExactly("FOO_REQUIRED");
+    }
+
+    @Test
+    public void DEFAULT_IMPL_returns_null_for_classes_without_a_generated_validator() {
+        // expect
+        assertThat(PrecompiledValidatorLookup.DEFAULT_IMPL.validateIfPrecompiled(new Object())).isNull();
+    }
+
+    @Test
+    public void DISABLED_never_uses_generated_validators() {
+        // expect
+        assertThat(PrecompiledValidatorLookup.DISABLED.isEnabled()).isFalse();
+        assertThat(PrecompiledValidatorLookup.DISABLED.validateIfPrecompiled(new PrecompiledThing())).isNull();
+    }
+
+    @Test
+    public void validateIfPrecompiled_delegates_to_the_provider() {
+        // given
+        Set<ConstraintViolation<Object>> expected = Collections.emptySet();
+        Object obj = new Object();
+        PrecompiledValidatorLookup lookup = new PrecompiledValidatorLookup(object -> (object == obj) ? expected : null);
+
+        // expect
+        assertThat(lookup.isEnabled()).isTrue();
+        assertThat(lookup.validateIfPrecompiled(obj)).isSameAs(expected);
+        assertThat(lookup.validateIfPrecompiled(new Object())).isNull();
+    }
+
+    @Test
+    public void loadProvider_returns_the_first_provider_found() {
+        // given
+        PrecompiledValidatorProvider first = object -> null;
+        PrecompiledValidatorProvider second = object -> null;
+
+        // expect
+        assertThat(PrecompiledValidatorLookup.loadProvider(List.of(first, second))).isSameAs(first);
+    }
+
+    @Test
+    public void loadProvider_returns_null_if_no_provider_is_found() {
+        // expect
+        assertThat(PrecompiledValidatorLookup.loadProvider(Collections.emptyList())).isNull();
+    }
+
+    @Test
+    public void loadProvider_returns_null_if_the_provider_cannot_be_loaded() {
+        // given
+        Iterable<PrecompiledValidatorProvider> brokenLoader = () -> {
+            throw new ServiceConfigurationError("intentional test exception");
+        };
+
+        // expect
+        assertThat(PrecompiledValidatorLookup.loadProvider(brokenLoader)).isNull();
+    }
+}
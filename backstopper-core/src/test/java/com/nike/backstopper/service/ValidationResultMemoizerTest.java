@@ -0,0 +1,210 @@
+package com.nike.backstopper.service;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.groups.Default;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link ValidationResultMemoizer}.
+ */
+@RunWith(DataProviderRunner.class)
+public class ValidationResultMemoizerTest {
+
+    public record SomeRecord(String foo) {
+    }
+
+    public enum SomeEnum {
+        FOO
+    }
+
+    public record ImmutableComponentsRecord(int primitive, Long boxed, UUID uuid, SomeEnum someEnum, Instant instant,
+                                            LocalDate date, SomeRecord nested) {
+    }
+
+    public record BigDecimalRecord(BigDecimal decimal) {
+    }
+
+    public record BigIntegerRecord(BigInteger integer) {
+    }
+
+    public record SelfReferencingRecord(String foo, SelfReferencingRecord next) {
+    }
+
+    public record ListRecord(List<String> foos) {
+    }
+
+    public record ArrayRecord(String[] foos) {
+    }
+
+    public record ClockRecord(Clock clock) {
+    }
+
+    public record MutableComponentRecord(MutableThing thing) {
+    }
+
+    public record NestedMutableRecord(ListRecord nested) {
+    }
+
+    @ImmutableForValidation
+    public record AnnotatedListRecord(List<String> foos) {
+    }
+
+    public record NestedAnnotatedRecord(AnnotatedListRecord nested) {
+    }
+
+    @ImmutableForValidation
+    public static class AnnotatedImmutableThing {
+    }
+
+    public static class MutableThing {
+    }
+
+    @DataProvider(value = {
+        "0",
+        "-1"
+    })
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_non_positive_maxSize(int maxSize) {
+        // when
+        Throwable ex = catchThrowable(() -> new ValidationResultMemoizer(maxSize));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void default_constructor_uses_DEFAULT_MAX_SIZE() {
+        // expect
+        assertThat(new ValidationResultMemoizer().maxSize).isEqualTo(ValidationResultMemoizer.DEFAULT_MAX_SIZE);
+    }
+
+    @DataProvider
+    public static Object[][] memoizableScenarios() {
+        return new Object[][]{
+            {SomeRecord.class, true},
+            {ImmutableComponentsRecord.class, true},
+            {SelfReferencingRecord.class, true},
+            {ListRecord.class, false},
+            {ArrayRecord.class, false},
+            {ClockRecord.class, false},
+            {BigDecimalRecord.class, false},
+            {BigIntegerRecord.class, false},
+            {MutableComponentRecord.class, false},
+            {NestedMutableRecord.class, false},
+            {AnnotatedListRecord.class, true},
+            {NestedAnnotatedRecord.class, true},
+            {AnnotatedImmutableThing.class, true},
+            {MutableThing.class, false},
+            {String.class, false},
+        };
+    }
+
+    @Test
+    @UseDataProvider("memoizableScenarios")
+    public void isMemoizable_works_as_expected(Class<?> type, boolean expectedResult) {
+        // expect
+        assertThat(new ValidationResultMemoizer().isMemoizable(type)).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void rememberValid_is_tracked_per_instance_and_groups() {
+        // given
+        ValidationResultMemoizer memoizer = new ValidationResultMemoizer();
+        SomeRecord record = new SomeRecord("foo");
+        SomeRecord equalRecord = new SomeRecord("foo");
+
+        // when
+        memoizer.rememberValid(record);
+        memoizer.rememberValid(record, String.class, Integer.class);
+
+        // then
+        assertThat(memoizer.isKnownValid(record)).isTrue();
+        assertThat(memoizer.isKnownValid(record, (Class<?>[]) null)).isTrue();
+        assertThat(memoizer.isKnownValid(record, Default.class)).isTrue();
+        assertThat(memoizer.isKnownValid(record, String.class, Integer.class)).isTrue();
+        assertThat(memoizer.isKnownValid(record, String.class)).isFalse();
+        assertThat(memoizer.isKnownValid(equalRecord)).isFalse();
+        assertThat(memoizer.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void rememberValid_ignores_objects_that_are_not_memoizable() {
+        // given
+        ValidationResultMemoizer memoizer = new ValidationResultMemoizer();
+        MutableThing thing = new MutableThing();
+
+        // when
+        memoizer.rememberValid(thing);
+
+        // then
+        assertThat(memoizer.isKnownValid(thing)).isFalse();
+        assertThat(memoizer.size()).isZero();
+    }
+
+    @Test
+    public void rememberValid_stops_tracking_new_objects_once_maxSize_is_reached() {
+        // given
+        ValidationResultMemoizer memoizer = new ValidationResultMemoizer(1);
+        SomeRecord first = new SomeRecord("first");
+        SomeRecord second = new SomeRecord("second");
+
+        // when
+        memoizer.rememberValid(first);
+        memoizer.rememberValid(second);
+        memoizer.rememberValid(first, String.class);
+
+        // then
+        assertThat(memoizer.isKnownValid(first)).isTrue();
+        assertThat(memoizer.isKnownValid(first, String.class)).isTrue();
+        assertThat(memoizer.isKnownValid(second)).isFalse();
+        assertThat(memoizer.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void clear_forgets_everything() {
+        // given
+        ValidationResultMemoizer memoizer = new ValidationResultMemoizer();
+        SomeRecord record = new SomeRecord("foo");
+        memoizer.rememberValid(record);
+
+        // when
+        memoizer.clear();
+
+        // then
+        assertThat(memoizer.isKnownValid(record)).isFalse();
+        assertThat(memoizer.size()).isZero();
+    }
+
+    @Test
+    public void tracked_objects_do_not_prevent_garbage_collection() throws InterruptedException {
+        // given
+        ValidationResultMemoizer memoizer = new ValidationResultMemoizer();
+        memoizer.rememberValid(new SomeRecord("garbage"));
+        assertThat(memoizer.size()).isEqualTo(1);
+
+        // when
+        for (int i = 0; i < 50 && memoizer.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(memoizer.size()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.nike.backstopper.service;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the functionality of {@link VerbatimMessageInterpolator}.
+ */
+public class VerbatimMessageInterpolatorTest {
+
+    private static class Widget {
+        @NotNull(message = "MISSING_EXPECTED_CONTENT")
+        String name;
+
+        @Size(max = 1, message = "{jakarta.validation.constraints.Size.message} ${validatedValue}")
+        String code = "abc";
+    }
+
+    @Test
+    public void interpolate_returns_template_unchanged() {
+        // given
+        MessageInterpolator.Context contextMock = mock(MessageInterpolator.Context.class);
+        String template = "{foo} ${bar}";
+
+        // expect
+        assertThat(VerbatimMessageInterpolator.SINGLETON_IMPL.interpolate(template, contextMock)).isSameAs(template);
+        assertThat(VerbatimMessageInterpolator.SINGLETON_IMPL.interpolate(template, contextMock, Locale.FRENCH))
+            .isSameAs(template);
+    }
+
+    @Test
+    public void validator_configured_with_it_reports_message_templates_verbatim() {
+        // given
+        Validator validator = Validation.byDefaultProvider()
+                                        .configure()
+                                        .messageInterpolator(VerbatimMessageInterpolator.SINGLETON_IMPL)
+                                        .buildValidatorFactory()
+                                        .getValidator();
+
+        // when
+        Set<ConstraintViolation<Widget>> violations = validator.validate(new Widget());
+
+        // then
+        assertThat(violations).extracting(ConstraintViolation::getMessage).containsExactlyInAnyOrder(
+            "MISSING_EXPECTED_CONTENT", "{jakarta.validation.constraints.Size.message} ${validatedValue}"
+        );
+    }
+}
@@ -33,6 +33,21 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  *         this case
  *     </li>
  *     <li>
+ *         {@link java.util.UUID} - must be in the canonical 36 character {@code 8-4-4-4-12} hex form (upper or lower
+ *         case hex digits), which is always accepted by {@link java.util.UUID#fromString(String)}
+ *     </li>
+ *     <li>
+ *         {@link java.math.BigInteger} and {@link java.math.BigDecimal} - anything the {@code BigInteger(String)} or
+ *         {@code BigDecimal(String)} constructors accept, except that {@code BigDecimal} exponents are limited to 9
+ *         digits
+ *     </li>
+ *     <li>
+ *         {@link java.time.Instant}, {@link java.time.LocalDate}, and {@link java.time.OffsetDateTime} - the ISO
+ *         formats parsed by their {@code parse(CharSequence)} methods, e.g. {@code 2024-02-29T13:45:30.123Z},
+ *         {@code 2024-02-29}, and {@code 2024-02-29T13:45:30+01:00}. Only 4 digit years, an upper case {@code T}
+ *         separator, and {@code Z} or {@code +HH:MM} offsets are supported.
+ *     </li>
+ *     <li>
  *         Any enum class type - validation is done by comparing the string value to {@link Enum#name()}. The value of
  *         {@link #allowCaseInsensitiveEnumMatch()} determines if the validation is done in a case sensitive or case
  *         insensitive manner.
@@ -68,6 +83,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <p>Note that Floats and Doubles will fail validation if the number parses to {@link Float#isInfinite()},
  * {@link Float#isNaN()}, {@link Double#isInfinite()}, or {@link Double#isNaN()}.
  *
+ * <p>Numeric and {@code java.time} class types also support an inclusive range via {@link #min()} and {@link #max()},
+ * which are given in the same string format as the values being validated. e.g.
+ * {@code @StringConvertsToClassType(classType = int.class, min = "1", max = "100")} or
+ * {@code @StringConvertsToClassType(classType = LocalDate.class, min = "2000-01-01")}. {@code OffsetDateTime} ranges
+ * compare instants on the time-line, regardless of offset. Setting {@link #min()} or {@link #max()} for any other class
+ * type, or to a value that can't be parsed, is a configuration error and causes an {@link IllegalArgumentException}
+ * when the validator is initialized.
+ *
  * <p><b>NOTE: THIS ANNOTATION MUST BE PLACED ON A STRING ELEMENT ONLY</b>
  *
  * @author Nic Munroe
@@ -84,4 +107,16 @@ public @interface StringConvertsToClassType {
 
     Class<?> classType();
     boolean allowCaseInsensitiveEnumMatch() default false;
+
+    /**
+     * @return The inclusive minimum value allowed, for numeric and {@code java.time} class types. Blank means no
+     * minimum.
+     */
+    String min() default "";
+
+    /**
+     * @return The inclusive maximum value allowed, for numeric and {@code java.time} class types. Blank means no
+     * maximum.
+     */
+    String max() default "";
 }
@@ -5,6 +5,19 @@ import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -12,73 +25,175 @@ import jakarta.validation.ConstraintValidatorContext;
  * Implementation of the validation logic for {@link StringConvertsToClassType}. See that annotation's javadocs for more
  * info.
  *
+ * <p>The checker for the annotation's class type is picked once in {@link #initialize(StringConvertsToClassType)}, and
+ * none of the checkers throw exceptions for invalid values - the numeric checks scan the string instead of catching
+ * parse exceptions, and enum names are matched against precomputed hash sets. This keeps invalid values (which can be
+ * very common when a service is being probed or attacked) as cheap to reject as valid values are to accept. The
+ * {@code java.time}, {@link UUID}, and big number checks only accept strings that the corresponding JDK parse methods
+ * are guaranteed to accept, so a value that passes this validation can safely be parsed later. Values are only actually
+ * parsed when a {@link StringConvertsToClassType#min()} or {@link StringConvertsToClassType#max()} range is set.
+ *
  * @author Nic Munroe
  */
-@SuppressWarnings({"WeakerAccess", "ResultOfMethodCallIgnored"})
+@SuppressWarnings("WeakerAccess")
 public class StringConvertsToClassTypeValidator implements ConstraintValidator<StringConvertsToClassType, String> {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private Class<?> desiredClass;
     private boolean allowCaseInsensitiveEnumMatch;
+    private String min;
+    private String max;
+    private Set<String> enumNames = Collections.emptySet();
+    private Set<String> caseFoldedEnumNames = Collections.emptySet();
+    private Predicate<String> checker;
 
     @Override
     public void initialize(StringConvertsToClassType constraintAnnotation) {
         this.desiredClass = constraintAnnotation.classType();
         this.allowCaseInsensitiveEnumMatch = constraintAnnotation.allowCaseInsensitiveEnumMatch();
-    }
+        this.min = constraintAnnotation.min();
+        this.max = constraintAnnotation.max();
+
+        if (desiredClass.isEnum()) {
+            Set<String> names = new HashSet<>();
+            Set<String> caseFoldedNames = new HashSet<>();
+            for (Object enumValue : desiredClass.getEnumConstants()) {
+                String name = ((Enum<?>) enumValue).name();
+                names.add(name);
+                caseFoldedNames.add(foldCase(name));
+            }
+            this.enumNames = names;
+            this.caseFoldedEnumNames = caseFoldedNames;
+        }
 
-    @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
-        // Null is always considered valid
-        if (value == null)
-            return true;
+        this.checker = createChecker();
+    }
 
+    /**
+     * @return The checker to use for the desired class type, including the min/max range check if there is one.
+     * Called once from {@link #initialize(StringConvertsToClassType)}, after the desired class type, range, and enum
+     * names have been set.
+     */
+    protected Predicate<String> createChecker() {
         // Check enums
         if (desiredClass.isEnum())
-            return validateAsEnum(value);
+            return withoutRange(this::validateAsEnum);
 
         // Check all the primitive types - note that the boxed type and primitive type cannot be contained in a
         //      single isAssignableFrom check
         if (isDesiredClassAssignableToOneOf(Byte.class, byte.class))
-            return validateAsByte(value);
+            return withRange(this::validateAsByte, Long::parseLong, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Short.class, short.class))
-            return validateAsShort(value);
+            return withRange(this::validateAsShort, Long::parseLong, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Integer.class, int.class))
-            return validateAsInt(value);
+            return withRange(this::validateAsInt, Long::parseLong, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Long.class, long.class))
-            return validateAsLong(value);
+            return withRange(this::validateAsLong, Long::parseLong, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Float.class, float.class))
-            return validateAsFloat(value);
+            return withRange(this::validateAsFloat, Float::parseFloat, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Double.class, double.class))
-            return validateAsDouble(value);
+            return withRange(this::validateAsDouble, Double::parseDouble, Comparator.naturalOrder());
 
         if (isDesiredClassAssignableToOneOf(Boolean.class, boolean.class))
-            return validateAsBoolean(value);
+            return withoutRange(this::validateAsBoolean);
 
         if (isDesiredClassAssignableToOneOf(Character.class, char.class))
-            return validateAsChar(value);
+            return withoutRange(this::validateAsChar);
 
         // Strings are strings and always considered valid
         if (isDesiredClassAssignableToOneOf(String.class))
-            return true;
+            return withoutRange(value -> true);
 
-        // At this point we don't recognize the class type and must return false, but we should log it as an error
-        //      because whoever put the annotation on the field expected us to be able to handle it, so this class
-        //      either needs to be expanded to support the desired class type or this constraint should not be used on
-        //      this field.
-        logger.error(
-            "Unhandled class type in StringConvertsToClassTypeValidator. This validator either needs to be expanded to "
-            + "support the class type or this constraint should not be used on the field. "
-            + "converts_to_class_type_validator_unhandled_class_type=true, class_type={}, field_value={}", desiredClass,
-            value);
+        if (isDesiredClassAssignableToOneOf(UUID.class))
+            return withoutRange(this::validateAsUuid);
 
-        return false;
+        if (isDesiredClassAssignableToOneOf(BigInteger.class))
+            return withRange(this::validateAsBigInteger, BigInteger::new, Comparator.naturalOrder());
+
+        if (isDesiredClassAssignableToOneOf(BigDecimal.class))
+            return withRange(this::validateAsBigDecimal, BigDecimal::new, Comparator.naturalOrder());
+
+        if (isDesiredClassAssignableToOneOf(Instant.class))
+            return withRange(this::validateAsInstant, Instant::parse, Comparator.naturalOrder());
+
+        if (isDesiredClassAssignableToOneOf(LocalDate.class))
+            return withRange(this::validateAsLocalDate, LocalDate::parse, Comparator.naturalOrder());
+
+        if (isDesiredClassAssignableToOneOf(OffsetDateTime.class))
+            return withRange(this::validateAsOffsetDateTime, OffsetDateTime::parse, OffsetDateTime.timeLineOrder());
+
+        return this::handleUnsupportedClassType;
+    }
+
+    /**
+     * @return The given format checker as-is if there's no min/max range, otherwise a checker that also parses valid
+     * values with the given parser and checks that they're within the range. The parser is only ever given strings that
+     * the format checker accepted, so it won't throw.
+     * @throws IllegalArgumentException if the min or max can't be converted to the desired class type.
+     */
+    protected <T> Predicate<String> withRange(Predicate<String> formatChecker, Function<String, T> parser,
+                                              Comparator<? super T> comparator) {
+        T minValue = parseRangeBound("min", min, formatChecker, parser);
+        T maxValue = parseRangeBound("max", max, formatChecker, parser);
+        if (minValue == null && maxValue == null)
+            return formatChecker;
+
+        return value -> {
+            if (!formatChecker.test(value))
+                return false;
+
+            T parsedValue = parser.apply(value);
+            return (minValue == null || comparator.compare(parsedValue, minValue) >= 0)
+                   && (maxValue == null || comparator.compare(parsedValue, maxValue) <= 0);
+        };
+    }
+
+    /**
+     * @return The given checker as-is.
+     * @throws IllegalArgumentException if a min or max range was set, since the desired class type doesn't support it.
+     */
+    protected Predicate<String> withoutRange(Predicate<String> checker) {
+        if (!isBlank(min) || !isBlank(max)) {
+            throw new IllegalArgumentException(
+                "StringConvertsToClassType min and max are not supported for class type: " + desiredClass.getName()
+            );
+        }
+
+        return checker;
+    }
+
+    private <T> T parseRangeBound(String boundName, String bound, Predicate<String> formatChecker,
+                                  Function<String, T> parser) {
+        if (isBlank(bound))
+            return null;
+
+        if (!formatChecker.test(bound)) {
+            throw new IllegalArgumentException(
+                "StringConvertsToClassType " + boundName + " value cannot be converted to class type "
+                + desiredClass.getName() + ": " + bound
+            );
+        }
+
+        return parser.apply(bound);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        // Null is always considered valid
+        if (value == null)
+            return true;
+
+        return checker.test(value);
     }
 
     protected boolean isDesiredClassAssignableToOneOf(Class<?>... allowedClasses) {
@@ -90,138 +205,406 @@ public class StringConvertsToClassTypeValidator implements ConstraintValidator<S
         return false;
     }
 
-    @SuppressWarnings("unchecked")
+    protected boolean handleUnsupportedClassType(String value) {
+        // We don't recognize the class type and must return false, but we should log it as an error because whoever
+        //      put the annotation on the field expected us to be able to handle it, so this class either needs to be
+        //      expanded to support the desired class type or this constraint should not be used on this field.
+        logger.error(
+            "Unhandled class type in StringConvertsToClassTypeValidator. This validator either needs to be expanded to "
+            + "support the class type or this constraint should not be used on the field. "
+            + "converts_to_class_type_validator_unhandled_class_type=true, class_type={}, field_value={}", desiredClass,
+            value);
+
+        return false;
+    }
+
     protected boolean validateAsEnum(String value) {
-        try {
-            @SuppressWarnings("rawtypes")
-            Class<Enum> castClass = (Class<Enum>) desiredClass;
-            Enum.valueOf(castClass, value);
-            // No error, so it can be successfully parsed to this enum type as-is.
+        if (enumNames.contains(value))
             return true;
-        }
-        catch (Exception ex) {
-            // Swallow the exception.
-        }
 
-        if (!allowCaseInsensitiveEnumMatch) {
-            // Case insensitive matching is not allowed, so at this point we have to return false.
-            return false;
-        }
+        // Case insensitive matching (if allowed) uses the same rules as String.equalsIgnoreCase().
+        return allowCaseInsensitiveEnumMatch && caseFoldedEnumNames.contains(foldCase(value));
+    }
+
+    protected boolean validateAsByte(String value) {
+        return isValidIntegral(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    protected boolean validateAsShort(String value) {
+        return isValidIntegral(value, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    protected boolean validateAsInt(String value) {
+        return isValidIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
 
-        // Case insensitive matching is allowed, so do it.
-        Object[] enumValues = desiredClass.getEnumConstants();
-        if (enumValues == null)
+    protected boolean validateAsLong(String value) {
+        return isValidIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    protected boolean validateAsFloat(String value) {
+        if (!isDecimalFloatingPointString(value))
+            return isValidHexFloatingPoint(value, true);
+
+        // The scan guarantees this won't throw.
+        float floatValue = Float.parseFloat(value);
+        return !Float.isInfinite(floatValue) && !Float.isNaN(floatValue);
+    }
+
+    protected boolean validateAsDouble(String value) {
+        if (!isDecimalFloatingPointString(value))
+            return isValidHexFloatingPoint(value, false);
+
+        // The scan guarantees this won't throw.
+        double doubleValue = Double.parseDouble(value);
+        return !Double.isInfinite(doubleValue) && !Double.isNaN(doubleValue);
+    }
+
+    protected boolean validateAsBoolean(String value) {
+        // We can't use Boolean.parseBoolean(String) because it converts garbage to false. We want to restrict the
+        //      value to true or false (ignoring case). Anything else is invalid.
+        return value != null && (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false"));
+    }
+
+    protected boolean validateAsChar(String value) {
+        return value != null && value.length() == 1;
+    }
+
+    /**
+     * Accepts the canonical 36 character {@code 8-4-4-4-12} hex form only.
+     */
+    protected boolean validateAsUuid(String value) {
+        if (value.length() != 36)
             return false;
 
-        for (Object enumValue : enumValues) {
-            if (enumValue instanceof Enum && ((Enum<?>) enumValue).name().equalsIgnoreCase(value))
-                return true;
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-')
+                    return false;
+            }
+            else if (!isAsciiHexDigit(c)) {
+                return false;
+            }
         }
 
-        // Couldn't convert the given string to the given enum even with a case insensitive check, so return false.
-        return false;
+        return true;
     }
 
-    protected boolean validateAsByte(String value) {
-        try {
-            Byte.parseByte(value);
-            // No error, so it can be successfully parsed to this primitive type.
-            return true;
-        }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+    protected boolean validateAsBigInteger(String value) {
+        int length = value.length();
+        int i = (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) ? 1 : 0;
+        if (i == length)
             return false;
+
+        for (; i < length; i++) {
+            if (Character.digit(value.charAt(i), 10) < 0)
+                return false;
         }
+
+        return true;
     }
 
-    protected boolean validateAsShort(String value) {
-        try {
-            Short.parseShort(value);
-            // No error, so it can be successfully parsed to this primitive type.
-            return true;
+    protected boolean validateAsBigDecimal(String value) {
+        int length = value.length();
+        int i = (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) ? 1 : 0;
+
+        int numDigits = 0;
+        boolean seenDecimalPoint = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (seenDecimalPoint)
+                    return false;
+                seenDecimalPoint = true;
+            }
+            else if (Character.digit(c, 10) >= 0) {
+                numDigits++;
+            }
+            else {
+                break;
+            }
         }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+
+        if (numDigits == 0)
             return false;
-        }
-    }
 
-    protected boolean validateAsInt(String value) {
-        try {
-            Integer.parseInt(value);
-            // No error, so it can be successfully parsed to this primitive type.
+        if (i == length)
             return true;
-        }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+
+        char c = value.charAt(i);
+        if (c != 'e' && c != 'E')
             return false;
+
+        i++;
+        if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+'))
+            i++;
+
+        // Exponents are limited to 9 significant digits, which keeps clear of BigDecimal's exponent overflow errors.
+        int numExponentDigits = 0;
+        int numSignificantExponentDigits = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0)
+                return false;
+
+            numExponentDigits++;
+            if (digit != 0 || numSignificantExponentDigits > 0)
+                numSignificantExponentDigits++;
         }
+
+        return numExponentDigits > 0 && numSignificantExponentDigits <= 9;
     }
 
-    protected boolean validateAsLong(String value) {
-        try {
-            Long.parseLong(value);
-            // No error, so it can be successfully parsed to this primitive type.
-            return true;
-        }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+    /**
+     * Accepts {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:MM)}, a subset of what {@link Instant#parse(CharSequence)}
+     * accepts.
+     */
+    protected boolean validateAsInstant(String value) {
+        int i = scanIsoLocalDate(value, 0);
+        i = scanLiteral(value, i, 'T');
+        i = scanIsoLocalTime(value, i, true);
+        i = scanIsoOffset(value, i);
+        return i == value.length();
+    }
+
+    /**
+     * Accepts {@code yyyy-MM-dd}, a subset of what {@link LocalDate#parse(CharSequence)} accepts.
+     */
+    protected boolean validateAsLocalDate(String value) {
+        return scanIsoLocalDate(value, 0) == value.length();
+    }
+
+    /**
+     * Accepts {@code yyyy-MM-ddTHH:mm[:ss[.fraction]](Z|+HH:MM)}, a subset of what
+     * {@link OffsetDateTime#parse(CharSequence)} accepts.
+     */
+    protected boolean validateAsOffsetDateTime(String value) {
+        int i = scanIsoLocalDate(value, 0);
+        i = scanLiteral(value, i, 'T');
+        i = scanIsoLocalTime(value, i, false);
+        i = scanIsoOffset(value, i);
+        return i == value.length();
+    }
+
+    /**
+     * @return true if {@link Long#parseLong(String)} would successfully parse the given string into a value between
+     * min and max (inclusive), without actually throwing an exception for invalid strings. Accepts the same optional
+     * leading sign and (Unicode) decimal digits that {@link Long#parseLong(String)} does.
+     */
+    protected static boolean isValidIntegral(String value, long min, long max) {
+        int length = value.length();
+        if (length == 0)
             return false;
+
+        int i = 0;
+        boolean negative = false;
+        char firstChar = value.charAt(0);
+        if (firstChar == '-' || firstChar == '+') {
+            negative = (firstChar == '-');
+            if (length == 1)
+                return false;
+            i++;
+        }
+
+        // Accumulate negatively (like Long.parseLong() does) so the most negative value doesn't overflow.
+        long limit = (negative) ? min : -max;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplyMin)
+                return false;
+
+            result *= 10;
+            if (result < limit + digit)
+                return false;
+
+            result -= digit;
         }
+
+        return true;
     }
 
-    protected boolean validateAsFloat(String value) {
-        try {
-            float floatValue = Float.parseFloat(value);
-            return !Float.isInfinite(floatValue) && !Float.isNaN(floatValue);
+    /**
+     * @return true if the given string is a decimal (i.e. not hexadecimal) floating point string that
+     * {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)} will parse without throwing an
+     * exception. NaN and Infinity strings are rejected since they're never valid for this validator anyway.
+     */
+    protected static boolean isDecimalFloatingPointString(String value) {
+        // Leading and trailing whitespace is allowed (it's trimmed the same way String.trim() trims).
+        int end = value.length();
+        int i = 0;
+        while (i < end && value.charAt(i) <= ' ')
+            i++;
+        while (end > i && value.charAt(end - 1) <= ' ')
+            end--;
+
+        if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-'))
+            i++;
+
+        int integerDigitsStart = i;
+        while (i < end && isAsciiDigit(value.charAt(i)))
+            i++;
+        int numDigits = i - integerDigitsStart;
+
+        if (i < end && value.charAt(i) == '.') {
+            i++;
+            int fractionDigitsStart = i;
+            while (i < end && isAsciiDigit(value.charAt(i)))
+                i++;
+            numDigits += i - fractionDigitsStart;
         }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+
+        if (numDigits == 0)
             return false;
+
+        if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-'))
+                i++;
+
+            int exponentDigitsStart = i;
+            while (i < end && isAsciiDigit(value.charAt(i)))
+                i++;
+
+            if (i == exponentDigitsStart)
+                return false;
         }
+
+        // Optional float/double type suffix.
+        if (i < end && "fFdD".indexOf(value.charAt(i)) >= 0)
+            i++;
+
+        return i == end;
     }
 
-    protected boolean validateAsDouble(String value) {
+    /**
+     * Handles the (rare) hexadecimal floating point strings, e.g. {@code 0x1.8p1}. These aren't worth scanning by hand,
+     * so this falls back to parsing, but only if the string looks like it could be a hex floating point value so that
+     * garbage input never gets here.
+     */
+    protected static boolean isValidHexFloatingPoint(String value, boolean asFloat) {
+        String trimmed = value.trim();
+        int start = (trimmed.startsWith("+") || trimmed.startsWith("-")) ? 1 : 0;
+        if (!trimmed.regionMatches(true, start, "0x", 0, 2))
+            return false;
+
         try {
-            double doubleValue = Double.parseDouble(value);
+            if (asFloat) {
+                float floatValue = Float.parseFloat(trimmed);
+                return !Float.isInfinite(floatValue) && !Float.isNaN(floatValue);
+            }
+
+            double doubleValue = Double.parseDouble(trimmed);
             return !Double.isInfinite(doubleValue) && !Double.isNaN(doubleValue);
         }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
+        catch (NumberFormatException ex) {
             return false;
         }
     }
 
-    protected boolean validateAsBoolean(String value) {
-        try {
-            // We can't use Boolean.parseBoolean(String) because it converts garbage to false. We want to restrict the
-            //      value to true or false (ignoring case). Anything else is invalid.
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 
-            //noinspection RedundantIfStatement
-            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false"))
-                return true;
+    private static boolean isAsciiHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
 
-            return false;
-        }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
-            return false;
+    // The scan methods below return the index just past what they scanned, or -1 if the expected value isn't at the
+    //      given index. They all pass -1 through, so they can be chained without checking each result.
+
+    /**
+     * @return The value of the numDigits ASCII digits starting at index i, or -1 if they aren't all there.
+     */
+    private static int scanDigits(String value, int i, int numDigits) {
+        if (i < 0 || i + numDigits > value.length())
+            return -1;
+
+        int result = 0;
+        for (int j = i; j < i + numDigits; j++) {
+            char c = value.charAt(j);
+            if (!isAsciiDigit(c))
+                return -1;
+            result = result * 10 + (c - '0');
         }
+        return result;
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    protected boolean validateAsChar(String value) {
-        try {
-            if (value.length() != 1)
-                return false;
+    private static int scanLiteral(String value, int i, char literal) {
+        return (i >= 0 && i < value.length() && value.charAt(i) == literal) ? i + 1 : -1;
+    }
 
-            value.charAt(0);
-            // No error, so it can be successfully parsed to this primitive type.
-            return true;
-        }
-        catch (Exception ex) {
-            // Couldn't parse the given string into this primitive type, so it's not valid.
-            return false;
-        }
+    private static int scanIsoLocalDate(String value, int i) {
+        int year = scanDigits(value, i, 4);
+        int month = scanDigits(value, scanLiteral(value, i + 4, '-'), 2);
+        int day = scanDigits(value, scanLiteral(value, i + 7, '-'), 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1)
+            return -1;
+
+        boolean leapYear = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+        int daysInMonth = switch (month) {
+            case 2 -> (leapYear) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        return (day <= daysInMonth) ? i + 10 : -1;
+    }
+
+    private static int scanIsoLocalTime(String value, int i, boolean secondsRequired) {
+        int hour = scanDigits(value, i, 2);
+        int minute = scanDigits(value, scanLiteral(value, i + 2, ':'), 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59)
+            return -1;
+
+        i += 5;
+        if (scanLiteral(value, i, ':') < 0)
+            return (secondsRequired) ? -1 : i;
+
+        int second = scanDigits(value, i + 1, 2);
+        if (second < 0 || second > 59)
+            return -1;
+
+        i += 3;
+        if (scanLiteral(value, i, '.') < 0)
+            return i;
+
+        // 1 to 9 fraction digits.
+        int fractionStart = ++i;
+        while (i < value.length() && i - fractionStart < 9 && isAsciiDigit(value.charAt(i)))
+            i++;
+        return (i > fractionStart) ? i : -1;
+    }
+
+    private static int scanIsoOffset(String value, int i) {
+        if (i < 0 || i >= value.length())
+            return -1;
+
+        char c = value.charAt(i);
+        if (c == 'Z')
+            return i + 1;
+
+        if (c != '+' && c != '-')
+            return -1;
+
+        int hours = scanDigits(value, i + 1, 2);
+        int minutes = scanDigits(value, scanLiteral(value, i + 3, ':'), 2);
+        if (hours < 0 || minutes < 0 || minutes > 59 || hours > 18 || (hours == 18 && minutes > 0))
+            return -1;
+
+        return i + 6;
+    }
+
+    /**
+     * @return The given string folded so that two strings are {@link String#equalsIgnoreCase(String)} if and only if
+     * their folded forms are equal.
+     */
+    protected static String foldCase(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        value.codePoints().forEach(
+            codePoint -> sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)))
+        );
+        return sb.toString();
     }
 }
@@ -0,0 +1,24 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.nike.backstopper.service.PrecompiledValidatorProvider;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * The backstopper-core {@link PrecompiledValidatorProvider} for the validators generated by
+ * {@link PrecompiledValidationProcessor}. It's registered in {@code META-INF/services}, so backstopper-core's
+ * {@code ClientDataValidationService} uses the generated validators whenever this module is on the runtime classpath.
+ * backstopper-core is only needed when it's actually used, so this module doesn't depend on it at runtime.
+ */
+public class GeneratedPrecompiledValidatorProvider implements PrecompiledValidatorProvider {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<ConstraintViolation<Object>> validateIfPrecompiled(Object object) {
+        PrecompiledValidator<Object> validator =
+            (PrecompiledValidator<Object>) PrecompiledValidators.forClass(object.getClass());
+        return (validator == null) ? null : validator.validate(object);
+    }
+}
@@ -0,0 +1,205 @@
+package com.nike.backstopper.validation.precompiled;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+
+/**
+ * A single constraint annotation on a single field, as used by the validators {@link PrecompiledValidationProcessor}
+ * generates. Generated validators create one of these per constraint when they're loaded (that's the only place the
+ * annotation is read reflectively), and then use {@link #addViolation(Set, Object, Object)} to report violations.
+ * Instances double as the {@link ConstraintDescriptor} of the violations they create, so anything that inspects a
+ * violation's annotation or payload works the same as it does for violations from the Bean Validation implementation.
+ *
+ * @param <A> The constraint annotation type.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PrecompiledConstraint<A extends Annotation> implements ConstraintDescriptor<A> {
+
+    private final A annotation;
+    private final PrecompiledPropertyPath propertyPath;
+    private final String message;
+    private final Set<Class<? extends Payload>> payload;
+    private final Map<String, Object> attributes;
+
+    PrecompiledConstraint(A annotation, String propertyName) {
+        this.annotation = annotation;
+        this.propertyPath = new PrecompiledPropertyPath(propertyName);
+        this.attributes = Collections.unmodifiableMap(readAttributes(annotation));
+        this.message = String.valueOf(attributes.get("message"));
+        Object payloadAttribute = attributes.get("payload");
+        this.payload = (payloadAttribute instanceof Class<?>[] payloadClasses)
+                       ? toPayloadSet(payloadClasses)
+                       : Collections.emptySet();
+    }
+
+    /**
+     * @return The constraint for the given annotation on the given field.
+     * @throws IllegalStateException if the field or annotation doesn't exist.
+     */
+    public static <A extends Annotation> PrecompiledConstraint<A> forField(
+        Class<?> declaringClass, String fieldName, Class<A> annotationType
+    ) {
+        Field field;
+        try {
+            field = declaringClass.getDeclaredField(fieldName);
+        }
+        catch (NoSuchFieldException ex) {
+            throw new IllegalStateException(
+                "Field " + fieldName + " does not exist on " + declaringClass.getName() + ".", ex
+            );
+        }
+
+        A annotation = field.getAnnotation(annotationType);
+        if (annotation == null) {
+            throw new IllegalStateException(
+                "Field " + fieldName + " on " + declaringClass.getName() + " is not annotated with "
+                + annotationType.getName() + "."
+            );
+        }
+
+        return new PrecompiledConstraint<>(annotation, fieldName);
+    }
+
+    /**
+     * Initializes the given {@link ConstraintValidator} with this constraint's annotation.
+     *
+     * @return The given validator, for chaining.
+     */
+    public <V extends ConstraintValidator<A, ?>> V initialize(V validator) {
+        validator.initialize(annotation);
+        return validator;
+    }
+
+    /**
+     * Adds a violation of this constraint to the given set, creating the set if necessary. Generated validators start
+     * out with a null set so that valid objects don't cost any allocations.
+     *
+     * @param violations The violations found so far - may be null.
+     * @param rootBean The object being validated.
+     * @param invalidValue The field value that failed validation.
+     * @return The set the violation was added to.
+     */
+    public <T> Set<ConstraintViolation<T>> addViolation(
+        Set<ConstraintViolation<T>> violations, T rootBean, Object invalidValue
+    ) {
+        if (violations == null) {
+            violations = new LinkedHashSet<>();
+        }
+        violations.add(new PrecompiledConstraintViolation<>(this, rootBean, invalidValue));
+        return violations;
+    }
+
+    PrecompiledPropertyPath getPropertyPath() {
+        return propertyPath;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    @Override
+    public A getAnnotation() {
+        return annotation;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return message;
+    }
+
+    @Override
+    public Set<Class<?>> getGroups() {
+        return Collections.singleton(Default.class);
+    }
+
+    @Override
+    public Set<Class<? extends Payload>> getPayload() {
+        return payload;
+    }
+
+    @Override
+    public ConstraintTarget getValidationAppliesTo() {
+        return ConstraintTarget.IMPLICIT;
+    }
+
+    @Override
+    public List<Class<? extends ConstraintValidator<A, ?>>> getConstraintValidatorClasses() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean isReportAsSingleViolation() {
+        return false;
+    }
+
+    @Override
+    public ValidateUnwrappedValue getValueUnwrapping() {
+        return ValidateUnwrappedValue.DEFAULT;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " is not supported for unwrapping.");
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompiledConstraint{annotation=" + annotation + ", propertyPath=" + propertyPath + "}";
+    }
+
+    private static Map<String, Object> readAttributes(Annotation annotation) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        Method[] methods = annotation.annotationType().getDeclaredMethods();
+        Arrays.sort(methods, (m1, m2) -> m1.getName().compareTo(m2.getName()));
+        for (Method method : methods) {
+            try {
+                attributes.put(method.getName(), method.invoke(annotation));
+            }
+            catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(
+                    "Unable to read the " + method.getName() + " attribute of " + annotation + ".", ex
+                );
+            }
+        }
+        return attributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Class<? extends Payload>> toPayloadSet(Class<?>[] payloadClasses) {
+        Set<Class<? extends Payload>> result = new LinkedHashSet<>();
+        for (Class<?> payloadClass : payloadClasses) {
+            result.add((Class<? extends Payload>) payloadClass);
+        }
+        return Collections.unmodifiableSet(result);
+    }
+}
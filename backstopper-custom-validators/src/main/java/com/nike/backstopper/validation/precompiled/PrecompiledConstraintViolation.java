@@ -0,0 +1,91 @@
+package com.nike.backstopper.validation.precompiled;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.ValidationException;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A {@link ConstraintViolation} reported by a generated {@link PrecompiledValidator}. See
+ * {@link PrecompiledConstraint#addViolation(java.util.Set, Object, Object)}.
+ *
+ * @param <T> The type of the root bean.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PrecompiledConstraintViolation<T> implements ConstraintViolation<T> {
+
+    private final PrecompiledConstraint<?> constraint;
+    private final T rootBean;
+    private final Object invalidValue;
+
+    PrecompiledConstraintViolation(PrecompiledConstraint<?> constraint, T rootBean, Object invalidValue) {
+        this.constraint = constraint;
+        this.rootBean = rootBean;
+        this.invalidValue = invalidValue;
+    }
+
+    @Override
+    public String getMessage() {
+        return constraint.getMessage();
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return constraint.getMessageTemplate();
+    }
+
+    @Override
+    public T getRootBean() {
+        return rootBean;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> getRootBeanClass() {
+        return (Class<T>) rootBean.getClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return rootBean;
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return null;
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return null;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return constraint.getPropertyPath();
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return constraint;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " is not supported for unwrapping.");
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompiledConstraintViolation{propertyPath=" + getPropertyPath() + ", message='" + getMessage()
+               + "', invalidValue=" + invalidValue + "}";
+    }
+}
@@ -0,0 +1,82 @@
+package com.nike.backstopper.validation.precompiled;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+
+/**
+ * The {@link Path} of a violation reported by a generated {@link PrecompiledValidator}: a single property node for
+ * the field that failed validation. Its {@link #toString()} is the field name, matching what the Bean Validation
+ * implementation reports for field constraints.
+ */
+final class PrecompiledPropertyPath implements Path {
+
+    private final PropertyNode node;
+
+    PrecompiledPropertyPath(String propertyName) {
+        this.node = new FieldNode(propertyName);
+    }
+
+    @Override
+    public Iterator<Node> iterator() {
+        return Collections.<Node>singletonList(node).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return node.getName();
+    }
+
+    private record FieldNode(String name) implements PropertyNode {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isInIterable() {
+            return false;
+        }
+
+        @Override
+        public Integer getIndex() {
+            return null;
+        }
+
+        @Override
+        public Object getKey() {
+            return null;
+        }
+
+        @Override
+        public ElementKind getKind() {
+            return ElementKind.PROPERTY;
+        }
+
+        @Override
+        public <T extends Node> T as(Class<T> nodeType) {
+            if (nodeType.isInstance(this)) {
+                return nodeType.cast(this);
+            }
+            throw new ClassCastException("Type " + nodeType.getName() + " is not supported for this node.");
+        }
+
+        @Override
+        public Class<?> getContainerClass() {
+            return null;
+        }
+
+        @Override
+        public Integer getTypeArgumentIndex() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
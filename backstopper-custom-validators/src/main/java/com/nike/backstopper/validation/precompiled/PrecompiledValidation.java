@@ -0,0 +1,38 @@
+package com.nike.backstopper.validation.precompiled;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Marks a class or record for {@link PrecompiledValidationProcessor}, which will generate a reflection-free
+ * {@link PrecompiledValidator} for it at compile time. The generated validator reads the fields directly and runs the
+ * constraint checks inline, producing the same violations (property path, message, invalid value, and constraint
+ * annotation) that the Bean Validation implementation would for the default group. Use
+ * {@link PrecompiledValidators#forClass(Class)} to find it at runtime - Backstopper's
+ * {@code ClientDataValidationService} does this automatically and only falls back to the JSR 303 {@code Validator}
+ * when no generated validator exists.
+ *
+ * <p>Only the following field constraints are supported: {@code @NotNull}, {@code @NotBlank}, {@code @NotEmpty},
+ * {@code @Size}, {@code @Min} and {@code @Max} on {@code byte}/{@code short}/{@code int}/{@code long} (primitive or
+ * boxed), and {@link com.nike.backstopper.validation.constraints.StringConvertsToClassType}. Their messages must be
+ * literal (the usual Backstopper convention of using the {@code ApiError} name) since the generated validator does no
+ * message interpolation, and they must be in the default group. If the annotated type has anything else that Bean
+ * Validation would act on - any other constraint, class-level or getter constraints, {@code @Valid} cascades,
+ * container element constraints, or constrained supertypes - then no validator is generated, a compiler warning
+ * explains why, and the type is validated by the Bean Validation implementation as usual. Constraints declared outside
+ * of annotations (e.g. XML constraint mappings) are not visible to the processor, so don't use this annotation on types
+ * that have them.
+ *
+ * <p>Classes must not be private, abstract, or generic, and their constrained fields must not be private since the
+ * generated validator lives in the same package and reads them directly. Records can have private fields as long as
+ * their accessors are not explicitly declared (the generated validator calls the implicit accessors).
+ */
+@Documented
+@Target(TYPE)
+@Retention(CLASS)
+public @interface PrecompiledValidation {
+}
@@ -0,0 +1,649 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
+import com.nike.backstopper.validation.constraints.impl.StringConvertsToClassTypeValidator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@link PrecompiledValidator} for each class or record annotated with {@link PrecompiledValidation}. See
+ * that annotation's javadocs for what's supported. Types that can't be supported get a compiler warning instead of a
+ * generated validator, and are left to the Bean Validation implementation.
+ *
+ * <p>This processor is registered as a service in this library's jar, so adding backstopper-custom-validators to your
+ * annotation processor path (e.g. Gradle's {@code annotationProcessor} configuration) is all that's needed to enable
+ * it. It only looks at types annotated with {@link PrecompiledValidation}.
+ */
+@SupportedAnnotationTypes("com.nike.backstopper.validation.precompiled.PrecompiledValidation")
+public class PrecompiledValidationProcessor extends AbstractProcessor {
+
+    static final String NOT_NULL = "jakarta.validation.constraints.NotNull";
+    static final String NOT_BLANK = "jakarta.validation.constraints.NotBlank";
+    static final String NOT_EMPTY = "jakarta.validation.constraints.NotEmpty";
+    static final String SIZE = "jakarta.validation.constraints.Size";
+    static final String MIN = "jakarta.validation.constraints.Min";
+    static final String MAX = "jakarta.validation.constraints.Max";
+    static final String STRING_CONVERTS_TO_CLASS_TYPE = StringConvertsToClassType.class.getName();
+
+    private static final Set<String> SUPPORTED_CONSTRAINTS = Set.of(
+        NOT_NULL, NOT_BLANK, NOT_EMPTY, SIZE, MIN, MAX, STRING_CONVERTS_TO_CLASS_TYPE
+    );
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALID = "jakarta.validation.Valid";
+    private static final Set<String> OTHER_VALIDATION_ANNOTATIONS = Set.of(
+        VALID,
+        "jakarta.validation.GroupSequence",
+        "org.hibernate.validator.group.GroupSequenceProvider"
+    );
+    private static final Set<String> UNWRAPPING_PAYLOADS = Set.of(
+        "jakarta.validation.valueextraction.Unwrapping.Unwrap",
+        "jakarta.validation.valueextraction.Unwrapping.Skip"
+    );
+    private static final Set<String> BOXED_INTEGRAL_TYPES = Set.of(
+        "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long"
+    );
+
+    /**
+     * What a field's value is, as far as the supported constraints are concerned.
+     */
+    enum ValueKind {
+        STRING, CHAR_SEQUENCE, COLLECTION, MAP, ARRAY, PRIMITIVE_INTEGRAL, BOXED_INTEGRAL, OTHER_PRIMITIVE, OTHER
+    }
+
+    // The value kinds that @NotEmpty and @Size apply to.
+    private static final ValueKind[] SIZED_VALUE_KINDS = {
+        ValueKind.STRING, ValueKind.CHAR_SEQUENCE, ValueKind.COLLECTION, ValueKind.MAP, ValueKind.ARRAY
+    };
+
+    /**
+     * The supported constraints on a single field, and how to read the field's value.
+     */
+    record FieldChecks(String fieldName, String valueAccess, List<ConstraintCheck> checks) {
+    }
+
+    /**
+     * A single supported constraint. The check expression is java source that evaluates to true when the value is
+     * valid, with {@link #VALUE_PLACEHOLDER} standing in for the field value and {@link #VALIDATOR_PLACEHOLDER} for
+     * the constraint's {@code ConstraintValidator} (if it needs one).
+     */
+    record ConstraintCheck(String annotationType, String checkExpression, String validatorType) {
+    }
+
+    static final String VALUE_PLACEHOLDER = "$VALUE";
+    static final String VALIDATOR_PLACEHOLDER = "$VALIDATOR";
+
+    /**
+     * Thrown when a type annotated with {@link PrecompiledValidation} can't get a generated validator.
+     */
+    static class UnsupportedTypeException extends Exception {
+        UnsupportedTypeException(String reason) {
+            super(reason);
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(PrecompiledValidation.class)) {
+            TypeElement type = (TypeElement) element;
+            try {
+                List<FieldChecks> fieldChecks = collectFieldChecks(type);
+                writeValidator(type, fieldChecks);
+            }
+            catch (UnsupportedTypeException ex) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "No precompiled validator was generated for " + type.getQualifiedName() + " because "
+                    + ex.getMessage() + ". It will be validated by the Bean Validation implementation instead.",
+                    type
+                );
+            }
+            catch (IOException ex) {
+                processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Unable to write the precompiled validator for " + type.getQualifiedName() + ": " + ex,
+                    type
+                );
+            }
+        }
+
+        // Don't claim the annotation - other processors are welcome to look at it too.
+        return false;
+    }
+
+    /**
+     * @return The supported constraints on the given type's fields, in declaration order. Fields without constraints
+     * are left out.
+     * @throws UnsupportedTypeException if the type has anything that prevents it from getting a generated validator.
+     */
+    protected List<FieldChecks> collectFieldChecks(TypeElement type) throws UnsupportedTypeException {
+        verifyTypeIsSupported(type);
+
+        boolean isRecord = type.getKind() == ElementKind.RECORD;
+        Map<String, ExecutableElement> recordAccessors = new HashMap<>();
+        if (isRecord) {
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                String name = component.getSimpleName().toString();
+                recordAccessors.put(name, component.getAccessor());
+                if (looksLikeGetter(name) && hasValidationAnnotation(component.getAccessor().getAnnotationMirrors())) {
+                    throw new UnsupportedTypeException(
+                        "record component " + name + " is named like a getter, so its constraints would also be "
+                        + "validated as a getter constraint"
+                    );
+                }
+            }
+        }
+
+        List<FieldChecks> result = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) member;
+                String name = method.getSimpleName().toString();
+                // Record accessors aren't getters as far as Bean Validation is concerned, and the implicit ones carry
+                // the component's constraints.
+                boolean isRecordAccessor = recordAccessors.containsKey(name) && method.getParameters().isEmpty();
+                if (!isRecordAccessor && hasValidationAnnotation(method.getAnnotationMirrors())) {
+                    throw new UnsupportedTypeException("method " + name + "() has constraints");
+                }
+            }
+            else if (member.getKind() == ElementKind.FIELD) {
+                FieldChecks fieldChecks =
+                    collectFieldChecks((VariableElement) member, recordAccessors.get(member.getSimpleName().toString()));
+                if (fieldChecks != null) {
+                    result.add(fieldChecks);
+                }
+            }
+        }
+        return result;
+    }
+
+    protected void verifyTypeIsSupported(TypeElement type) throws UnsupportedTypeException {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            throw new UnsupportedTypeException("it is not a class or record");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedTypeException("it is abstract");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("it is generic");
+        }
+
+        Element current = type;
+        while (current instanceof TypeElement currentType) {
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedTypeException("it is private or nested inside a private class");
+            }
+            if (currentType.getNestingKind() == NestingKind.MEMBER
+                && currentType.getKind() == ElementKind.CLASS
+                && !currentType.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedTypeException("it is an inner class - nested classes must be static");
+            }
+            current = currentType.getEnclosingElement();
+        }
+
+        TypeMirror superclass = type.getSuperclass();
+        String superclassName = processingEnv.getTypeUtils().erasure(superclass).toString();
+        if (!"java.lang.Object".equals(superclassName) && !"java.lang.Record".equals(superclassName)) {
+            throw new UnsupportedTypeException("it extends " + superclassName + " - only direct subclasses of Object "
+                                               + "are supported");
+        }
+
+        if (hasValidationAnnotation(type.getAnnotationMirrors())) {
+            throw new UnsupportedTypeException("it has class-level constraints or group sequences");
+        }
+
+        for (TypeMirror interfaceType : type.getInterfaces()) {
+            verifyInterfaceHasNoConstraints(interfaceType);
+        }
+    }
+
+    protected void verifyInterfaceHasNoConstraints(TypeMirror interfaceType) throws UnsupportedTypeException {
+        TypeElement interfaceElement = (TypeElement) processingEnv.getTypeUtils().asElement(interfaceType);
+        boolean hasConstraints = hasValidationAnnotation(interfaceElement.getAnnotationMirrors());
+        for (Element member : interfaceElement.getEnclosedElements()) {
+            hasConstraints |= hasValidationAnnotation(member.getAnnotationMirrors());
+        }
+        if (hasConstraints) {
+            throw new UnsupportedTypeException(
+                "it implements " + interfaceElement.getQualifiedName() + ", which has constraints"
+            );
+        }
+
+        for (TypeMirror superInterface : interfaceElement.getInterfaces()) {
+            verifyInterfaceHasNoConstraints(superInterface);
+        }
+    }
+
+    /**
+     * @param field The field.
+     * @param recordAccessor The accessor for the field if it belongs to a record, otherwise null.
+     * @return The supported constraints on the given field, or null if it doesn't have any constraints.
+     * @throws UnsupportedTypeException if the field has unsupported constraints or can't be read directly.
+     */
+    protected FieldChecks collectFieldChecks(
+        VariableElement field, ExecutableElement recordAccessor
+    ) throws UnsupportedTypeException {
+        String fieldName = field.getSimpleName().toString();
+        List<? extends AnnotationMirror> annotations = field.getAnnotationMirrors();
+        Set<String> declarationAnnotationTypes = new HashSet<>();
+        for (AnnotationMirror annotation : annotations) {
+            declarationAnnotationTypes.add(annotationTypeName(annotation));
+        }
+        if (hasTypeArgumentValidationAnnotations(field.asType(), declarationAnnotationTypes)) {
+            throw new UnsupportedTypeException("field " + fieldName + " has container element constraints");
+        }
+        if (!hasValidationAnnotation(annotations)) {
+            return null;
+        }
+
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedTypeException("static field " + fieldName + " has constraints");
+        }
+
+        ValueKind valueKind = determineValueKind(field.asType());
+        List<ConstraintCheck> checks = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            if (isValidationAnnotation(annotation)) {
+                checks.add(createConstraintCheck(annotation, fieldName, valueKind));
+            }
+        }
+
+        String valueAccess;
+        if (recordAccessor != null) {
+            // Component annotations are only propagated to implicitly declared accessors (all the supported
+            // constraints can go on methods), so an accessor without the field's constraints was declared explicitly -
+            // and might not return the field value that the Bean Validation implementation would validate.
+            Set<String> accessorAnnotationTypes = new HashSet<>();
+            for (AnnotationMirror annotation : recordAccessor.getAnnotationMirrors()) {
+                accessorAnnotationTypes.add(annotationTypeName(annotation));
+            }
+            for (ConstraintCheck check : checks) {
+                if (!accessorAnnotationTypes.contains(check.annotationType())) {
+                    throw new UnsupportedTypeException("the accessor for record component " + fieldName + " is "
+                                                       + "explicitly declared and might not return the field value");
+                }
+            }
+            valueAccess = "object." + fieldName + "()";
+        }
+        else {
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedTypeException("field " + fieldName + " is private");
+            }
+            valueAccess = "object." + fieldName;
+        }
+
+        return new FieldChecks(fieldName, valueAccess, checks);
+    }
+
+    /**
+     * @return The check for the given constraint annotation on a field of the given kind.
+     * @throws UnsupportedTypeException if the constraint isn't supported, or isn't supported on this kind of field.
+     */
+    protected ConstraintCheck createConstraintCheck(
+        AnnotationMirror annotation, String fieldName, ValueKind valueKind
+    ) throws UnsupportedTypeException {
+        String annotationType = annotationTypeName(annotation);
+        String description = "the @" + annotationType + " constraint on field " + fieldName;
+        if (!SUPPORTED_CONSTRAINTS.contains(annotationType)) {
+            throw new UnsupportedTypeException(description + " is not supported");
+        }
+        Map<String, AnnotationValue> attributes = getAttributes(annotation);
+        verifyCommonAttributes(attributes, description);
+
+        String value = VALUE_PLACEHOLDER;
+        switch (annotationType) {
+            case NOT_NULL -> {
+                // Primitives can never be null, so there's nothing to check.
+                boolean isPrimitive = valueKind == ValueKind.PRIMITIVE_INTEGRAL
+                                      || valueKind == ValueKind.OTHER_PRIMITIVE;
+                return new ConstraintCheck(annotationType, isPrimitive ? "true" : value + " != null", null);
+            }
+            case NOT_BLANK -> {
+                requireValueKind(valueKind, description, ValueKind.STRING, ValueKind.CHAR_SEQUENCE);
+                return new ConstraintCheck(
+                    annotationType, value + " != null && " + value + ".toString().trim().length() > 0", null
+                );
+            }
+            case NOT_EMPTY -> {
+                requireValueKind(valueKind, description, SIZED_VALUE_KINDS);
+                return new ConstraintCheck(annotationType, value + " != null && " + sizeOf(value, valueKind) + " > 0",
+                                           null);
+            }
+            case SIZE -> {
+                requireValueKind(valueKind, description, SIZED_VALUE_KINDS);
+                int min = (Integer) attributes.get("min").getValue();
+                int max = (Integer) attributes.get("max").getValue();
+                if (min < 0 || max < 0 || max < min) {
+                    throw new UnsupportedTypeException(description + " has an invalid min/max");
+                }
+                String size = sizeOf(value, valueKind);
+                return new ConstraintCheck(
+                    annotationType, value + " == null || (" + size + " >= " + min + " && " + size + " <= " + max + ")",
+                    null
+                );
+            }
+            case MIN, MAX -> {
+                requireValueKind(valueKind, description, ValueKind.PRIMITIVE_INTEGRAL, ValueKind.BOXED_INTEGRAL);
+                long limit = (Long) attributes.get("value").getValue();
+                String comparison = value + (MIN.equals(annotationType) ? " >= " : " <= ") + limit + "L";
+                return new ConstraintCheck(
+                    annotationType,
+                    (valueKind == ValueKind.BOXED_INTEGRAL) ? value + " == null || " + comparison : comparison,
+                    null
+                );
+            }
+            default -> {
+                // STRING_CONVERTS_TO_CLASS_TYPE
+                requireValueKind(valueKind, description, ValueKind.STRING);
+                return new ConstraintCheck(
+                    annotationType, VALIDATOR_PLACEHOLDER + ".isValid(" + value + ", null)",
+                    StringConvertsToClassTypeValidator.class.getName()
+                );
+            }
+        }
+    }
+
+    protected Map<String, AnnotationValue> getAttributes(AnnotationMirror annotation) {
+        Map<String, AnnotationValue> attributes = new HashMap<>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).forEach(
+            (element, value) -> attributes.put(element.getSimpleName().toString(), value)
+        );
+        return attributes;
+    }
+
+    protected void verifyCommonAttributes(
+        Map<String, AnnotationValue> attributes, String description
+    ) throws UnsupportedTypeException {
+        String message = String.valueOf(attributes.get("message").getValue());
+        for (char c : new char[]{'{', '}', '$', '\\'}) {
+            if (message.indexOf(c) >= 0) {
+                throw new UnsupportedTypeException(
+                    description + " has a message that needs interpolation - only literal messages are supported"
+                );
+            }
+        }
+
+        if (!((List<?>) attributes.get("groups").getValue()).isEmpty()) {
+            throw new UnsupportedTypeException(description + " is not in the default group");
+        }
+
+        for (Object payload : (List<?>) attributes.get("payload").getValue()) {
+            TypeMirror payloadType = (TypeMirror) ((AnnotationValue) payload).getValue();
+            String payloadName = processingEnv.getTypeUtils().erasure(payloadType).toString();
+            if (UNWRAPPING_PAYLOADS.contains(payloadName)) {
+                throw new UnsupportedTypeException(description + " has a value unwrapping payload");
+            }
+        }
+    }
+
+    private static void requireValueKind(
+        ValueKind valueKind, String description, ValueKind... supportedKinds
+    ) throws UnsupportedTypeException {
+        for (ValueKind supportedKind : supportedKinds) {
+            if (valueKind == supportedKind) {
+                return;
+            }
+        }
+        throw new UnsupportedTypeException(description + " is not supported for the field's type");
+    }
+
+    private static String sizeOf(String value, ValueKind valueKind) {
+        return switch (valueKind) {
+            case STRING, CHAR_SEQUENCE -> value + ".length()";
+            case ARRAY -> value + ".length";
+            default -> value + ".size()";
+        };
+    }
+
+    protected ValueKind determineValueKind(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.ARRAY) {
+            return ValueKind.ARRAY;
+        }
+        if (kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT || kind == TypeKind.LONG) {
+            return ValueKind.PRIMITIVE_INTEGRAL;
+        }
+        if (kind.isPrimitive()) {
+            return ValueKind.OTHER_PRIMITIVE;
+        }
+
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeMirror erasure = types.erasure(type);
+        if ("java.lang.String".equals(erasure.toString())) {
+            return ValueKind.STRING;
+        }
+        if (types.isAssignable(erasure, elements.getTypeElement("java.lang.CharSequence").asType())) {
+            return ValueKind.CHAR_SEQUENCE;
+        }
+        if (types.isAssignable(erasure, types.erasure(elements.getTypeElement("java.util.Collection").asType()))) {
+            return ValueKind.COLLECTION;
+        }
+        if (types.isAssignable(erasure, types.erasure(elements.getTypeElement("java.util.Map").asType()))) {
+            return ValueKind.MAP;
+        }
+        if (BOXED_INTEGRAL_TYPES.contains(erasure.toString())) {
+            return ValueKind.BOXED_INTEGRAL;
+        }
+        return ValueKind.OTHER;
+    }
+
+    /**
+     * @return true if any of the given type's type arguments (or array component type), at any depth, are annotated
+     * with constraints or {@code @Valid}. The type's own annotations are not checked since a field's declaration
+     * annotations also show up there. The same goes for the element type of array fields (e.g. {@code @Size int[]}),
+     * so annotations there that are in the given set of declaration annotation types are ignored.
+     */
+    protected boolean hasTypeArgumentValidationAnnotations(TypeMirror type, Set<String> declarationAnnotationTypes) {
+        if (type instanceof ArrayType arrayType) {
+            TypeMirror componentType = arrayType.getComponentType();
+            List<AnnotationMirror> componentAnnotations = new ArrayList<>(componentType.getAnnotationMirrors());
+            componentAnnotations.removeIf(a -> declarationAnnotationTypes.contains(annotationTypeName(a)));
+            return hasValidationAnnotation(componentAnnotations)
+                   || hasTypeArgumentValidationAnnotations(componentType, declarationAnnotationTypes);
+        }
+
+        List<TypeMirror> nestedTypes = new ArrayList<>();
+        if (type instanceof DeclaredType declaredType) {
+            nestedTypes.addAll(declaredType.getTypeArguments());
+        }
+        else if (type instanceof WildcardType wildcardType) {
+            if (wildcardType.getExtendsBound() != null) {
+                nestedTypes.add(wildcardType.getExtendsBound());
+            }
+            if (wildcardType.getSuperBound() != null) {
+                nestedTypes.add(wildcardType.getSuperBound());
+            }
+        }
+
+        for (TypeMirror nestedType : nestedTypes) {
+            if (hasValidationAnnotation(nestedType.getAnnotationMirrors())
+                || hasTypeArgumentValidationAnnotations(nestedType, Collections.emptySet())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasValidationAnnotation(List<? extends AnnotationMirror> annotations) {
+        for (AnnotationMirror annotation : annotations) {
+            if (isValidationAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the given annotation is something Bean Validation acts on: a constraint, a container of
+     * repeated constraints, {@code @Valid}, or a group sequence definition.
+     */
+    protected boolean isValidationAnnotation(AnnotationMirror annotation) {
+        if (OTHER_VALIDATION_ANNOTATIONS.contains(annotationTypeName(annotation))) {
+            return true;
+        }
+
+        TypeElement annotationElement = (TypeElement) annotation.getAnnotationType().asElement();
+        if (isConstraintAnnotationType(annotationElement)) {
+            return true;
+        }
+
+        // Repeated constraints show up as their container annotation, e.g. @Size.List.
+        for (Element member : annotationElement.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.METHOD
+                && "value".contentEquals(member.getSimpleName())
+                && ((ExecutableElement) member).getReturnType() instanceof ArrayType arrayType
+                && arrayType.getComponentType() instanceof DeclaredType componentType
+                && isConstraintAnnotationType((TypeElement) componentType.asElement())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstraintAnnotationType(TypeElement annotationElement) {
+        for (AnnotationMirror metaAnnotation : annotationElement.getAnnotationMirrors()) {
+            if (CONSTRAINT.equals(annotationTypeName(metaAnnotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String annotationTypeName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * @return true if the Bean Validation implementation would treat a no-arg method with the given name as a getter.
+     */
+    static boolean looksLikeGetter(String methodName) {
+        return (methodName.startsWith("get") && methodName.length() > 3)
+               || (methodName.startsWith("is") && methodName.length() > 2)
+               || (methodName.startsWith("has") && methodName.length() > 3);
+    }
+
+    /**
+     * Writes the source for the given type's generated validator.
+     */
+    protected void writeValidator(TypeElement type, List<FieldChecks> fieldChecks) throws IOException {
+        String generatedClassName = PrecompiledValidators.generatedValidatorClassName(
+            processingEnv.getElementUtils().getBinaryName(type).toString()
+        );
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(generatedClassName, type);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(generateValidatorSource(type.getQualifiedName().toString(), generatedClassName, fieldChecks));
+        }
+    }
+
+    /**
+     * @return The java source for a validator with the given fully qualified name, validating the given type.
+     */
+    static String generateValidatorSource(String typeName, String generatedClassName, List<FieldChecks> fieldChecks) {
+        int lastDot = generatedClassName.lastIndexOf('.');
+        String simpleName = generatedClassName.substring(lastDot + 1);
+        String constraintClass = PrecompiledConstraint.class.getName();
+        String violationSetType = "java.util.Set<jakarta.validation.ConstraintViolation<" + typeName + ">>";
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder checks = new StringBuilder();
+        int constraintIndex = 0;
+        for (int fieldIndex = 0; fieldIndex < fieldChecks.size(); fieldIndex++) {
+            FieldChecks field = fieldChecks.get(fieldIndex);
+            String valueVariable = "value" + fieldIndex;
+            checks.append("\n        var ").append(valueVariable).append(" = ").append(field.valueAccess())
+                  .append(";\n");
+            for (ConstraintCheck check : field.checks()) {
+                String constraintField = "CONSTRAINT_" + constraintIndex;
+                String validatorField = "VALIDATOR_" + constraintIndex;
+                fields.append("    private static final ").append(constraintClass).append('<')
+                      .append(check.annotationType()).append("> ").append(constraintField).append(" =\n        ")
+                      .append(constraintClass).append(".forField(").append(typeName).append(".class, \"")
+                      .append(field.fieldName()).append("\", ").append(check.annotationType()).append(".class);\n");
+                if (check.validatorType() != null) {
+                    fields.append("    private static final ").append(check.validatorType()).append(' ')
+                          .append(validatorField).append(" =\n        ").append(constraintField)
+                          .append(".initialize(new ").append(check.validatorType()).append("());\n");
+                }
+
+                String checkExpression = check.checkExpression()
+                                              .replace(VALIDATOR_PLACEHOLDER, validatorField)
+                                              .replace(VALUE_PLACEHOLDER, valueVariable);
+                if (!"true".equals(checkExpression)) {
+                    checks.append("        if (!(").append(checkExpression).append(")) {\n")
+                          .append("            violations = ").append(constraintField)
+                          .append(".addViolation(violations, object, ").append(valueVariable).append(");\n")
+                          .append("        }\n");
+                }
+                constraintIndex++;
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (lastDot > 0) {
+            source.append("package ").append(generatedClassName, 0, lastDot).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * Reflection-free validator for {@link ").append(typeName).append("}, generated by\n")
+              .append(" * {@link ").append(PrecompiledValidationProcessor.class.getName()).append("}.\n")
+              .append(" */\n")
+              .append("@javax.annotation.processing.Generated(\"")
+              .append(PrecompiledValidationProcessor.class.getName()).append("\")\n")
+              .append("public final class ").append(simpleName).append("\n")
+              .append("    implements ").append(PrecompiledValidator.class.getName()).append('<').append(typeName)
+              .append("> {\n\n")
+              .append(fields).append(fields.length() > 0 ? "\n" : "")
+              .append("    @Override\n")
+              .append("    public Class<").append(typeName).append("> getValidatedClass() {\n")
+              .append("        return ").append(typeName).append(".class;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public ").append(violationSetType).append(" validate(").append(typeName)
+              .append(" object) {\n")
+              .append("        if (object == null) {\n")
+              .append("            throw new IllegalArgumentException(\"The object to validate cannot be null.\");\n")
+              .append("        }\n\n")
+              .append("        ").append(violationSetType).append(" violations = null;\n")
+              .append(checks)
+              .append("\n        return (violations == null) ? java.util.Collections.emptySet() : violations;\n")
+              .append("    }\n")
+              .append("}\n");
+        return source.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.nike.backstopper.validation.precompiled;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * A validator generated at compile time by {@link PrecompiledValidationProcessor} for a class annotated with
+ * {@link PrecompiledValidation}. Implementations are thread safe and validate the default group only.
+ *
+ * @param <T> The type being validated.
+ */
+public interface PrecompiledValidator<T> {
+
+    /**
+     * @return The class this validator was generated for.
+     */
+    Class<T> getValidatedClass();
+
+    /**
+     * Validates the given object against the default group, the same way
+     * {@link jakarta.validation.Validator#validate(Object, Class[])} would.
+     *
+     * @param object The object to validate. Cannot be null.
+     * @return The constraint violations found, or an empty set if the object is valid. Never null.
+     * @throws IllegalArgumentException if the given object is null.
+     */
+    Set<ConstraintViolation<T>> validate(T object);
+}
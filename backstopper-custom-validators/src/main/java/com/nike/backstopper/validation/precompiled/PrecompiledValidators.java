@@ -0,0 +1,106 @@
+package com.nike.backstopper.validation.precompiled;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Finds the {@link PrecompiledValidator}s generated by {@link PrecompiledValidationProcessor}. A generated validator
+ * lives in the same package as the class it validates and is named after it, see
+ * {@link #generatedValidatorClassName(String)}. Lookups are done once per class and remembered, so calling
+ * {@link #forClass(Class)} for every object being validated is cheap.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PrecompiledValidators {
+
+    /**
+     * The suffix added to the (underscore-joined) simple name of a class to get the simple name of its generated
+     * validator.
+     */
+    public static final String GENERATED_VALIDATOR_SUFFIX = "_BackstopperValidator";
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledValidators.class);
+
+    private static final ClassValue<Optional<PrecompiledValidator<?>>> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected Optional<PrecompiledValidator<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(loadGeneratedValidator(type));
+        }
+    };
+
+    private PrecompiledValidators() {
+        // Do nothing
+    }
+
+    /**
+     * @return The generated validator for exactly the given class (not its subclasses), or null if the class wasn't
+     * annotated with {@link PrecompiledValidation} or no validator could be generated for it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PrecompiledValidator<T> forClass(Class<T> type) {
+        //noinspection ConstantConditions
+        if (type == null) {
+            throw new NullPointerException("type cannot be null.");
+        }
+
+        return (PrecompiledValidator<T>) VALIDATORS.get(type).orElse(null);
+    }
+
+    /**
+     * @param binaryName The binary name of a class, e.g. {@code com.foo.Outer$Inner}.
+     * @return The fully qualified name of the validator generated for that class, e.g.
+     * {@code com.foo.Outer_Inner_BackstopperValidator}.
+     */
+    public static String generatedValidatorClassName(String binaryName) {
+        int lastDot = binaryName.lastIndexOf('.');
+        String packagePrefix = binaryName.substring(0, lastDot + 1);
+        String simpleBinaryName = binaryName.substring(lastDot + 1);
+        return packagePrefix + simpleBinaryName.replace('$', '_') + GENERATED_VALIDATOR_SUFFIX;
+    }
+
+    static PrecompiledValidator<?> loadGeneratedValidator(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null || type.isPrimitive() || type.isArray()) {
+            // JDK classes and arrays never have generated validators.
+            return null;
+        }
+
+        String generatedClassName = generatedValidatorClassName(type.getName());
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName, true, classLoader);
+        }
+        catch (ClassNotFoundException ex) {
+            return null;
+        }
+        catch (LinkageError ex) {
+            logger.warn("Unable to initialize the generated validator {} - {} will be validated by the Bean "
+                        + "Validation implementation instead.", generatedClassName, type.getName(), ex);
+            return null;
+        }
+
+        if (!PrecompiledValidator.class.isAssignableFrom(generatedClass)) {
+            logger.warn("{} does not implement {} - {} will be validated by the Bean Validation implementation "
+                        + "instead.", generatedClassName, PrecompiledValidator.class.getName(), type.getName());
+            return null;
+        }
+
+        try {
+            PrecompiledValidator<?> validator =
+                (PrecompiledValidator<?>) generatedClass.getDeclaredConstructor().newInstance();
+            if (validator.getValidatedClass() != type) {
+                logger.warn("{} validates {} rather than {} - {} will be validated by the Bean Validation "
+                            + "implementation instead.", generatedClassName, validator.getValidatedClass(),
+                            type.getName(), type.getName());
+                return null;
+            }
+            return validator;
+        }
+        catch (ReflectiveOperationException | RuntimeException ex) {
+            logger.warn("Unable to create the generated validator {} - {} will be validated by the Bean Validation "
+                        + "implementation instead.", generatedClassName, type.getName(), ex);
+            return null;
+        }
+    }
+}
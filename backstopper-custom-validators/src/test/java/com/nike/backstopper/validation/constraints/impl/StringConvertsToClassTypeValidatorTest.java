@@ -1,7 +1,6 @@
 package com.nike.backstopper.validation.constraints.impl;
 
 import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
-import com.nike.internal.util.testing.Glassbox;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -10,7 +9,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Set;
+import java.util.UUID;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -18,6 +23,9 @@ import jakarta.validation.Validator;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 /**
  * Verifies the functionality of {@link StringConvertsToClassTypeValidator}
@@ -79,6 +87,14 @@ public class StringConvertsToClassTypeValidatorTest {
         public String fooString;
         @StringConvertsToClassType(classType = Object.class)
         public String fooObject;
+        @StringConvertsToClassType(classType = UUID.class)
+        public String fooUuid;
+        @StringConvertsToClassType(classType = int.class, min = "1", max = "100")
+        public String fooIntRange;
+        @StringConvertsToClassType(classType = BigDecimal.class, min = "-0.5")
+        public String fooBigDecimalMin;
+        @StringConvertsToClassType(classType = OffsetDateTime.class, max = "2024-01-01T00:00Z")
+        public String fooOffsetDateTimeMax;
 
         private CorrectAnnotationPlacement withFooColorEnumCaseInsensitive(String fooColorEnum) {
             this.fooColorEnumCaseInsensitive = fooColorEnum;
@@ -156,6 +172,22 @@ public class StringConvertsToClassTypeValidatorTest {
             this.fooString = fooString;
             return this;
         }
+        private CorrectAnnotationPlacement withFooUuid(String fooUuid) {
+            this.fooUuid = fooUuid;
+            return this;
+        }
+        private CorrectAnnotationPlacement withFooIntRange(String fooIntRange) {
+            this.fooIntRange = fooIntRange;
+            return this;
+        }
+        private CorrectAnnotationPlacement withFooBigDecimalMin(String fooBigDecimalMin) {
+            this.fooBigDecimalMin = fooBigDecimalMin;
+            return this;
+        }
+        private CorrectAnnotationPlacement withFooOffsetDateTimeMax(String fooOffsetDateTimeMax) {
+            this.fooOffsetDateTimeMax = fooOffsetDateTimeMax;
+            return this;
+        }
         private CorrectAnnotationPlacement withFooObject(@SuppressWarnings("SameParameterValue") String fooObject) {
             this.fooObject = fooObject;
             return this;
@@ -171,13 +203,36 @@ public class StringConvertsToClassTypeValidatorTest {
         validatorImpl = new StringConvertsToClassTypeValidator();
     }
 
+    private static StringConvertsToClassType annotation(Class<?> desiredClass, boolean allowCaseInsensitiveEnumMatch) {
+        return annotation(desiredClass, allowCaseInsensitiveEnumMatch, "", "");
+    }
+
+    private static StringConvertsToClassType annotation(Class<?> desiredClass, boolean allowCaseInsensitiveEnumMatch,
+                                                        String min, String max) {
+        StringConvertsToClassType annotationMock = mock(StringConvertsToClassType.class);
+        doReturn(desiredClass).when(annotationMock).classType();
+        doReturn(allowCaseInsensitiveEnumMatch).when(annotationMock).allowCaseInsensitiveEnumMatch();
+        doReturn(min).when(annotationMock).min();
+        doReturn(max).when(annotationMock).max();
+        return annotationMock;
+    }
+
+    protected void doRangeValidationTest(CorrectAnnotationPlacement testMe, String value, Class<?> desiredClass,
+                                         String min, String max, boolean expectedResult) {
+        validatorImpl.initialize(annotation(desiredClass, false, min, max));
+        boolean directValidationResult = validatorImpl.isValid(value, null);
+        Set<ConstraintViolation<CorrectAnnotationPlacement>> validatorResult = validator.validate(testMe);
+
+        assertThat(directValidationResult, is(expectedResult));
+        assertThat(validatorResult.isEmpty(), is(expectedResult));
+    }
+
     protected void doValidationTest(CorrectAnnotationPlacement testMe, String value, Class<?> desiredClass, boolean expectedResult) {
         doValidationTest(testMe, value, desiredClass, false, expectedResult);
     }
 
     protected void doValidationTest(CorrectAnnotationPlacement testMe, String value, Class<?> desiredClass, boolean allowCaseInsensitiveEnumMatch, boolean expectedResult) {
-        Glassbox.setInternalState(validatorImpl, "desiredClass", desiredClass);
-        Glassbox.setInternalState(validatorImpl, "allowCaseInsensitiveEnumMatch", allowCaseInsensitiveEnumMatch);
+        validatorImpl.initialize(annotation(desiredClass, allowCaseInsensitiveEnumMatch));
         boolean directValidationResult = validatorImpl.isValid(value, null);
         Set<ConstraintViolation<CorrectAnnotationPlacement>> validatorResult = validator.validate(testMe);
 
@@ -486,6 +541,394 @@ public class StringConvertsToClassTypeValidatorTest {
         doValidationTest(newObj().withFooObject("5"), "5", Object.class, false);
     }
 
+    // Scanner edge cases ===========================================================================
+    @DataProvider(value = {
+        "0",
+        "-0",
+        "+7",
+        "-128",
+        "127",
+        "-32768",
+        "32767",
+        "-2147483648",
+        "2147483647",
+        "-9223372036854775808",
+        "9223372036854775807",
+        "0009223372036854775807",
+        "\u0661\u0662",
+        "",
+        "-",
+        "+",
+        "--1",
+        "1-",
+        " 1",
+        "1 ",
+        "1.0",
+        "0x10",
+        "-9223372036854775809",
+        "9223372036854775808",
+        "99999999999999999999999",
+    }, trimValues = false)
+    @Test
+    public void integral_scanners_agree_with_JDK_parsing(String value) {
+        assertThat(validatorImpl.validateAsByte(value), is(parses(() -> Byte.parseByte(value))));
+        assertThat(validatorImpl.validateAsShort(value), is(parses(() -> Short.parseShort(value))));
+        assertThat(validatorImpl.validateAsInt(value), is(parses(() -> Integer.parseInt(value))));
+        assertThat(validatorImpl.validateAsLong(value), is(parses(() -> Long.parseLong(value))));
+    }
+
+    @DataProvider(value = {
+        "1",
+        "-1.5",
+        "+.5",
+        "5.",
+        " 2.5 ",
+        "1e10",
+        "1E-10",
+        "1.5e+3",
+        "2.5f",
+        "2.5D",
+        "0x1.8p1",
+        "-0X1P-3",
+        "3.4028235E38",
+        "3.5E38",
+        "1.7976931348623157E308",
+        "1.8E308",
+        "",
+        ".",
+        "e5",
+        "1e",
+        "1e+",
+        "1.2.3",
+        "1f5",
+        "0x",
+        "0x1.8",
+        "NaN",
+        "-Infinity",
+        "Infinity",
+        "\u0661",
+        "asdf",
+    }, trimValues = false)
+    @Test
+    public void floating_point_scanners_agree_with_JDK_parsing(String value) {
+        assertThat(validatorImpl.validateAsFloat(value), is(parses(() -> {
+            float result = Float.parseFloat(value);
+            return !Float.isInfinite(result) && !Float.isNaN(result);
+        })));
+        assertThat(validatorImpl.validateAsDouble(value), is(parses(() -> {
+            double result = Double.parseDouble(value);
+            return !Double.isInfinite(result) && !Double.isNaN(result);
+        })));
+    }
+
+    private static boolean parses(java.util.concurrent.Callable<?> parser) {
+        try {
+            Object result = parser.call();
+            return !(result instanceof Boolean) || (Boolean) result;
+        }
+        catch (Exception ex) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private enum UnicodeNames {
+        STRASSE, \u0130STANBUL, \u01C5
+    }
+
+    @DataProvider(value = {
+        "strasse",
+        "\u0130stanbul",
+        "\u01C4",
+        "\u01C6",
+        "istanbul",
+    })
+    @Test
+    public void case_insensitive_enum_match_agrees_with_equalsIgnoreCase(String value) {
+        // given
+        validatorImpl.initialize(annotation(UnicodeNames.class, true));
+        boolean expected = false;
+        for (UnicodeNames enumValue : UnicodeNames.values()) {
+            expected |= enumValue.name().equalsIgnoreCase(value);
+        }
+
+        // expect
+        assertThat(validatorImpl.isValid(value, null), is(expected));
+    }
+
+    // UUID, big numbers, and java.time ==============================================================
+    @DataProvider(value = {
+        "123e4567-e89b-12d3-a456-426614174000   |   true",
+        "123E4567-E89B-12D3-A456-426614174000   |   true",
+        "123e4567e89b12d3a456426614174000       |   false",
+        "123e4567-e89b-12d3-a456-42661417400g   |   false",
+        "123e4567-e89b-12d3-a456_426614174000   |   false",
+        "123e4567-e89b-12d3-a456-4266141740000  |   false",
+        "1-1-1-1-1                              |   false",
+        "asdf                                   |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateUuid(String value, boolean expectedResult) {
+        doValidationTest(newObj().withFooUuid(value), value, UUID.class, expectedResult);
+        if (expectedResult) {
+            assertThat(UUID.fromString(value).toString(), is(value.toLowerCase()));
+        }
+    }
+
+    @DataProvider(value = {
+        "0",
+        "-12345678901234567890123",
+        "+42",
+        "\u0661\u0662",
+        "",
+        "-",
+        "1.0",
+        "1e5",
+        " 1",
+        "0x10",
+    }, trimValues = false)
+    @Test
+    public void big_integer_check_agrees_with_BigInteger_constructor(String value) {
+        // given
+        validatorImpl.initialize(annotation(BigInteger.class, false));
+
+        // expect
+        assertThat(validatorImpl.isValid(value, null), is(parses(() -> new BigInteger(value))));
+    }
+
+    @DataProvider(value = {
+        "0",
+        "-1.5",
+        "+.5",
+        "5.",
+        "1e10",
+        "1.5E-300",
+        "123456789012345678901234567890.123456789",
+        "1e999999999",
+        "1e0000000000999999999",
+        "\u0661.\u0662",
+        "",
+        ".",
+        "-",
+        "e5",
+        "1e",
+        "1e+",
+        "1.2.3",
+        "1.5f",
+        " 1",
+        "NaN",
+        "1e1000000000",
+    }, trimValues = false)
+    @Test
+    public void big_decimal_check_is_a_subset_of_BigDecimal_constructor(String value) {
+        // given
+        validatorImpl.initialize(annotation(BigDecimal.class, false));
+
+        // when
+        boolean result = validatorImpl.isValid(value, null);
+
+        // then
+        boolean jdkResult = parses(() -> new BigDecimal(value));
+        if (result) {
+            assertThat(jdkResult, is(true));
+        }
+        // The only values the JDK accepts that we reject are the ones with enormous exponents.
+        assertThat(result, is(jdkResult && !value.equals("1e1000000000")));
+    }
+
+    @DataProvider(value = {
+        "2024-02-29T13:45:30Z                   |   true",
+        "2024-02-29T13:45:30.123456789Z         |   true",
+        "2024-02-29T13:45:30.1+01:00            |   true",
+        "0000-01-01T00:00:00-18:00              |   true",
+        "9999-12-31T23:59:59+18:00              |   true",
+        "2023-02-29T13:45:30Z                   |   false",
+        "2024-02-29T13:45Z                      |   false",
+        "2024-02-29T13:45:30.Z                  |   false",
+        "2024-02-29T13:45:30.1234567890Z        |   false",
+        "2024-02-29T24:00:00Z                   |   false",
+        "2024-02-29T13:60:30Z                   |   false",
+        "2024-02-29T13:45:60Z                   |   false",
+        "2024-02-29T13:45:30+18:01              |   false",
+        "2024-02-29T13:45:30+1:00               |   false",
+        "2024-02-29T13:45:30                    |   false",
+        "2024-02-29 13:45:30Z                   |   false",
+        "2024-2-29T13:45:30Z                    |   false",
+        "asdf                                   |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateInstant(String value, boolean expectedResult) {
+        // given
+        validatorImpl.initialize(annotation(Instant.class, false));
+
+        // expect
+        assertThat(validatorImpl.isValid(value, null), is(expectedResult));
+        if (expectedResult) {
+            assertThat(parses(() -> Instant.parse(value)), is(true));
+        }
+    }
+
+    @DataProvider(value = {
+        "2024-02-29     |   true",
+        "2000-02-29     |   true",
+        "0000-02-29     |   true",
+        "2024-12-31     |   true",
+        "1900-02-29     |   false",
+        "2023-02-29     |   false",
+        "2024-04-31     |   false",
+        "2024-13-01     |   false",
+        "2024-00-01     |   false",
+        "2024-01-00     |   false",
+        "+2024-01-01    |   false",
+        "20240101       |   false",
+        "2024-01-01Z    |   false",
+        "asdf           |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateLocalDate(String value, boolean expectedResult) {
+        // given
+        validatorImpl.initialize(annotation(LocalDate.class, false));
+
+        // expect
+        assertThat(validatorImpl.isValid(value, null), is(expectedResult));
+        if (expectedResult) {
+            assertThat(parses(() -> LocalDate.parse(value)), is(true));
+        }
+    }
+
+    @DataProvider(value = {
+        "2024-02-29T13:45Z                  |   true",
+        "2024-02-29T13:45:30+01:00          |   true",
+        "2024-02-29T13:45:30.5-05:30        |   true",
+        "2024-02-29T13Z                     |   false",
+        "2024-02-29T13:45                   |   false",
+        "2024-02-29T13:45:30+0100           |   false",
+        "2024-02-29T13:45:30 +01:00         |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateOffsetDateTime(String value, boolean expectedResult) {
+        // given
+        validatorImpl.initialize(annotation(OffsetDateTime.class, false));
+
+        // expect
+        assertThat(validatorImpl.isValid(value, null), is(expectedResult));
+        if (expectedResult) {
+            assertThat(parses(() -> OffsetDateTime.parse(value)), is(true));
+        }
+    }
+
+    // Ranges =======================================================================================
+    @DataProvider(value = {
+        "1      |   true",
+        "100    |   true",
+        "0      |   false",
+        "101    |   false",
+        "asdf   |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateIntRange(String value, boolean expectedResult) {
+        doRangeValidationTest(newObj().withFooIntRange(value), value, int.class, "1", "100", expectedResult);
+    }
+
+    @DataProvider(value = {
+        "-0.5       |   true",
+        "-0.50000   |   true",
+        "1e100      |   true",
+        "-0.51      |   false",
+        "-5e-1      |   true",
+        "-6e-1      |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateBigDecimalMin(String value, boolean expectedResult) {
+        doRangeValidationTest(newObj().withFooBigDecimalMin(value), value, BigDecimal.class, "-0.5", "", expectedResult);
+    }
+
+    @DataProvider(value = {
+        "2023-12-31T23:59:59.999Z       |   true",
+        "2024-01-01T00:00Z              |   true",
+        "2024-01-01T01:00+01:00         |   true",
+        "2024-01-01T00:00:00.001Z       |   false",
+        "2023-12-31T23:01-01:00         |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldValidateOffsetDateTimeMaxOnTheTimeLine(String value, boolean expectedResult) {
+        doRangeValidationTest(
+            newObj().withFooOffsetDateTimeMax(value), value, OffsetDateTime.class, "", "2024-01-01T00:00Z",
+            expectedResult
+        );
+    }
+
+    @Test
+    public void shouldValidateRangesForOtherTypes() {
+        // given
+        validatorImpl.initialize(annotation(byte.class, false, "-1", "1"));
+        // expect
+        assertThat(validatorImpl.isValid("1", null), is(true));
+        assertThat(validatorImpl.isValid("2", null), is(false));
+
+        // given
+        validatorImpl.initialize(annotation(float.class, false, "1.1", ""));
+        // expect
+        assertThat(validatorImpl.isValid("1.1", null), is(true));
+        assertThat(validatorImpl.isValid("1.09", null), is(false));
+
+        // given
+        validatorImpl.initialize(annotation(BigInteger.class, false, "", "99999999999999999999"));
+        // expect
+        assertThat(validatorImpl.isValid("99999999999999999999", null), is(true));
+        assertThat(validatorImpl.isValid("100000000000000000000", null), is(false));
+
+        // given
+        validatorImpl.initialize(annotation(Instant.class, false, "2024-01-01T00:00:00Z", ""));
+        // expect
+        assertThat(validatorImpl.isValid("2024-01-01T00:00:00Z", null), is(true));
+        assertThat(validatorImpl.isValid("2023-12-31T23:59:59Z", null), is(false));
+
+        // given
+        validatorImpl.initialize(annotation(LocalDate.class, false, "2024-01-01", "2024-12-31"));
+        // expect
+        assertThat(validatorImpl.isValid("2024-06-15", null), is(true));
+        assertThat(validatorImpl.isValid("2025-01-01", null), is(false));
+    }
+
+    @DataProvider(value = {
+        "int            |   abc     |           ",
+        "int            |           |   1.5     ",
+        "byte           |   200     |           ",
+        "LocalDate      |   2024-02-30 |        ",
+        "boolean        |   true    |           ",
+        "UUID           |           |   1       ",
+        "String         |   a       |           ",
+        "RgbColors      |   RED     |           ",
+    }, splitBy = "\\|")
+    @Test
+    public void initialize_throws_IllegalArgumentException_for_bad_or_unsupported_range(
+        String classTypeName, String min, String max
+    ) {
+        // given
+        Class<?> classType = switch (classTypeName) {
+            case "int" -> int.class;
+            case "byte" -> byte.class;
+            case "LocalDate" -> LocalDate.class;
+            case "boolean" -> boolean.class;
+            case "UUID" -> UUID.class;
+            case "String" -> String.class;
+            default -> RgbColors.class;
+        };
+
+        // when
+        Throwable ex = catchThrowable(
+            () -> validatorImpl.initialize(annotation(classType, false, nullToEmpty(min), nullToEmpty(max)))
+        );
+
+        // then
+        assertThat(ex instanceof IllegalArgumentException, is(true));
+    }
+
+    private static String nullToEmpty(String value) {
+        return (value == null) ? "" : value;
+    }
+
     // Exceptional case tests =======================================================================
     @Test
     public void validateAsBooleanShouldReturnFalseIfExceptionIsThrown() {
@@ -0,0 +1,65 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.nike.backstopper.service.PrecompiledValidatorProvider;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the functionality of {@link GeneratedPrecompiledValidatorProvider}. The "generated" validator used here is a
+ * hand-written top-level class at the bottom of this file that follows the generated naming convention.
+ */
+public class GeneratedPrecompiledValidatorProviderTest {
+
+    static class GeneratedDto {
+    }
+
+    static final Set<ConstraintViolation<Object>> GENERATED_VIOLATIONS = new HashSet<>();
+
+    private final GeneratedPrecompiledValidatorProvider provider = new GeneratedPrecompiledValidatorProvider();
+
+    @Test
+    public void validateIfPrecompiled_uses_the_generated_validator() {
+        // expect
+        assertThat(provider.validateIfPrecompiled(new GeneratedDto())).isSameAs(GENERATED_VIOLATIONS);
+    }
+
+    @Test
+    public void validateIfPrecompiled_returns_null_if_there_is_no_generated_validator() {
+        // expect
+        assertThat(provider.validateIfPrecompiled(new Object())).isNull();
+    }
+
+    @Test
+    public void provider_is_registered_with_ServiceLoader() {
+        // when
+        ServiceLoader<PrecompiledValidatorProvider> loader = ServiceLoader.load(PrecompiledValidatorProvider.class);
+
+        // then
+        assertThat(loader).hasAtLeastOneElementOfType(GeneratedPrecompiledValidatorProvider.class);
+    }
+}
+
+class GeneratedPrecompiledValidatorProviderTest_GeneratedDto_BackstopperValidator
+    implements PrecompiledValidator<GeneratedPrecompiledValidatorProviderTest.GeneratedDto> {
+
+    @Override
+    public Class<GeneratedPrecompiledValidatorProviderTest.GeneratedDto> getValidatedClass() {
+        return GeneratedPrecompiledValidatorProviderTest.GeneratedDto.class;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Set<ConstraintViolation<GeneratedPrecompiledValidatorProviderTest.GeneratedDto>> validate(
+        GeneratedPrecompiledValidatorProviderTest.GeneratedDto object
+    ) {
+        return (Set) GeneratedPrecompiledValidatorProviderTest.GENERATED_VIOLATIONS;
+    }
+}
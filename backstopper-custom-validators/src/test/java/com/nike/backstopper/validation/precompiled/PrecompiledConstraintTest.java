@@ -0,0 +1,175 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
+import com.nike.backstopper.validation.constraints.impl.StringConvertsToClassTypeValidator;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link PrecompiledConstraint}, and the {@link PrecompiledConstraintViolation}s and
+ * {@link PrecompiledPropertyPath}s it creates.
+ */
+public class PrecompiledConstraintTest {
+
+    public static class SomePayload implements Payload {
+    }
+
+    static class Dto {
+        @NotNull(message = "FOO_REQUIRED", payload = SomePayload.class)
+        @Size(max = 3, message = "FOO_TOO_LONG")
+        String foo;
+
+        @StringConvertsToClassType(message = "BAR_NOT_AN_INT", classType = int.class)
+        String bar;
+    }
+
+    @Test
+    public void forField_reads_the_annotation_and_exposes_it_as_a_ConstraintDescriptor() {
+        // when
+        PrecompiledConstraint<NotNull> constraint = PrecompiledConstraint.forField(Dto.class, "foo", NotNull.class);
+
+        // then
+        assertThat(constraint.getAnnotation().message()).isEqualTo("FOO_REQUIRED");
+        assertThat(constraint.getMessageTemplate()).isEqualTo("FOO_REQUIRED");
+        assertThat(constraint.getGroups()).containsExactly(Default.class);
+        assertThat(constraint.getPayload()).containsExactly(SomePayload.class);
+        assertThat(constraint.getAttributes())
+            .containsEntry("message", "FOO_REQUIRED")
+            .containsKeys("groups", "payload");
+        assertThat(constraint.getValidationAppliesTo()).isEqualTo(ConstraintTarget.IMPLICIT);
+        assertThat(constraint.getConstraintValidatorClasses()).isEmpty();
+        assertThat(constraint.getComposingConstraints()).isEmpty();
+        assertThat(constraint.isReportAsSingleViolation()).isFalse();
+        assertThat(constraint.getValueUnwrapping()).isEqualTo(ValidateUnwrappedValue.DEFAULT);
+        assertThat(constraint.toString()).contains("FOO_REQUIRED").contains("foo");
+    }
+
+    @Test
+    public void forField_throws_IllegalStateException_if_field_does_not_exist() {
+        // when
+        Throwable ex = catchThrowable(() -> PrecompiledConstraint.forField(Dto.class, "nope", NotNull.class));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalStateException.class).hasMessageContaining("nope");
+    }
+
+    @Test
+    public void forField_throws_IllegalStateException_if_field_is_missing_the_annotation() {
+        // when
+        Throwable ex = catchThrowable(() -> PrecompiledConstraint.forField(Dto.class, "foo", NotBlank.class));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalStateException.class).hasMessageContaining(NotBlank.class.getName());
+    }
+
+    @Test
+    public void unwrap_supports_own_type_only() {
+        // given
+        PrecompiledConstraint<NotNull> constraint = PrecompiledConstraint.forField(Dto.class, "foo", NotNull.class);
+
+        // when
+        Throwable ex = catchThrowable(() -> constraint.unwrap(String.class));
+
+        // then
+        assertThat(constraint.unwrap(ConstraintDescriptor.class)).isSameAs(constraint);
+        assertThat(ex).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    public void initialize_initializes_the_validator_with_the_annotation() {
+        // given
+        PrecompiledConstraint<StringConvertsToClassType> constraint =
+            PrecompiledConstraint.forField(Dto.class, "bar", StringConvertsToClassType.class);
+
+        // when
+        StringConvertsToClassTypeValidator validator = constraint.initialize(new StringConvertsToClassTypeValidator());
+
+        // then
+        assertThat(validator.isValid("42", null)).isTrue();
+        assertThat(validator.isValid("nope", null)).isFalse();
+    }
+
+    @Test
+    public void addViolation_creates_the_set_if_necessary_and_adds_to_it() {
+        // given
+        PrecompiledConstraint<NotNull> notNull = PrecompiledConstraint.forField(Dto.class, "foo", NotNull.class);
+        PrecompiledConstraint<Size> size = PrecompiledConstraint.forField(Dto.class, "foo", Size.class);
+        Dto dto = new Dto();
+
+        // when
+        Set<ConstraintViolation<Dto>> violations = notNull.addViolation(null, dto, null);
+        Set<ConstraintViolation<Dto>> moreViolations = size.addViolation(violations, dto, "abcd");
+
+        // then
+        assertThat(moreViolations).isSameAs(violations).hasSize(2);
+        assertThat(violations).extracting(ConstraintViolation::getMessage)
+                              .containsExactly("FOO_REQUIRED", "FOO_TOO_LONG");
+    }
+
+    @Test
+    public void violation_exposes_the_expected_details() {
+        // given
+        PrecompiledConstraint<Size> constraint = PrecompiledConstraint.forField(Dto.class, "foo", Size.class);
+        Dto dto = new Dto();
+
+        // when
+        ConstraintViolation<Dto> violation = constraint.addViolation(null, dto, "abcd").iterator().next();
+
+        // then
+        assertThat(violation.getMessage()).isEqualTo("FOO_TOO_LONG");
+        assertThat(violation.getMessageTemplate()).isEqualTo("FOO_TOO_LONG");
+        assertThat(violation.getRootBean()).isSameAs(dto);
+        assertThat(violation.getRootBeanClass()).isEqualTo(Dto.class);
+        assertThat(violation.getLeafBean()).isSameAs(dto);
+        assertThat(violation.getExecutableParameters()).isNull();
+        assertThat(violation.getExecutableReturnValue()).isNull();
+        assertThat(violation.getInvalidValue()).isEqualTo("abcd");
+        assertThat(violation.getConstraintDescriptor()).isSameAs(constraint);
+        assertThat(violation.getPropertyPath().toString()).isEqualTo("foo");
+        assertThat(violation.unwrap(PrecompiledConstraintViolation.class)).isSameAs(violation);
+        assertThat(catchThrowable(() -> violation.unwrap(String.class))).isInstanceOf(ValidationException.class);
+        assertThat(violation.toString()).contains("foo").contains("FOO_TOO_LONG").contains("abcd");
+    }
+
+    @Test
+    public void property_path_has_a_single_property_node() {
+        // given
+        Path path = PrecompiledConstraint.forField(Dto.class, "foo", Size.class).getPropertyPath();
+
+        // when
+        Iterator<Path.Node> nodes = path.iterator();
+        Path.Node node = nodes.next();
+
+        // then
+        assertThat(nodes.hasNext()).isFalse();
+        assertThat(node.getName()).isEqualTo("foo");
+        assertThat(node.toString()).isEqualTo("foo");
+        assertThat(node.isInIterable()).isFalse();
+        assertThat(node.getIndex()).isNull();
+        assertThat(node.getKey()).isNull();
+        assertThat(node.getKind()).isEqualTo(ElementKind.PROPERTY);
+        Path.PropertyNode propertyNode = node.as(Path.PropertyNode.class);
+        assertThat(propertyNode.getContainerClass()).isNull();
+        assertThat(propertyNode.getTypeArgumentIndex()).isNull();
+        assertThat(catchThrowable(() -> node.as(Path.BeanNode.class))).isInstanceOf(ClassCastException.class);
+    }
+}
@@ -0,0 +1,542 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link PrecompiledValidationProcessor} by compiling sample sources with it, and then
+ * making sure the generated validators report the same violations as Hibernate Validator does.
+ */
+@RunWith(DataProviderRunner.class)
+public class PrecompiledValidationProcessorTest {
+
+    private static final String SUPPORTED_CLASS_SOURCE = """
+        package com.example;
+
+        import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
+        import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+        import jakarta.validation.constraints.Max;
+        import jakarta.validation.constraints.Min;
+        import jakarta.validation.constraints.NotBlank;
+        import jakarta.validation.constraints.NotEmpty;
+        import jakarta.validation.constraints.NotNull;
+        import jakarta.validation.constraints.Size;
+        import java.util.List;
+        import java.util.Map;
+
+        @PrecompiledValidation
+        public class SignupRequest implements Comparable<SignupRequest> {
+            public static final String CONSTANT = "constant";
+
+            @NotBlank(message = "EMAIL_REQUIRED") public String email;
+            @NotNull(message = "NAME_REQUIRED") @Size(min = 2, max = 5, message = "NAME_SIZE") String name;
+            @NotEmpty(message = "TAGS_REQUIRED") @Size(max = 2, message = "TOO_MANY_TAGS") protected List<String> tags;
+            @NotEmpty(message = "ATTRIBUTES_REQUIRED") Map<String, String> attributes;
+            @Size(min = 1, message = "SCORES_SIZE") int[] scores;
+            @NotEmpty(message = "NICKNAME_REQUIRED") StringBuilder nickname;
+            @NotBlank(message = "MOTTO_REQUIRED") CharSequence motto;
+            @Min(value = 1, message = "COUNT_TOO_SMALL") @Max(value = 10, message = "COUNT_TOO_BIG") int count;
+            @Min(value = -5, message = "OFFSET_TOO_SMALL") @Max(value = 5, message = "OFFSET_TOO_BIG") Long offset;
+            @NotNull(message = "FLAG_REQUIRED") boolean flag;
+            @StringConvertsToClassType(
+                message = "AGE_INVALID", classType = Integer.class, min = "0", max = "150"
+            ) String age;
+            @Deprecated @SuppressWarnings("unused") String unconstrained;
+            List<? extends CharSequence> wildcards;
+            List<?> unboundedWildcards;
+            Comparable<? super String> superWildcards;
+
+            private String notValidated;
+
+            public String getNotValidated() {
+                return notValidated;
+            }
+
+            @Override
+            public int compareTo(SignupRequest other) {
+                return 0;
+            }
+
+            @PrecompiledValidation
+            public static class Nested {
+                @NotNull(message = "NESTED_VALUE_REQUIRED") String value;
+            }
+        }
+        """;
+
+    private static final String SUPPORTED_RECORD_SOURCE = """
+        package com.example;
+
+        import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+        import jakarta.validation.constraints.Max;
+        import jakarta.validation.constraints.NotBlank;
+
+        @PrecompiledValidation
+        public record Widget(@NotBlank(message = "WIDGET_NAME_REQUIRED") String name,
+                             @Max(value = 3, message = "WIDGET_SIZE_TOO_BIG") short size,
+                             String description) {
+            public String description() {
+                return "explicit accessors are fine for unconstrained components";
+            }
+        }
+        """;
+
+    private static final String DEFAULT_PACKAGE_SOURCE = """
+        import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+
+        @PrecompiledValidation
+        public class Unpackaged {
+        }
+        """;
+
+    private static Path outputDir;
+    private static URLClassLoader classLoader;
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeClass
+    public static void compileSupportedSources() throws Exception {
+        outputDir = Files.createTempDirectory("precompiled-validation-test");
+        CompilationResult result = compile(
+            outputDir,
+            source("com.example.SignupRequest", SUPPORTED_CLASS_SOURCE),
+            source("com.example.Widget", SUPPORTED_RECORD_SOURCE),
+            source("Unpackaged", DEFAULT_PACKAGE_SOURCE)
+        );
+        assertThat(result.success).as(result.diagnostics.toString()).isTrue();
+        assertThat(result.warnings()).isEmpty();
+
+        classLoader = new URLClassLoader(
+            new URL[]{outputDir.toUri().toURL()}, PrecompiledValidationProcessorTest.class.getClassLoader()
+        );
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterClass
+    public static void cleanup() throws IOException {
+        validatorFactory.close();
+        classLoader.close();
+        deleteRecursively(outputDir);
+    }
+
+    private record CompilationResult(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        List<String> warnings() {
+            return messagesOfKind(Diagnostic.Kind.WARNING);
+        }
+
+        List<String> messagesOfKind(Diagnostic.Kind kind) {
+            return diagnostics.stream()
+                              .filter(d -> d.getKind() == kind)
+                              .map(d -> d.getMessage(null))
+                              .collect(Collectors.toList());
+        }
+    }
+
+    private static JavaFileObject source(String className, String source) {
+        return new SimpleJavaFileObject(
+            java.net.URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+            JavaFileObject.Kind.SOURCE
+        ) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private static String classpathEntryFor(Class<?> clazz) {
+        try {
+            return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        }
+        catch (URISyntaxException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static CompilationResult compile(Path destination, JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classpath = String.join(
+            File.pathSeparator,
+            classpathEntryFor(NotNull.class),
+            classpathEntryFor(StringConvertsToClassType.class),
+            classpathEntryFor(Logger.class)
+        );
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, diagnostics,
+                List.of("-classpath", classpath, "-d", destination.toString(), "-s", destination.toString()),
+                null, Arrays.asList(sources)
+            );
+            task.setProcessors(List.of(new PrecompiledValidationProcessor()));
+            boolean success = task.call();
+            return new CompilationResult(success, diagnostics.getDiagnostics());
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static Object newInstance(String className, Consumer<Map<String, Object>> fieldValues) throws Exception {
+        Class<?> clazz = classLoader.loadClass(className);
+        Map<String, Object> values = new HashMap<>();
+        fieldValues.accept(values);
+        if (clazz.isRecord()) {
+            Constructor<?> constructor = clazz.getDeclaredConstructors()[0];
+            Object[] args = Arrays.stream(clazz.getRecordComponents())
+                                  .map(component -> values.get(component.getName()))
+                                  .toArray();
+            return constructor.newInstance(args);
+        }
+
+        Object instance = clazz.getDeclaredConstructor().newInstance();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Field field = clazz.getDeclaredField(entry.getKey());
+            field.setAccessible(true);
+            field.set(instance, entry.getValue());
+        }
+        return instance;
+    }
+
+    private static Object validSignupRequest(Consumer<Map<String, Object>> overrides) throws Exception {
+        return newInstance("com.example.SignupRequest", values -> {
+            values.put("email", "foo@example.com");
+            values.put("name", "Foo");
+            values.put("tags", List.of("a"));
+            values.put("attributes", Map.of("a", "b"));
+            values.put("scores", new int[]{1});
+            values.put("nickname", new StringBuilder("foo"));
+            values.put("motto", "bar");
+            values.put("count", 5);
+            values.put("offset", null);
+            values.put("age", "42");
+            overrides.accept(values);
+        });
+    }
+
+    private record ViolationSummary(String path, String message, Class<?> annotationType, Object invalidValue,
+                                    Object rootBean) {
+        static ViolationSummary of(ConstraintViolation<?> violation) {
+            Object invalidValue = violation.getInvalidValue();
+            return new ViolationSummary(
+                violation.getPropertyPath().toString(),
+                violation.getMessage(),
+                violation.getConstraintDescriptor().getAnnotation().annotationType(),
+                (invalidValue instanceof int[] array) ? Arrays.toString(array) : String.valueOf(invalidValue),
+                violation.getRootBean()
+            );
+        }
+    }
+
+    private static Set<ViolationSummary> summarize(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(ViolationSummary::of).collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Set<ViolationSummary> verifyGeneratedValidatorMatchesHibernateValidator(Object object) {
+        PrecompiledValidator generatedValidator = PrecompiledValidators.forClass(object.getClass());
+        assertThat(generatedValidator).isNotNull();
+        Set<ConstraintViolation<?>> generatedViolations = generatedValidator.validate(object);
+        Set<ConstraintViolation<Object>> expectedViolations = validator.validate(object);
+
+        Set<ViolationSummary> result = summarize(generatedViolations);
+        assertThat(result).isEqualTo(summarize(expectedViolations));
+        return result;
+    }
+
+    @Test
+    public void generated_validator_finds_no_violations_for_valid_object() throws Exception {
+        // given
+        Object valid = validSignupRequest(values -> {});
+
+        // expect
+        assertThat(verifyGeneratedValidatorMatchesHibernateValidator(valid)).isEmpty();
+    }
+
+    @Test
+    public void generated_validator_matches_hibernate_validator_when_everything_is_null_or_empty() throws Exception {
+        // given
+        Object invalid = newInstance("com.example.SignupRequest", values -> {
+            values.put("tags", List.of());
+            values.put("attributes", Map.of());
+            values.put("scores", new int[0]);
+            values.put("nickname", new StringBuilder());
+            values.put("motto", " \t ");
+        });
+
+        // when
+        Set<ViolationSummary> violations = verifyGeneratedValidatorMatchesHibernateValidator(invalid);
+
+        // then
+        assertThat(violations).extracting(ViolationSummary::message).containsExactlyInAnyOrder(
+            "EMAIL_REQUIRED", "NAME_REQUIRED", "TAGS_REQUIRED", "ATTRIBUTES_REQUIRED", "SCORES_SIZE",
+            "NICKNAME_REQUIRED", "MOTTO_REQUIRED", "COUNT_TOO_SMALL"
+        );
+    }
+
+    @DataProvider(value = {
+        "email      | null        | EMAIL_REQUIRED",
+        "email      | BLANK       | EMAIL_REQUIRED",
+        "email      | EM_SPACE    | null",
+        "name       | F           | NAME_SIZE",
+        "name       | Foobar      | NAME_SIZE",
+        "tags       | a,b,c       | TOO_MANY_TAGS",
+        "count      | 0           | COUNT_TOO_SMALL",
+        "count      | 11          | COUNT_TOO_BIG",
+        "count      | 10          | null",
+        "offset     | -6          | OFFSET_TOO_SMALL",
+        "offset     | 6           | OFFSET_TOO_BIG",
+        "offset     | 5           | null",
+        "age        | 151         | AGE_INVALID",
+        "age        | forty       | AGE_INVALID",
+        "age        | 0           | null",
+    }, splitBy = "\\|")
+    @Test
+    public void generated_validator_matches_hibernate_validator_for_single_field_violations(
+        String fieldName, String value, String expectedMessage
+    ) throws Exception {
+        // given
+        Object invalid = validSignupRequest(values -> values.put(fieldName, convertValue(fieldName, value)));
+
+        // when
+        Set<ViolationSummary> violations = verifyGeneratedValidatorMatchesHibernateValidator(invalid);
+
+        // then
+        if (expectedMessage == null) {
+            assertThat(violations).isEmpty();
+        }
+        else {
+            assertThat(violations).extracting(ViolationSummary::message).containsExactly(expectedMessage);
+            assertThat(violations).extracting(ViolationSummary::path).containsExactly(fieldName);
+        }
+    }
+
+    private static Object convertValue(String fieldName, String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (fieldName) {
+            case "tags" -> List.of(value.split(","));
+            case "count" -> Integer.parseInt(value);
+            case "offset" -> Long.parseLong(value);
+            // Bean Validation's @NotBlank trims with String.trim(), which leaves an em space alone.
+            case "email" -> value.equals("BLANK") ? " \t " : "\u2003";
+            default -> value;
+        };
+    }
+
+    @Test
+    public void generated_validator_works_for_records_nested_classes_and_the_default_package() throws Exception {
+        // given
+        Object invalidWidget = newInstance("com.example.Widget", values -> values.put("size", (short) 4));
+        Object validWidget = newInstance("com.example.Widget", values -> {
+            values.put("name", "foo");
+            values.put("size", (short) 3);
+        });
+        Object invalidNested = newInstance("com.example.SignupRequest$Nested", values -> {});
+        Object unpackaged = newInstance("Unpackaged", values -> {});
+
+        // expect
+        assertThat(verifyGeneratedValidatorMatchesHibernateValidator(invalidWidget))
+            .extracting(ViolationSummary::message)
+            .containsExactlyInAnyOrder("WIDGET_NAME_REQUIRED", "WIDGET_SIZE_TOO_BIG");
+        assertThat(verifyGeneratedValidatorMatchesHibernateValidator(validWidget)).isEmpty();
+        assertThat(verifyGeneratedValidatorMatchesHibernateValidator(invalidNested))
+            .extracting(ViolationSummary::message)
+            .containsExactly("NESTED_VALUE_REQUIRED");
+        assertThat(verifyGeneratedValidatorMatchesHibernateValidator(unpackaged)).isEmpty();
+        assertThat(outputDir.resolve("com/example/SignupRequest_Nested_BackstopperValidator.java")).exists();
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void generated_validator_throws_IllegalArgumentException_for_null_object() throws Exception {
+        // given
+        PrecompiledValidator generatedValidator =
+            PrecompiledValidators.forClass(classLoader.loadClass("com.example.Widget"));
+
+        // when
+        Throwable ex = catchThrowable(() -> generatedValidator.validate(null));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final String UNSUPPORTED_IMPORTS = """
+        package com.example.unsupported;
+
+        import com.nike.backstopper.validation.constraints.StringConvertsToClassType;
+        import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+        import jakarta.validation.GroupSequence;
+        import jakarta.validation.Valid;
+        import jakarta.validation.constraints.*;
+        import jakarta.validation.valueextraction.Unwrapping;
+        import java.math.BigDecimal;
+        import java.util.List;
+
+        """;
+
+    @DataProvider(value = {
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"X\") private String x; } | field x is private",
+        "@PrecompiledValidation public class Dto { @Pattern(regexp = \"a\", message = \"X\") String x; } | Pattern constraint on field x is not supported",
+        "@PrecompiledValidation public class Dto { @Valid List<String> x; } | Valid constraint on field x is not supported",
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"{x}\") String x; } | needs interpolation",
+        "@PrecompiledValidation public class Dto { @NotNull String x; } | needs interpolation",
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"X\", groups = Dto.class) String x; } | is not in the default group",
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"X\", payload = Unwrapping.Skip.class) String x; } | has a value unwrapping payload",
+        "@PrecompiledValidation public class Dto { List<@NotBlank(message = \"X\") String> x; } | field x has container element constraints",
+        "@PrecompiledValidation public class Dto { List<? extends @NotNull(message = \"X\") String> x; } | field x has container element constraints",
+        "@PrecompiledValidation public class Dto { List<? super @NotNull(message = \"X\") String> x; } | field x has container element constraints",
+        "@PrecompiledValidation public class Dto { List<String>[] x; List<@Valid Object>[] y; } | field y has container element constraints",
+        "@PrecompiledValidation public class Dto { @NotBlank(message = \"X\") int x; } | is not supported for the field's type",
+        "@PrecompiledValidation public class Dto { @Min(value = 1, message = \"X\") BigDecimal x; } | is not supported for the field's type",
+        "@PrecompiledValidation public class Dto { @StringConvertsToClassType(message = \"X\", classType = int.class) StringBuilder x; } | is not supported for the field's type",
+        "@PrecompiledValidation public class Dto { @Size(min = 2, max = 1, message = \"X\") String x; } | has an invalid min/max",
+        "@PrecompiledValidation public class Dto { @Size(min = -1, message = \"X\") String x; } | has an invalid min/max",
+        "@PrecompiledValidation public class Dto { @Size(max = -1, message = \"X\") String x; } | has an invalid min/max",
+        "@PrecompiledValidation public class Dto { @Size(message = \"X\") @Size(message = \"Y\") String x; } | Size.List constraint on field x is not supported",
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"X\") static String x; } | static field x has constraints",
+        "@PrecompiledValidation public class Dto { @NotNull(message = \"X\") public String getX() { return null; } } | method getX() has constraints",
+        "@PrecompiledValidation @GroupSequence({Dto.class}) public class Dto { } | it has class-level constraints or group sequences",
+        "@PrecompiledValidation public abstract class Dto { } | it is abstract",
+        "@PrecompiledValidation public class Dto<T> { } | it is generic",
+        "@PrecompiledValidation public interface Dto { } | it is not a class or record",
+        "@PrecompiledValidation public enum Dto { FOO } | it is not a class or record",
+        "public class Dto { @PrecompiledValidation public class Inner { } } | it is an inner class",
+        "public class Dto { @PrecompiledValidation private static class Inner { } } | it is private",
+        "public class Dto { private static class Outer { @PrecompiledValidation static class Inner { } } } | it is private",
+        "@PrecompiledValidation public class Dto extends Base { } class Base { } | it extends com.example.unsupported.Base",
+        "@PrecompiledValidation public class Dto implements Api { } interface Api { @NotNull(message = \"X\") default String getX() { return null; } } | which has constraints",
+        "@PrecompiledValidation public class Dto implements Api { } interface Api extends Base { } @Valid interface Base { } | Base, which has constraints",
+        "@PrecompiledValidation public record Dto(@NotNull(message = \"X\") String x) { public String x() { return \"\"; } } | record component x is explicitly declared",
+        "@PrecompiledValidation public record Dto(@NotNull(message = \"X\") String getX) { } | record component getX is named like a getter",
+    }, splitBy = "\\|")
+    @Test
+    public void processor_warns_and_skips_generation_for_unsupported_types(
+        String source, String expectedWarningFragment
+    ) throws Exception {
+        // given
+        Path destination = Files.createTempDirectory("precompiled-validation-unsupported-test");
+        try {
+            // when
+            CompilationResult result = compile(
+                destination, source("com.example.unsupported.Dto", UNSUPPORTED_IMPORTS + source.trim())
+            );
+
+            // then
+            assertThat(result.success).as(result.diagnostics.toString()).isTrue();
+            assertThat(result.warnings()).hasSize(1);
+            assertThat(result.warnings().get(0))
+                .contains("No precompiled validator was generated")
+                .contains(expectedWarningFragment.trim());
+            try (Stream<Path> files = Files.walk(destination)) {
+                assertThat(files.map(Path::toString)).noneMatch(file -> file.contains("BackstopperValidator"));
+            }
+        }
+        finally {
+            deleteRecursively(destination);
+        }
+    }
+
+    @Test
+    public void processor_reports_an_error_when_two_types_map_to_the_same_generated_validator() throws Exception {
+        // given
+        Path destination = Files.createTempDirectory("precompiled-validation-clash-test");
+        String outerSource = """
+            package com.example.clash;
+
+            import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+
+            public class Outer {
+                @PrecompiledValidation public static class Inner { }
+            }
+            """;
+        String clashingSource = """
+            package com.example.clash;
+
+            import com.nike.backstopper.validation.precompiled.PrecompiledValidation;
+
+            @PrecompiledValidation public class Outer_Inner { }
+            """;
+        try {
+            // when
+            CompilationResult result = compile(
+                destination,
+                source("com.example.clash.Outer", outerSource),
+                source("com.example.clash.Outer_Inner", clashingSource)
+            );
+
+            // then
+            assertThat(result.success).isFalse();
+            List<String> errors = new ArrayList<>(result.messagesOfKind(Diagnostic.Kind.ERROR));
+            assertThat(errors).anyMatch(error -> error.contains("Unable to write the precompiled validator"));
+        }
+        finally {
+            deleteRecursively(destination);
+        }
+    }
+
+    @DataProvider(value = {
+        "getX   | true",
+        "get    | false",
+        "isX    | true",
+        "is     | false",
+        "hasX   | true",
+        "has    | false",
+        "x      | false",
+    }, splitBy = "\\|")
+    @Test
+    public void looksLikeGetter_works_as_expected(String methodName, boolean expectedResult) {
+        // expect
+        assertThat(PrecompiledValidationProcessor.looksLikeGetter(methodName.trim())).isEqualTo(expectedResult);
+    }
+}
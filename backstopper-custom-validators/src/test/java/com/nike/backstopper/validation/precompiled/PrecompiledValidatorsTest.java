@@ -0,0 +1,144 @@
+package com.nike.backstopper.validation.precompiled;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link PrecompiledValidators}. The "generated" validators used here are hand-written
+ * top-level classes at the bottom of this file that follow the generated naming convention.
+ */
+@RunWith(DataProviderRunner.class)
+public class PrecompiledValidatorsTest {
+
+    static class GoodDto {
+    }
+
+    static class NotAValidatorDto {
+    }
+
+    static class WrongClassDto {
+    }
+
+    static class ThrowingConstructorDto {
+    }
+
+    static class BrokenStaticInitDto {
+    }
+
+    static class NoGeneratedValidatorDto {
+    }
+
+    @Test
+    public void forClass_throws_NullPointerException_if_passed_null() {
+        // when
+        Throwable ex = catchThrowable(() -> PrecompiledValidators.forClass(null));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void forClass_returns_the_generated_validator_and_remembers_it() {
+        // when
+        PrecompiledValidator<GoodDto> first = PrecompiledValidators.forClass(GoodDto.class);
+        PrecompiledValidator<GoodDto> second = PrecompiledValidators.forClass(GoodDto.class);
+
+        // then
+        assertThat(first).isInstanceOf(PrecompiledValidatorsTest_GoodDto_BackstopperValidator.class);
+        assertThat(second).isSameAs(first);
+    }
+
+    @DataProvider
+    public static Object[][] classesWithoutUsableGeneratedValidators() {
+        return new Object[][]{
+            {String.class},
+            {int.class},
+            {GoodDto[].class},
+            {NoGeneratedValidatorDto.class},
+            {NotAValidatorDto.class},
+            {WrongClassDto.class},
+            {ThrowingConstructorDto.class},
+            {BrokenStaticInitDto.class},
+        };
+    }
+
+    @Test
+    @UseDataProvider("classesWithoutUsableGeneratedValidators")
+    public void forClass_returns_null_if_there_is_no_usable_generated_validator(Class<?> type) {
+        // expect
+        assertThat(PrecompiledValidators.forClass(type)).isNull();
+    }
+
+    @DataProvider(value = {
+        "com.foo.Bar            | com.foo.Bar_BackstopperValidator",
+        "com.foo.Outer$Inner    | com.foo.Outer_Inner_BackstopperValidator",
+        "com.foo.A$B$C          | com.foo.A_B_C_BackstopperValidator",
+        "Bar                    | Bar_BackstopperValidator",
+    }, splitBy = "\\|")
+    @Test
+    public void generatedValidatorClassName_works_as_expected(String binaryName, String expectedResult) {
+        // expect
+        assertThat(PrecompiledValidators.generatedValidatorClassName(binaryName)).isEqualTo(expectedResult);
+    }
+}
+
+class PrecompiledValidatorsTest_GoodDto_BackstopperValidator
+    implements PrecompiledValidator<PrecompiledValidatorsTest.GoodDto> {
+
+    @Override
+    public Class<PrecompiledValidatorsTest.GoodDto> getValidatedClass() {
+        return PrecompiledValidatorsTest.GoodDto.class;
+    }
+
+    @Override
+    public Set<ConstraintViolation<PrecompiledValidatorsTest.GoodDto>> validate(PrecompiledValidatorsTest.GoodDto object) {
+        return Collections.emptySet();
+    }
+}
+
+class PrecompiledValidatorsTest_NotAValidatorDto_BackstopperValidator {
+}
+
+class PrecompiledValidatorsTest_WrongClassDto_BackstopperValidator
+    implements PrecompiledValidator<PrecompiledValidatorsTest.GoodDto> {
+
+    @Override
+    public Class<PrecompiledValidatorsTest.GoodDto> getValidatedClass() {
+        return PrecompiledValidatorsTest.GoodDto.class;
+    }
+
+    @Override
+    public Set<ConstraintViolation<PrecompiledValidatorsTest.GoodDto>> validate(PrecompiledValidatorsTest.GoodDto object) {
+        return Collections.emptySet();
+    }
+}
+
+class PrecompiledValidatorsTest_ThrowingConstructorDto_BackstopperValidator
+    extends PrecompiledValidatorsTest_GoodDto_BackstopperValidator {
+
+    PrecompiledValidatorsTest_ThrowingConstructorDto_BackstopperValidator() {
+        throw new IllegalStateException("intentional test exception");
+    }
+}
+
+class PrecompiledValidatorsTest_BrokenStaticInitDto_BackstopperValidator
+    extends PrecompiledValidatorsTest_GoodDto_BackstopperValidator {
+
+    static final Object BROKEN = explode();
+
+    private static Object explode() {
+        throw new IllegalStateException("intentional test exception");
+    }
+}
@@ -0,0 +1,248 @@
+package com.nike.backstopper.handler.listener.impl;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.internal.util.Pair;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import static com.nike.backstopper.apierror.FieldApiErrorInternCache.FIELD_METADATA_KEY;
+import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
+
+/**
+ * Handles request body deserialization failures where the root cause is a Jackson exception, by inspecting the
+ * Jackson exception types and their {@link JsonMappingException#getPath()} rather than searching exception messages.
+ * Jackson builds {@link JsonMappingException#getMessage()} (including the source location and path description) every
+ * time it's called, so this listener never calls it on the Jackson exception or its wrappers.
+ *
+ * <p>Only Jackson exceptions that are wrapped in a known request body wrapper exception are handled - by default
+ * Spring's {@code HttpMessageNotReadableException} (Spring WebMVC), and {@code DecodingException} and
+ * {@code ServerWebInputException} (Spring WebFlux). See {@link #DEFAULT_REQUEST_BODY_WRAPPER_CLASSNAMES}. A bare
+ * Jackson exception is not handled, since it more likely came from the server deserializing something on its own
+ * behalf (e.g. a downstream response) than from a bad request. Wrappers are matched by classname so that this module
+ * doesn't need Spring dependencies.
+ *
+ * <p>The Jackson exception is mapped as follows:
+ * <ul>
+ *     <li>
+ *         No content at all, or an empty string for the whole body -
+ *         {@link ProjectApiErrors#getMissingExpectedContentApiError()}.
+ *     </li>
+ *     <li>{@link InvalidFormatException} - {@link ProjectApiErrors#getTypeConversionApiError()}.</li>
+ *     <li>
+ *         Any other Jackson exception (syntax errors, unexpected tokens, unknown properties, etc) -
+ *         {@link ProjectApiErrors#getMalformedRequestApiError()}.
+ *     </li>
+ * </ul>
+ * If the failure is tied to a location in the body then the resulting {@link ApiError} will have a {@code field}
+ * metadata entry with the path to it, e.g. {@code order.items[2].quantity}.
+ *
+ * <p>NOTE: This listener is not part of the default listener lists, and isn't annotated for classpath scanning. To use
+ * it, add it to your listener list ahead of the one-off Spring framework listener so it gets first crack at request
+ * body errors.
+ */
+@SuppressWarnings("WeakerAccess")
+public class JacksonRequestBodyErrorHandlerListener implements ApiExceptionHandlerListener {
+
+    /**
+     * The classnames of the exceptions that frameworks wrap request body deserialization failures in.
+     */
+    public static final Set<String> DEFAULT_REQUEST_BODY_WRAPPER_CLASSNAMES = Collections.unmodifiableSet(
+        new LinkedHashSet<>(Arrays.asList(
+            "org.springframework.http.converter.HttpMessageNotReadableException",
+            "org.springframework.core.codec.DecodingException",
+            "org.springframework.web.server.ServerWebInputException"
+        ))
+    );
+
+    // Guards against pathological (or circular) cause chains.
+    protected static final int MAX_CAUSE_CHAIN_DEPTH = 10;
+
+    protected final ProjectApiErrors projectApiErrors;
+    protected final Set<String> requestBodyWrapperClassnames;
+
+    protected final ClassValue<Boolean> isRequestBodyWrapperType = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                if (requestBodyWrapperClassnames.contains(current.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Creates a new instance that uses {@link #DEFAULT_REQUEST_BODY_WRAPPER_CLASSNAMES}.
+     *
+     * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
+     *                          {@link ApiError}s. Cannot be null.
+     */
+    @Inject
+    public JacksonRequestBodyErrorHandlerListener(ProjectApiErrors projectApiErrors) {
+        this(projectApiErrors, DEFAULT_REQUEST_BODY_WRAPPER_CLASSNAMES);
+    }
+
+    /**
+     * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding
+     *                          {@link ApiError}s. Cannot be null.
+     * @param requestBodyWrapperClassnames The classnames of the exceptions that indicate a request body
+     *                          deserialization failure when they wrap a Jackson exception. Subclasses of these are
+     *                          also matched. Cannot be null.
+     */
+    public JacksonRequestBodyErrorHandlerListener(
+        ProjectApiErrors projectApiErrors,
+        Set<String> requestBodyWrapperClassnames
+    ) {
+        if (projectApiErrors == null)
+            throw new IllegalArgumentException("ProjectApiErrors cannot be null");
+
+        if (requestBodyWrapperClassnames == null)
+            throw new IllegalArgumentException("requestBodyWrapperClassnames cannot be null");
+
+        this.projectApiErrors = projectApiErrors;
+        this.requestBodyWrapperClassnames = Collections.unmodifiableSet(
+            new LinkedHashSet<>(requestBodyWrapperClassnames)
+        );
+    }
+
+    @Override
+    public ApiExceptionHandlerListenerResult shouldHandleException(Throwable ex) {
+        JsonProcessingException jacksonEx = findWrappedJacksonException(ex);
+        if (jacksonEx == null) {
+            return ApiExceptionHandlerListenerResult.ignoreResponse();
+        }
+
+        String fieldPath = (jacksonEx instanceof JsonMappingException jme) ? buildFieldPath(jme.getPath()) : null;
+
+        List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>();
+        extraDetailsForLogging.add(Pair.of("request_body_wrapper_exception_class", ex.getClass().getName()));
+        extraDetailsForLogging.add(Pair.of("jackson_exception_class", jacksonEx.getClass().getName()));
+        if (fieldPath != null) {
+            extraDetailsForLogging.add(Pair.of("jackson_field_path", fieldPath));
+        }
+
+        ApiError error = determineApiError(jacksonEx, fieldPath);
+        if (fieldPath != null) {
+            error = new ApiErrorWithMetadata(error, Pair.of(FIELD_METADATA_KEY, fieldPath));
+        }
+
+        return ApiExceptionHandlerListenerResult.handleResponse(singletonSortedSetOf(error), extraDetailsForLogging);
+    }
+
+    /**
+     * @return The Jackson exception at the end of the given exception's chain of request body wrapper exceptions, or
+     * null if the given exception isn't a request body wrapper or doesn't (eventually) wrap a Jackson exception.
+     */
+    protected @Nullable JsonProcessingException findWrappedJacksonException(@Nullable Throwable ex) {
+        if (ex == null || !isRequestBodyWrapperType.get(ex.getClass())) {
+            return null;
+        }
+
+        Throwable current = ex.getCause();
+        for (int depth = 0; current != null && depth < MAX_CAUSE_CHAIN_DEPTH; depth++) {
+            if (current instanceof JsonProcessingException jacksonEx) {
+                return jacksonEx;
+            }
+
+            if (!isRequestBodyWrapperType.get(current.getClass())) {
+                // Something other than a wrapper or a Jackson exception - not a request body error we understand.
+                return null;
+            }
+
+            current = current.getCause();
+        }
+
+        return null;
+    }
+
+    protected @NotNull ApiError determineApiError(
+        @NotNull JsonProcessingException jacksonEx,
+        @Nullable String fieldPath
+    ) {
+        if (isMissingContent(jacksonEx, fieldPath)) {
+            return projectApiErrors.getMissingExpectedContentApiError();
+        }
+
+        if (jacksonEx instanceof InvalidFormatException) {
+            return projectApiErrors.getTypeConversionApiError();
+        }
+
+        return projectApiErrors.getMalformedRequestApiError();
+    }
+
+    /**
+     * @return true if the Jackson exception indicates the request body was missing - either there was no content at
+     * all (Jackson's parser never found a first token), or the whole body was an empty string that couldn't be
+     * coerced into the target type.
+     */
+    protected boolean isMissingContent(@NotNull JsonProcessingException jacksonEx, @Nullable String fieldPath) {
+        if (fieldPath != null) {
+            // The problem is with a specific part of the body, so the body itself wasn't missing.
+            return false;
+        }
+
+        if (jacksonEx instanceof InvalidFormatException ife) {
+            return "".equals(ife.getValue());
+        }
+
+        if (jacksonEx instanceof MismatchedInputException mie && mie.getProcessor() instanceof JsonParser parser) {
+            // Nothing was read at all - i.e. the end of input was hit before the first token. Byte-backed parsers
+            //      only track byte offsets and char-backed parsers only track char offsets (the other is -1), so
+            //      check both.
+            JsonLocation tokenLocation = parser.currentTokenLocation();
+            return !parser.hasCurrentToken()
+                   && tokenLocation.getByteOffset() <= 0
+                   && tokenLocation.getCharOffset() <= 0;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return The given Jackson path in {@code a.b[0].c} form, or null if the path is null or empty. Built directly
+     * from the path references' field names and indexes, rather than from their descriptions.
+     */
+    protected @Nullable String buildFieldPath(@Nullable List<JsonMappingException.Reference> path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (JsonMappingException.Reference ref : path) {
+            String fieldName = ref.getFieldName();
+            if (fieldName != null) {
+                if (sb.length() > 0) {
+                    sb.append('.');
+                }
+                sb.append(fieldName);
+            }
+            else if (ref.getIndex() >= 0) {
+                sb.append('[').append(ref.getIndex()).append(']');
+            }
+        }
+
+        return (sb.length() == 0) ? null : sb.toString();
+    }
+}
@@ -0,0 +1,190 @@
+package com.nike.backstopper.model.util;
+
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.DefaultErrorDTO;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Serializes a {@link DefaultErrorContractDTO} to UTF-8 JSON a piece at a time, so that error contracts with thousands
+ * of errors can be written to a response without ever holding the whole serialized contract in memory.
+ *
+ * <p>There are two ways to use this class:
+ * <ul>
+ *     <li>
+ *         {@link #writeTo(DefaultErrorContractDTO, ObjectMapper, OutputStream)} - for blocking output streams (e.g. a
+ *         servlet response). Jackson's {@link JsonGenerator} flushes its small internal buffer to the stream as it
+ *         goes.
+ *     </li>
+ *     <li>
+ *         {@link #nextChunk()} - for non-blocking consumers that pull the body as a series of byte chunks (e.g. a
+ *         WebFlux {@code Flux<DataBuffer>}). Each call serializes just enough errors to fill roughly
+ *         {@link #chunkSizeHint} bytes.
+ *     </li>
+ * </ul>
+ *
+ * <p>{@link #nextChunk()} writes the {@code error_id} and {@code errors} fields of the contract itself and only hands
+ * the individual {@link DefaultErrorDTO}s to the {@link ObjectMapper}, so its output matches {@link
+ * JsonUtilWithDefaultErrorContractDTOSupport#writeValueAsBytes(Object, ObjectMapper)} only as long as the mapper
+ * doesn't rename, reorder, or add to the contract's own properties (e.g. via a naming strategy or mix-in). Subclasses
+ * of {@link DefaultErrorContractDTO} may have extra properties, so they are not chunked - they are serialized by the
+ * mapper in full and returned as a single chunk. {@link #writeTo(DefaultErrorContractDTO, ObjectMapper, OutputStream)}
+ * always serializes the whole contract with the mapper.
+ *
+ * <p>Unlike {@link JsonUtilWithDefaultErrorContractDTOSupport#writeValueAsBytes(Object, ObjectMapper)} there is no
+ * fallback response if serialization fails partway through, since part of the response may already have been sent -
+ * the {@link IOException} is thrown to the caller instead.
+ *
+ * <p>Instances are stateful and are not thread safe. Create a new one for each response.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ChunkedErrorContractJsonWriter implements Closeable {
+
+    /**
+     * The default value for {@link #chunkSizeHint}.
+     */
+    public static final int DEFAULT_CHUNK_SIZE_HINT = 8192;
+
+    protected final @NotNull DefaultErrorContractDTO errorContract;
+    protected final @NotNull ObjectMapper mapper;
+    /**
+     * {@link #nextChunk()} stops adding errors to a chunk once it's at least this many bytes. A single error is never
+     * split across chunks, so chunks can be larger than this.
+     */
+    protected final int chunkSizeHint;
+
+    private final ByteArrayOutputStream buffer;
+    private final JsonGenerator generator;
+    // -1 until the start of the contract has been written.
+    private int nextErrorIndex = -1;
+    private boolean finished = false;
+
+    /**
+     * Creates a new instance that uses {@link JsonUtilWithDefaultErrorContractDTOSupport#DEFAULT_SMART_MAPPER} and
+     * {@link #DEFAULT_CHUNK_SIZE_HINT}.
+     */
+    public ChunkedErrorContractJsonWriter(@NotNull DefaultErrorContractDTO errorContract) throws IOException {
+        this(errorContract, JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER, DEFAULT_CHUNK_SIZE_HINT);
+    }
+
+    /**
+     * @param errorContract The error contract to serialize - cannot be null.
+     * @param mapper The {@link ObjectMapper} to serialize with - cannot be null.
+     * @param chunkSizeHint The approximate size of each chunk returned by {@link #nextChunk()} - must be positive.
+     */
+    public ChunkedErrorContractJsonWriter(
+        @NotNull DefaultErrorContractDTO errorContract,
+        @NotNull ObjectMapper mapper,
+        int chunkSizeHint
+    ) throws IOException {
+        //noinspection ConstantConditions
+        if (errorContract == null) {
+            throw new NullPointerException("errorContract cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (mapper == null) {
+            throw new NullPointerException("mapper cannot be null.");
+        }
+
+        if (chunkSizeHint <= 0) {
+            throw new IllegalArgumentException("chunkSizeHint must be positive.");
+        }
+
+        this.errorContract = errorContract;
+        this.mapper = mapper;
+        this.chunkSizeHint = chunkSizeHint;
+        this.buffer = new ByteArrayOutputStream(chunkSizeHint);
+        this.generator = mapper.createGenerator(buffer, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Serializes the given error contract straight to the given output stream. The stream is flushed but not closed.
+     */
+    public static void writeTo(
+        @NotNull DefaultErrorContractDTO errorContract,
+        @NotNull ObjectMapper mapper,
+        @NotNull OutputStream out
+    ) throws IOException {
+        try (JsonGenerator streamGenerator = mapper.createGenerator(out, JsonEncoding.UTF8)) {
+            streamGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            mapper.writeValue(streamGenerator, errorContract);
+        }
+        out.flush();
+    }
+
+    /**
+     * @return The next chunk of the serialized error contract, or null if the whole contract has already been
+     * returned. If the contract is a subclass of {@link DefaultErrorContractDTO} then the first chunk is the whole
+     * contract.
+     */
+    public byte @Nullable [] nextChunk() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        if (errorContract.getClass() != DefaultErrorContractDTO.class) {
+            // We don't know what extra properties a subclass has, so let the mapper serialize all of it.
+            mapper.writeValue(generator, errorContract);
+            generator.close();
+            finished = true;
+            return takeBufferedBytes();
+        }
+
+        if (nextErrorIndex < 0) {
+            generator.writeStartObject();
+            generator.writeFieldName("error_id");
+            mapper.writeValue(generator, errorContract.error_id);
+            generator.writeFieldName("errors");
+            generator.writeStartArray();
+            nextErrorIndex = 0;
+        }
+
+        List<DefaultErrorDTO> errors = errorContract.errors;
+        while (nextErrorIndex < errors.size() && buffer.size() < chunkSizeHint) {
+            mapper.writeValue(generator, errors.get(nextErrorIndex++));
+        }
+
+        if (nextErrorIndex >= errors.size()) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+            finished = true;
+        }
+        else {
+            generator.flush();
+        }
+
+        return takeBufferedBytes();
+    }
+
+    private byte[] takeBufferedBytes() {
+        byte[] chunk = buffer.toByteArray();
+        buffer.reset();
+        return chunk;
+    }
+
+    /**
+     * @return true if {@link #nextChunk()} has returned the last chunk of the contract.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        generator.close();
+    }
+}
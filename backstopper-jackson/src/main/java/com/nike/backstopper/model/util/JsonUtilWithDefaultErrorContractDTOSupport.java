@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +33,10 @@ import java.util.UUID;
  * <p>You can further define a default generic error response that will be returned if there's a problem during
  * serialization by calling {@link #writeValueAsString(Object, ObjectMapper, String)}. The other methods use
  * {@link #DEFAULT_ERROR_RESPONSE_STRING} as a default.
+ *
+ * <p>The {@code writeValueAsBytes(...)} methods mirror the {@code writeValueAsString(...)} methods, but serialize
+ * directly to UTF-8 bytes. Use them when the result is headed straight to a response stream or buffer, since it avoids
+ * creating an intermediate {@link String} that would just be re-encoded to bytes again.
  * <p>
  * Created by dsand7 on 9/25/14.
  */
@@ -71,6 +76,30 @@ public class JsonUtilWithDefaultErrorContractDTOSupport {
         }
     }
 
+    public static byte[] writeValueAsBytes(Object value) {
+        return writeValueAsBytes(value, DEFAULT_SMART_MAPPER);
+    }
+
+    public static byte[] writeValueAsBytes(Object value, ObjectMapper mapper) {
+        return writeValueAsBytes(value, mapper, DEFAULT_ERROR_RESPONSE_STRING);
+    }
+
+    public static byte[] writeValueAsBytes(Object value, ObjectMapper mapper,
+                                           String defaultResponseIfErrorDuringSerialization) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            String errorId = UUID.randomUUID().toString();
+            logger.error("Exception occurred while generating error code JSON. Falling back to default response with "
+                         + "error_id={}", errorId, e);
+            if (defaultResponseIfErrorDuringSerialization == null) {
+                defaultResponseIfErrorDuringSerialization = DEFAULT_ERROR_RESPONSE_STRING;
+            }
+            return defaultResponseIfErrorDuringSerialization.replace("%uuid%", errorId)
+                                                            .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     public static ObjectMapper generateErrorContractObjectMapper(boolean excludeEmptyMetadataFromJson,
                                                                  boolean serializeErrorCodeFieldAsIntegerIfPossible) {
         return new ObjectMapper().setSerializerFactory(
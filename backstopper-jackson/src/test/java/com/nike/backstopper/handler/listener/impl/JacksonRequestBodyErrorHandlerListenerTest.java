@@ -0,0 +1,258 @@
+package com.nike.backstopper.handler.listener.impl;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.testutil.ProjectApiErrorsForTesting;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.internal.util.Pair;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link JacksonRequestBodyErrorHandlerListener}.
+ */
+@RunWith(DataProviderRunner.class)
+public class JacksonRequestBodyErrorHandlerListenerTest {
+
+    private static final ProjectApiErrors testProjectApiErrors =
+        ProjectApiErrorsForTesting.withProjectSpecificData(null, null);
+
+    private static final ObjectMapper objectMapper =
+        new ObjectMapper().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final JacksonRequestBodyErrorHandlerListener listener = new JacksonRequestBodyErrorHandlerListener(
+        testProjectApiErrors, Collections.singleton(RequestBodyWrapperException.class.getName())
+    );
+
+    @SuppressWarnings("unused")
+    public static class Order {
+        public String id;
+        public List<Item> items;
+    }
+
+    @SuppressWarnings("unused")
+    public static class Item {
+        public int quantity;
+        public Color color;
+    }
+
+    public enum Color {
+        RED, BLUE
+    }
+
+    public static class RequestBodyWrapperException extends RuntimeException {
+        public RequestBodyWrapperException(Throwable cause) {
+            super("wrapper", cause);
+        }
+    }
+
+    public static class RequestBodyWrapperSubclassException extends RequestBodyWrapperException {
+        public RequestBodyWrapperSubclassException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    private static JsonProcessingException deserializationFailure(String json) {
+        Throwable ex = catchThrowable(() -> objectMapper.readValue(json, Order.class));
+        assertThat(ex).isInstanceOf(JsonProcessingException.class);
+        return (JsonProcessingException) ex;
+    }
+
+    private static ApiError expectedError(ApiError baseError, String expectedField) {
+        return (expectedField == null)
+               ? baseError
+               : new ApiErrorWithMetadata(baseError, Pair.of("field", expectedField));
+    }
+
+    @Test
+    public void default_constructor_uses_default_wrapper_classnames() {
+        // when
+        JacksonRequestBodyErrorHandlerListener defaultListener =
+            new JacksonRequestBodyErrorHandlerListener(testProjectApiErrors);
+
+        // then
+        assertThat(defaultListener.projectApiErrors).isSameAs(testProjectApiErrors);
+        assertThat(defaultListener.requestBodyWrapperClassnames).containsExactly(
+            "org.springframework.http.converter.HttpMessageNotReadableException",
+            "org.springframework.core.codec.DecodingException",
+            "org.springframework.web.server.ServerWebInputException"
+        );
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_null_args() {
+        // expect
+        assertThat(catchThrowable(() -> new JacksonRequestBodyErrorHandlerListener(null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> new JacksonRequestBodyErrorHandlerListener(testProjectApiErrors, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DataProvider(value = {
+        "                                                   |   MISSING_EXPECTED_CONTENT    |   null",
+        "\"\"                                               |   MISSING_EXPECTED_CONTENT    |   null",
+        "{\"id\": \"foo\",                                  |   MALFORMED_REQUEST           |   null",
+        "not json                                           |   MALFORMED_REQUEST           |   null",
+        "[1, 2]                                             |   MALFORMED_REQUEST           |   null",
+        "{\"bogus\": 1}                                     |   MALFORMED_REQUEST           |   bogus",
+        "{\"items\": [{\"quantity\": 1}, {\"quantity\": \"x\"}]}    |   TYPE_CONVERSION_ERROR   |   items[1].quantity",
+        "{\"items\": [{\"color\": \"GREEN\"}]}              |   TYPE_CONVERSION_ERROR       |   items[0].color",
+        "{\"items\": [{\"color\": \"\"}]}                   |   TYPE_CONVERSION_ERROR       |   items[0].color",
+        "{\"items\": {\"quantity\": 1}}                     |   MALFORMED_REQUEST           |   items",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void shouldHandleException_maps_wrapped_Jackson_exceptions_structurally(
+        String json, String expectedErrorName, String expectedField
+    ) {
+        // given
+        JsonProcessingException jacksonEx = deserializationFailure(json);
+        JsonProcessingException jacksonExSpy = spy(jacksonEx);
+
+        // when
+        ApiExceptionHandlerListenerResult result =
+            listener.shouldHandleException(new RequestBodyWrapperException(jacksonExSpy));
+
+        // then
+        ApiError baseError = testProjectApiErrors.convertToApiError(expectedErrorName);
+        assertThat(result.shouldHandleResponse).isTrue();
+        assertThat(result.errors).containsExactly(expectedError(baseError, expectedField));
+        assertThat(result.extraDetailsForLogging).contains(
+            Pair.of("request_body_wrapper_exception_class", RequestBodyWrapperException.class.getName()),
+            Pair.of("jackson_exception_class", jacksonEx.getClass().getName())
+        );
+        verify(jacksonExSpy, never()).getMessage();
+        verify(jacksonExSpy, never()).getOriginalMessage();
+    }
+
+    @Test
+    public void shouldHandleException_handles_nested_and_subclassed_wrappers() {
+        // given
+        JsonProcessingException jacksonEx = deserializationFailure("{\"bogus\": 1}");
+        Throwable ex = new RequestBodyWrapperSubclassException(new RequestBodyWrapperException(jacksonEx));
+
+        // when
+        ApiExceptionHandlerListenerResult result = listener.shouldHandleException(ex);
+
+        // then
+        assertThat(result.shouldHandleResponse).isTrue();
+        assertThat(result.errors).containsExactly(
+            expectedError(testProjectApiErrors.getMalformedRequestApiError(), "bogus")
+        );
+    }
+
+    @Test
+    public void shouldHandleException_ignores_exceptions_that_are_not_wrapped_Jackson_exceptions() {
+        // given
+        JsonProcessingException jacksonEx = deserializationFailure("not json");
+
+        // expect
+        assertThat(listener.shouldHandleException(null).shouldHandleResponse).isFalse();
+        assertThat(listener.shouldHandleException(jacksonEx).shouldHandleResponse).isFalse();
+        assertThat(listener.shouldHandleException(new RuntimeException(jacksonEx)).shouldHandleResponse).isFalse();
+        assertThat(listener.shouldHandleException(new RequestBodyWrapperException(null)).shouldHandleResponse)
+            .isFalse();
+        assertThat(
+            listener.shouldHandleException(
+                new RequestBodyWrapperException(new IllegalStateException(jacksonEx))
+            ).shouldHandleResponse
+        ).isFalse();
+    }
+
+    @Test
+    public void shouldHandleException_gives_up_on_pathologically_deep_wrapper_chains() {
+        // given
+        Throwable ex = deserializationFailure("not json");
+        for (int i = 0; i <= JacksonRequestBodyErrorHandlerListener.MAX_CAUSE_CHAIN_DEPTH; i++) {
+            ex = new RequestBodyWrapperException(ex);
+        }
+
+        // expect
+        assertThat(listener.shouldHandleException(ex).shouldHandleResponse).isFalse();
+    }
+
+    @DataProvider(value = {
+        "                   |   MISSING_EXPECTED_CONTENT",
+        "\\u0020\\u0020     |   MISSING_EXPECTED_CONTENT",
+        "\"\"                 |   MISSING_EXPECTED_CONTENT",
+        "[1, 2]             |   MALFORMED_REQUEST",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void shouldHandleException_detects_missing_content_for_byte_backed_parsers(
+        String json, String expectedErrorName
+    ) {
+        // given
+        String body = json.replace("\\u0020", " ");
+        Throwable jacksonEx = catchThrowable(
+            () -> objectMapper.readValue(body.getBytes(StandardCharsets.UTF_8), Order.class)
+        );
+
+        // when
+        ApiExceptionHandlerListenerResult result =
+            listener.shouldHandleException(new RequestBodyWrapperException(jacksonEx));
+
+        // then
+        assertThat(result.errors).containsExactly(testProjectApiErrors.convertToApiError(expectedErrorName));
+    }
+
+    @DataProvider(value = {
+        "false  |   0   |   -1  |   true",
+        "false  |   -1  |   0   |   true",
+        "true   |   0   |   -1  |   false",
+        "false  |   5   |   -1  |   false",
+        "false  |   -1  |   5   |   false",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void isMissingContent_checks_both_byte_and_char_token_offsets(
+        boolean hasCurrentToken, long byteOffset, long charOffset, boolean expectedResult
+    ) {
+        // given
+        JsonParser parserMock = mock(JsonParser.class);
+        doReturn(hasCurrentToken).when(parserMock).hasCurrentToken();
+        doReturn(new JsonLocation(ContentReference.unknown(), byteOffset, charOffset, 1, 1))
+            .when(parserMock).currentTokenLocation();
+        MismatchedInputException jacksonEx = MismatchedInputException.from(parserMock, Order.class, "intentional");
+
+        // expect
+        assertThat(listener.isMissingContent(jacksonEx, null)).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void buildFieldPath_returns_null_for_null_empty_or_nameless_paths() {
+        // expect
+        assertThat(listener.buildFieldPath(null)).isNull();
+        assertThat(listener.buildFieldPath(Collections.emptyList())).isNull();
+        assertThat(listener.buildFieldPath(Collections.singletonList(new JsonMappingException.Reference(null))))
+            .isNull();
+    }
+
+    @Test
+    public void isMissingContent_returns_false_for_Jackson_exceptions_without_a_parser() {
+        // expect
+        assertThat(listener.isMissingContent(mock(JsonMappingException.class), null)).isFalse();
+    }
+}
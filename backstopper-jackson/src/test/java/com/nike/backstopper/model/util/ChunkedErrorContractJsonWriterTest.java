@@ -0,0 +1,209 @@
+package com.nike.backstopper.model.util;
+
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.DefaultErrorDTO;
+import com.nike.internal.util.MapBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link ChunkedErrorContractJsonWriter}.
+ */
+@RunWith(DataProviderRunner.class)
+public class ChunkedErrorContractJsonWriterTest {
+
+    private static DefaultErrorContractDTO errorContract(String errorId, int numErrors) {
+        List<DefaultErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < numErrors; i++) {
+            errors.add(new DefaultErrorDTO(
+                (i % 2 == 0) ? "4242" : "FOO_" + i,
+                "some message " + i,
+                (i % 3 == 0) ? null : MapBuilder.builder("field", (Object) ("items[" + i + "]")).build()
+            ));
+        }
+        return new DefaultErrorContractDTO(errorId, errors, null);
+    }
+
+    private static byte[] readAllChunks(ChunkedErrorContractJsonWriter writer, List<byte[]> chunksCollector)
+        throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk;
+        while ((chunk = writer.nextChunk()) != null) {
+            chunksCollector.add(chunk);
+            out.write(chunk);
+        }
+        return out.toByteArray();
+    }
+
+    @DataProvider(value = {
+        "0      |   1",
+        "1      |   1",
+        "1      |   8192",
+        "50     |   64",
+        "2000   |   8192",
+    }, splitBy = "\\|", trimValues = true)
+    @Test
+    public void nextChunk_output_matches_JsonUtil_output(int numErrors, int chunkSizeHint) throws IOException {
+        // given
+        DefaultErrorContractDTO contract = errorContract(UUID.randomUUID().toString(), numErrors);
+        ObjectMapper mapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(contract, mapper, chunkSizeHint);
+        List<byte[]> chunks = new ArrayList<>();
+
+        // when
+        byte[] result = readAllChunks(writer, chunks);
+
+        // then
+        assertThat(result).isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(contract, mapper));
+        assertThat(writer.isFinished()).isTrue();
+        assertThat(writer.nextChunk()).isNull();
+    }
+
+    @Test
+    public void nextChunk_splits_large_contracts_into_bounded_chunks() throws IOException {
+        // given
+        int chunkSizeHint = 1024;
+        DefaultErrorContractDTO contract = errorContract(UUID.randomUUID().toString(), 1000);
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(
+            contract, JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER, chunkSizeHint
+        );
+        List<byte[]> chunks = new ArrayList<>();
+
+        // when
+        byte[] result = readAllChunks(writer, chunks);
+
+        // then
+        assertThat(chunks.size()).isGreaterThan(result.length / (chunkSizeHint * 2));
+        // A chunk can only go over the hint by (roughly) the size of one serialized error.
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length).isLessThan(chunkSizeHint + 256));
+    }
+
+    @Test
+    public void nextChunk_honors_custom_ObjectMapper_and_null_error_id() throws IOException {
+        // given
+        ObjectMapper customMapper = JsonUtilWithDefaultErrorContractDTOSupport.generateErrorContractObjectMapper(
+            false, false
+        );
+        DefaultErrorContractDTO contract = errorContract(null, 5);
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(contract, customMapper, 16);
+
+        // when
+        byte[] result = readAllChunks(writer, new ArrayList<>());
+
+        // then
+        assertThat(result).isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(contract, customMapper));
+    }
+
+    public static class ErrorContractWithExtraProperty extends DefaultErrorContractDTO {
+        public final String extra = "extra-value";
+
+        public ErrorContractWithExtraProperty(DefaultErrorContractDTO copy) {
+            super(copy);
+        }
+    }
+
+    @Test
+    public void nextChunk_serializes_subclasses_in_full_as_a_single_chunk() throws IOException {
+        // given
+        DefaultErrorContractDTO contract = new ErrorContractWithExtraProperty(
+            errorContract(UUID.randomUUID().toString(), 50)
+        );
+        ObjectMapper mapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(contract, mapper, 16);
+        List<byte[]> chunks = new ArrayList<>();
+
+        // when
+        byte[] result = readAllChunks(writer, chunks);
+
+        // then
+        assertThat(chunks).hasSize(1);
+        assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"extra\":\"extra-value\"");
+        assertThat(result).isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(contract, mapper));
+        assertThat(writer.isFinished()).isTrue();
+    }
+
+    @Test
+    public void default_constructor_uses_default_mapper_and_chunk_size() throws IOException {
+        // given
+        DefaultErrorContractDTO contract = errorContract(UUID.randomUUID().toString(), 3);
+
+        // when
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(contract);
+
+        // then
+        assertThat(writer.errorContract).isSameAs(contract);
+        assertThat(writer.mapper).isSameAs(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER);
+        assertThat(writer.chunkSizeHint).isEqualTo(ChunkedErrorContractJsonWriter.DEFAULT_CHUNK_SIZE_HINT);
+    }
+
+    @Test
+    public void close_stops_further_chunks() throws IOException {
+        // given
+        ChunkedErrorContractJsonWriter writer = new ChunkedErrorContractJsonWriter(
+            errorContract(UUID.randomUUID().toString(), 100), JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER, 16
+        );
+        assertThat(writer.nextChunk()).isNotNull();
+
+        // when
+        writer.close();
+
+        // then
+        assertThat(writer.isFinished()).isTrue();
+        assertThat(writer.nextChunk()).isNull();
+    }
+
+    @Test
+    public void writeTo_output_matches_JsonUtil_output_and_does_not_close_stream() throws IOException {
+        // given
+        DefaultErrorContractDTO contract = errorContract(UUID.randomUUID().toString(), 25);
+        ObjectMapper mapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // when
+        ChunkedErrorContractJsonWriter.writeTo(contract, mapper, out);
+
+        // then
+        assertThat(out.toByteArray()).isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(contract, mapper));
+        assertThat(closed[0]).isFalse();
+    }
+
+    @Test
+    public void constructor_validates_args() {
+        // given
+        DefaultErrorContractDTO contract = new DefaultErrorContractDTO("foo", Collections.emptyList(), null);
+        ObjectMapper mapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+
+        // expect
+        assertThat(catchThrowable(() -> new ChunkedErrorContractJsonWriter(null, mapper, 1)))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("errorContract cannot be null.");
+        assertThat(catchThrowable(() -> new ChunkedErrorContractJsonWriter(contract, null, 1)))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("mapper cannot be null.");
+        assertThat(catchThrowable(() -> new ChunkedErrorContractJsonWriter(contract, mapper, 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("chunkSizeHint must be positive.");
+    }
+}
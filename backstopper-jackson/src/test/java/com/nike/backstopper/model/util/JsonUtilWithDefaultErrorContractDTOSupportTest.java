@@ -22,6 +22,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -250,6 +251,51 @@ public class JsonUtilWithDefaultErrorContractDTOSupportTest {
         verifyResultIsDefaultErrorContract(result);
     }
 
+    @Test
+    public void writeValueAsBytes_produces_the_same_UTF8_payload_as_writeValueAsString() {
+        // given
+        DefaultErrorContractDTO errorContract = new DefaultErrorContractDTO(
+            UUID.randomUUID().toString(),
+            Arrays.asList(
+                new DefaultErrorDTO(42, "bar \u00e9", MapBuilder.builder("meta", (Object) "stuff").build()),
+                new DefaultErrorDTO("notanint", "baz", null)
+            ),
+            null
+        );
+
+        // when
+        byte[] result = JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContract);
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8))
+            .isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(errorContract));
+    }
+
+    @Test
+    public void writeValueAsBytes_returns_generic_response_if_error_occurs_during_serialization() throws IOException {
+        // given
+        Object blowup = mock(Object.class); // Jackson doesn't like Mockito mocks
+
+        // when
+        byte[] result = JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(blowup);
+
+        // then
+        verifyResultIsDefaultErrorContract(new String(result, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeValueAsBytes_uses_DEFAULT_ERROR_RESPONSE_STRING_if_defaultResponseIfErrorDuringSerialization_is_null()
+        throws IOException {
+        // given
+        Object blowup = mock(Object.class); // Jackson doesn't like Mockito mocks
+
+        // when
+        byte[] result = JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(blowup, objectMapper, null);
+
+        // then
+        verifyResultIsDefaultErrorContract(new String(result, StandardCharsets.UTF_8));
+    }
+
     @Test
     public void ErrorContractSerializationFactory_findPropWriter_returns_null_if_it_cannot_find_() {
         // given
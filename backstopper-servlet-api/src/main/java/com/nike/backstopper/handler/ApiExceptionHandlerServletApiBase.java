@@ -3,6 +3,7 @@ package com.nike.backstopper.handler;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.handler.adapter.RequestInfoForLoggingServletApiAdapter;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
+import com.nike.backstopper.servletapi.HandledServletError;
 
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,28 @@ public abstract class ApiExceptionHandlerServletApiBase<T> extends ApiExceptionH
         super(projectApiErrors, apiExceptionHandlerListenerList, apiExceptionHandlerUtils);
     }
 
+    /**
+     * Creates a new instance with the given arguments.
+     *
+     * @param projectApiErrors The {@link ProjectApiErrors} used for this project - cannot be null.
+     * @param apiExceptionHandlerListenerList
+     *          The list of {@link ApiExceptionHandlerListener}s that will be used for this project to analyze
+     *          exceptions and see if they should be handled (and how they should be handled if so). These will be
+     *          executed in list order. This cannot be null.
+     * @param apiExceptionHandlerUtils The {@link ApiExceptionHandlerUtils} that should be used by this instance. You
+     *                                 can pass in {@link ApiExceptionHandlerUtils#DEFAULT_IMPL} if you don't need
+     *                                 custom logic. Cannot be null.
+     * @param mergeRepeatedFieldErrors Pass in true to merge errors that only differ by their {@code field} metadata
+     *                                 into a single error for the response - see
+     *                                 {@link #shouldMergeRepeatedFieldErrors()}.
+     */
+    public ApiExceptionHandlerServletApiBase(ProjectApiErrors projectApiErrors,
+                                             List<ApiExceptionHandlerListener> apiExceptionHandlerListenerList,
+                                             ApiExceptionHandlerUtils apiExceptionHandlerUtils,
+                                             boolean mergeRepeatedFieldErrors) {
+        super(projectApiErrors, apiExceptionHandlerListenerList, apiExceptionHandlerUtils, mergeRepeatedFieldErrors);
+    }
+
     /**
      * Helper wrapper around {@link #maybeHandleException(Throwable, RequestInfoForLogging)} that takes in servlet
      * request and servlet response. The request will be wrapped in a {@link RequestInfoForLoggingServletApiAdapter} so
@@ -49,17 +72,25 @@ public abstract class ApiExceptionHandlerServletApiBase<T> extends ApiExceptionH
      * ErrorResponseInfo#headersToAddToResponse} then they will be automatically added to the given servlet response,
      * and {@link jakarta.servlet.http.HttpServletResponse#setStatus(int)} will be automatically set with {@link
      * ErrorResponseInfo#httpStatusCode} as well.
+     *
+     * <p>The {@link RequestInfoForLoggingServletApiAdapter} is obtained via {@link
+     * RequestInfoForLoggingServletApiAdapter#getOrCreateCached(HttpServletRequest)}, so it's shared with any other
+     * exception handler pass that already happened (or will happen) for the same request. The handled exception and
+     * resulting {@link ErrorResponseInfo} are recorded on the request as a {@link HandledServletError} so that a
+     * container error page forward for the same exception can replay the response rather than handling it again.
      */
     public ErrorResponseInfo<T> maybeHandleException(
         Throwable ex, HttpServletRequest servletRequest, HttpServletResponse servletResponse
     ) throws UnexpectedMajorExceptionHandlingError {
 
         ErrorResponseInfo<T> errorResponseInfo = maybeHandleException(
-            ex, new RequestInfoForLoggingServletApiAdapter(servletRequest)
+            ex, RequestInfoForLoggingServletApiAdapter.getOrCreateCached(servletRequest)
         );
 
-        if (errorResponseInfo != null)
+        if (errorResponseInfo != null) {
             processServletResponse(errorResponseInfo, servletResponse);
+            HandledServletError.markHandled(servletRequest, ex, errorResponseInfo);
+        }
 
         return errorResponseInfo;
     }
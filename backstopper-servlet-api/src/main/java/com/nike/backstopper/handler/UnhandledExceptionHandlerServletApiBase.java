@@ -2,6 +2,7 @@ package com.nike.backstopper.handler;
 
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.handler.adapter.RequestInfoForLoggingServletApiAdapter;
+import com.nike.backstopper.servletapi.HandledServletError;
 
 import java.util.List;
 import java.util.Map;
@@ -38,15 +39,22 @@ public abstract class UnhandledExceptionHandlerServletApiBase<T> extends Unhandl
      * ErrorResponseInfo#headersToAddToResponse} then they will be automatically added to the given servlet response,
      * and {@link jakarta.servlet.http.HttpServletResponse#setStatus(int)} will be automatically set with {@link
      * ErrorResponseInfo#httpStatusCode} as well.
+     *
+     * <p>The {@link RequestInfoForLoggingServletApiAdapter} is obtained via {@link
+     * RequestInfoForLoggingServletApiAdapter#getOrCreateCached(HttpServletRequest)}, so it's shared with any other
+     * exception handler pass that already happened (or will happen) for the same request. The handled exception and
+     * resulting {@link ErrorResponseInfo} are recorded on the request as a {@link HandledServletError} so that a
+     * container error page forward for the same exception can replay the response rather than handling it again.
      */
     public ErrorResponseInfo<T> handleException(Throwable ex, HttpServletRequest servletRequest,
                                                 HttpServletResponse servletResponse) {
 
         ErrorResponseInfo<T> errorResponseInfo = handleException(
-            ex, new RequestInfoForLoggingServletApiAdapter(servletRequest)
+            ex, RequestInfoForLoggingServletApiAdapter.getOrCreateCached(servletRequest)
         );
 
         processServletResponse(errorResponseInfo, servletResponse);
+        HandledServletError.markHandled(servletRequest, ex, errorResponseInfo);
 
         return errorResponseInfo;
     }
@@ -1,6 +1,7 @@
 package com.nike.backstopper.handler.adapter;
 
 import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.RequestInfoForLoggingCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,11 +18,15 @@ import java.util.List;
 import java.util.Map;
 
 import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequestWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Adapter that allows {@link HttpServletRequest} to be used as a {@link RequestInfoForLogging}.
  *
+ * <p>Use {@link #getOrCreateCached(HttpServletRequest)} rather than the constructor when you want the adapter (and
+ * its header snapshot) to be shared by every exception handler pass for the same request.
+ *
  * @author Nic Munroe
  */
 public class RequestInfoForLoggingServletApiAdapter implements RequestInfoForLogging {
@@ -30,6 +35,7 @@ public class RequestInfoForLoggingServletApiAdapter implements RequestInfoForLog
 
     private final HttpServletRequest request;
     private Map<String, List<String>> headersMapCache;
+    private final Map<String, String> singleHeaderCache = new HashMap<>();
 
     public RequestInfoForLoggingServletApiAdapter(HttpServletRequest request) {
         if (request == null)
@@ -38,6 +44,38 @@ public class RequestInfoForLoggingServletApiAdapter implements RequestInfoForLog
         this.request = request;
     }
 
+    /**
+     * Returns the {@link RequestInfoForLoggingServletApiAdapter} that was previously cached for the given request via
+     * {@link RequestInfoForLoggingCache}, or creates (and caches) a new one if there isn't one yet. A cached adapter
+     * is reused if it wraps the given request, or if the given request is a {@link ServletRequestWrapper} around the
+     * cached adapter's request (e.g. when the container forwards the request to an error page). That means the
+     * request info logged for a container-forwarded error will describe the original request rather than the error
+     * page forward.
+     *
+     * @param request The request to get the adapter for - cannot be null.
+     * @return The cached adapter for the given request, or a newly created and cached one. Never returns null.
+     */
+    public static RequestInfoForLoggingServletApiAdapter getOrCreateCached(HttpServletRequest request) {
+        if (request == null)
+            throw new IllegalArgumentException("request cannot be null");
+
+        return RequestInfoForLoggingCache.getOrCreate(
+            RequestInfoForLoggingServletApiAdapter.class,
+            request::getAttribute,
+            request::setAttribute,
+            cached -> cached.request == request
+                      || (request instanceof ServletRequestWrapper wrapper && wrapper.isWrapperFor(cached.request)),
+            () -> new RequestInfoForLoggingServletApiAdapter(request)
+        );
+    }
+
+    /**
+     * @return The {@link HttpServletRequest} this adapter wraps.
+     */
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
     @Override
     public String getRequestUri() {
         return request.getRequestURI();
@@ -77,7 +115,15 @@ public class RequestInfoForLoggingServletApiAdapter implements RequestInfoForLog
 
     @Override
     public String getHeader(String headerName) {
-        return request.getHeader(headerName);
+        // Single header lookups (e.g. the distributed trace ID header) are remembered so that repeated handler passes
+        //      over the same cached adapter don't keep going back to the servlet container.
+        if (singleHeaderCache.containsKey(headerName)) {
+            return singleHeaderCache.get(headerName);
+        }
+
+        String result = request.getHeader(headerName);
+        singleHeaderCache.put(headerName, result);
+        return result;
     }
 
     @Override
@@ -0,0 +1,122 @@
+package com.nike.backstopper.servletapi;
+
+import com.nike.backstopper.handler.ErrorResponseInfo;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the fact that Backstopper already handled (and logged) a given exception for a servlet request, along with
+ * the {@link ErrorResponseInfo} that was generated for it. The Servlet API handler bases store one of these in the
+ * {@link #REQUEST_ATTR_KEY} request attribute every time they produce an error response.
+ *
+ * <p>If the same exception then escapes to the servlet container and gets forwarded to a container error page, the
+ * error controller can use {@link UnhandledServletContainerErrorHelper#findPreviouslyHandledError(ServletRequest)} to
+ * find this record and replay the original response (same {@code error_uid}, same body) instead of running the
+ * listener chain, logging, and serialization a second time.
+ */
+@SuppressWarnings("WeakerAccess")
+public class HandledServletError {
+
+    /**
+     * The request attribute key that the {@link HandledServletError} for a request is stored under.
+     */
+    public static final String REQUEST_ATTR_KEY = HandledServletError.class.getName();
+
+    // Protects against pathological (e.g. cyclic) cause chains when matching.
+    protected static final int MAX_CAUSE_CHAIN_DEPTH = 20;
+
+    public final @NotNull Throwable handledException;
+    public final @Nullable String errorUid;
+    public final @NotNull ErrorResponseInfo<?> errorResponseInfo;
+
+    public HandledServletError(@NotNull Throwable handledException, @NotNull ErrorResponseInfo<?> errorResponseInfo) {
+        //noinspection ConstantConditions
+        if (handledException == null) {
+            throw new NullPointerException("handledException cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (errorResponseInfo == null) {
+            throw new NullPointerException("errorResponseInfo cannot be null.");
+        }
+
+        this.handledException = handledException;
+        this.errorResponseInfo = errorResponseInfo;
+
+        List<String> errorUidHeader = errorResponseInfo.headersToAddToResponse.get("error_uid");
+        this.errorUid = (errorUidHeader == null || errorUidHeader.isEmpty()) ? null : errorUidHeader.get(0);
+    }
+
+    /**
+     * Stores a new {@link HandledServletError} for the given exception and response info in the given request's
+     * {@link #REQUEST_ATTR_KEY} attribute. Does nothing if any argument is null.
+     */
+    public static void markHandled(
+        @Nullable ServletRequest request,
+        @Nullable Throwable handledException,
+        @Nullable ErrorResponseInfo<?> errorResponseInfo
+    ) {
+        if (request == null || handledException == null || errorResponseInfo == null) {
+            return;
+        }
+
+        request.setAttribute(REQUEST_ATTR_KEY, new HandledServletError(handledException, errorResponseInfo));
+    }
+
+    /**
+     * @return The {@link HandledServletError} stored in the given request's {@link #REQUEST_ATTR_KEY} attribute, or
+     * null if there isn't one.
+     */
+    public static @Nullable HandledServletError fromRequest(@Nullable ServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        Object attr = request.getAttribute(REQUEST_ATTR_KEY);
+        return (attr instanceof HandledServletError handledServletError) ? handledServletError : null;
+    }
+
+    /**
+     * @return true if the given container error is the exception that was handled, or wraps it somewhere in its cause
+     * chain (e.g. a {@code ServletException} wrapper added on the way out of the framework), false otherwise.
+     */
+    public boolean matches(@Nullable Throwable containerError) {
+        Throwable current = containerError;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_CHAIN_DEPTH; depth++) {
+            if (current == handledException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+
+        return false;
+    }
+
+    /**
+     * Applies the recorded HTTP status code and headers to the given response. Headers are set rather than added so
+     * that replaying onto a response that still has the original headers doesn't duplicate them.
+     */
+    public void applyStatusAndHeaders(@NotNull HttpServletResponse response) {
+        for (Map.Entry<String, List<String>> header : errorResponseInfo.headersToAddToResponse.entrySet()) {
+            boolean first = true;
+            for (String headerValue : header.getValue()) {
+                if (first) {
+                    response.setHeader(header.getKey(), headerValue);
+                    first = false;
+                }
+                else {
+                    response.addHeader(header.getKey(), headerValue);
+                }
+            }
+        }
+
+        response.setStatus(errorResponseInfo.httpStatusCode);
+    }
+}
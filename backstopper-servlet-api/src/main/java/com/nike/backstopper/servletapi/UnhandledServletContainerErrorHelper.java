@@ -7,14 +7,18 @@ import com.nike.internal.util.Pair;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * This class is intended to help with integrating Backstopper with Servlet containers for handling otherwise-unhandled
@@ -38,6 +42,11 @@ import jakarta.servlet.ServletRequest;
  *     </li>
  * </ol>
  *
+ * <p>Container 404s with no underlying throwable (see {@link #isContainer404WithoutThrowable(ServletRequest)}) are
+ * extremely common (e.g. bot scanners) and don't need the full exception handling machinery. Framework integrations
+ * can render those directly and call {@link #logContainer404(ServletRequest, String)} instead, which only logs a
+ * sample of them.
+ *
  * @author Nic Munroe
  */
 @Named
@@ -45,6 +54,19 @@ import jakarta.servlet.ServletRequest;
 @SuppressWarnings("WeakerAccess")
 public class UnhandledServletContainerErrorHelper {
 
+    private static final Logger logger = LoggerFactory.getLogger(UnhandledServletContainerErrorHelper.class);
+
+    /**
+     * The default for {@link #getContainer404LogSampleRate()} - the first container 404 is logged, and then one out of
+     * every this-many after that.
+     */
+    public static final int DEFAULT_CONTAINER_404_LOG_SAMPLE_RATE = 100;
+
+    // Corresponds to jakarta.servlet.RequestDispatcher.ERROR_REQUEST_URI.
+    protected static final String ERROR_REQUEST_URI_REQUEST_ATTR_NAME = "jakarta.servlet.error.request_uri";
+
+    protected final AtomicLong container404Counter = new AtomicLong();
+
     protected static final List<String> DEFAULT_THROWABLE_REQUEST_ATTR_NAMES = Arrays.asList(
         // Try the Springboot 3 attrs first.
         //      Corresponds to org.springframework.boot.web.reactive.error.DefaultErrorAttributes.ERROR_ATTRIBUTE.
@@ -111,6 +133,89 @@ public class UnhandledServletContainerErrorHelper {
         }
     }
 
+    /**
+     * @return true if the container forwarded the given request because of a 404 and there is no throwable associated
+     * with it (the common case of a request for a path that nothing is mapped to), false otherwise. Framework
+     * integrations can render the not-found error response directly for these requests rather than going through
+     * {@link #extractOrGenerateErrorForRequest(ServletRequest, ProjectApiErrors)} and throwing a synthetic exception.
+     */
+    public boolean isContainer404WithoutThrowable(ServletRequest request) {
+        if (request == null || extractErrorThrowable(request) != null) {
+            return false;
+        }
+
+        Integer errorStatusCode = extractErrorStatusCode(request);
+        return errorStatusCode != null && errorStatusCode == 404;
+    }
+
+    /**
+     * Logs a container 404 that was rendered directly (see {@link #isContainer404WithoutThrowable(ServletRequest)}).
+     * Only the first one, and then one out of every {@link #getContainer404LogSampleRate()} after that, is actually
+     * logged. The log message includes the running total so the full volume can still be tracked.
+     *
+     * @param request The request that resulted in the container 404.
+     * @param errorUid The error_uid that was returned to the caller in the response.
+     */
+    public void logContainer404(ServletRequest request, String errorUid) {
+        long count = container404Counter.incrementAndGet();
+        int sampleRate = getContainer404LogSampleRate();
+        if (sampleRate > 1 && (count - 1) % sampleRate != 0) {
+            return;
+        }
+
+        logger.warn(
+            "Container 404 rendered directly without a synthetic exception. container_404=true, error_uid={}, "
+            + "request_uri=\"{}\", request_method={}, container_404_count={}, log_sample_rate={}",
+            errorUid, extractOriginalRequestUri(request), extractRequestMethod(request), count, sampleRate
+        );
+    }
+
+    /**
+     * @return The sample rate for {@link #logContainer404(ServletRequest, String)} - one out of every this-many
+     * container 404s will be logged. Values of 1 or less mean every container 404 is logged. Defaults to
+     * {@link #DEFAULT_CONTAINER_404_LOG_SAMPLE_RATE}.
+     */
+    protected int getContainer404LogSampleRate() {
+        return DEFAULT_CONTAINER_404_LOG_SAMPLE_RATE;
+    }
+
+    protected @Nullable String extractOriginalRequestUri(@Nullable ServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        Object errorRequestUri = request.getAttribute(ERROR_REQUEST_URI_REQUEST_ATTR_NAME);
+        if (errorRequestUri != null) {
+            return errorRequestUri.toString();
+        }
+
+        return (request instanceof HttpServletRequest httpRequest) ? httpRequest.getRequestURI() : null;
+    }
+
+    protected @Nullable String extractRequestMethod(@Nullable ServletRequest request) {
+        return (request instanceof HttpServletRequest httpRequest) ? httpRequest.getMethod() : null;
+    }
+
+    /**
+     * Looks for a {@link HandledServletError} on the given request that matches the error the container forwarded
+     * with this request, i.e. an exception that Backstopper already handled and logged before it escaped to the
+     * container. Container error controllers should call this before {@link
+     * #extractOrGenerateErrorForRequest(ServletRequest, ProjectApiErrors)} and replay the recorded response when a
+     * match is found, rather than handling (and logging) the same exception again with a new error_uid.
+     *
+     * @return The matching {@link HandledServletError}, or null if the forwarded error has not been handled yet (or
+     * there is no forwarded error, e.g. a container 404).
+     */
+    public @Nullable HandledServletError findPreviouslyHandledError(ServletRequest request) {
+        HandledServletError handledServletError = HandledServletError.fromRequest(request);
+        if (handledServletError == null) {
+            return null;
+        }
+
+        Throwable ex = extractErrorThrowable(request);
+        return handledServletError.matches(ex) ? handledServletError : null;
+    }
+
     protected @NotNull List<String> getThrowableRequestAttrNames() {
         return DEFAULT_THROWABLE_REQUEST_ATTR_NAMES;
     }
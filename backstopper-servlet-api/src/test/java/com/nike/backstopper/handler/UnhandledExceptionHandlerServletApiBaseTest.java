@@ -2,11 +2,14 @@ package com.nike.backstopper.handler;
 
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingServletApiAdapter;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.servletapi.HandledServletError;
 import com.nike.internal.util.MapBuilder;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,6 +23,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -88,4 +92,31 @@ public class UnhandledExceptionHandlerServletApiBaseTest {
         assertThat(numHeadersChecked >= expectedResponseInfo.headersToAddToResponse.size(), is(true));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void handleExceptionReusesCachedRequestInfoForLoggingAdapter() {
+        RequestInfoForLoggingServletApiAdapter cachedAdapter = new RequestInfoForLoggingServletApiAdapter(servletRequestMock);
+        doReturn(cachedAdapter).when(servletRequestMock).getAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY);
+        doReturn(new ErrorResponseInfo<>(42, null, null)).when(instanceSpy).handleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        Exception ex = new Exception();
+
+        instanceSpy.handleException(ex, servletRequestMock, servletResponseMock);
+
+        verify(instanceSpy).handleException(ex, cachedAdapter);
+    }
+
+    @Test
+    public void handleExceptionRecordsHandledServletErrorOnRequest() {
+        ErrorResponseInfo<?> expectedResponseInfo = new ErrorResponseInfo<>(42, null, null);
+        doReturn(expectedResponseInfo).when(instanceSpy).handleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        Exception ex = new Exception();
+
+        instanceSpy.handleException(ex, servletRequestMock, servletResponseMock);
+
+        ArgumentCaptor<Object> attrCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(servletRequestMock).setAttribute(eq(HandledServletError.REQUEST_ATTR_KEY), attrCaptor.capture());
+        HandledServletError handledServletError = (HandledServletError) attrCaptor.getValue();
+        assertThat(handledServletError.handledException, sameInstance(ex));
+        assertThat(handledServletError.errorResponseInfo, sameInstance(expectedResponseInfo));
+    }
+}
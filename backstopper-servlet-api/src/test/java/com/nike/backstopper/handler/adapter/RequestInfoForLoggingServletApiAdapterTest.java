@@ -1,6 +1,7 @@
 package com.nike.backstopper.handler.adapter;
 
 import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.RequestInfoForLoggingCache;
 import com.nike.internal.util.MapBuilder;
 import com.nike.internal.util.Pair;
 
@@ -23,17 +24,23 @@ import java.util.UUID;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -118,6 +125,74 @@ public class RequestInfoForLoggingServletApiAdapterTest {
         assertThat(adapter.getHeader(headerName), is(expectedValue));
     }
 
+    @Test
+    public void getHeaderCachesResultIncludingNullResults() {
+        String headerName = "someheader";
+        String expectedValue = UUID.randomUUID().toString();
+        doReturn(expectedValue).when(requestMock).getHeader(headerName);
+
+        assertThat(adapter.getHeader(headerName), is(expectedValue));
+        assertThat(adapter.getHeader(headerName), is(expectedValue));
+        assertThat(adapter.getHeader("doesnotexist"), nullValue());
+        assertThat(adapter.getHeader("doesnotexist"), nullValue());
+
+        verify(requestMock, times(1)).getHeader(headerName);
+        verify(requestMock, times(1)).getHeader("doesnotexist");
+    }
+
+    @Test
+    public void getRequestReturnsWrappedServletRequest() {
+        assertThat(adapter.getRequest(), sameInstance(requestMock));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getOrCreateCachedThrowsIllegalArgumentExceptionIfPassedNullRequest() {
+        RequestInfoForLoggingServletApiAdapter.getOrCreateCached(null);
+    }
+
+    @Test
+    public void getOrCreateCachedCreatesAndCachesNewAdapterIfNoneIsCached() {
+        RequestInfoForLoggingServletApiAdapter result = RequestInfoForLoggingServletApiAdapter.getOrCreateCached(requestMock);
+
+        assertThat(result.getRequest(), sameInstance(requestMock));
+        verify(requestMock).setAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY, result);
+    }
+
+    @Test
+    public void getOrCreateCachedReturnsCachedAdapterForSameRequest() {
+        doReturn(adapter).when(requestMock).getAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY);
+
+        RequestInfoForLoggingServletApiAdapter result = RequestInfoForLoggingServletApiAdapter.getOrCreateCached(requestMock);
+
+        assertThat(result, sameInstance(adapter));
+        verify(requestMock, never()).setAttribute(anyString(), any());
+    }
+
+    @Test
+    public void getOrCreateCachedReturnsCachedAdapterForRequestWrapperAroundCachedRequest() {
+        // Attributes set on a wrapper are passed through to the wrapped request.
+        HttpServletRequestWrapper forwardedRequest = new HttpServletRequestWrapper(requestMock);
+        doReturn(adapter).when(requestMock).getAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY);
+
+        RequestInfoForLoggingServletApiAdapter result =
+            RequestInfoForLoggingServletApiAdapter.getOrCreateCached(forwardedRequest);
+
+        assertThat(result, sameInstance(adapter));
+    }
+
+    @Test
+    public void getOrCreateCachedReplacesCachedAdapterThatWrapsUnrelatedRequest() {
+        RequestInfoForLoggingServletApiAdapter unrelatedAdapter =
+            new RequestInfoForLoggingServletApiAdapter(mock(HttpServletRequest.class));
+        doReturn(unrelatedAdapter).when(requestMock).getAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY);
+
+        RequestInfoForLoggingServletApiAdapter result = RequestInfoForLoggingServletApiAdapter.getOrCreateCached(requestMock);
+
+        assertThat(result, not(sameInstance(unrelatedAdapter)));
+        assertThat(result.getRequest(), sameInstance(requestMock));
+        verify(requestMock).setAttribute(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY, result);
+    }
+
     @Test
     public void getHeadersDelegatesToServletRequest() {
         Pair<String, List<String>> header1 = Pair.of("header1", List.of("h1val1"));
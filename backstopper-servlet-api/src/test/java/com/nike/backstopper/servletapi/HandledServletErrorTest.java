@@ -0,0 +1,173 @@
+package com.nike.backstopper.servletapi;
+
+import com.nike.backstopper.handler.ErrorResponseInfo;
+import com.nike.internal.util.MapBuilder;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests the functionality of {@link HandledServletError}.
+ */
+public class HandledServletErrorTest {
+
+    private Throwable handledEx;
+    private String errorUid;
+    private ErrorResponseInfo<Object> errorResponseInfo;
+    private ServletRequest requestMock;
+
+    @Before
+    public void beforeMethod() {
+        handledEx = new RuntimeException("intentional test exception");
+        errorUid = UUID.randomUUID().toString();
+        Map<String, List<String>> headers = MapBuilder
+            .<String, List<String>>builder()
+            .put("error_uid", Collections.singletonList(errorUid))
+            .put("multi", Arrays.asList("val1", "val2"))
+            .build();
+        errorResponseInfo = new ErrorResponseInfo<>(400, new Object(), headers);
+        requestMock = mock(ServletRequest.class);
+    }
+
+    @Test
+    public void constructor_sets_fields_as_expected() {
+        // when
+        HandledServletError impl = new HandledServletError(handledEx, errorResponseInfo);
+
+        // then
+        assertThat(impl.handledException).isSameAs(handledEx);
+        assertThat(impl.errorResponseInfo).isSameAs(errorResponseInfo);
+        assertThat(impl.errorUid).isEqualTo(errorUid);
+    }
+
+    @Test
+    public void constructor_sets_null_errorUid_if_headers_do_not_have_one() {
+        // when
+        HandledServletError impl = new HandledServletError(
+            handledEx, new ErrorResponseInfo<>(400, null, Collections.emptyMap())
+        );
+
+        // then
+        assertThat(impl.errorUid).isNull();
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullExEx = catchThrowable(() -> new HandledServletError(null, errorResponseInfo));
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullInfoEx = catchThrowable(() -> new HandledServletError(handledEx, null));
+
+        // then
+        assertThat(nullExEx).isInstanceOf(NullPointerException.class).hasMessage("handledException cannot be null.");
+        assertThat(nullInfoEx).isInstanceOf(NullPointerException.class).hasMessage("errorResponseInfo cannot be null.");
+    }
+
+    @Test
+    public void markHandled_stores_new_instance_in_request_attribute() {
+        // when
+        HandledServletError.markHandled(requestMock, handledEx, errorResponseInfo);
+
+        // then
+        ArgumentCaptor<Object> attrCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(requestMock).setAttribute(eq(HandledServletError.REQUEST_ATTR_KEY), attrCaptor.capture());
+        HandledServletError stored = (HandledServletError) attrCaptor.getValue();
+        assertThat(stored.handledException).isSameAs(handledEx);
+        assertThat(stored.errorResponseInfo).isSameAs(errorResponseInfo);
+    }
+
+    @Test
+    public void markHandled_does_nothing_if_passed_null_args() {
+        // when
+        HandledServletError.markHandled(null, handledEx, errorResponseInfo);
+        HandledServletError.markHandled(requestMock, null, errorResponseInfo);
+        HandledServletError.markHandled(requestMock, handledEx, null);
+
+        // then
+        verifyNoInteractions(requestMock);
+    }
+
+    @Test
+    public void fromRequest_returns_stored_instance_or_null() {
+        // given
+        HandledServletError impl = new HandledServletError(handledEx, errorResponseInfo);
+        ServletRequest requestWithWrongAttrType = mock(ServletRequest.class);
+        doReturn("not a HandledServletError")
+            .when(requestWithWrongAttrType).getAttribute(HandledServletError.REQUEST_ATTR_KEY);
+        doReturn(impl).when(requestMock).getAttribute(HandledServletError.REQUEST_ATTR_KEY);
+
+        // expect
+        assertThat(HandledServletError.fromRequest(requestMock)).isSameAs(impl);
+        assertThat(HandledServletError.fromRequest(requestWithWrongAttrType)).isNull();
+        assertThat(HandledServletError.fromRequest(mock(ServletRequest.class))).isNull();
+        assertThat(HandledServletError.fromRequest(null)).isNull();
+    }
+
+    @Test
+    public void matches_returns_true_only_if_handled_exception_is_in_cause_chain() {
+        // given
+        HandledServletError impl = new HandledServletError(handledEx, errorResponseInfo);
+
+        // expect
+        assertThat(impl.matches(handledEx)).isTrue();
+        assertThat(impl.matches(new ServletException(handledEx))).isTrue();
+        assertThat(impl.matches(new ServletException(new RuntimeException(handledEx)))).isTrue();
+        assertThat(impl.matches(new RuntimeException("intentional test exception"))).isFalse();
+        assertThat(impl.matches(null)).isFalse();
+    }
+
+    @Test
+    public void matches_gives_up_on_cause_chains_that_are_too_deep() {
+        // given
+        HandledServletError impl = new HandledServletError(handledEx, errorResponseInfo);
+        Throwable deepChain = handledEx;
+        for (int i = 0; i < HandledServletError.MAX_CAUSE_CHAIN_DEPTH; i++) {
+            deepChain = new RuntimeException(deepChain);
+        }
+
+        // expect
+        assertThat(impl.matches(deepChain)).isFalse();
+    }
+
+    @Test
+    public void applyStatusAndHeaders_sets_headers_and_status_on_response() {
+        // given
+        HandledServletError impl = new HandledServletError(handledEx, errorResponseInfo);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+
+        // when
+        impl.applyStatusAndHeaders(responseMock);
+
+        // then
+        verify(responseMock).setHeader("error_uid", errorUid);
+        InOrder multiHeaderOrder = inOrder(responseMock);
+        multiHeaderOrder.verify(responseMock).setHeader("multi", "val1");
+        multiHeaderOrder.verify(responseMock).addHeader("multi", "val2");
+        verify(responseMock, never()).addHeader(eq("error_uid"), any());
+        verify(responseMock).setStatus(400);
+    }
+}
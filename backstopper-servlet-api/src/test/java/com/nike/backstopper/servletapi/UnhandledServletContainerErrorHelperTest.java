@@ -6,6 +6,7 @@ import com.nike.backstopper.apierror.projectspecificinfo.ProjectSpecificErrorCod
 import com.nike.backstopper.apierror.sample.SampleProjectApiErrorsBase;
 import com.nike.backstopper.exception.ApiException;
 import com.nike.backstopper.exception.WrapperException;
+import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.internal.util.Pair;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
@@ -23,12 +24,17 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests the functionality of {@link UnhandledServletContainerErrorHelper}.
@@ -216,4 +222,153 @@ public class UnhandledServletContainerErrorHelperTest {
             ))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findPreviouslyHandledError_returns_HandledServletError_when_it_matches_the_forwarded_exception() {
+        // given
+        Throwable handledEx = new RuntimeException("intentional test exception");
+        HandledServletError handledServletError = new HandledServletError(
+            handledEx, new ErrorResponseInfo<>(400, null, Collections.emptyMap())
+        );
+        doReturn(handledServletError).when(requestMock).getAttribute(HandledServletError.REQUEST_ATTR_KEY);
+        doReturn(new ServletException(handledEx)).when(requestMock).getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+
+        // when
+        HandledServletError result = helper.findPreviouslyHandledError(requestMock);
+
+        // then
+        assertThat(result).isSameAs(handledServletError);
+    }
+
+    @Test
+    public void findPreviouslyHandledError_returns_null_when_forwarded_exception_was_not_the_handled_one() {
+        // given
+        HandledServletError handledServletError = new HandledServletError(
+            new RuntimeException("handled"), new ErrorResponseInfo<>(400, null, Collections.emptyMap())
+        );
+        doReturn(handledServletError).when(requestMock).getAttribute(HandledServletError.REQUEST_ATTR_KEY);
+        doReturn(new RuntimeException("different")).when(requestMock).getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+
+        // when
+        HandledServletError result = helper.findPreviouslyHandledError(requestMock);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void findPreviouslyHandledError_returns_null_when_nothing_was_handled() {
+        // given
+        doReturn(new RuntimeException("intentional test exception"))
+            .when(requestMock).getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+
+        // when
+        HandledServletError result = helper.findPreviouslyHandledError(requestMock);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @DataProvider(value = {
+        "false  |   404     |   true",
+        "false  |   500     |   false",
+        "false  |   null    |   false",
+        "true   |   404     |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void isContainer404WithoutThrowable_works_as_expected(
+        boolean hasThrowable, Integer statusCode, boolean expectedResult
+    ) {
+        // given
+        if (hasThrowable) {
+            doReturn(new RuntimeException("intentional test exception"))
+                .when(requestMock).getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+        }
+        doReturn(statusCode).when(requestMock).getAttribute(RequestDispatcher.ERROR_STATUS_CODE);
+
+        // expect
+        assertThat(helper.isContainer404WithoutThrowable(requestMock)).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void isContainer404WithoutThrowable_returns_false_for_null_request() {
+        // expect
+        assertThat(helper.isContainer404WithoutThrowable(null)).isFalse();
+    }
+
+    @Test
+    public void logContainer404_logs_first_and_then_one_out_of_every_sample_rate_requests() {
+        // given
+        UnhandledServletContainerErrorHelper helperSpy = spy(new UnhandledServletContainerErrorHelper() {
+            @Override
+            protected int getContainer404LogSampleRate() {
+                return 3;
+            }
+        });
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            helperSpy.logContainer404(requestMock, "some-error-uid");
+        }
+
+        // then
+        assertThat(helperSpy.container404Counter.get()).isEqualTo(7);
+        // Logged on calls 1, 4, and 7.
+        verify(helperSpy, times(3)).extractOriginalRequestUri(requestMock);
+    }
+
+    @Test
+    public void logContainer404_logs_every_request_if_sample_rate_is_one_or_less() {
+        // given
+        UnhandledServletContainerErrorHelper helperSpy = spy(new UnhandledServletContainerErrorHelper() {
+            @Override
+            protected int getContainer404LogSampleRate() {
+                return 0;
+            }
+        });
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            helperSpy.logContainer404(requestMock, "some-error-uid");
+        }
+
+        // then
+        verify(helperSpy, times(3)).extractOriginalRequestUri(requestMock);
+    }
+
+    @Test
+    public void getContainer404LogSampleRate_returns_default() {
+        // expect
+        assertThat(helper.getContainer404LogSampleRate())
+            .isEqualTo(UnhandledServletContainerErrorHelper.DEFAULT_CONTAINER_404_LOG_SAMPLE_RATE);
+    }
+
+    @Test
+    public void extractOriginalRequestUri_prefers_error_request_uri_attr() {
+        // given
+        HttpServletRequest httpRequestMock = mock(HttpServletRequest.class);
+        doReturn("/error").when(httpRequestMock).getRequestURI();
+
+        // expect
+        assertThat(helper.extractOriginalRequestUri(null)).isNull();
+        assertThat(helper.extractOriginalRequestUri(requestMock)).isNull();
+        assertThat(helper.extractOriginalRequestUri(httpRequestMock)).isEqualTo("/error");
+
+        // and when
+        doReturn("/some/path").when(httpRequestMock).getAttribute(RequestDispatcher.ERROR_REQUEST_URI);
+
+        // then
+        assertThat(helper.extractOriginalRequestUri(httpRequestMock)).isEqualTo("/some/path");
+    }
+
+    @Test
+    public void extractRequestMethod_returns_method_for_http_requests_only() {
+        // given
+        HttpServletRequest httpRequestMock = mock(HttpServletRequest.class);
+        doReturn("GET").when(httpRequestMock).getMethod();
+
+        // expect
+        assertThat(helper.extractRequestMethod(httpRequestMock)).isEqualTo("GET");
+        assertThat(helper.extractRequestMethod(requestMock)).isNull();
+    }
+}
@@ -1,21 +1,37 @@
 package com.nike.backstopper.handler.springboot.controller;
 
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.sample.SampleCoreApiError;
+import com.nike.backstopper.handler.ErrorResponseInfo;
+import com.nike.backstopper.handler.spring.PreSerializedErrorContractTemplate;
+import com.nike.backstopper.handler.spring.SpringApiExceptionHandler;
+import com.nike.backstopper.servletapi.HandledServletError;
 import com.nike.backstopper.servletapi.UnhandledServletContainerErrorHelper;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
 import org.springframework.boot.autoconfigure.web.ErrorProperties;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
 import java.util.UUID;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -27,7 +43,8 @@ public class BackstopperSpringboot3ContainerErrorControllerTest {
 
     private ProjectApiErrors projectApiErrorsMock;
     private UnhandledServletContainerErrorHelper unhandledContainerErrorHelperMock;
-    private ServletRequest servletRequestMock;
+    private HttpServletRequest servletRequestMock;
+    private HttpServletResponse servletResponseMock;
     private ServerProperties serverPropertiesMock;
     @SuppressWarnings("FieldCanBeLocal")
     private ErrorProperties errorPropertiesMock;
@@ -37,7 +54,8 @@ public class BackstopperSpringboot3ContainerErrorControllerTest {
     public void beforeMethod() {
         projectApiErrorsMock = mock(ProjectApiErrors.class);
         unhandledContainerErrorHelperMock = mock(UnhandledServletContainerErrorHelper.class);
-        servletRequestMock = mock(ServletRequest.class);
+        servletRequestMock = mock(HttpServletRequest.class);
+        servletResponseMock = mock(HttpServletResponse.class);
         serverPropertiesMock = mock(ServerProperties.class);
         errorPropertiesMock = mock(ErrorProperties.class);
         errorPath = UUID.randomUUID().toString();
@@ -120,7 +138,7 @@ public class BackstopperSpringboot3ContainerErrorControllerTest {
                             .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
 
         // when
-        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock));
+        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock, servletResponseMock));
 
         // then
         assertThat(ex).isSameAs(expectedEx);
@@ -128,4 +146,181 @@ public class BackstopperSpringboot3ContainerErrorControllerTest {
             .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
     }
 
+    @Test
+    @SuppressWarnings("ThrowableNotThrown")
+    public void single_arg_error_method_throws_result_of_calling_UnhandledServletContainerErrorHelper() {
+        // given
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        );
+        Throwable expectedEx = new RuntimeException("intentional test exception");
+        doReturn(expectedEx).when(unhandledContainerErrorHelperMock)
+                            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+
+        // when
+        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock));
+
+        // then
+        assertThat(ex).isSameAs(expectedEx);
+    }
+
+    @Test
+    public void error_method_delegates_to_single_arg_error_method_so_subclass_overrides_still_work() throws Throwable {
+        // given
+        ServletRequest[] requestHolder = new ServletRequest[1];
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        ) {
+            @Override
+            public void error(ServletRequest request) {
+                requestHolder[0] = request;
+            }
+        };
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        assertThat(requestHolder[0]).isSameAs(servletRequestMock);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void error_method_replays_previously_handled_error_instead_of_throwing() throws Throwable {
+        // given
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        );
+        View viewMock = mock(View.class);
+        ModelAndView modelAndView = new ModelAndView(viewMock, "someModelKey", "someModelValue");
+        HandledServletError previouslyHandledError = new HandledServletError(
+            new RuntimeException("intentional test exception"),
+            new ErrorResponseInfo<>(
+                400, modelAndView, Collections.singletonMap("error_uid", Collections.singletonList("some-error-uid"))
+            )
+        );
+        doReturn(previouslyHandledError).when(unhandledContainerErrorHelperMock)
+                                        .findPreviouslyHandledError(servletRequestMock);
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        verify(servletResponseMock).setStatus(400);
+        verify(servletResponseMock).setHeader("error_uid", "some-error-uid");
+        verify(viewMock).render(modelAndView.getModel(), servletRequestMock, servletResponseMock);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void constructor_creates_notFoundResponseTemplate_from_ProjectApiErrors() {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+
+        // when
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        );
+
+        // then
+        assertThat(impl.notFoundResponseTemplate).isNotNull();
+        assertThat(impl.notFoundResponseTemplate.getApiError()).isSameAs(SampleCoreApiError.NOT_FOUND);
+    }
+
+    @Test
+    public void constructor_leaves_notFoundResponseTemplate_null_if_ProjectApiErrors_has_no_not_found_error() {
+        // when
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        );
+
+        // then
+        assertThat(impl.notFoundResponseTemplate).isNull();
+    }
+
+    @Test
+    public void error_method_renders_container_404_directly_without_throwing() throws Throwable {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock
+        );
+        doReturn(true).when(unhandledContainerErrorHelperMock).isContainer404WithoutThrowable(servletRequestMock);
+        ByteArrayOutputStream bodyOutput = new ByteArrayOutputStream();
+        doReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                bodyOutput.write(b);
+            }
+        }).when(servletResponseMock).getOutputStream();
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        ArgumentCaptor<String> errorUidCaptor = ArgumentCaptor.forClass(String.class);
+        verify(servletResponseMock).setStatus(404);
+        verify(servletResponseMock).setHeader(eq("error_uid"), errorUidCaptor.capture());
+        String errorUid = errorUidCaptor.getValue();
+        assertThat(bodyOutput.toByteArray()).isEqualTo(impl.notFoundResponseTemplate.renderBody(errorUid));
+        verify(unhandledContainerErrorHelperMock).logContainer404(servletRequestMock, errorUid);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void constructor_creates_notFoundResponseTemplate_from_SpringApiExceptionHandler_if_available() {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        SpringApiExceptionHandler apiExceptionHandlerMock = mock(SpringApiExceptionHandler.class);
+        PreSerializedErrorContractTemplate template = mock(PreSerializedErrorContractTemplate.class);
+        doReturn(template).when(apiExceptionHandlerMock)
+                          .createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+
+        // when
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock, apiExceptionHandlerMock
+        );
+
+        // then
+        assertThat(impl.apiExceptionHandler).isSameAs(apiExceptionHandlerMock);
+        assertThat(impl.notFoundResponseTemplate).isSameAs(template);
+    }
+
+    @Test
+    public void error_method_renders_container_404_via_SpringApiExceptionHandler_if_available() throws Throwable {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        SpringApiExceptionHandler apiExceptionHandlerMock = mock(SpringApiExceptionHandler.class);
+        PreSerializedErrorContractTemplate template = mock(PreSerializedErrorContractTemplate.class);
+        doReturn(template).when(apiExceptionHandlerMock)
+                          .createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+        BackstopperSpringboot3ContainerErrorController impl = new BackstopperSpringboot3ContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, serverPropertiesMock, apiExceptionHandlerMock
+        );
+        doReturn("custom-error-uid").when(apiExceptionHandlerMock).generateErrorUid();
+        doReturn(true).when(unhandledContainerErrorHelperMock).isContainer404WithoutThrowable(servletRequestMock);
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        verify(apiExceptionHandlerMock).writeTemplatedErrorResponse(
+            template, "custom-error-uid", servletRequestMock, servletResponseMock
+        );
+        verify(unhandledContainerErrorHelperMock).logContainer404(servletRequestMock, "custom-error-uid");
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
 }
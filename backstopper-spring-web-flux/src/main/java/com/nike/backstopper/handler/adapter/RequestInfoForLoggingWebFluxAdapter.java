@@ -1,10 +1,13 @@
 package com.nike.backstopper.handler.adapter;
 
 import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.RequestInfoForLoggingCache;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.net.URI;
 import java.util.List;
@@ -13,6 +16,9 @@ import java.util.Map;
 /**
  * An implementation of {@link RequestInfoForLogging} that knows how to handle Spring WebFlux {@link ServerRequest}.
  *
+ * <p>Use {@link #getOrCreateCached(ServerWebExchange, List)} rather than the constructor when you want the adapter
+ * (and its {@link ServerRequest}) to be shared by every exception handler pass for the same exchange.
+ *
  * @author Nic Munroe
  */
 public class RequestInfoForLoggingWebFluxAdapter implements RequestInfoForLogging {
@@ -35,6 +41,42 @@ public class RequestInfoForLoggingWebFluxAdapter implements RequestInfoForLoggin
         }
     }
 
+    /**
+     * Returns the {@link RequestInfoForLoggingWebFluxAdapter} that was previously cached in the given exchange's
+     * attributes via {@link RequestInfoForLoggingCache}, or creates (and caches) a new one wrapping
+     * {@link ServerRequest#create(ServerWebExchange, List)} if there isn't one for this exchange yet.
+     *
+     * @param exchange The exchange to get the adapter for - cannot be null.
+     * @param messageReaders The message readers to use if a new {@link ServerRequest} needs to be created - cannot be
+     * null.
+     * @return The cached adapter for the given exchange, or a newly created and cached one. Never returns null.
+     */
+    public static @NotNull RequestInfoForLoggingWebFluxAdapter getOrCreateCached(
+        @NotNull ServerWebExchange exchange,
+        @NotNull List<HttpMessageReader<?>> messageReaders
+    ) {
+        //noinspection ConstantConditions
+        if (exchange == null) {
+            throw new NullPointerException("exchange cannot be null");
+        }
+
+        Map<String, Object> attributes = exchange.getAttributes();
+        return RequestInfoForLoggingCache.getOrCreate(
+            RequestInfoForLoggingWebFluxAdapter.class,
+            attributes::get,
+            attributes::put,
+            cached -> cached.request.exchange() == exchange,
+            () -> new RequestInfoForLoggingWebFluxAdapter(ServerRequest.create(exchange, messageReaders))
+        );
+    }
+
+    /**
+     * @return The {@link ServerRequest} this adapter wraps.
+     */
+    public @NotNull ServerRequest getRequest() {
+        return request;
+    }
+
     @Override
     public String getRequestUri() {
         return requestUri.getRawPath();
@@ -0,0 +1,129 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A lightweight {@link ServerResponse} that holds an error contract that has already been serialized to bytes. This is
+ * what {@link SpringWebfluxApiExceptionHandlerUtils#generateServerResponseForError(
+ * com.nike.backstopper.model.DefaultErrorContractDTO, int, java.util.Collection, Throwable,
+ * com.nike.backstopper.handler.RequestInfoForLogging)} returns for JSON error responses.
+ *
+ * <p>{@link SpringWebfluxApiExceptionHandler} and {@link SpringWebfluxUnhandledExceptionHandler} recognize this type
+ * and call {@link #writeTo(ServerHttpResponse)}, which sets the status code and headers directly and wraps the bytes in
+ * a single {@link org.springframework.core.io.buffer.DataBuffer} from the response's
+ * {@link ServerHttpResponse#bufferFactory()}. This bypasses the {@link ServerResponse} builder, the body inserters,
+ * and the {@link org.springframework.http.codec.HttpMessageWriter} negotiation that would otherwise re-encode a
+ * {@link String} body. {@link #writeTo(ServerWebExchange, Context)} still works for anyone who treats this like a
+ * normal {@link ServerResponse}.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PreSerializedErrorServerResponse implements ServerResponse {
+
+    protected static final MultiValueMap<String, ResponseCookie> NO_COOKIES =
+        CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    protected final @NotNull HttpStatusCode statusCode;
+    protected final @NotNull MediaType contentType;
+    protected final byte @NotNull [] body;
+
+    // Lazily created, since the fast path in the exception handlers never needs it.
+    private HttpHeaders headers;
+
+    public PreSerializedErrorServerResponse(
+        @NotNull HttpStatusCode statusCode,
+        @NotNull MediaType contentType,
+        byte @NotNull [] body
+    ) {
+        //noinspection ConstantConditions
+        if (statusCode == null) {
+            throw new NullPointerException("statusCode cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (contentType == null) {
+            throw new NullPointerException("contentType cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (body == null) {
+            throw new NullPointerException("body cannot be null.");
+        }
+
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    /**
+     * @return The pre-serialized response body bytes. This is the actual backing array, not a copy - do not modify it.
+     */
+    public byte @NotNull [] getBody() {
+        return body;
+    }
+
+    public @NotNull MediaType getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public @NotNull HttpStatusCode statusCode() {
+        return statusCode;
+    }
+
+    @Override
+    @Deprecated
+    public int rawStatusCode() {
+        return statusCode.value();
+    }
+
+    @Override
+    public @NotNull HttpHeaders headers() {
+        HttpHeaders result = headers;
+        if (result == null) {
+            HttpHeaders newHeaders = new HttpHeaders();
+            newHeaders.setContentType(contentType);
+            newHeaders.setContentLength(body.length);
+            result = HttpHeaders.readOnlyHttpHeaders(newHeaders);
+            headers = result;
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull MultiValueMap<String, ResponseCookie> cookies() {
+        return NO_COOKIES;
+    }
+
+    @Override
+    public @NotNull Mono<Void> writeTo(@NotNull ServerWebExchange exchange, @NotNull Context context) {
+        return writeTo(exchange.getResponse());
+    }
+
+    /**
+     * Writes this error response directly to the given {@link ServerHttpResponse} - sets the status code,
+     * Content-Type, and Content-Length, and writes the body bytes as a single
+     * {@link org.springframework.core.io.buffer.DataBuffer}. No message writers are involved.
+     *
+     * @param response The response to write to.
+     * @return A {@link Mono} that completes when the body has been written.
+     */
+    public @NotNull Mono<Void> writeTo(@NotNull ServerHttpResponse response) {
+        response.setStatusCode(statusCode);
+        HttpHeaders responseHeaders = response.getHeaders();
+        responseHeaders.setContentType(contentType);
+        responseHeaders.setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * A {@link WebFilter} that stores the Reactor {@link ContextView} it sees in the exchange attributes (under
+ * {@link #REACTOR_CONTEXT_ATTR_KEY}), so that {@link ReactorContextTraceIdExtractor} can find the trace ID at exception
+ * handling time.
+ *
+ * <p>This is necessary because {@link WebExceptionHandler}s run outside the {@link WebFilter} chain, so any
+ * tracing info that a tracing filter writes into the Reactor Context is not visible to the exception handlers. This
+ * filter defaults to {@link Ordered#LOWEST_PRECEDENCE} so it runs after (inside) any tracing filters. Capturing the
+ * context is a single attribute put per request, which is much cheaper than propagating the trace ID into the MDC on
+ * every operator.
+ *
+ * <p>This filter is not registered automatically - expose it as a bean in your Spring WebFlux config if you want it.
+ */
+@SuppressWarnings("WeakerAccess")
+public class ReactorContextCapturingWebFilter implements WebFilter, Ordered {
+
+    /**
+     * The exchange attribute key that the captured {@link ContextView} is stored under.
+     */
+    public static final String REACTOR_CONTEXT_ATTR_KEY =
+        ReactorContextCapturingWebFilter.class.getName() + ".contextView";
+
+    /**
+     * The sort order for where this filter goes in the filter chain. Defaults to {@link Ordered#LOWEST_PRECEDENCE}.
+     */
+    protected int order = Ordered.LOWEST_PRECEDENCE;
+
+    @Override
+    public @NotNull Mono<Void> filter(@NotNull ServerWebExchange exchange, @NotNull WebFilterChain chain) {
+        return Mono.deferContextual(contextView -> {
+            if (!contextView.isEmpty()) {
+                exchange.getAttributes().put(REACTOR_CONTEXT_ATTR_KEY, contextView);
+            }
+            return chain.filter(exchange);
+        });
+    }
+
+    /**
+     * See the javadocs for {@link #order} for info on what this is for.
+     */
+    @Override
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * See the javadocs for {@link #order} for info on what this is for.
+     */
+    public void setOrder(int order) {
+        this.order = order;
+    }
+}
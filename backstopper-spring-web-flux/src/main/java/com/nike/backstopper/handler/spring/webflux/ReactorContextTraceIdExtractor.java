@@ -0,0 +1,111 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.TraceIdExtractor;
+import com.nike.backstopper.handler.W3cTraceparentParser;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingWebFluxAdapter;
+import com.nike.internal.util.StringUtils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.MDC;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import reactor.util.context.ContextView;
+
+/**
+ * A {@link TraceIdExtractor} for Spring WebFlux that finds the trace ID without relying on the SLF4J {@link MDC}
+ * (which is usually wrong or empty on Reactor event loop threads). Pass an instance to
+ * {@link ApiExceptionHandlerUtils#ApiExceptionHandlerUtils(boolean, java.util.Set, String, TraceIdExtractor)}.
+ *
+ * <p>The following places are checked, in order:
+ * <ol>
+ *     <li>The exchange attributes, for each of the {@link #traceIdKeys}.</li>
+ *     <li>
+ *         The Reactor Context captured by {@link ReactorContextCapturingWebFilter} (if that filter is registered),
+ *         for each of the {@link #traceIdKeys}.
+ *     </li>
+ *     <li>The W3C {@code traceparent} request header (see {@link W3cTraceparentParser}).</li>
+ * </ol>
+ */
+@SuppressWarnings("WeakerAccess")
+public class ReactorContextTraceIdExtractor implements TraceIdExtractor {
+
+    /**
+     * The default key to look for in the exchange attributes and Reactor Context.
+     */
+    public static final String DEFAULT_TRACE_ID_KEY = "traceId";
+
+    /**
+     * A default instance that looks for {@link #DEFAULT_TRACE_ID_KEY}.
+     */
+    public static final ReactorContextTraceIdExtractor DEFAULT_IMPL = new ReactorContextTraceIdExtractor();
+
+    protected final @NotNull List<String> traceIdKeys;
+
+    /**
+     * Creates a new instance that looks for {@link #DEFAULT_TRACE_ID_KEY}.
+     */
+    public ReactorContextTraceIdExtractor() {
+        this(Collections.singletonList(DEFAULT_TRACE_ID_KEY));
+    }
+
+    /**
+     * @param traceIdKeys The keys to look for (in order) in the exchange attributes and Reactor Context. Cannot be
+     * null.
+     */
+    public ReactorContextTraceIdExtractor(@NotNull List<String> traceIdKeys) {
+        //noinspection ConstantConditions
+        if (traceIdKeys == null) {
+            throw new NullPointerException("traceIdKeys cannot be null.");
+        }
+
+        this.traceIdKeys = List.copyOf(traceIdKeys);
+    }
+
+    @Override
+    public @Nullable String extractTraceId(@NotNull RequestInfoForLogging request) {
+        if (request instanceof RequestInfoForLoggingWebFluxAdapter webFluxAdapter) {
+            Map<String, Object> attributes = webFluxAdapter.getRequest().exchange().getAttributes();
+
+            for (String key : traceIdKeys) {
+                String fromAttribute = traceIdFromValue(attributes.get(key));
+                if (fromAttribute != null) {
+                    return fromAttribute;
+                }
+            }
+
+            if (attributes.get(ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY) instanceof ContextView ctx) {
+                for (String key : traceIdKeys) {
+                    String fromContext = traceIdFromValue(ctx.getOrDefault(key, null));
+                    if (fromContext != null) {
+                        return fromContext;
+                    }
+                }
+            }
+        }
+
+        return W3cTraceparentParser.extractTraceId(request.getHeader(W3cTraceparentParser.TRACEPARENT_HEADER_KEY));
+    }
+
+    /**
+     * Converts an exchange attribute or Reactor Context value to a trace ID. The default implementation uses the
+     * value's {@code toString()}. Override this if your tracing system stores something more complex (e.g. a span
+     * object) under one of the {@link #traceIdKeys}.
+     *
+     * @param value The exchange attribute or Reactor Context value - may be null.
+     * @return The trace ID, or null if the value is null or blank.
+     */
+    protected @Nullable String traceIdFromValue(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        String asString = value.toString();
+        return StringUtils.isBlank(asString) ? null : asString;
+    }
+}
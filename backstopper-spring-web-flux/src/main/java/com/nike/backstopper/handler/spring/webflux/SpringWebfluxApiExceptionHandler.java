@@ -4,10 +4,12 @@ import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.handler.ApiExceptionHandlerBase;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.handler.DisconnectedClientHelper;
 import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.handler.UnexpectedMajorExceptionHandlingError;
 import com.nike.backstopper.handler.adapter.RequestInfoForLoggingWebFluxAdapter;
+import com.nike.backstopper.handler.listener.AsyncApiExceptionHandlerListenerBridge;
 import com.nike.backstopper.handler.spring.webflux.listener.SpringWebFluxApiExceptionHandlerListenerList;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
 
@@ -20,7 +22,6 @@ import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.server.reactive.ServerHttpResponse;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
@@ -29,6 +30,7 @@ import org.springframework.web.server.WebExceptionHandler;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -36,8 +38,6 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import reactor.core.publisher.Mono;
 
-import static com.nike.backstopper.handler.spring.webflux.DisconnectedClientHelper.isClientDisconnectedException;
-
 /**
  * An {@link ApiExceptionHandlerBase} extension that hooks into Spring WebFlux via its
  * {@link WebExceptionHandler} interface, and specifically the
@@ -46,6 +46,9 @@ import static com.nike.backstopper.handler.spring.webflux.DisconnectedClientHelp
  * <p>Any errors not handled here are things we don't know how to deal with and will fall through to
  * {@link SpringWebfluxUnhandledExceptionHandler}.
  *
+ * <p>Async listeners (wrapped in an {@link AsyncApiExceptionHandlerListenerBridge}) are composed without blocking the
+ * event loop. If there aren't any async listeners then the listener chain runs synchronously.
+ *
  * @author Nic Munroe
  */
 @Named
@@ -67,6 +70,7 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
     protected final List<HttpMessageReader<?>> messageReaders;
     protected final List<HttpMessageWriter<?>> messageWriters;
     protected final List<ViewResolver> viewResolvers;
+    protected final ResponseContext responseContext;
     
     @Inject
     public SpringWebfluxApiExceptionHandler(
@@ -77,7 +81,26 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
         @NotNull ObjectProvider<ViewResolver> viewResolversProvider,
         @NotNull ServerCodecConfigurer serverCodecConfigurer
     ) {
-        super(projectApiErrors, apiExceptionHandlerListeners.listeners, generalUtils);
+        this(
+            projectApiErrors, apiExceptionHandlerListeners, generalUtils, springUtils, viewResolversProvider,
+            serverCodecConfigurer, false
+        );
+    }
+
+    /**
+     * Use this constructor (e.g. from your own {@code @Bean} method) if you want repeated field errors merged into a
+     * single error for the response - see {@link #shouldMergeRepeatedFieldErrors()}.
+     */
+    public SpringWebfluxApiExceptionHandler(
+        @NotNull ProjectApiErrors projectApiErrors,
+        @NotNull SpringWebFluxApiExceptionHandlerListenerList apiExceptionHandlerListeners,
+        @NotNull ApiExceptionHandlerUtils generalUtils,
+        @NotNull SpringWebfluxApiExceptionHandlerUtils springUtils,
+        @NotNull ObjectProvider<ViewResolver> viewResolversProvider,
+        @NotNull ServerCodecConfigurer serverCodecConfigurer,
+        boolean mergeRepeatedFieldErrors
+    ) {
+        super(projectApiErrors, apiExceptionHandlerListeners.listeners, generalUtils, mergeRepeatedFieldErrors);
 
         //noinspection ConstantConditions
         if (springUtils == null) {
@@ -98,6 +121,7 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
         this.viewResolvers = viewResolversProvider.orderedStream().collect(Collectors.toList());
         this.messageReaders = serverCodecConfigurer.getReaders();
         this.messageWriters = serverCodecConfigurer.getWriters();
+        this.responseContext = new ResponseContext(messageWriters, viewResolvers);
     }
 
     @Override
@@ -115,9 +139,24 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
 
     @Override
     public @NotNull Mono<Void> handle(@NotNull ServerWebExchange exchange, @NotNull Throwable ex) {
-        ServerRequest fluxRequest = ServerRequest.create(exchange, messageReaders);
-        RequestInfoForLogging requestInfoForLogging = new RequestInfoForLoggingWebFluxAdapter(fluxRequest);
+        // Before doing any work, check to see if the response is already committed or the client disconnected.
+        //      There's nothing we can write in either case, so there's no point running the listeners, logging, or
+        //      building a response. This short circuit logic for an already-committed response or disconnected
+        //      client was adapted from Spring Boot's AbstractErrorWebExceptionHandler class.
+        if (shouldSkipHandling(exchange, ex)) {
+            return Mono.error(ex);
+        }
 
+        // Reuse the adapter from any earlier handler pass for this exchange rather than building a new ServerRequest.
+        RequestInfoForLogging requestInfoForLogging =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(exchange, messageReaders);
+
+        if (hasAsyncListeners) {
+            // At least one listener is async, so compose the listener chain without blocking the event loop.
+            return handleAsync(exchange, ex, requestInfoForLogging);
+        }
+
+        // All the listeners are synchronous, so we can stay on the fast path.
         ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo;
         try {
             errorResponseInfo = maybeHandleException(
@@ -137,17 +176,45 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
             return Mono.error(ex);
         }
 
-        // Before we try to write the response, we should check to see if it's already committed, or if the client
-        //      disconnected.
-        // This short circuit logic due to an already-committed response or disconnected client was copied from
-        //      Spring Boot's AbstractErrorWebExceptionHandler class.
-        if (exchange.getResponse().isCommitted() || isClientDisconnectedException(ex)) {
-            return Mono.error(ex);
-        }
+        return writeErrorResponse(exchange, errorResponseInfo);
+    }
+
+    /**
+     * Handles the given exception via {@link #maybeHandleExceptionAsync(Throwable, RequestInfoForLogging)}, which
+     * composes any {@link AsyncApiExceptionHandlerListenerBridge} listeners without blocking. Only used when
+     * {@link #hasAsyncListeners} is true.
+     */
+    protected @NotNull Mono<Void> handleAsync(
+        @NotNull ServerWebExchange exchange,
+        @NotNull Throwable ex,
+        @NotNull RequestInfoForLogging requestInfoForLogging
+    ) {
+        return Mono
+            .fromCompletionStage(() -> maybeHandleExceptionAsync(ex, requestInfoForLogging))
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .onErrorResume(handlingError -> {
+                logger.error("Unexpected major error while handling exception. {} should handle it.",
+                             SpringWebfluxUnhandledExceptionHandler.class.getName(), handlingError
+                );
+                return Mono.just(Optional.empty());
+            })
+            .flatMap(
+                // If we didn't know how to handle the exception then return Mono.error(ex) to indicate that error
+                //      handling should continue.
+                errorResponseInfo -> errorResponseInfo.map(info -> writeErrorResponse(exchange, info))
+                                                      .orElseGet(() -> Mono.error(ex))
+            );
+    }
 
-        // We handled the exception, and the response is still valid for output (not committed, and client still
-        //      connected). Add any custom headers desired by the ErrorResponseInfo, and return a Mono that writes
-        //      the response.
+    /**
+     * Adds any custom headers desired by the given {@link ErrorResponseInfo}, and returns a Mono that writes the
+     * response.
+     */
+    protected @NotNull Mono<Void> writeErrorResponse(
+        @NotNull ServerWebExchange exchange,
+        @NotNull ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo
+    ) {
         processWebFluxResponse(errorResponseInfo, exchange.getResponse());
 
         return errorResponseInfo.frameworkRepresentationObj.flatMap(
@@ -155,6 +222,25 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
         );
     }
 
+    /**
+     * @return true if the given exchange's response is already committed, or the given exception indicates the client
+     * disconnected (see {@link DisconnectedClientHelper}), in which case {@link #handle(ServerWebExchange, Throwable)}
+     * will skip all error handling and return {@code Mono.error(ex)}. Disconnected clients are tallied (once per
+     * exchange) via {@link DisconnectedClientHelper#recordDisconnectedClient()} rather than logged.
+     */
+    protected boolean shouldSkipHandling(@NotNull ServerWebExchange exchange, @NotNull Throwable ex) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            if (exchange.getAttributes().putIfAbsent(
+                DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY, Boolean.TRUE
+            ) == null) {
+                DisconnectedClientHelper.recordDisconnectedClient();
+            }
+            return true;
+        }
+
+        return exchange.getResponse().isCommitted();
+    }
+
     protected void processWebFluxResponse(
         ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo,
         ServerHttpResponse response
@@ -167,9 +253,20 @@ public class SpringWebfluxApiExceptionHandler extends ApiExceptionHandlerBase<Mo
 
     // Copied and slightly modified from Spring Boot 3.3.3's AbstractErrorWebExceptionHandler class.
     protected Mono<? extends Void> write(ServerWebExchange exchange, ServerResponse response) {
+        if (response instanceof PreSerializedErrorServerResponse preSerializedResponse) {
+            // Fast path - the error contract is already serialized, so write the bytes directly to the response
+            //      without going through the message writers.
+            return preSerializedResponse.writeTo(exchange.getResponse());
+        }
+
+        if (response instanceof StreamingErrorServerResponse streamingResponse) {
+            // Same as above, except the error contract is serialized as it's written.
+            return streamingResponse.writeTo(exchange.getResponse());
+        }
+
         // force content-type since writeTo won't overwrite response header values
         exchange.getResponse().getHeaders().setContentType(response.headers().getContentType());
-        return response.writeTo(exchange, new ResponseContext(messageWriters, viewResolvers));
+        return response.writeTo(exchange, responseContext);
     }
 
     /**
@@ -3,11 +3,16 @@ package com.nike.backstopper.handler.spring.webflux;
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.ChunkedErrorContractJsonWriter;
 import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 
 import jakarta.inject.Named;
@@ -32,6 +37,44 @@ public class SpringWebfluxApiExceptionHandlerUtils {
     public static final SpringWebfluxApiExceptionHandlerUtils DEFAULT_IMPL =
         new SpringWebfluxApiExceptionHandlerUtils();
 
+    /**
+     * JSON error contracts with at least this many errors are streamed to the response as a
+     * {@link StreamingErrorServerResponse} rather than being serialized up front. Defaults to
+     * {@link Integer#MAX_VALUE}, i.e. streaming is effectively disabled unless you use the
+     * {@link #SpringWebfluxApiExceptionHandlerUtils(int)} constructor.
+     */
+    protected final int streamingErrorCountThreshold;
+
+    /**
+     * Whether {@link #serializeErrorContractToString(DefaultErrorContractDTO)} has been overridden by a subclass. If
+     * so, we honor it and build the pre-serialized JSON response body from that method's output rather than using
+     * {@link #serializeErrorContractToBytes(DefaultErrorContractDTO)}'s default direct-to-bytes serialization.
+     */
+    protected final boolean serializeErrorContractToStringIsOverridden =
+        isSerializeErrorContractToStringOverridden(this.getClass());
+
+    /**
+     * Creates a new instance that never streams error responses.
+     */
+    public SpringWebfluxApiExceptionHandlerUtils() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new instance that streams JSON error responses that have at least the given number of errors - see
+     * {@link StreamingErrorServerResponse}.
+     *
+     * @param streamingErrorCountThreshold The min number of errors for an error response to be streamed. Must be
+     *                                     positive.
+     */
+    public SpringWebfluxApiExceptionHandlerUtils(int streamingErrorCountThreshold) {
+        if (streamingErrorCountThreshold <= 0) {
+            throw new IllegalArgumentException("streamingErrorCountThreshold must be positive.");
+        }
+
+        this.streamingErrorCountThreshold = streamingErrorCountThreshold;
+    }
+
     /**
      * Method for generating a {@link Mono} of {@link ServerResponse} that contains a serialized representation of the
      * given {@link DefaultErrorContractDTO} as its body (JSON serialization by default).
@@ -40,10 +83,17 @@ public class SpringWebfluxApiExceptionHandlerUtils {
      * the {@link DefaultErrorContractDTO} after calling this method may not be reflected in the
      * returned {@code Mono<ServerResponse>}.
      *
-     * <p>The following two methods control the serialized representation of the error contract that will be used
-     * as the {@link ServerResponse}'s body: {@link #serializeErrorContractToString(DefaultErrorContractDTO)} and
+     * <p>The following methods control the serialized representation of the error contract that will be used
+     * as the {@link ServerResponse}'s body: {@link #serializeErrorContractToString(DefaultErrorContractDTO)},
+     * {@link #serializeErrorContractToBytes(DefaultErrorContractDTO)}, and
      * {@link #getErrorResponseContentType(DefaultErrorContractDTO, int, Collection, Throwable, RequestInfoForLogging)}.
      *
+     * <p>If the content type is JSON (see {@link #shouldUsePreSerializedResponse(MediaType)}) then the result will be
+     * a {@link PreSerializedErrorServerResponse}, which the Backstopper WebFlux exception handlers write directly to
+     * the response without going through Spring's message writers. Otherwise a normal {@link ServerResponse} is built
+     * with the serialized string as its body. Large JSON error contracts may be streamed instead of being serialized up
+     * front - see {@link #shouldStreamErrorContract(DefaultErrorContractDTO)}.
+     *
      * @return A {@link Mono} of {@link ServerResponse} that contains a serialized representation of the given
      * {@link DefaultErrorContractDTO}.
      */
@@ -54,19 +104,94 @@ public class SpringWebfluxApiExceptionHandlerUtils {
         Throwable originalException,
         RequestInfoForLogging request
     ) {
+        MediaType contentType = getErrorResponseContentType(
+            errorContractDTO, httpStatusCode, rawFilteredApiErrors, originalException, request
+        );
+
+        if (shouldUsePreSerializedResponse(contentType)) {
+            if (shouldStreamErrorContract(errorContractDTO)) {
+                return Mono.just(
+                    new StreamingErrorServerResponse(
+                        HttpStatusCode.valueOf(httpStatusCode),
+                        contentType,
+                        errorContractDTO,
+                        getObjectMapperForStreamingSerialization(),
+                        ChunkedErrorContractJsonWriter.DEFAULT_CHUNK_SIZE_HINT
+                    )
+                );
+            }
+
+            return Mono.just(
+                new PreSerializedErrorServerResponse(
+                    HttpStatusCode.valueOf(httpStatusCode),
+                    contentType,
+                    serializeErrorContractToBytes(errorContractDTO)
+                )
+            );
+        }
+
         return ServerResponse
             .status(httpStatusCode)
-            .contentType(
-                getErrorResponseContentType(
-                    errorContractDTO, httpStatusCode, rawFilteredApiErrors, originalException, request
-                )
-            ).bodyValue(serializeErrorContractToString(errorContractDTO));
+            .contentType(contentType)
+            .bodyValue(serializeErrorContractToString(errorContractDTO));
     }
 
     protected String serializeErrorContractToString(DefaultErrorContractDTO errorContractDTO) {
         return JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(errorContractDTO);
     }
 
+    /**
+     * @return The UTF-8 bytes of the serialized error contract, used as the body of a
+     * {@link PreSerializedErrorServerResponse}. By default this serializes directly to bytes via
+     * {@link JsonUtilWithDefaultErrorContractDTOSupport#writeValueAsBytes(Object)}, unless
+     * {@link #serializeErrorContractToString(DefaultErrorContractDTO)} has been overridden, in which case the
+     * overridden method's output is used instead.
+     */
+    protected byte[] serializeErrorContractToBytes(DefaultErrorContractDTO errorContractDTO) {
+        if (serializeErrorContractToStringIsOverridden) {
+            return serializeErrorContractToString(errorContractDTO).getBytes(StandardCharsets.UTF_8);
+        }
+
+        return JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContractDTO);
+    }
+
+    /**
+     * @return true if the given JSON error contract should be streamed to the response with a
+     * {@link StreamingErrorServerResponse}. By default this returns true if the contract has at least
+     * {@link #streamingErrorCountThreshold} errors, unless
+     * {@link #serializeErrorContractToString(DefaultErrorContractDTO)} has been overridden (since streaming can't
+     * honor a custom serialization).
+     */
+    protected boolean shouldStreamErrorContract(DefaultErrorContractDTO errorContractDTO) {
+        return !serializeErrorContractToStringIsOverridden
+               && errorContractDTO.errors != null
+               && errorContractDTO.errors.size() >= streamingErrorCountThreshold;
+    }
+
+    /**
+     * @return The {@link ObjectMapper} used to serialize streamed error contracts. Defaults to
+     * {@link JsonUtilWithDefaultErrorContractDTOSupport#DEFAULT_SMART_MAPPER}, which matches
+     * {@link #serializeErrorContractToBytes(DefaultErrorContractDTO)}.
+     */
+    protected ObjectMapper getObjectMapperForStreamingSerialization() {
+        return JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+    }
+
+    /**
+     * @return true if the given content type should result in a {@link PreSerializedErrorServerResponse} being
+     * generated by {@link #generateServerResponseForError(DefaultErrorContractDTO, int, Collection, Throwable,
+     * RequestInfoForLogging)}, false if a normal {@link ServerResponse} should be built instead. By default this
+     * returns true for {@code application/json} and {@code application/*+json} content types (JSON is always UTF-8,
+     * so there are no charset concerns with writing the pre-serialized bytes directly).
+     */
+    protected boolean shouldUsePreSerializedResponse(MediaType contentType) {
+        if (contentType == null || !"application".equals(contentType.getType())) {
+            return false;
+        }
+
+        return "json".equals(contentType.getSubtype()) || "json".equals(contentType.getSubtypeSuffix());
+    }
+
     @SuppressWarnings("unused")
     protected MediaType getErrorResponseContentType(
         DefaultErrorContractDTO errorContractDTO,
@@ -78,4 +203,21 @@ public class SpringWebfluxApiExceptionHandlerUtils {
         // Default to simply application/json.
         return MediaType.APPLICATION_JSON;
     }
+
+    protected static boolean isSerializeErrorContractToStringOverridden(Class<?> clazz) {
+        for (Class<?> current = clazz;
+             current != null && current != SpringWebfluxApiExceptionHandlerUtils.class;
+             current = current.getSuperclass()
+        ) {
+            try {
+                current.getDeclaredMethod("serializeErrorContractToString", DefaultErrorContractDTO.class);
+                return true;
+            }
+            catch (NoSuchMethodException ex) {
+                // Not declared on this class - keep walking up the hierarchy.
+            }
+        }
+
+        return false;
+    }
 }
@@ -3,6 +3,7 @@ package com.nike.backstopper.handler.spring.webflux;
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.handler.DisconnectedClientHelper;
 import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.handler.UnhandledExceptionHandlerBase;
@@ -17,7 +18,6 @@ import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.server.reactive.ServerHttpResponse;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
@@ -35,8 +35,6 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import reactor.core.publisher.Mono;
 
-import static com.nike.backstopper.handler.spring.webflux.DisconnectedClientHelper.isClientDisconnectedException;
-
 /**
  * An extension of {@link UnhandledExceptionHandlerBase} that acts as a final catch-all exception handler for
  * Spring WebFlux. This class translates *all* exceptions to a {@link ProjectApiErrors#getGenericServiceError()},
@@ -69,6 +67,7 @@ public class SpringWebfluxUnhandledExceptionHandler
     protected final List<HttpMessageReader<?>> messageReaders;
     protected final List<HttpMessageWriter<?>> messageWriters;
     protected final List<ViewResolver> viewResolvers;
+    protected final ResponseContext responseContext;
 
     @Inject
     public SpringWebfluxUnhandledExceptionHandler(
@@ -102,6 +101,7 @@ public class SpringWebfluxUnhandledExceptionHandler
         this.viewResolvers = viewResolversProvider.orderedStream().collect(Collectors.toList());
         this.messageReaders = serverCodecConfigurer.getReaders();
         this.messageWriters = serverCodecConfigurer.getWriters();
+        this.responseContext = new ResponseContext(messageWriters, viewResolvers);
     }
 
     @Override
@@ -142,22 +142,22 @@ public class SpringWebfluxUnhandledExceptionHandler
 
     @Override
     public @NotNull Mono<Void> handle(@NotNull ServerWebExchange exchange, @NotNull Throwable ex) {
-        ServerRequest fluxRequest = ServerRequest.create(exchange, messageReaders);
-        RequestInfoForLogging requestInfoForLogging = new RequestInfoForLoggingWebFluxAdapter(fluxRequest);
-
-        ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo = handleException(ex, requestInfoForLogging);
-
-        // Before we try to write the response, we should check to see if it's already committed, or if the client
-        //      disconnected.
-        // This short circuit logic due to an already-committed response or disconnected client was copied from
-        //      Spring Boot's AbstractErrorWebExceptionHandler class.
-        if (exchange.getResponse().isCommitted() || isClientDisconnectedException(ex)) {
+        // Before doing any work, check to see if the response is already committed or the client disconnected.
+        //      There's nothing we can write in either case, so there's no point running the listeners, logging, or
+        //      building a response. This short circuit logic for an already-committed response or disconnected
+        //      client was adapted from Spring Boot's AbstractErrorWebExceptionHandler class.
+        if (shouldSkipHandling(exchange, ex)) {
             return Mono.error(ex);
         }
 
-        // We handled the exception, and the response is still valid for output (not committed, and client still
-        //      connected). Add any custom headers desired by the ErrorResponseInfo, and return a Mono that writes
-        //      the response.
+        // Reuse the adapter from any earlier handler pass for this exchange rather than building a new ServerRequest.
+        RequestInfoForLogging requestInfoForLogging =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(exchange, messageReaders);
+
+        ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo = handleException(ex, requestInfoForLogging);
+
+        // We handled the exception. Add any custom headers desired by the ErrorResponseInfo, and return a Mono that
+        //      writes the response.
         processWebFluxResponse(errorResponseInfo, exchange.getResponse());
 
         return errorResponseInfo.frameworkRepresentationObj.flatMap(
@@ -165,6 +165,25 @@ public class SpringWebfluxUnhandledExceptionHandler
         );
     }
 
+    /**
+     * @return true if the given exchange's response is already committed, or the given exception indicates the client
+     * disconnected (see {@link DisconnectedClientHelper}), in which case {@link #handle(ServerWebExchange, Throwable)}
+     * will skip all error handling and return {@code Mono.error(ex)}. Disconnected clients are tallied (once per
+     * exchange) via {@link DisconnectedClientHelper#recordDisconnectedClient()} rather than logged.
+     */
+    protected boolean shouldSkipHandling(@NotNull ServerWebExchange exchange, @NotNull Throwable ex) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            if (exchange.getAttributes().putIfAbsent(
+                DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY, Boolean.TRUE
+            ) == null) {
+                DisconnectedClientHelper.recordDisconnectedClient();
+            }
+            return true;
+        }
+
+        return exchange.getResponse().isCommitted();
+    }
+
     protected void processWebFluxResponse(
         ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo,
         ServerHttpResponse response
@@ -177,9 +196,20 @@ public class SpringWebfluxUnhandledExceptionHandler
 
     // Copied and slightly modified from Spring Boot 3.3.3's AbstractErrorWebExceptionHandler class.
     protected Mono<? extends Void> write(ServerWebExchange exchange, ServerResponse response) {
+        if (response instanceof PreSerializedErrorServerResponse preSerializedResponse) {
+            // Fast path - the error contract is already serialized, so write the bytes directly to the response
+            //      without going through the message writers.
+            return preSerializedResponse.writeTo(exchange.getResponse());
+        }
+
+        if (response instanceof StreamingErrorServerResponse streamingResponse) {
+            // Same as above, except the error contract is serialized as it's written.
+            return streamingResponse.writeTo(exchange.getResponse());
+        }
+
         // force content-type since writeTo won't overwrite response header values
         exchange.getResponse().getHeaders().setContentType(response.headers().getContentType());
-        return response.writeTo(exchange, new ResponseContext(messageWriters, viewResolvers));
+        return response.writeTo(exchange, responseContext);
     }
 
     /**
@@ -0,0 +1,176 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.ChunkedErrorContractJsonWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.io.IOException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A lightweight {@link ServerResponse} for very large error contracts that serializes the contract as the response
+ * is written, as a stream of {@link DataBuffer}s of roughly {@link #chunkSizeHint} bytes each (see
+ * {@link ChunkedErrorContractJsonWriter}). Chunks are only serialized as the response asks for them, so memory use is
+ * bounded by the chunk size rather than by the size of the whole response. This is what
+ * {@link SpringWebfluxApiExceptionHandlerUtils} returns for JSON error responses with at least
+ * {@link SpringWebfluxApiExceptionHandlerUtils#streamingErrorCountThreshold} errors.
+ *
+ * <p>{@link SpringWebfluxApiExceptionHandler} and {@link SpringWebfluxUnhandledExceptionHandler} recognize this type
+ * and call {@link #writeTo(ServerHttpResponse)} directly, the same way they do for
+ * {@link PreSerializedErrorServerResponse}. Unlike {@link PreSerializedErrorServerResponse} there is no Content-Length
+ * header (the length isn't known until the contract has been written), and no fallback response if serialization
+ * fails partway through.
+ */
+@SuppressWarnings("WeakerAccess")
+public class StreamingErrorServerResponse implements ServerResponse {
+
+    protected final @NotNull HttpStatusCode statusCode;
+    protected final @NotNull MediaType contentType;
+    protected final @NotNull DefaultErrorContractDTO errorContract;
+    protected final @NotNull ObjectMapper objectMapper;
+    protected final int chunkSizeHint;
+
+    // Lazily created, since the fast path in the exception handlers never needs it.
+    private HttpHeaders headers;
+
+    public StreamingErrorServerResponse(
+        @NotNull HttpStatusCode statusCode,
+        @NotNull MediaType contentType,
+        @NotNull DefaultErrorContractDTO errorContract,
+        @NotNull ObjectMapper objectMapper,
+        int chunkSizeHint
+    ) {
+        //noinspection ConstantConditions
+        if (statusCode == null) {
+            throw new NullPointerException("statusCode cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (contentType == null) {
+            throw new NullPointerException("contentType cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (errorContract == null) {
+            throw new NullPointerException("errorContract cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (objectMapper == null) {
+            throw new NullPointerException("objectMapper cannot be null.");
+        }
+
+        if (chunkSizeHint <= 0) {
+            throw new IllegalArgumentException("chunkSizeHint must be positive.");
+        }
+
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.errorContract = errorContract;
+        this.objectMapper = objectMapper;
+        this.chunkSizeHint = chunkSizeHint;
+    }
+
+    public @NotNull DefaultErrorContractDTO getErrorContract() {
+        return errorContract;
+    }
+
+    public @NotNull MediaType getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public @NotNull HttpStatusCode statusCode() {
+        return statusCode;
+    }
+
+    @Override
+    @Deprecated
+    public int rawStatusCode() {
+        return statusCode.value();
+    }
+
+    @Override
+    public @NotNull HttpHeaders headers() {
+        HttpHeaders result = headers;
+        if (result == null) {
+            HttpHeaders newHeaders = new HttpHeaders();
+            newHeaders.setContentType(contentType);
+            result = HttpHeaders.readOnlyHttpHeaders(newHeaders);
+            headers = result;
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull MultiValueMap<String, ResponseCookie> cookies() {
+        return PreSerializedErrorServerResponse.NO_COOKIES;
+    }
+
+    @Override
+    public @NotNull Mono<Void> writeTo(@NotNull ServerWebExchange exchange, @NotNull Context context) {
+        return writeTo(exchange.getResponse());
+    }
+
+    /**
+     * Writes this error response directly to the given {@link ServerHttpResponse} - sets the status code and
+     * Content-Type, and writes the body as a stream of {@link DataBuffer}s that are serialized on demand. No message
+     * writers are involved.
+     *
+     * @param response The response to write to.
+     * @return A {@link Mono} that completes when the body has been written.
+     */
+    public @NotNull Mono<Void> writeTo(@NotNull ServerHttpResponse response) {
+        response.setStatusCode(statusCode);
+        response.getHeaders().setContentType(contentType);
+        return response.writeWith(generateBody(response.bufferFactory()));
+    }
+
+    /**
+     * @return A {@link Flux} that serializes the next chunk of the error contract each time a {@link DataBuffer} is
+     * requested.
+     */
+    protected @NotNull Flux<DataBuffer> generateBody(@NotNull DataBufferFactory bufferFactory) {
+        return Flux.generate(
+            () -> new ChunkedErrorContractJsonWriter(errorContract, objectMapper, chunkSizeHint),
+            (writer, sink) -> {
+                try {
+                    byte[] chunk = writer.nextChunk();
+                    if (chunk == null) {
+                        sink.complete();
+                    }
+                    else {
+                        sink.next(bufferFactory.wrap(chunk));
+                    }
+                }
+                catch (IOException ex) {
+                    sink.error(ex);
+                }
+                return writer;
+            },
+            writer -> {
+                try {
+                    writer.close();
+                }
+                catch (IOException ex) {
+                    // Nothing useful to do - the writer only holds an in-memory buffer.
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.nike.backstopper.service.reactive;
+
+import com.nike.backstopper.exception.ClientDataValidationError;
+import com.nike.backstopper.service.ClientDataValidationService;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A reactive wrapper around {@link ClientDataValidationService} for WebFlux (or other Reactor-based) applications.
+ * Each method returns a lazy {@link Mono} that performs the JSR 303 validation when subscribed to, and emits a
+ * {@link ClientDataValidationError} error signal if any constraint violations are found. The Backstopper WebFlux
+ * exception handler already knows how to turn that error into the appropriate error response.
+ *
+ * <p>Validating a small object is cheap, so it's done inline on the subscribing thread (usually an event loop thread)
+ * rather than paying for a thread hop. Batches and large payloads (see {@link #shouldOffload(Object)}) are validated on
+ * {@link #validationScheduler} instead, so that CPU-heavy validation doesn't stall every other connection being served
+ * by the same event loop. The default scheduler is {@link Schedulers#boundedElastic()}, since large batches block
+ * while {@link ClientDataValidationService} validates their slices concurrently - blocking isn't allowed on
+ * {@link Schedulers#parallel()}.
+ *
+ * <p>Collections and object arrays passed to {@link #validateFailFast(Object, Class[])} are validated item by item, the
+ * same as {@link #validateBatchFailFast(Collection, Class[])}. Maps are validated as the map object only (which
+ * usually means no validation at all) - pass in the map's {@code values()} if you want the values validated.
+ */
+@Named
+@Singleton
+@SuppressWarnings("WeakerAccess")
+public class ReactiveClientDataValidationService {
+
+    /**
+     * The default value for {@link #offloadSizeThreshold}.
+     */
+    public static final int DEFAULT_OFFLOAD_SIZE_THRESHOLD = 32;
+
+    protected final ClientDataValidationService delegate;
+    /**
+     * The scheduler that batches and large payloads are validated on.
+     */
+    protected final Scheduler validationScheduler;
+    /**
+     * Validation requests with at least this many objects, or collections or object arrays with at least this many
+     * elements, are validated on {@link #validationScheduler}.
+     */
+    protected final int offloadSizeThreshold;
+
+    /**
+     * Creates a new instance that offloads to {@link Schedulers#boundedElastic()} using
+     * {@link #DEFAULT_OFFLOAD_SIZE_THRESHOLD}.
+     *
+     * @param delegate The {@link ClientDataValidationService} that does the actual validation. Cannot be null.
+     */
+    @Inject
+    public ReactiveClientDataValidationService(ClientDataValidationService delegate) {
+        this(delegate, Schedulers.boundedElastic(), DEFAULT_OFFLOAD_SIZE_THRESHOLD);
+    }
+
+    /**
+     * @param delegate The {@link ClientDataValidationService} that does the actual validation. Cannot be null.
+     * @param validationScheduler The scheduler that batches and large payloads are validated on. This should be a
+     *                            bounded scheduler that allows blocking, like {@link Schedulers#boundedElastic()}.
+     *                            Cannot be null.
+     * @param offloadSizeThreshold The size at which payloads are validated on the validationScheduler rather than
+     *                             inline - see {@link #shouldOffload(Object)}. Must be positive.
+     */
+    public ReactiveClientDataValidationService(ClientDataValidationService delegate,
+                                               Scheduler validationScheduler,
+                                               int offloadSizeThreshold) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("ClientDataValidationService cannot be null");
+        }
+
+        if (validationScheduler == null) {
+            throw new IllegalArgumentException("validationScheduler cannot be null");
+        }
+
+        if (offloadSizeThreshold <= 0) {
+            throw new IllegalArgumentException("offloadSizeThreshold must be positive");
+        }
+
+        this.delegate = delegate;
+        this.validationScheduler = validationScheduler;
+        this.offloadSizeThreshold = offloadSizeThreshold;
+    }
+
+    /**
+     * @return A {@link Mono} that validates the given object for the given groups (or the Default group if no groups
+     * are given) when subscribed to, and then emits the object. Emits a {@link ClientDataValidationError} if there
+     * are constraint violations. If the object is null then the {@link Mono} completes empty without validating.
+     * Collections and object arrays are validated item by item, like
+     * {@link #validateBatchFailFast(Collection, Class[])}.
+     */
+    public <T> Mono<T> validateFailFast(T validateThisObject, Class<?>... groups) {
+        Mono<T> result = Mono.fromCallable(() -> {
+            if (validateThisObject instanceof Collection<?> collection) {
+                delegate.validateBatchWithGroupsFailFast(collection, groups);
+            }
+            else if (validateThisObject instanceof Object[] array) {
+                delegate.validateBatchWithGroupsFailFast(Arrays.asList(array), groups);
+            }
+            else {
+                delegate.validateObjectsWithGroupsFailFast(toGroupsOrNull(groups), validateThisObject);
+            }
+            return validateThisObject;
+        });
+
+        return shouldOffload(validateThisObject) ? result.subscribeOn(validationScheduler) : result;
+    }
+
+    /**
+     * @return A {@link Mono} that validates the given objects (using the Default group) when subscribed to, and
+     * completes empty if they pass. Emits a {@link ClientDataValidationError} if there are constraint violations.
+     * Reactive equivalent of {@link ClientDataValidationService#validateObjectsFailFast(Object...)}.
+     */
+    public Mono<Void> validateObjectsFailFast(Object... validateTheseObjects) {
+        return validateObjectsWithGroupsFailFast(null, validateTheseObjects);
+    }
+
+    /**
+     * @return A {@link Mono} that validates the given objects for the given groups when subscribed to, and completes
+     * empty if they pass. Emits a {@link ClientDataValidationError} if there are constraint violations. Reactive
+     * equivalent of {@link ClientDataValidationService#validateObjectsWithGroupsFailFast(Class[], Object...)} - as
+     * there, a collection passed in as one of the objects is validated as the collection object only, not item by
+     * item. Use {@link #validateFailFast(Object, Class[])} or {@link #validateBatchFailFast(Collection, Class[])} for
+     * that.
+     */
+    public Mono<Void> validateObjectsWithGroupsFailFast(Class<?>[] groups, Object... validateTheseObjects) {
+        if (validateTheseObjects == null || validateTheseObjects.length == 0) {
+            return Mono.empty();
+        }
+
+        Mono<Void> result = Mono.fromRunnable(
+            () -> delegate.validateObjectsWithGroupsFailFast(groups, validateTheseObjects)
+        );
+
+        return shouldOffload(validateTheseObjects) ? result.subscribeOn(validationScheduler) : result;
+    }
+
+    /**
+     * @return A {@link Mono} that validates each item in the given batch for the given groups when subscribed to, and
+     * then emits the batch. Emits a single {@link ClientDataValidationError} for all the items if there are constraint
+     * violations - see {@link ClientDataValidationService#validateBatchWithGroupsFailFast(Collection, Class[])}.
+     * Batches are always validated on {@link #validationScheduler}. If the batch is null then the {@link Mono}
+     * completes empty.
+     */
+    public <C extends Collection<?>> Mono<C> validateBatchFailFast(C batch, Class<?>... groups) {
+        return Mono
+            .fromCallable(() -> {
+                delegate.validateBatchWithGroupsFailFast(batch, groups);
+                return batch;
+            })
+            .subscribeOn(validationScheduler);
+    }
+
+    /**
+     * @return true if the given payload should be validated on {@link #validationScheduler} rather than inline on the
+     * subscribing thread. By default this is true for collections and object arrays with at least
+     * {@link #offloadSizeThreshold} elements (since each element gets validated), and false for everything else. The
+     * {@code validateObjects...} methods call this with their varargs array of objects. Override this if you have
+     * payload types that you know are expensive to validate.
+     */
+    protected boolean shouldOffload(Object payload) {
+        if (payload instanceof Collection<?> collection) {
+            return collection.size() >= offloadSizeThreshold;
+        }
+
+        if (payload instanceof Object[] array) {
+            return array.length >= offloadSizeThreshold;
+        }
+
+        return false;
+    }
+
+    private static Class<?>[] toGroupsOrNull(Class<?>[] groups) {
+        return (groups == null || groups.length == 0) ? null : groups;
+    }
+}
@@ -1,6 +1,7 @@
 package com.nike.backstopper.handler.adapter;
 
 import com.nike.backstopper.handler.RequestInfoForLogging.GetBodyException;
+import com.nike.backstopper.handler.RequestInfoForLoggingCache;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -11,11 +12,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -250,4 +254,70 @@ public class RequestInfoForLoggingWebFluxAdapterTest {
             .hasMessage("Cannot extract the body from a WebFlux ServerRequest.")
             .hasCauseInstanceOf(UnsupportedOperationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getRequest_returns_wrapped_ServerRequest() {
+        // expect
+        assertThat(adapter.getRequest()).isSameAs(requestMock);
+    }
+
+    private ServerWebExchange mockExchange() {
+        ServerWebExchange exchangeMock = mock(ServerWebExchange.class);
+        ServerHttpRequest serverHttpRequestMock = mock(ServerHttpRequest.class);
+        doReturn(serverHttpRequestMock).when(exchangeMock).getRequest();
+        doReturn(requestUri).when(serverHttpRequestMock).getURI();
+        doReturn(new HttpHeaders()).when(serverHttpRequestMock).getHeaders();
+        doReturn(new HashMap<>()).when(exchangeMock).getAttributes();
+        return exchangeMock;
+    }
+
+    @Test
+    public void getOrCreateCached_creates_and_caches_new_adapter_for_exchange() {
+        // given
+        ServerWebExchange exchangeMock = mockExchange();
+
+        // when
+        RequestInfoForLoggingWebFluxAdapter result =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(exchangeMock, Collections.emptyList());
+
+        // then
+        assertThat(result.getRequest().exchange()).isSameAs(exchangeMock);
+        assertThat(result.getRequestUri()).isEqualTo(REQUEST_PATH);
+        assertThat(exchangeMock.getAttributes().get(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY))
+            .isSameAs(result);
+        assertThat(RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(exchangeMock, Collections.emptyList()))
+            .isSameAs(result);
+    }
+
+    @Test
+    public void getOrCreateCached_replaces_cached_adapter_that_belongs_to_a_different_exchange() {
+        // given
+        ServerWebExchange exchangeMock = mockExchange();
+        ServerWebExchange otherExchange = mockExchange();
+        RequestInfoForLoggingWebFluxAdapter otherAdapter =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(otherExchange, Collections.emptyList());
+        exchangeMock.getAttributes().put(RequestInfoForLoggingCache.CACHED_REQUEST_INFO_ATTRIBUTE_KEY, otherAdapter);
+
+        // when
+        RequestInfoForLoggingWebFluxAdapter result =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(exchangeMock, Collections.emptyList());
+
+        // then
+        assertThat(result).isNotSameAs(otherAdapter);
+        assertThat(result.getRequest().exchange()).isSameAs(exchangeMock);
+    }
+
+    @Test
+    public void getOrCreateCached_throws_NullPointerException_if_passed_null_exchange() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = catchThrowable(
+            () -> RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(null, Collections.emptyList())
+        );
+
+        // then
+        assertThat(ex)
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("exchange cannot be null");
+    }
+}
@@ -0,0 +1,136 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link PreSerializedErrorServerResponse}.
+ */
+public class PreSerializedErrorServerResponseTest {
+
+    private HttpStatusCode statusCode;
+    private MediaType contentType;
+    private byte[] body;
+    private PreSerializedErrorServerResponse impl;
+
+    private ServerHttpResponse serverHttpResponseMock;
+    private HttpHeaders serverHttpResponseHeaders;
+
+    @Before
+    public void beforeMethod() {
+        statusCode = HttpStatusCode.valueOf(400);
+        contentType = MediaType.APPLICATION_JSON;
+        body = ("{\"error_id\":\"" + UUID.randomUUID() + "\"}").getBytes(StandardCharsets.UTF_8);
+        impl = new PreSerializedErrorServerResponse(statusCode, contentType, body);
+
+        serverHttpResponseMock = mock(ServerHttpResponse.class);
+        serverHttpResponseHeaders = new HttpHeaders();
+        doReturn(serverHttpResponseHeaders).when(serverHttpResponseMock).getHeaders();
+        doReturn(DefaultDataBufferFactory.sharedInstance).when(serverHttpResponseMock).bufferFactory();
+        doReturn(Mono.empty()).when(serverHttpResponseMock).writeWith(any());
+    }
+
+    @Test
+    public void constructor_sets_fields_as_expected() {
+        // expect
+        assertThat(impl.statusCode()).isSameAs(statusCode);
+        assertThat(impl.getContentType()).isSameAs(contentType);
+        assertThat(impl.getBody()).isSameAs(body);
+        assertThat(impl.cookies()).isEmpty();
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullStatusEx = catchThrowable(() -> new PreSerializedErrorServerResponse(null, contentType, body));
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContentTypeEx = catchThrowable(() -> new PreSerializedErrorServerResponse(statusCode, null, body));
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullBodyEx = catchThrowable(() -> new PreSerializedErrorServerResponse(statusCode, contentType, null));
+
+        // then
+        assertThat(nullStatusEx).isInstanceOf(NullPointerException.class).hasMessage("statusCode cannot be null.");
+        assertThat(nullContentTypeEx).isInstanceOf(NullPointerException.class).hasMessage("contentType cannot be null.");
+        assertThat(nullBodyEx).isInstanceOf(NullPointerException.class).hasMessage("body cannot be null.");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void rawStatusCode_returns_status_code_value() {
+        // expect
+        assertThat(impl.rawStatusCode()).isEqualTo(400);
+    }
+
+    @Test
+    public void headers_contains_content_type_and_content_length_and_is_reused() {
+        // when
+        HttpHeaders result = impl.headers();
+
+        // then
+        assertThat(result.getContentType()).isEqualTo(contentType);
+        assertThat(result.getContentLength()).isEqualTo(body.length);
+        assertThat(impl.headers()).isSameAs(result);
+        Throwable ex = catchThrowable(() -> result.add("foo", "bar"));
+        assertThat(ex).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void writeTo_ServerHttpResponse_writes_status_headers_and_body_directly() {
+        // when
+        Mono<Void> result = impl.writeTo(serverHttpResponseMock);
+
+        // then
+        verify(serverHttpResponseMock).setStatusCode(statusCode);
+        assertThat(serverHttpResponseHeaders.getContentType()).isEqualTo(contentType);
+        assertThat(serverHttpResponseHeaders.getContentLength()).isEqualTo(body.length);
+        assertThat(extractWrittenBody()).isEqualTo(body);
+        assertThat(result.block()).isNull();
+    }
+
+    @Test
+    public void writeTo_exchange_and_context_delegates_to_writeTo_ServerHttpResponse() {
+        // given
+        ServerWebExchange exchangeMock = mock(ServerWebExchange.class);
+        doReturn(serverHttpResponseMock).when(exchangeMock).getResponse();
+
+        // when
+        impl.writeTo(exchangeMock, mock(ServerResponse.Context.class));
+
+        // then
+        verify(serverHttpResponseMock).setStatusCode(statusCode);
+        assertThat(extractWrittenBody()).isEqualTo(body);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] extractWrittenBody() {
+        ArgumentCaptor<Mono<DataBuffer>> bodyCaptor = ArgumentCaptor.forClass(Mono.class);
+        verify(serverHttpResponseMock).writeWith(bodyCaptor.capture());
+        DataBuffer dataBuffer = bodyCaptor.getValue().block();
+        assertThat(dataBuffer).isNotNull();
+        byte[] written = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(written);
+        return written;
+    }
+}
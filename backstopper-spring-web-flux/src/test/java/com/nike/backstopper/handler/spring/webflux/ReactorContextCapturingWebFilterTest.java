@@ -0,0 +1,88 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests the functionality of {@link ReactorContextCapturingWebFilter}.
+ */
+public class ReactorContextCapturingWebFilterTest {
+
+    private ReactorContextCapturingWebFilter impl;
+    private ServerWebExchange exchangeMock;
+    private Map<String, Object> exchangeAttributes;
+    private WebFilterChain chainMock;
+
+    @Before
+    public void beforeMethod() {
+        impl = new ReactorContextCapturingWebFilter();
+        exchangeMock = mock(ServerWebExchange.class);
+        exchangeAttributes = new HashMap<>();
+        doReturn(exchangeAttributes).when(exchangeMock).getAttributes();
+        chainMock = mock(WebFilterChain.class);
+        doReturn(Mono.empty()).when(chainMock).filter(exchangeMock);
+    }
+
+    @Test
+    public void filter_stores_Reactor_Context_in_exchange_attributes() {
+        // given
+        Context context = Context.of("traceId", "foo");
+
+        // when
+        impl.filter(exchangeMock, chainMock).contextWrite(context).block();
+
+        // then
+        ContextView captured =
+            (ContextView) exchangeAttributes.get(ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY);
+        assertThat(captured).isNotNull();
+        assertThat((String) captured.get("traceId")).isEqualTo("foo");
+        verify(chainMock).filter(exchangeMock);
+    }
+
+    @Test
+    public void filter_does_not_store_empty_Reactor_Context() {
+        // when
+        impl.filter(exchangeMock, chainMock).block();
+
+        // then
+        assertThat(exchangeAttributes).doesNotContainKey(ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY);
+        verify(chainMock).filter(exchangeMock);
+    }
+
+    @Test
+    public void filter_does_nothing_until_subscribed() {
+        // when
+        impl.filter(exchangeMock, chainMock);
+
+        // then
+        verifyNoInteractions(exchangeMock, chainMock);
+    }
+
+    @Test
+    public void order_getters_and_setters_work() {
+        // given
+        assertThat(impl.getOrder()).isEqualTo(Ordered.LOWEST_PRECEDENCE);
+
+        // when
+        impl.setOrder(42);
+
+        // then
+        assertThat(impl.getOrder()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,141 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.W3cTraceparentParser;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingWebFluxAdapter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import reactor.util.context.Context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the functionality of {@link ReactorContextTraceIdExtractor}.
+ */
+public class ReactorContextTraceIdExtractorTest {
+
+    private static final String TRACEPARENT_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACEPARENT_TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private Map<String, Object> exchangeAttributes;
+    private ServerRequest.Headers headersMock;
+    private RequestInfoForLoggingWebFluxAdapter requestInfo;
+
+    @Before
+    public void beforeMethod() {
+        exchangeAttributes = new HashMap<>();
+        ServerWebExchange exchangeMock = mock(ServerWebExchange.class);
+        doReturn(exchangeAttributes).when(exchangeMock).getAttributes();
+
+        headersMock = mock(ServerRequest.Headers.class);
+        doReturn(Collections.emptyList()).when(headersMock).header(W3cTraceparentParser.TRACEPARENT_HEADER_KEY);
+
+        ServerRequest serverRequestMock = mock(ServerRequest.class);
+        doReturn(URI.create("http://localhost/foo")).when(serverRequestMock).uri();
+        doReturn(exchangeMock).when(serverRequestMock).exchange();
+        doReturn(headersMock).when(serverRequestMock).headers();
+
+        requestInfo = new RequestInfoForLoggingWebFluxAdapter(serverRequestMock);
+    }
+
+    @Test
+    public void default_constructor_uses_default_trace_id_key() {
+        // expect
+        assertThat(new ReactorContextTraceIdExtractor().traceIdKeys)
+            .containsExactly(ReactorContextTraceIdExtractor.DEFAULT_TRACE_ID_KEY);
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.traceIdKeys)
+            .containsExactly(ReactorContextTraceIdExtractor.DEFAULT_TRACE_ID_KEY);
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_keys() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = catchThrowable(() -> new ReactorContextTraceIdExtractor(null));
+
+        // then
+        assertThat(ex).isInstanceOf(NullPointerException.class).hasMessage("traceIdKeys cannot be null.");
+    }
+
+    @Test
+    public void extractTraceId_prefers_exchange_attributes() {
+        // given
+        exchangeAttributes.put("traceId", "fromAttribute");
+        exchangeAttributes.put(
+            ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY, Context.of("traceId", "fromContext")
+        );
+        doReturn(Collections.singletonList(TRACEPARENT)).when(headersMock).header("traceparent");
+
+        // expect
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.extractTraceId(requestInfo)).isEqualTo("fromAttribute");
+    }
+
+    @Test
+    public void extractTraceId_uses_captured_Reactor_Context_if_attributes_do_not_have_trace_id() {
+        // given
+        exchangeAttributes.put("traceId", " ");
+        exchangeAttributes.put(
+            ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY, Context.of("traceId", "fromContext")
+        );
+        doReturn(Collections.singletonList(TRACEPARENT)).when(headersMock).header("traceparent");
+
+        // expect
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.extractTraceId(requestInfo)).isEqualTo("fromContext");
+    }
+
+    @Test
+    public void extractTraceId_checks_keys_in_order() {
+        // given
+        ReactorContextTraceIdExtractor impl = new ReactorContextTraceIdExtractor(Arrays.asList("first", "second"));
+        exchangeAttributes.put(
+            ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY,
+            Context.of("second", "secondValue", "first", "firstValue")
+        );
+
+        // expect
+        assertThat(impl.extractTraceId(requestInfo)).isEqualTo("firstValue");
+    }
+
+    @Test
+    public void extractTraceId_falls_back_to_traceparent_header() {
+        // given
+        exchangeAttributes.put(
+            ReactorContextCapturingWebFilter.REACTOR_CONTEXT_ATTR_KEY, Context.of("someOtherKey", "foo")
+        );
+        doReturn(Collections.singletonList(TRACEPARENT)).when(headersMock).header("traceparent");
+
+        // expect
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.extractTraceId(requestInfo))
+            .isEqualTo(TRACEPARENT_TRACE_ID);
+    }
+
+    @Test
+    public void extractTraceId_returns_null_if_no_trace_id_can_be_found() {
+        // expect
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.extractTraceId(requestInfo)).isNull();
+    }
+
+    @Test
+    public void extractTraceId_only_checks_traceparent_header_for_non_WebFlux_requests() {
+        // given
+        RequestInfoForLogging otherRequestMock = mock(RequestInfoForLogging.class);
+        doReturn(TRACEPARENT).when(otherRequestMock).getHeader("traceparent");
+
+        // expect
+        assertThat(ReactorContextTraceIdExtractor.DEFAULT_IMPL.extractTraceId(otherRequestMock))
+            .isEqualTo(TRACEPARENT_TRACE_ID);
+    }
+}
@@ -2,11 +2,16 @@ package com.nike.backstopper.handler.spring.webflux;
 
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.sample.SampleCoreApiError;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.handler.DisconnectedClientHelper;
 import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingWebFluxAdapter;
 import com.nike.backstopper.handler.UnexpectedMajorExceptionHandlingError;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
+import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.AsyncApiExceptionHandlerListenerBridge;
 import com.nike.backstopper.handler.spring.webflux.SpringWebfluxApiExceptionHandler.ResponseContext;
 import com.nike.backstopper.handler.spring.webflux.listener.SpringWebFluxApiExceptionHandlerListenerList;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
@@ -15,7 +20,6 @@ import com.nike.internal.util.testing.Glassbox;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
-import com.tngtech.java.junit.dataprovider.UseDataProvider;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,21 +38,21 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.io.EOFException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
 
 import reactor.core.publisher.Mono;
 import reactor.netty.channel.AbortedException;
 
-import static com.nike.backstopper.handler.spring.webflux.DisconnectedClientHelper.isClientDisconnectedException;
+import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,6 +61,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -115,6 +120,7 @@ public class SpringWebfluxApiExceptionHandlerTest {
         doReturn(messageWriters).when(serverCodecConfigurerMock).getWriters();
 
         doReturn(serverHttpRequestMock).when(serverWebExchangeMock).getRequest();
+        doReturn(new HashMap<>()).when(serverWebExchangeMock).getAttributes();
         doReturn(uri).when(serverHttpRequestMock).getURI();
         doReturn(new HttpHeaders()).when(serverHttpRequestMock).getHeaders();
 
@@ -144,6 +150,20 @@ public class SpringWebfluxApiExceptionHandlerTest {
         assertThat(handler.messageReaders).isEqualTo(messageReaders);
         assertThat(handler.messageWriters).isEqualTo(messageWriters);
         assertThat(handler.viewResolvers).isEqualTo(viewResolvers);
+        assertThat(Glassbox.getInternalState(handler, "mergeRepeatedFieldErrorsEnabled")).isEqualTo(false);
+    }
+
+    @Test
+    public void constructor_with_mergeRepeatedFieldErrors_sets_the_flag() {
+        // when
+        SpringWebfluxApiExceptionHandler handler = new SpringWebfluxApiExceptionHandler(
+            projectApiErrorsMock, listenerList, generalUtils, springUtilsMock, viewResolversProviderMock,
+            serverCodecConfigurerMock, true
+        );
+
+        // then
+        assertThat(Glassbox.getInternalState(handler, "mergeRepeatedFieldErrorsEnabled")).isEqualTo(true);
+        assertThat(handler.springUtils).isEqualTo(springUtilsMock);
     }
 
     @Test
@@ -330,7 +350,7 @@ public class SpringWebfluxApiExceptionHandlerTest {
         "false  |   true",
     }, splitBy = "\\|")
     @Test
-    public void handle_calls_maybeHandleException_but_returns_unhandled_Mono_if_response_is_committed_or_client_disconnected(
+    public void handle_skips_maybeHandleException_and_returns_unhandled_Mono_if_response_is_committed_or_client_disconnected(
         boolean responseIsCommitted, boolean clientDisconnected
     ) throws UnexpectedMajorExceptionHandlingError {
 
@@ -351,10 +371,30 @@ public class SpringWebfluxApiExceptionHandlerTest {
         Mono<Void> result = handlerSpy.handle(serverWebExchangeMock, exMock);
 
         // then
-        verify(handlerSpy).maybeHandleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        verify(handlerSpy, never()).maybeHandleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        verify(handlerSpy, never()).processWebFluxResponse(any(), any());
         verifyMonoIsErrorMono(result, exMock);
     }
 
+    @Test
+    public void handle_records_disconnected_client_only_once_per_exchange() throws UnexpectedMajorExceptionHandlingError {
+        // given
+        Throwable abortedEx = new AbortedException("intentional test exception");
+        long countBefore = DisconnectedClientHelper.getDisconnectedClientCount();
+
+        // when
+        Mono<Void> firstResult = handlerSpy.handle(serverWebExchangeMock, abortedEx);
+        Mono<Void> secondResult = handlerSpy.handle(serverWebExchangeMock, abortedEx);
+
+        // then
+        verifyMonoIsErrorMono(firstResult, abortedEx);
+        verifyMonoIsErrorMono(secondResult, abortedEx);
+        verify(handlerSpy, never()).maybeHandleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        assertThat(DisconnectedClientHelper.getDisconnectedClientCount()).isEqualTo(countBefore + 1);
+        assertThat(serverWebExchangeMock.getAttributes())
+            .containsEntry(DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY, Boolean.TRUE);
+    }
+
     @Test
     public void handle_returns_unhandled_Mono_if_maybeHandleException_returns_null() throws UnexpectedMajorExceptionHandlingError {
         // given
@@ -398,6 +438,127 @@ public class SpringWebfluxApiExceptionHandlerTest {
         verifyMonoIsErrorMono(result, exMock);
     }
 
+    private SpringWebfluxApiExceptionHandler asyncHandlerSpy() {
+        SpringWebFluxApiExceptionHandlerListenerList asyncListenerList = new SpringWebFluxApiExceptionHandlerListenerList(
+            Arrays.asList(
+                mock(ApiExceptionHandlerListener.class),
+                new AsyncApiExceptionHandlerListenerBridge(ex -> new CompletableFuture<>())
+            )
+        );
+        return spy(new SpringWebfluxApiExceptionHandler(
+            projectApiErrorsMock, asyncListenerList, generalUtils, springUtilsMock, viewResolversProviderMock,
+            serverCodecConfigurerMock
+        ));
+    }
+
+    @Test
+    public void handle_uses_maybeHandleExceptionAsync_when_there_are_async_listeners()
+        throws UnexpectedMajorExceptionHandlingError {
+
+        // given
+        SpringWebfluxApiExceptionHandler asyncHandlerSpy = asyncHandlerSpy();
+        ServerResponse expectedResponseObj = mock(ServerResponse.class);
+        HttpHeaders responseHeadersMock = mock(HttpHeaders.class);
+        doReturn(responseHeadersMock).when(expectedResponseObj).headers();
+        doReturn(Mono.empty()).when(expectedResponseObj)
+                              .writeTo(any(ServerWebExchange.class), any(ServerResponse.Context.class));
+
+        ErrorResponseInfo<Mono<ServerResponse>> errorResponseInfo =
+            new ErrorResponseInfo<>(400, Mono.just(expectedResponseObj), Collections.emptyMap());
+        CompletableFuture<ErrorResponseInfo<Mono<ServerResponse>>> asyncResult = new CompletableFuture<>();
+        doReturn(asyncResult)
+            .when(asyncHandlerSpy)
+            .maybeHandleExceptionAsync(any(Throwable.class), any(RequestInfoForLogging.class));
+
+        // when
+        Mono<Void> result = asyncHandlerSpy.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verify(asyncHandlerSpy, never()).processWebFluxResponse(any(), any());
+
+        // and when
+        asyncResult.complete(errorResponseInfo);
+        result.block();
+
+        // then
+        verify(asyncHandlerSpy, never()).maybeHandleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        verify(asyncHandlerSpy).processWebFluxResponse(errorResponseInfo, serverHttpResponseMock);
+        verify(asyncHandlerSpy).write(serverWebExchangeMock, expectedResponseObj);
+    }
+
+    @Test
+    public void handle_honors_an_overridden_shouldHandleApiException_when_there_are_async_listeners() {
+        // given
+        AsyncApiExceptionHandlerListenerBridge asyncListener = new AsyncApiExceptionHandlerListenerBridge(
+            ex -> CompletableFuture.completedFuture(
+                ApiExceptionHandlerListenerResult.handleResponse(singletonSortedSetOf(SampleCoreApiError.NOT_FOUND))
+            )
+        );
+        SpringWebfluxApiExceptionHandler impl = new SpringWebfluxApiExceptionHandler(
+            projectApiErrorsMock, new SpringWebFluxApiExceptionHandlerListenerList(singletonList(asyncListener)),
+            generalUtils, springUtilsMock, viewResolversProviderMock, serverCodecConfigurerMock
+        ) {
+            @Override
+            protected ApiExceptionHandlerListenerResult shouldHandleApiException(Throwable ex) {
+                return ApiExceptionHandlerListenerResult.ignoreResponse();
+            }
+        };
+
+        // when
+        Mono<Void> result = impl.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verifyMonoIsErrorMono(result, exMock);
+    }
+
+    @Test
+    public void handle_returns_unhandled_Mono_if_maybeHandleExceptionAsync_completes_with_null() {
+        // given
+        SpringWebfluxApiExceptionHandler asyncHandlerSpy = asyncHandlerSpy();
+        doReturn(CompletableFuture.completedFuture(null))
+            .when(asyncHandlerSpy)
+            .maybeHandleExceptionAsync(any(Throwable.class), any(RequestInfoForLogging.class));
+
+        // when
+        Mono<Void> result = asyncHandlerSpy.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verifyMonoIsErrorMono(result, exMock);
+        verify(asyncHandlerSpy, never()).processWebFluxResponse(any(), any());
+    }
+
+    @Test
+    public void handle_returns_unhandled_Mono_if_maybeHandleExceptionAsync_completes_exceptionally() {
+        // given
+        SpringWebfluxApiExceptionHandler asyncHandlerSpy = asyncHandlerSpy();
+        doReturn(CompletableFuture.failedFuture(new UnexpectedMajorExceptionHandlingError("foo", null)))
+            .when(asyncHandlerSpy)
+            .maybeHandleExceptionAsync(any(Throwable.class), any(RequestInfoForLogging.class));
+
+        // when
+        Mono<Void> result = asyncHandlerSpy.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verifyMonoIsErrorMono(result, exMock);
+        verify(asyncHandlerSpy, never()).processWebFluxResponse(any(), any());
+    }
+
+    @Test
+    public void handle_reuses_RequestInfoForLogging_cached_for_the_exchange() throws UnexpectedMajorExceptionHandlingError {
+        // given
+        RequestInfoForLoggingWebFluxAdapter cachedAdapter =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(serverWebExchangeMock, messageReaders);
+        doReturn(null)
+            .when(handlerSpy)
+            .maybeHandleException(any(Throwable.class), any(RequestInfoForLogging.class));
+
+        // when
+        handlerSpy.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verify(handlerSpy).maybeHandleException(exMock, cachedAdapter);
+    }
+
     @Test
     public void processWebFluxResponse_works_as_expected() {
         // given
@@ -438,70 +599,43 @@ public class SpringWebfluxApiExceptionHandlerTest {
         ResponseContext responseContext = responseContextArgumentCaptor.getValue();
         assertThat(responseContext.messageWriters()).isEqualTo(messageWriters);
         assertThat(responseContext.viewResolvers()).isEqualTo(viewResolvers);
+        assertThat(responseContext).isSameAs(handlerSpy.responseContext);
     }
 
-    public enum IsDisconnectedClientErrorScenario {
-        ABORTED_EXCEPTION(new AbortedException("Some message"), true),
-        CLIENT_ABORT_EXCEPTION(new ClientAbortException(), true),
-        EOF_EXCEPTION_1(new EOFException(), true),
-        EOF_EXCEPTION_2(new EofException(), true),
-        UNKNOWN_EXCEPTION_BUT_BROKEN_PIPE_MESSAGE(
-            new RuntimeException("somewhere in here is broken pipe hooray"),
-            true
-        ),
-        UNKNOWN_EXCEPTION_WITH_MOST_SPECIFIC_CAUSE_HAVING_BROKEN_PIPE_MESSAGE(
-            new RuntimeException(
-                new Exception(
-                    new IllegalArgumentException("somewhere in here is broken pipe hooray")
-                )
-            ),
-            true
-        ),
-        UNKNOWN_EXCEPTION_BUT_CONNECTION_RESET_MESSAGE(
-            new RuntimeException("somewhere in here is connection reset by peer hooray"),
-            true
-        ),
-        UNKNOWN_EXCEPTION_WITH_CAUSE_HAVING_CONNECTION_RESET_MESSAGE(
-            new RuntimeException(
-                new Exception(
-                    new IllegalArgumentException("somewhere in here is connection reset by peer hooray")
-                )
-            ),
-            true
-        ),
-        UNKNOWN_EXCEPTION_NULL_MESSAGE(
-            new RuntimeException((String) null),
-            false
-        ),
-        UNKNOWN_EXCEPTION_UNKNOWN_MESSAGE(
-            new RuntimeException("foo"),
-            false
-        );
-
-        public final Throwable ex;
-        public final boolean expectedResult;
+    @Test
+    public void write_writes_PreSerializedErrorServerResponse_directly_without_using_ResponseContext() {
+        // given
+        PreSerializedErrorServerResponse responseMock = mock(PreSerializedErrorServerResponse.class);
+        @SuppressWarnings("unchecked")
+        Mono<Void> expectedResult = mock(Mono.class);
+        doReturn(expectedResult).when(responseMock).writeTo(serverHttpResponseMock);
 
-        IsDisconnectedClientErrorScenario(Throwable ex, boolean expectedResult) {
-            this.ex = ex;
-            this.expectedResult = expectedResult;
-        }
-    }
+        // when
+        Mono<? extends Void> result = handlerSpy.write(serverWebExchangeMock, responseMock);
 
-    @DataProvider
-    public static List<List<IsDisconnectedClientErrorScenario>> isDisconnectedClientErrorScenarioDataProvider() {
-        return Stream.of(IsDisconnectedClientErrorScenario.values())
-                     .map(Collections::singletonList)
-                     .collect(Collectors.toList());
+        // then
+        assertThat(result).isSameAs(expectedResult);
+        verify(responseMock).writeTo(serverHttpResponseMock);
+        verify(responseMock, never()).writeTo(any(ServerWebExchange.class), any(ServerResponse.Context.class));
+        verify(responseMock, never()).headers();
     }
 
-    @UseDataProvider("isDisconnectedClientErrorScenarioDataProvider")
     @Test
-    public void isDisconnectedClientError_works_as_expected(IsDisconnectedClientErrorScenario scenario) {
+    public void write_writes_StreamingErrorServerResponse_directly_without_using_ResponseContext() {
+        // given
+        StreamingErrorServerResponse responseMock = mock(StreamingErrorServerResponse.class);
+        @SuppressWarnings("unchecked")
+        Mono<Void> expectedResult = mock(Mono.class);
+        doReturn(expectedResult).when(responseMock).writeTo(serverHttpResponseMock);
+
         // when
-        boolean result = isClientDisconnectedException(scenario.ex);
+        Mono<? extends Void> result = handlerSpy.write(serverWebExchangeMock, responseMock);
 
         // then
-        assertThat(result).isEqualTo(scenario.expectedResult);
+        assertThat(result).isSameAs(expectedResult);
+        verify(responseMock).writeTo(serverHttpResponseMock);
+        verify(responseMock, never()).writeTo(any(ServerWebExchange.class), any(ServerResponse.Context.class));
+        verify(responseMock, never()).headers();
     }
 
     @Test
@@ -530,7 +664,4 @@ public class SpringWebfluxApiExceptionHandlerTest {
         // then
         assertThat(defaultOrder).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
     }
-
-    private static class ClientAbortException extends RuntimeException {}
-    private static class EofException extends RuntimeException {}
 }
\ No newline at end of file
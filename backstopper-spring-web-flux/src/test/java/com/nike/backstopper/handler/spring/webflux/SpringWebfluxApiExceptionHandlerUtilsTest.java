@@ -17,8 +17,11 @@ import org.junit.runner.RunWith;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,8 +29,11 @@ import reactor.core.publisher.Mono;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -81,6 +87,180 @@ public class SpringWebfluxApiExceptionHandlerUtilsTest {
         assertThat(Glassbox.getInternalState(result, "entity")).isEqualTo(expectedSerializedContract);
     }
 
+    @DataProvider(value = {
+        "application/json",
+        "application/json;charset=UTF-8",
+        "application/problem+json",
+    })
+    @Test
+    public void generateServerResponseForError_returns_PreSerializedErrorServerResponse_for_json_content_types(
+        String contentTypeString
+    ) {
+        // given
+        DefaultErrorContractDTO errorContractDtoMock = mock(DefaultErrorContractDTO.class);
+        int statusCode = 400;
+        @SuppressWarnings("unchecked")
+        Collection<ApiError> errors = mock(Collection.class);
+        Throwable ex = mock(Throwable.class);
+        RequestInfoForLogging requestMock = mock(RequestInfoForLogging.class);
+
+        byte[] expectedSerializedContract = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        doReturn(expectedSerializedContract).when(utilsSpy).serializeErrorContractToBytes(errorContractDtoMock);
+
+        MediaType expectedResponseContentType = MediaType.parseMediaType(contentTypeString);
+        doReturn(expectedResponseContentType).when(utilsSpy).getErrorResponseContentType(
+            errorContractDtoMock, statusCode, errors, ex, requestMock
+        );
+
+        // when
+        Mono<ServerResponse> resultMono = utilsSpy.generateServerResponseForError(
+            errorContractDtoMock, statusCode, errors, ex, requestMock
+        );
+
+        // then
+        verify(utilsSpy).serializeErrorContractToBytes(errorContractDtoMock);
+        verify(utilsSpy, never()).serializeErrorContractToString(any(DefaultErrorContractDTO.class));
+        ServerResponse result = resultMono.block();
+        assertThat(result).isInstanceOf(PreSerializedErrorServerResponse.class);
+        PreSerializedErrorServerResponse preSerializedResult = (PreSerializedErrorServerResponse) result;
+        assertThat(preSerializedResult.statusCode().value()).isEqualTo(statusCode);
+        assertThat(preSerializedResult.getContentType()).isEqualTo(expectedResponseContentType);
+        assertThat(preSerializedResult.getBody()).isSameAs(expectedSerializedContract);
+    }
+
+    @Test
+    public void default_constructor_disables_streaming() {
+        // expect
+        assertThat(new SpringWebfluxApiExceptionHandlerUtils().streamingErrorCountThreshold)
+            .isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void threshold_constructor_throws_IllegalArgumentException_if_threshold_is_not_positive() {
+        // when
+        Throwable ex = catchThrowable(() -> new SpringWebfluxApiExceptionHandlerUtils(0));
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class)
+                      .hasMessage("streamingErrorCountThreshold must be positive.");
+    }
+
+    private static DefaultErrorContractDTO errorContractWithNumErrors(int numErrors) {
+        List<ApiError> apiErrors = new ArrayList<>();
+        for (int i = 0; i < numErrors; i++) {
+            apiErrors.add(new ApiErrorBase("FOO_" + i, "42", "foo message " + i, 400));
+        }
+        return new DefaultErrorContractDTO(UUID.randomUUID().toString(), apiErrors);
+    }
+
+    @DataProvider(value = {
+        "2  |   1   |   true",
+        "2  |   2   |   true",
+        "2  |   3   |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void generateServerResponseForError_returns_StreamingErrorServerResponse_when_error_count_reaches_threshold(
+        int numErrors, int threshold, boolean expectStreaming
+    ) {
+        // given
+        SpringWebfluxApiExceptionHandlerUtils utils = new SpringWebfluxApiExceptionHandlerUtils(threshold);
+        DefaultErrorContractDTO errorContract = errorContractWithNumErrors(numErrors);
+
+        // when
+        ServerResponse result = utils.generateServerResponseForError(
+            errorContract, 400, Collections.emptyList(), mock(Throwable.class), mock(RequestInfoForLogging.class)
+        ).block();
+
+        // then
+        if (expectStreaming) {
+            assertThat(result).isInstanceOf(StreamingErrorServerResponse.class);
+            StreamingErrorServerResponse streamingResult = (StreamingErrorServerResponse) result;
+            assertThat(streamingResult.statusCode().value()).isEqualTo(400);
+            assertThat(streamingResult.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(streamingResult.getErrorContract()).isSameAs(errorContract);
+            assertThat(streamingResult.objectMapper)
+                .isSameAs(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER);
+        }
+        else {
+            assertThat(result).isInstanceOf(PreSerializedErrorServerResponse.class);
+        }
+    }
+
+    @Test
+    public void shouldStreamErrorContract_returns_false_if_serializeErrorContractToString_is_overridden() {
+        // given
+        SpringWebfluxApiExceptionHandlerUtils customUtils = new SpringWebfluxApiExceptionHandlerUtils(1) {
+            @Override
+            protected String serializeErrorContractToString(DefaultErrorContractDTO errorContractDTO) {
+                return "{}";
+            }
+        };
+
+        // expect
+        assertThat(customUtils.shouldStreamErrorContract(errorContractWithNumErrors(5))).isFalse();
+    }
+
+    @DataProvider(value = {
+        "application/json                   |   true",
+        "application/json;charset=UTF-8     |   true",
+        "application/vnd.foo+json           |   true",
+        "application/xml                    |   false",
+        "text/plain                         |   false",
+        "text/json                          |   false",
+        "*/*                                |   false",
+        "application/*                      |   false",
+        "null                               |   false",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldUsePreSerializedResponse_works_as_expected(String contentTypeString, boolean expectedResult) {
+        // given
+        MediaType contentType = (contentTypeString == null) ? null : MediaType.parseMediaType(contentTypeString);
+
+        // when
+        boolean result = utilsSpy.shouldUsePreSerializedResponse(contentType);
+
+        // then
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void serializeErrorContractToBytes_uses_JsonUtilWithDefaultErrorContractDTOSupport_by_default() {
+        // given
+        DefaultErrorContractDTO errorContract = new DefaultErrorContractDTO(
+            UUID.randomUUID().toString(),
+            Collections.singletonList(new ApiErrorBase("FOO", "42", "foo message", 400))
+        );
+
+        // when
+        byte[] result = utilsSpy.serializeErrorContractToBytes(errorContract);
+
+        // then
+        assertThat(utilsSpy.serializeErrorContractToStringIsOverridden).isFalse();
+        assertThat(result).isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContract));
+        verify(utilsSpy, never()).serializeErrorContractToString(any(DefaultErrorContractDTO.class));
+    }
+
+    @Test
+    public void serializeErrorContractToBytes_honors_overridden_serializeErrorContractToString() {
+        // given
+        String customSerialization = "{\"custom\":\"" + UUID.randomUUID() + "\"}";
+        SpringWebfluxApiExceptionHandlerUtils customUtils = new SpringWebfluxApiExceptionHandlerUtils() {
+            @Override
+            protected String serializeErrorContractToString(DefaultErrorContractDTO errorContractDTO) {
+                return customSerialization;
+            }
+        };
+        SpringWebfluxApiExceptionHandlerUtils customUtilsSubclass = new SpringWebfluxApiExceptionHandlerUtils() {};
+
+        // when
+        byte[] result = customUtils.serializeErrorContractToBytes(mock(DefaultErrorContractDTO.class));
+
+        // then
+        assertThat(customUtils.serializeErrorContractToStringIsOverridden).isTrue();
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(customSerialization);
+        assertThat(customUtilsSubclass.serializeErrorContractToStringIsOverridden).isFalse();
+    }
+
     @DataProvider(value = {
         "true   |   true",
         "true   |   false",
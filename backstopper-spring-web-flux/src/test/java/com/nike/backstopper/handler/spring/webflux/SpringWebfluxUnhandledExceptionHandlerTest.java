@@ -6,6 +6,7 @@ import com.nike.backstopper.apierror.testutil.ProjectApiErrorsForTesting;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingWebFluxAdapter;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
 import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
 import com.nike.internal.util.MapBuilder;
@@ -31,6 +32,7 @@ import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,6 +52,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -104,6 +107,7 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         doReturn(messageWriters).when(serverCodecConfigurerMock).getWriters();
 
         doReturn(serverHttpRequestMock).when(serverWebExchangeMock).getRequest();
+        doReturn(new HashMap<>()).when(serverWebExchangeMock).getAttributes();
         doReturn(uri).when(serverHttpRequestMock).getURI();
         doReturn(new HttpHeaders()).when(serverHttpRequestMock).getHeaders();
 
@@ -276,9 +280,9 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         ServerResponse serverResponse = result.frameworkRepresentationObj.block();
         assertThat(requireNonNull(serverResponse).statusCode().value()).isEqualTo(expectedHttpStatusCode);
         assertThat(serverResponse.headers().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
-        // Yes this is awful. But figuring out how to spit out the ServerResponse's body to something assertable
-        //      in this test is also awful.
-        assertThat(Glassbox.getInternalState(serverResponse, "entity")).isEqualTo(expectedBodyPayload);
+        assertThat(serverResponse).isInstanceOf(PreSerializedErrorServerResponse.class);
+        assertThat(new String(((PreSerializedErrorServerResponse) serverResponse).getBody(), StandardCharsets.UTF_8))
+            .isEqualTo(expectedBodyPayload);
     }
 
     @Test
@@ -314,7 +318,7 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         "false  |   true",
     }, splitBy = "\\|")
     @Test
-    public void handle_calls_handleException_but_returns_unhandled_Mono_if_response_is_committed_or_client_disconnected(
+    public void handle_skips_handleException_and_returns_unhandled_Mono_if_response_is_committed_or_client_disconnected(
         boolean responseIsCommitted, boolean clientDisconnected
     ) {
 
@@ -335,7 +339,8 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         Mono<Void> result = handlerSpy.handle(serverWebExchangeMock, exMock);
 
         // then
-        verify(handlerSpy).handleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        verify(handlerSpy, never()).handleException(any(Throwable.class), any(RequestInfoForLogging.class));
+        verify(handlerSpy, never()).processWebFluxResponse(any(), any());
         verifyMonoIsErrorMono(result, exMock);
     }
 
@@ -352,6 +357,22 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         }
     }
 
+    @Test
+    public void handle_reuses_RequestInfoForLogging_cached_for_the_exchange() {
+        // given
+        RequestInfoForLoggingWebFluxAdapter cachedAdapter =
+            RequestInfoForLoggingWebFluxAdapter.getOrCreateCached(serverWebExchangeMock, messageReaders);
+        doReturn(new ErrorResponseInfo<>(500, Mono.just(mock(ServerResponse.class)), Collections.emptyMap()))
+            .when(handlerSpy)
+            .handleException(any(Throwable.class), any(RequestInfoForLogging.class));
+
+        // when
+        handlerSpy.handle(serverWebExchangeMock, exMock);
+
+        // then
+        verify(handlerSpy).handleException(exMock, cachedAdapter);
+    }
+
     @Test
     public void processWebFluxResponse_works_as_expected() {
         // given
@@ -393,6 +414,43 @@ public class SpringWebfluxUnhandledExceptionHandlerTest {
         SpringWebfluxApiExceptionHandler.ResponseContext responseContext = responseContextArgumentCaptor.getValue();
         assertThat(responseContext.messageWriters()).isEqualTo(messageWriters);
         assertThat(responseContext.viewResolvers()).isEqualTo(viewResolvers);
+        assertThat(responseContext).isSameAs(handlerSpy.responseContext);
+    }
+
+    @Test
+    public void write_writes_PreSerializedErrorServerResponse_directly_without_using_ResponseContext() {
+        // given
+        PreSerializedErrorServerResponse responseMock = mock(PreSerializedErrorServerResponse.class);
+        @SuppressWarnings("unchecked")
+        Mono<Void> expectedResult = mock(Mono.class);
+        doReturn(expectedResult).when(responseMock).writeTo(serverHttpResponseMock);
+
+        // when
+        Mono<? extends Void> result = handlerSpy.write(serverWebExchangeMock, responseMock);
+
+        // then
+        assertThat(result).isSameAs(expectedResult);
+        verify(responseMock).writeTo(serverHttpResponseMock);
+        verify(responseMock, never()).writeTo(any(ServerWebExchange.class), any(ServerResponse.Context.class));
+        verify(responseMock, never()).headers();
+    }
+
+    @Test
+    public void write_writes_StreamingErrorServerResponse_directly_without_using_ResponseContext() {
+        // given
+        StreamingErrorServerResponse responseMock = mock(StreamingErrorServerResponse.class);
+        @SuppressWarnings("unchecked")
+        Mono<Void> expectedResult = mock(Mono.class);
+        doReturn(expectedResult).when(responseMock).writeTo(serverHttpResponseMock);
+
+        // when
+        Mono<? extends Void> result = handlerSpy.write(serverWebExchangeMock, responseMock);
+
+        // then
+        assertThat(result).isSameAs(expectedResult);
+        verify(responseMock).writeTo(serverHttpResponseMock);
+        verify(responseMock, never()).writeTo(any(ServerWebExchange.class), any(ServerResponse.Context.class));
+        verify(responseMock, never()).headers();
     }
 
     @Test
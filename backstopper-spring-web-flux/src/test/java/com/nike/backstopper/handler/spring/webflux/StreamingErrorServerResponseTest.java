@@ -0,0 +1,195 @@
+package com.nike.backstopper.handler.spring.webflux;
+
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.DefaultErrorDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of {@link StreamingErrorServerResponse}.
+ */
+public class StreamingErrorServerResponseTest {
+
+    private HttpStatusCode statusCode;
+    private MediaType contentType;
+    private DefaultErrorContractDTO errorContract;
+    private ObjectMapper objectMapper;
+    private int chunkSizeHint;
+    private StreamingErrorServerResponse impl;
+
+    private ServerHttpResponse serverHttpResponseMock;
+    private HttpHeaders serverHttpResponseHeaders;
+
+    @Before
+    public void beforeMethod() {
+        statusCode = HttpStatusCode.valueOf(400);
+        contentType = MediaType.APPLICATION_JSON;
+        List<DefaultErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            errors.add(new DefaultErrorDTO("4242", "some message " + i, null));
+        }
+        errorContract = new DefaultErrorContractDTO(UUID.randomUUID().toString(), errors, null);
+        objectMapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+        chunkSizeHint = 1024;
+        impl = new StreamingErrorServerResponse(statusCode, contentType, errorContract, objectMapper, chunkSizeHint);
+
+        serverHttpResponseMock = mock(ServerHttpResponse.class);
+        serverHttpResponseHeaders = new HttpHeaders();
+        doReturn(serverHttpResponseHeaders).when(serverHttpResponseMock).getHeaders();
+        doReturn(DefaultDataBufferFactory.sharedInstance).when(serverHttpResponseMock).bufferFactory();
+        doReturn(Mono.empty()).when(serverHttpResponseMock).writeWith(any());
+    }
+
+    @Test
+    public void constructor_sets_fields_as_expected() {
+        // expect
+        assertThat(impl.statusCode()).isSameAs(statusCode);
+        assertThat(impl.getContentType()).isSameAs(contentType);
+        assertThat(impl.getErrorContract()).isSameAs(errorContract);
+        assertThat(impl.objectMapper).isSameAs(objectMapper);
+        assertThat(impl.chunkSizeHint).isEqualTo(chunkSizeHint);
+        assertThat(impl.cookies()).isEmpty();
+    }
+
+    @Test
+    public void constructor_throws_exception_if_passed_invalid_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullStatusEx = catchThrowable(
+            () -> new StreamingErrorServerResponse(null, contentType, errorContract, objectMapper, 1)
+        );
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContentTypeEx = catchThrowable(
+            () -> new StreamingErrorServerResponse(statusCode, null, errorContract, objectMapper, 1)
+        );
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContractEx = catchThrowable(
+            () -> new StreamingErrorServerResponse(statusCode, contentType, null, objectMapper, 1)
+        );
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullMapperEx = catchThrowable(
+            () -> new StreamingErrorServerResponse(statusCode, contentType, errorContract, null, 1)
+        );
+        Throwable badChunkSizeEx = catchThrowable(
+            () -> new StreamingErrorServerResponse(statusCode, contentType, errorContract, objectMapper, 0)
+        );
+
+        // then
+        assertThat(nullStatusEx).isInstanceOf(NullPointerException.class).hasMessage("statusCode cannot be null.");
+        assertThat(nullContentTypeEx).isInstanceOf(NullPointerException.class).hasMessage("contentType cannot be null.");
+        assertThat(nullContractEx).isInstanceOf(NullPointerException.class).hasMessage("errorContract cannot be null.");
+        assertThat(nullMapperEx).isInstanceOf(NullPointerException.class).hasMessage("objectMapper cannot be null.");
+        assertThat(badChunkSizeEx).isInstanceOf(IllegalArgumentException.class)
+                                  .hasMessage("chunkSizeHint must be positive.");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void rawStatusCode_returns_status_code_value() {
+        // expect
+        assertThat(impl.rawStatusCode()).isEqualTo(400);
+    }
+
+    @Test
+    public void headers_contains_content_type_but_no_content_length_and_is_reused() {
+        // when
+        HttpHeaders result = impl.headers();
+
+        // then
+        assertThat(result.getContentType()).isEqualTo(contentType);
+        assertThat(result.getContentLength()).isEqualTo(-1);
+        assertThat(impl.headers()).isSameAs(result);
+        Throwable ex = catchThrowable(() -> result.add("foo", "bar"));
+        assertThat(ex).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void writeTo_ServerHttpResponse_writes_status_headers_and_streamed_body() {
+        // when
+        Mono<Void> result = impl.writeTo(serverHttpResponseMock);
+
+        // then
+        verify(serverHttpResponseMock).setStatusCode(statusCode);
+        assertThat(serverHttpResponseHeaders.getContentType()).isEqualTo(contentType);
+        assertThat(serverHttpResponseHeaders.getContentLength()).isEqualTo(-1);
+        List<DataBuffer> chunks = extractWrittenChunks();
+        assertThat(chunks.size()).isGreaterThan(1);
+        assertThat(joinChunks(chunks))
+            .isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContract, objectMapper));
+        assertThat(result.block()).isNull();
+    }
+
+    @Test
+    public void writeTo_exchange_and_context_delegates_to_writeTo_ServerHttpResponse() {
+        // given
+        ServerWebExchange exchangeMock = mock(ServerWebExchange.class);
+        doReturn(serverHttpResponseMock).when(exchangeMock).getResponse();
+
+        // when
+        impl.writeTo(exchangeMock, mock(ServerResponse.Context.class));
+
+        // then
+        verify(serverHttpResponseMock).setStatusCode(statusCode);
+        assertThat(joinChunks(extractWrittenChunks()))
+            .isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContract, objectMapper));
+    }
+
+    @Test
+    public void generateBody_can_be_subscribed_to_more_than_once() {
+        // given
+        Flux<DataBuffer> body = impl.generateBody(DefaultDataBufferFactory.sharedInstance);
+
+        // when
+        byte[] first = joinChunks(body.collectList().block());
+        byte[] second = joinChunks(body.collectList().block());
+
+        // then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DataBuffer> extractWrittenChunks() {
+        ArgumentCaptor<Flux<DataBuffer>> bodyCaptor = ArgumentCaptor.forClass(Flux.class);
+        verify(serverHttpResponseMock).writeWith(bodyCaptor.capture());
+        return bodyCaptor.getValue().collectList().block();
+    }
+
+    private byte[] joinChunks(List<DataBuffer> chunks) {
+        assertThat(chunks).isNotNull();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataBuffer chunk : chunks) {
+            byte[] bytes = new byte[chunk.readableByteCount()];
+            chunk.read(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+}
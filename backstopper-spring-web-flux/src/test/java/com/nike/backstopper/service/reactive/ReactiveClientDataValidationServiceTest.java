@@ -0,0 +1,286 @@
+package com.nike.backstopper.service.reactive;
+
+import com.nike.backstopper.exception.ClientDataValidationError;
+import com.nike.backstopper.service.ClientDataValidationService;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.groups.Default;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests the functionality of {@link ReactiveClientDataValidationService}.
+ */
+@RunWith(DataProviderRunner.class)
+public class ReactiveClientDataValidationServiceTest {
+
+    private static final String OFFLOAD_THREAD_PREFIX = "test-validation-offload";
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private Scheduler scheduler;
+    private ClientDataValidationService delegateSpy;
+    private ReactiveClientDataValidationService impl;
+    private AtomicReference<String> validationThreadName;
+
+    @Before
+    public void beforeMethod() {
+        scheduler = Schedulers.newSingle(OFFLOAD_THREAD_PREFIX);
+        delegateSpy = spy(new ClientDataValidationService(VALIDATOR));
+        validationThreadName = new AtomicReference<>();
+        doAnswer(invocation -> {
+            validationThreadName.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(delegateSpy).validateObjectsWithGroupsFailFast(nullable(Class[].class), any(Object[].class));
+        doAnswer(invocation -> {
+            validationThreadName.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(delegateSpy).validateBatchWithGroupsFailFast(any(), any(Class[].class));
+        impl = new ReactiveClientDataValidationService(delegateSpy, scheduler, 3);
+    }
+
+    @After
+    public void afterMethod() {
+        scheduler.dispose();
+    }
+
+    private record Widget(@NotBlank(message = "MISSING_EXPECTED_CONTENT") String name) { }
+
+    private void verifyValidatedInline() {
+        assertThat(validationThreadName.get()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    private void verifyValidatedOffloaded() {
+        assertThat(validationThreadName.get()).startsWith(OFFLOAD_THREAD_PREFIX);
+    }
+
+    @Test
+    public void single_arg_constructor_uses_default_scheduler_and_threshold() {
+        // when
+        ReactiveClientDataValidationService defaultImpl = new ReactiveClientDataValidationService(delegateSpy);
+
+        // then
+        assertThat(defaultImpl.delegate).isSameAs(delegateSpy);
+        assertThat(defaultImpl.validationScheduler).isSameAs(Schedulers.boundedElastic());
+        assertThat(defaultImpl.offloadSizeThreshold)
+            .isEqualTo(ReactiveClientDataValidationService.DEFAULT_OFFLOAD_SIZE_THRESHOLD);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_for_invalid_args() {
+        // when
+        Throwable nullDelegateEx = catchThrowable(() -> new ReactiveClientDataValidationService(null, scheduler, 1));
+        Throwable nullSchedulerEx = catchThrowable(() -> new ReactiveClientDataValidationService(delegateSpy, null, 1));
+        Throwable badThresholdEx = catchThrowable(
+            () -> new ReactiveClientDataValidationService(delegateSpy, scheduler, 0)
+        );
+
+        // then
+        assertThat(nullDelegateEx).isInstanceOf(IllegalArgumentException.class)
+                                  .hasMessage("ClientDataValidationService cannot be null");
+        assertThat(nullSchedulerEx).isInstanceOf(IllegalArgumentException.class)
+                                   .hasMessage("validationScheduler cannot be null");
+        assertThat(badThresholdEx).isInstanceOf(IllegalArgumentException.class)
+                                  .hasMessage("offloadSizeThreshold must be positive");
+    }
+
+    @Test
+    public void validateFailFast_validates_small_object_inline_and_emits_it() {
+        // given
+        Widget widget = new Widget("foo");
+
+        // when
+        Widget result = impl.validateFailFast(widget).block();
+
+        // then
+        assertThat(result).isSameAs(widget);
+        verifyValidatedInline();
+    }
+
+    @Test
+    public void validateFailFast_is_lazy_and_emits_ClientDataValidationError_on_violations() {
+        // given
+        Mono<Widget> resultMono = impl.validateFailFast(new Widget(" "));
+
+        // expect
+        assertThat(validationThreadName.get()).isNull();
+        Throwable ex = catchThrowable(resultMono::block);
+        assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        assertThat(((ClientDataValidationError) ex).getViolations()).hasSize(1);
+    }
+
+    @Test
+    public void validateFailFast_validates_each_item_of_a_small_list_inline() {
+        // given
+        List<Widget> widgets = Arrays.asList(new Widget("foo"), new Widget(""));
+
+        // when
+        Throwable ex = catchThrowable(() -> impl.validateFailFast(widgets).block());
+
+        // then
+        verifyValidatedInline();
+        assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        assertThat(((ClientDataValidationError) ex).getViolationItemIndexes()).containsExactly(1);
+    }
+
+    @Test
+    public void validateFailFast_validates_each_item_of_a_large_array_offloaded() {
+        // given
+        Widget[] widgets = {new Widget("foo"), new Widget("bar"), new Widget(" ")};
+
+        // when
+        Throwable ex = catchThrowable(() -> impl.validateFailFast(widgets).block());
+
+        // then
+        verifyValidatedOffloaded();
+        assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        assertThat(((ClientDataValidationError) ex).getViolationItemIndexes()).containsExactly(2);
+    }
+
+    @Test
+    public void validateFailFast_emits_valid_collection() {
+        // given
+        List<Widget> widgets = Arrays.asList(new Widget("foo"), new Widget("bar"), new Widget("baz"));
+
+        // when
+        List<Widget> result = impl.validateFailFast(widgets, Default.class).block();
+
+        // then
+        verifyValidatedOffloaded();
+        assertThat(result).isSameAs(widgets);
+    }
+
+    @Test
+    public void validateFailFast_validates_maps_as_the_map_object_only() {
+        // given
+        Map<String, Widget> widgets = new HashMap<>();
+        widgets.put("a", new Widget(""));
+        widgets.put("b", new Widget(""));
+        widgets.put("c", new Widget(""));
+
+        // when
+        Map<String, Widget> result = impl.validateFailFast(widgets).block();
+
+        // then
+        verifyValidatedInline();
+        assertThat(result).isSameAs(widgets);
+    }
+
+    @Test
+    public void validateFailFast_completes_empty_for_null_object() {
+        // expect
+        assertThat(impl.validateFailFast(null).block()).isNull();
+    }
+
+    @Test
+    public void validateObjectsFailFast_validates_few_small_objects_inline() {
+        // when
+        impl.validateObjectsFailFast(new Widget("foo"), new Widget("bar")).block();
+
+        // then
+        verifyValidatedInline();
+    }
+
+    @Test
+    public void validateObjectsFailFast_offloads_when_there_are_many_objects() {
+        // when
+        Throwable ex = catchThrowable(
+            () -> impl.validateObjectsFailFast(new Widget("foo"), new Widget("bar"), new Widget("")).block()
+        );
+
+        // then
+        verifyValidatedOffloaded();
+        assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+    }
+
+    @Test
+    public void validateObjectsFailFast_validates_collection_objects_as_the_collection_only_and_inline() {
+        // when
+        impl.validateObjectsFailFast(new Widget("foo"), Arrays.asList(new Widget(""), new Widget(""))).block();
+
+        // then
+        verifyValidatedInline();
+    }
+
+    @Test
+    public void validateObjectsWithGroupsFailFast_returns_empty_Mono_for_null_or_empty_objects() {
+        // expect
+        assertThat(impl.validateObjectsWithGroupsFailFast(null, (Object[]) null).block()).isNull();
+        assertThat(impl.validateObjectsWithGroupsFailFast(null).block()).isNull();
+        verifyNoInteractions(delegateSpy);
+    }
+
+    @Test
+    public void validateBatchFailFast_always_offloads_and_emits_batch_or_error_with_item_indexes() {
+        // given
+        List<Widget> goodBatch = Collections.singletonList(new Widget("foo"));
+        List<Widget> badBatch = Arrays.asList(new Widget("foo"), new Widget(""), new Widget("bar"));
+
+        // when
+        List<Widget> goodResult = impl.validateBatchFailFast(goodBatch).block();
+        Throwable ex = catchThrowable(() -> impl.validateBatchFailFast(badBatch).block());
+
+        // then
+        verifyValidatedOffloaded();
+        assertThat(goodResult).isSameAs(goodBatch);
+        assertThat(ex).isInstanceOf(ClientDataValidationError.class);
+        assertThat(((ClientDataValidationError) ex).getViolationItemIndexes()).containsExactly(1);
+    }
+
+    @DataProvider(value = {
+        "2  |   false",
+        "3  |   true",
+    }, splitBy = "\\|")
+    @Test
+    public void shouldOffload_compares_collection_and_object_array_sizes_to_threshold(
+        int size, boolean expectedResult
+    ) {
+        // given
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        Map<Integer, Integer> map = new HashMap<>();
+        list.forEach(i -> map.put(i, i));
+
+        // expect
+        assertThat(impl.shouldOffload(list)).isEqualTo(expectedResult);
+        assertThat(impl.shouldOffload(list.toArray())).isEqualTo(expectedResult);
+        assertThat(impl.shouldOffload(map)).isFalse();
+        assertThat(impl.shouldOffload(new int[size])).isFalse();
+    }
+
+    @Test
+    public void shouldOffload_returns_false_for_plain_objects_and_null() {
+        // expect
+        assertThat(impl.shouldOffload(new Widget("foo"))).isFalse();
+        assertThat(impl.shouldOffload(null)).isFalse();
+    }
+}
@@ -0,0 +1,161 @@
+package com.nike.backstopper.handler.spring;
+
+import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.exception.ApiException;
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A JSON error contract for a single, fixed {@link ApiError} that has been serialized once up front, leaving a slot
+ * for the per-request error ID. Rendering a response from this template only requires copying the pre-serialized
+ * bytes around the error ID - no {@link DefaultErrorContractDTO} is created and no serialization happens.
+ *
+ * <p>This is used by the Spring container error controllers to render container 404s (which can arrive at very high
+ * volume, e.g. from bot scanners) without creating and throwing a synthetic exception for each one.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PreSerializedErrorContractTemplate {
+
+    // The error ID slot. Must be something that serializes to JSON without any escaping.
+    protected static final String ERROR_ID_PLACEHOLDER = "BACKSTOPPER_ERROR_ID_PLACEHOLDER";
+
+    protected final @NotNull ApiError apiError;
+    protected final @NotNull ApiException originalException;
+    protected final byte @NotNull [] prefix;
+    protected final byte @NotNull [] suffix;
+
+    /**
+     * Creates a new template for the given {@link ApiError}, serialized with the given {@link ObjectMapper}.
+     */
+    public PreSerializedErrorContractTemplate(@NotNull ApiError apiError, @NotNull ObjectMapper objectMapper) {
+        //noinspection ConstantConditions
+        if (apiError == null) {
+            throw new NullPointerException("apiError cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (objectMapper == null) {
+            throw new NullPointerException("objectMapper cannot be null.");
+        }
+
+        this.apiError = apiError;
+        this.originalException = new StacklessTemplateApiException(
+            ApiException.newBuilder()
+                        .withApiErrors(apiError)
+                        .withExceptionMessage("Synthetic exception for pre-serialized error response.")
+        );
+
+        String serialized = JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(
+            new DefaultErrorContractDTO(ERROR_ID_PLACEHOLDER, Collections.singletonList(apiError)), objectMapper
+        );
+        int placeholderIndex = serialized.indexOf(ERROR_ID_PLACEHOLDER);
+        if (placeholderIndex < 0) {
+            throw new IllegalStateException(
+                "The serialized error contract did not contain the error ID. Is the ObjectMapper excluding it?"
+            );
+        }
+
+        this.prefix = serialized.substring(0, placeholderIndex).getBytes(StandardCharsets.UTF_8);
+        this.suffix = serialized.substring(placeholderIndex + ERROR_ID_PLACEHOLDER.length())
+                                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public @NotNull ApiError getApiError() {
+        return apiError;
+    }
+
+    public int getHttpStatusCode() {
+        return apiError.getHttpStatusCode();
+    }
+
+    /**
+     * @return An {@link ApiException} for {@link #getApiError()}, created once up front without a stack trace. Code
+     * that expects every error response to have an exception behind it (e.g. {@code extraHeadersForResponse(...)}
+     * overrides) is given this one for responses rendered from this template.
+     */
+    public @NotNull ApiException getOriginalException() {
+        return originalException;
+    }
+
+    /**
+     * @param errorId The error ID for this response. This is copied in as-is, so it must not need any JSON escaping
+     * (UUIDs are fine).
+     * @return The full serialized error contract with the given error ID.
+     */
+    public byte @NotNull [] renderBody(@NotNull String errorId) {
+        byte[] errorIdBytes = errorId.getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[prefix.length + errorIdBytes.length + suffix.length];
+        System.arraycopy(prefix, 0, result, 0, prefix.length);
+        System.arraycopy(errorIdBytes, 0, result, prefix.length, errorIdBytes.length);
+        System.arraycopy(suffix, 0, result, prefix.length + errorIdBytes.length, suffix.length);
+        return result;
+    }
+
+    /**
+     * @param errorId The error ID for this response. This is copied in as-is, so it must not need any JSON escaping.
+     * @return A {@link PreSerializedJsonErrorView} holding {@link #renderBody(String)} for the given error ID.
+     */
+    public @NotNull PreSerializedJsonErrorView renderView(@NotNull String errorId) {
+        return new PreSerializedJsonErrorView(PreSerializedJsonErrorView.DEFAULT_CONTENT_TYPE, renderBody(errorId));
+    }
+
+    /**
+     * Writes the full error response to the given servlet response - the HTTP status code, the {@code error_uid}
+     * header, and the JSON body (via {@link PreSerializedJsonErrorView#writeTo(HttpServletResponse)}).
+     */
+    public void writeTo(@NotNull HttpServletResponse response, @NotNull String errorId) throws IOException {
+        writeTo(response, errorId, renderView(errorId), null);
+    }
+
+    /**
+     * Same as {@link #writeTo(HttpServletResponse, String)}, except the body comes from the given view (which must
+     * come from {@link #renderView(String)} for the same error ID), and the given extra headers (if any) are also
+     * added to the response.
+     */
+    public void writeTo(
+        @NotNull HttpServletResponse response,
+        @NotNull String errorId,
+        @NotNull PreSerializedJsonErrorView view,
+        @Nullable Map<String, List<String>> extraHeaders
+    ) throws IOException {
+        if (extraHeaders != null) {
+            for (Map.Entry<String, List<String>> header : extraHeaders.entrySet()) {
+                for (String headerValue : header.getValue()) {
+                    response.addHeader(header.getKey(), headerValue);
+                }
+            }
+        }
+        response.setStatus(getHttpStatusCode());
+        response.setHeader("error_uid", errorId);
+        view.writeTo(response);
+    }
+
+    /**
+     * The {@link ApiException} returned by {@link #getOriginalException()}. It's created once and shared, so it skips
+     * filling in a stack trace - it wouldn't point at anything useful anyway.
+     */
+    protected static class StacklessTemplateApiException extends ApiException {
+
+        protected StacklessTemplateApiException(Builder builder) {
+            super(builder);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.nike.backstopper.handler.spring;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.servlet.View;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A {@link View} that holds an error contract that has already been serialized to JSON bytes. This is the view used
+ * by {@link SpringApiExceptionHandlerUtils} when it's in
+ * {@link SpringApiExceptionHandlerUtils.ErrorResponseRenderingMode#DIRECT_OUTPUT_STREAM} mode.
+ *
+ * <p>{@link SpringApiExceptionHandler} and {@link SpringUnhandledExceptionHandler} recognize this view and call
+ * {@link #writeTo(HttpServletResponse)} themselves, then hand an empty {@code ModelAndView} back to Spring so that no
+ * view resolution or model rendering happens. If this view does end up going through the normal Spring view pipeline
+ * (e.g. a custom resolver returned it) then {@link #render(Map, HttpServletRequest, HttpServletResponse)} produces
+ * the same output.
+ *
+ * <p>The response headers match what {@code MappingJackson2JsonView} would have output: the content type,
+ * a UTF-8 character encoding, and {@code Cache-Control: no-store}.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PreSerializedJsonErrorView implements View {
+
+    public static final String DEFAULT_CONTENT_TYPE = "application/json";
+
+    protected final @NotNull String contentType;
+    protected final byte @NotNull [] body;
+
+    public PreSerializedJsonErrorView(@NotNull String contentType, byte @NotNull [] body) {
+        //noinspection ConstantConditions
+        if (contentType == null) {
+            throw new NullPointerException("contentType cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (body == null) {
+            throw new NullPointerException("body cannot be null.");
+        }
+
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    @Override
+    public @NotNull String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return The pre-serialized response body bytes. This is the actual backing array, not a copy - do not modify it.
+     */
+    public byte @NotNull [] getBody() {
+        return body;
+    }
+
+    @Override
+    public void render(
+        Map<String, ?> model, @NotNull HttpServletRequest request, @NotNull HttpServletResponse response
+    ) throws IOException {
+        writeTo(response);
+    }
+
+    /**
+     * Writes the content type, character encoding, cache control, and content length headers to the given response,
+     * and then writes the pre-serialized body bytes directly to the response's {@link OutputStream}.
+     */
+    public void writeTo(@NotNull HttpServletResponse response) throws IOException {
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.addHeader("Cache-Control", "no-store");
+        response.setContentLength(body.length);
+
+        OutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+    }
+}
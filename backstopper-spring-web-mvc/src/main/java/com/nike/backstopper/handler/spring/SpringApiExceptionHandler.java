@@ -7,6 +7,7 @@ import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
 import com.nike.backstopper.handler.ErrorResponseInfo;
 import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.handler.UnexpectedMajorExceptionHandlingError;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingServletApiAdapter;
 import com.nike.backstopper.handler.spring.listener.ApiExceptionHandlerListenerList;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
 
@@ -17,7 +18,11 @@ import org.springframework.core.Ordered;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -58,7 +63,19 @@ public class SpringApiExceptionHandler extends ApiExceptionHandlerServletApiBase
                                      ApiExceptionHandlerListenerList apiExceptionHandlerListeners,
                                      ApiExceptionHandlerUtils generalUtils,
                                      SpringApiExceptionHandlerUtils springUtils) {
-        super(projectApiErrors, apiExceptionHandlerListeners.listeners, generalUtils);
+        this(projectApiErrors, apiExceptionHandlerListeners, generalUtils, springUtils, false);
+    }
+
+    /**
+     * Use this constructor (e.g. from your own {@code @Bean} method) if you want repeated field errors merged into a
+     * single error for the response - see {@link #shouldMergeRepeatedFieldErrors()}.
+     */
+    public SpringApiExceptionHandler(ProjectApiErrors projectApiErrors,
+                                     ApiExceptionHandlerListenerList apiExceptionHandlerListeners,
+                                     ApiExceptionHandlerUtils generalUtils,
+                                     SpringApiExceptionHandlerUtils springUtils,
+                                     boolean mergeRepeatedFieldErrors) {
+        super(projectApiErrors, apiExceptionHandlerListeners.listeners, generalUtils, mergeRepeatedFieldErrors);
         this.springUtils = springUtils;
     }
 
@@ -79,6 +96,18 @@ public class SpringApiExceptionHandler extends ApiExceptionHandlerServletApiBase
         Object handler,
         @NotNull Exception ex
     ) {
+        // Check for disconnected clients and committed responses before doing any real work - there's nothing we can
+        //      write in either case. A disconnected client is treated as handled (an empty ModelAndView) so it
+        //      doesn't generate any more noise, while a committed response is left for Spring/the container to deal
+        //      with.
+        if (SpringApiExceptionHandlerUtils.isClientDisconnected(request, ex)) {
+            return new ModelAndView();
+        }
+
+        //noinspection ConstantConditions
+        if (response != null && response.isCommitted()) {
+            return null;
+        }
 
         try {
             ErrorResponseInfo<ModelAndView> errorResponseInfo = maybeHandleException(ex, request, response);
@@ -87,7 +116,10 @@ public class SpringApiExceptionHandler extends ApiExceptionHandlerServletApiBase
                 return null;
             }
 
-            return errorResponseInfo.frameworkRepresentationObj;
+            // Write the response directly if it was pre-serialized (the default), otherwise let Spring render it.
+            return SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(
+                errorResponseInfo.frameworkRepresentationObj, response
+            );
         } catch (UnexpectedMajorExceptionHandlingError ohNoException) {
             logger.error("Unexpected major error while handling exception. {} should handle it.",
                          SpringUnhandledExceptionHandler.class.getName(), ohNoException
@@ -97,6 +129,65 @@ public class SpringApiExceptionHandler extends ApiExceptionHandlerServletApiBase
 
     }
 
+    /**
+     * @return A {@link PreSerializedErrorContractTemplate} for the given {@link ApiError}, serialized the same way as
+     * this handler's other error responses (see {@link
+     * SpringApiExceptionHandlerUtils#createPreSerializedErrorContractTemplate(ApiError)}). Render it with {@link
+     * #writeTemplatedErrorResponse(PreSerializedErrorContractTemplate, String, HttpServletRequest,
+     * HttpServletResponse)}.
+     */
+    public @NotNull PreSerializedErrorContractTemplate createPreSerializedErrorContractTemplate(
+        @NotNull ApiError apiError
+    ) {
+        return springUtils.createPreSerializedErrorContractTemplate(apiError);
+    }
+
+    /**
+     * Writes an error response rendered from the given {@link PreSerializedErrorContractTemplate} to the given servlet
+     * response, including the same {@link #extraHeadersForResponse(Object, DefaultErrorContractDTO, int, Collection,
+     * Throwable, RequestInfoForLogging)} headers as any other error handled by this class. The Spring container error
+     * controllers use this to render container 404s without throwing a synthetic exception through this handler. The
+     * {@code originalException} passed to {@link #extraHeadersForResponse(Object, DefaultErrorContractDTO, int,
+     * Collection, Throwable, RequestInfoForLogging)} is the template's preallocated {@link
+     * PreSerializedErrorContractTemplate#getOriginalException()}, so it's never null.
+     *
+     * @param template The template to render - create it with {@link
+     * #createPreSerializedErrorContractTemplate(ApiError)} so the body is serialized the same way as this handler's
+     * other error responses.
+     * @param errorId The error ID for this response - usually from {@link #generateErrorUid()}.
+     * @param request The servlet request.
+     * @param response The servlet response to write to.
+     */
+    public void writeTemplatedErrorResponse(
+        @NotNull PreSerializedErrorContractTemplate template,
+        @NotNull String errorId,
+        @NotNull HttpServletRequest request,
+        @NotNull HttpServletResponse response
+    ) throws IOException {
+        List<ApiError> apiErrors = Collections.singletonList(template.getApiError());
+        DefaultErrorContractDTO errorContractDTO = new DefaultErrorContractDTO(errorId, apiErrors);
+        PreSerializedJsonErrorView view = template.renderView(errorId);
+        ModelAndView modelAndView = new ModelAndView(
+            view, SpringApiExceptionHandlerUtils.ERROR_CONTRACT_MODEL_KEY, errorContractDTO
+        );
+
+        Map<String, List<String>> extraHeaders = extraHeadersForResponse(
+            modelAndView, errorContractDTO, template.getHttpStatusCode(), apiErrors, template.getOriginalException(),
+            RequestInfoForLoggingServletApiAdapter.getOrCreateCached(request)
+        );
+
+        template.writeTo(response, errorId, view, extraHeaders);
+    }
+
+    /**
+     * @return A new error ID from this handler's {@link ApiExceptionHandlerUtils#generateErrorUid()}, for use with
+     * {@link #writeTemplatedErrorResponse(PreSerializedErrorContractTemplate, String, HttpServletRequest,
+     * HttpServletResponse)} so templated responses get the same kind of error IDs as this handler's other responses.
+     */
+    public @NotNull String generateErrorUid() {
+        return utils.generateErrorUid();
+    }
+
     /**
      * See the javadocs for {@link #order} for info on what this is for.
      */
@@ -1,19 +1,31 @@
 package com.nike.backstopper.handler.spring;
 
 import com.nike.backstopper.apierror.ApiError;
+import com.nike.backstopper.handler.DisconnectedClientHelper;
 import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
 import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+import com.nike.backstopper.servletapi.HandledServletError;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Similar to {@link com.nike.backstopper.handler.ApiExceptionHandlerUtils}, but provides helpers specific to this
@@ -26,32 +38,281 @@ import jakarta.inject.Singleton;
 @SuppressWarnings("WeakerAccess")
 public class SpringApiExceptionHandlerUtils {
 
+    private static final Logger logger = LoggerFactory.getLogger(SpringApiExceptionHandlerUtils.class);
+
     /**
      * The default instance you can use if you don't need any customized logic. You can override this class and
-     * its methods if you need alternate behavior.
+     * its methods if you need alternate behavior. This uses {@link ErrorResponseRenderingMode#DIRECT_OUTPUT_STREAM}.
      */
     public static final SpringApiExceptionHandlerUtils DEFAULT_IMPL = new SpringApiExceptionHandlerUtils();
 
     /**
-     * Reusable static method for generating a ModelAndView that will be serialized to a JSON representation of the
-     * DefaultErrorContractDTO.
+     * The model key used for the error contract in the {@link ModelAndView}s generated by this class.
+     */
+    public static final String ERROR_CONTRACT_MODEL_KEY = "defaultErrorContractDTO";
+
+    /**
+     * The options for how {@link #generateModelAndViewForErrorResponse(DefaultErrorContractDTO, int, Collection,
+     * Throwable, RequestInfoForLogging)} represents the error response.
+     */
+    public enum ErrorResponseRenderingMode {
+        /**
+         * The error contract is serialized to bytes immediately and wrapped in a {@link PreSerializedJsonErrorView}.
+         * {@link SpringApiExceptionHandler} and {@link SpringUnhandledExceptionHandler} write those bytes straight to
+         * the {@link jakarta.servlet.http.HttpServletResponse} output stream and return an empty {@link ModelAndView},
+         * so Spring skips view resolution and model rendering entirely. This is the default.
+         */
+        DIRECT_OUTPUT_STREAM,
+        /**
+         * Like {@link #DIRECT_OUTPUT_STREAM}, except the error contract is wrapped in a {@link StreamingJsonErrorView}
+         * and serialized straight to the {@link jakarta.servlet.http.HttpServletResponse} output stream when it's
+         * written, instead of being serialized to bytes up front. Memory use is bounded by a small buffer rather than
+         * the size of the response, so this is the best choice for endpoints that can return thousands of errors.
+         * The trade-offs are that there's no Content-Length header, and no fallback response if serialization fails
+         * partway through.
+         */
+        STREAMING_OUTPUT_STREAM,
+        /**
+         * The error contract is added to the {@link ModelAndView} model and rendered by Spring's normal view pipeline
+         * using a {@link MappingJackson2JsonView}. The view is cached and reused across errors rather than being
+         * recreated each time. Use this if your application relies on the view pipeline (e.g. interceptors or
+         * anything else that inspects or modifies the model or view before rendering).
+         */
+        VIEW
+    }
+
+    protected final @NotNull ErrorResponseRenderingMode renderingMode;
+
+    /**
+     * Cache for the {@link MappingJackson2JsonView} used in {@link ErrorResponseRenderingMode#VIEW} mode. The view is
+     * thread safe once configured, so it can be shared. This only holds one view - if
+     * {@link #getObjectMapperForJsonErrorResponseSerialization(DefaultErrorContractDTO, int, Collection, Throwable,
+     * RequestInfoForLogging)} returns a different {@link ObjectMapper} than the cached view uses, then a new view is
+     * created and cached in its place.
+     */
+    private volatile MappingJackson2JsonView cachedJsonView;
+
+    /**
+     * Creates a new instance that uses {@link ErrorResponseRenderingMode#DIRECT_OUTPUT_STREAM}.
+     */
+    public SpringApiExceptionHandlerUtils() {
+        this(ErrorResponseRenderingMode.DIRECT_OUTPUT_STREAM);
+    }
+
+    /**
+     * Creates a new instance that uses the given {@link ErrorResponseRenderingMode}.
      *
-     * @return A ModelAndView that will be serialized to a JSON representation of the DefaultErrorContractDTO. (NOTE:
-     * make sure the DefaultErrorContractDTO is FULLY populated before calling this method! Changes to the
-     * DefaultErrorContractDTO after calling this method may not be reflected in the returned ModelAndView).
+     * @param renderingMode The rendering mode to use - cannot be null.
+     */
+    public SpringApiExceptionHandlerUtils(@NotNull ErrorResponseRenderingMode renderingMode) {
+        //noinspection ConstantConditions
+        if (renderingMode == null) {
+            throw new NullPointerException("renderingMode cannot be null.");
+        }
+
+        this.renderingMode = renderingMode;
+    }
+
+    public @NotNull ErrorResponseRenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    /**
+     * Reusable method for generating a ModelAndView that represents the JSON serialized DefaultErrorContractDTO. The
+     * error contract is always included in the model under {@link #ERROR_CONTRACT_MODEL_KEY}. What the view looks like
+     * depends on the {@link ErrorResponseRenderingMode}:
+     * <ul>
+     *     <li>
+     *         {@link ErrorResponseRenderingMode#DIRECT_OUTPUT_STREAM} - the view is a
+     *         {@link PreSerializedJsonErrorView} holding the already-serialized JSON bytes.
+     *     </li>
+     *     <li>
+     *         {@link ErrorResponseRenderingMode#STREAMING_OUTPUT_STREAM} - the view is a
+     *         {@link StreamingJsonErrorView} that serializes the error contract when it's written.
+     *     </li>
+     *     <li>
+     *         {@link ErrorResponseRenderingMode#VIEW} - the view is a cached {@link MappingJackson2JsonView} that will
+     *         serialize the model when Spring renders it.
+     *     </li>
+     * </ul>
+     *
+     * @return A ModelAndView that represents the JSON serialized DefaultErrorContractDTO. (NOTE: make sure the
+     * DefaultErrorContractDTO is FULLY populated before calling this method! Changes to the DefaultErrorContractDTO
+     * after calling this method may not be reflected in the returned ModelAndView).
      */
     public ModelAndView generateModelAndViewForErrorResponse(
         DefaultErrorContractDTO errorContractDTO, int httpStatusCode, Collection<ApiError> rawFilteredApiErrors,
         Throwable originalException, RequestInfoForLogging request
     ) {
-        MappingJackson2JsonView view = new MappingJackson2JsonView();
-        view.setExtractValueFromSingleKeyModel(true);
-        view.setObjectMapper(getObjectMapperForJsonErrorResponseSerialization(
+        ObjectMapper objectMapper = getObjectMapperForJsonErrorResponseSerialization(
             errorContractDTO, httpStatusCode, rawFilteredApiErrors, originalException, request
-        ));
-        ModelAndView mv = new ModelAndView(view);
-        mv.addObject(errorContractDTO);
-        return mv;
+        );
+
+        View view = switch (renderingMode) {
+            case DIRECT_OUTPUT_STREAM -> new PreSerializedJsonErrorView(
+                PreSerializedJsonErrorView.DEFAULT_CONTENT_TYPE,
+                JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContractDTO, objectMapper)
+            );
+            case STREAMING_OUTPUT_STREAM -> new StreamingJsonErrorView(
+                PreSerializedJsonErrorView.DEFAULT_CONTENT_TYPE, errorContractDTO, objectMapper
+            );
+            case VIEW -> getOrCreateJsonView(objectMapper);
+        };
+
+        return new ModelAndView(view, ERROR_CONTRACT_MODEL_KEY, errorContractDTO);
+    }
+
+    /**
+     * Creates a {@link PreSerializedErrorContractTemplate} for the given {@link ApiError}, serialized with the
+     * {@link ObjectMapper} from {@link #getObjectMapperForJsonErrorResponseSerialization(DefaultErrorContractDTO, int,
+     * Collection, Throwable, RequestInfoForLogging)} so it matches the error responses generated by this class. The
+     * template is shared across requests, so that method is called once here with a placeholder error contract and
+     * null {@code originalException} and {@code request}.
+     */
+    public @NotNull PreSerializedErrorContractTemplate createPreSerializedErrorContractTemplate(
+        @NotNull ApiError apiError
+    ) {
+        ObjectMapper objectMapper = getObjectMapperForJsonErrorResponseSerialization(
+            new DefaultErrorContractDTO(
+                PreSerializedErrorContractTemplate.ERROR_ID_PLACEHOLDER, Collections.singletonList(apiError)
+            ),
+            apiError.getHttpStatusCode(), Collections.singletonList(apiError), null, null
+        );
+
+        return new PreSerializedErrorContractTemplate(apiError, objectMapper);
+    }
+
+    /**
+     * @return The cached {@link MappingJackson2JsonView} if it uses the given {@link ObjectMapper}, otherwise a newly
+     * created one (which replaces the cached view).
+     */
+    protected @NotNull MappingJackson2JsonView getOrCreateJsonView(@NotNull ObjectMapper objectMapper) {
+        MappingJackson2JsonView view = cachedJsonView;
+        if (view == null || view.getObjectMapper() != objectMapper) {
+            view = new MappingJackson2JsonView();
+            view.setExtractValueFromSingleKeyModel(true);
+            view.setObjectMapper(objectMapper);
+            cachedJsonView = view;
+        }
+
+        return view;
+    }
+
+    /**
+     * Helper for the Backstopper Spring exception handlers. If the given {@link ModelAndView} uses a
+     * {@link PreSerializedJsonErrorView} or {@link StreamingJsonErrorView}, then the error contract is written
+     * straight to the given response and an empty {@link ModelAndView} is returned (which tells Spring the error was handled and there's nothing
+     * left to render). Otherwise the given {@link ModelAndView} is returned as-is for Spring to render normally.
+     *
+     * <p>If writing to the response fails then the failure is logged (or just counted via
+     * {@link DisconnectedClientHelper#recordDisconnectedClient()} if the client went away) and an empty
+     * {@link ModelAndView} is still returned, since the error was handled and there's no way to send anything
+     * else to the caller.
+     *
+     * @param modelAndView The {@link ModelAndView} generated for the error response.
+     * @param response The servlet response to write to.
+     * @return The {@link ModelAndView} to return to Spring from the exception handler.
+     */
+    public static ModelAndView renderDirectlyIfPreSerialized(
+        ModelAndView modelAndView, @NotNull HttpServletResponse response
+    ) {
+        if (modelAndView == null) {
+            return null;
+        }
+
+        View view = modelAndView.getView();
+        if (!(view instanceof PreSerializedJsonErrorView) && !(view instanceof StreamingJsonErrorView)) {
+            return modelAndView;
+        }
+
+        try {
+            if (view instanceof PreSerializedJsonErrorView preSerializedView) {
+                preSerializedView.writeTo(response);
+            }
+            else {
+                ((StreamingJsonErrorView) view).writeTo(response);
+            }
+        }
+        catch (IOException ex) {
+            if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+                // Expected when the client goes away - count it rather than logging a stack trace for each one.
+                DisconnectedClientHelper.recordDisconnectedClient();
+            }
+            else {
+                logger.warn(
+                    "Unable to write the error response directly to the servlet response output stream. "
+                    + "error_response_write_failure=true", ex
+                );
+            }
+        }
+
+        return new ModelAndView();
+    }
+
+    /**
+     * Fast path check for the Backstopper Spring exception handlers, done before any listeners, logging, or response
+     * generation. If the given exception indicates the client has disconnected (see {@link DisconnectedClientHelper})
+     * then there's no point handling it, since the response can't be delivered. Disconnected clients are tallied via
+     * {@link DisconnectedClientHelper#recordDisconnectedClient()} (at most once per request, no matter how many
+     * handlers see the exception) rather than logged, so a storm of broken pipes doesn't flood the error logs.
+     *
+     * @param request The servlet request.
+     * @param ex The exception being handled.
+     * @return true if the given exception indicates the client has disconnected, false otherwise.
+     */
+    public static boolean isClientDisconnected(@NotNull ServletRequest request, @NotNull Throwable ex) {
+        if (!DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            return false;
+        }
+
+        if (request.getAttribute(DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY) == null) {
+            request.setAttribute(DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY, Boolean.TRUE);
+            DisconnectedClientHelper.recordDisconnectedClient();
+        }
+
+        return true;
+    }
+
+    /**
+     * Helper for the Backstopper Spring container error controllers. If the given {@link HandledServletError} is not
+     * null and its recorded framework representation is a {@link ModelAndView} with a concrete {@link View}, then the
+     * recorded status code and headers are applied to the response and the recorded view is rendered again. No
+     * listeners run, nothing is logged, and nothing is re-serialized, so the caller sees the same response (and
+     * {@code error_uid}) that was generated the first time the error was handled.
+     *
+     * @param handledError The previously handled error found for the request, or null if there wasn't one.
+     * @param request The servlet request.
+     * @param response The servlet response to replay the error onto.
+     * @return true if the previously handled error was replayed, false if it could not be replayed (in which case
+     * the caller should handle the error normally).
+     */
+    public static boolean replayPreviouslyHandledError(
+        HandledServletError handledError, ServletRequest request, ServletResponse response
+    ) throws Exception {
+        if (handledError == null
+            || !(handledError.errorResponseInfo.frameworkRepresentationObj instanceof ModelAndView modelAndView)
+            || modelAndView.getView() == null
+            || !(request instanceof HttpServletRequest httpRequest)
+            || !(response instanceof HttpServletResponse httpResponse)
+        ) {
+            return false;
+        }
+
+        logger.debug(
+            "Replaying previously handled error response for a container error forward. error_uid={}",
+            handledError.errorUid
+        );
+
+        handledError.applyStatusAndHeaders(httpResponse);
+        View view = modelAndView.getView();
+        if (view instanceof PreSerializedJsonErrorView preSerializedView) {
+            preSerializedView.writeTo(httpResponse);
+        }
+        else {
+            view.render(modelAndView.getModel(), httpRequest, httpResponse);
+        }
+
+        return true;
     }
 
     /**
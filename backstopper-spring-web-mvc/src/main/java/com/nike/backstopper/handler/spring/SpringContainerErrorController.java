@@ -1,9 +1,13 @@
 package com.nike.backstopper.handler.spring;
 
+import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.servletapi.HandledServletError;
 import com.nike.backstopper.servletapi.UnhandledServletContainerErrorHelper;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.ConfigurationCondition;
@@ -11,9 +15,14 @@ import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import jakarta.inject.Inject;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import static com.nike.backstopper.handler.spring.SpringContainerErrorController.SpringbootErrorControllerIsNotOnClasspath;
+import static com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
 
 
 /**
@@ -24,6 +33,17 @@ import static com.nike.backstopper.handler.spring.SpringContainerErrorController
  * UnhandledServletContainerErrorHelper#extractOrGenerateErrorForRequest(ServletRequest, ProjectApiErrors)} for
  * this purpose.
  *
+ * <p>If the forwarded exception was already handled by Backstopper before it escaped to the container (see {@link
+ * HandledServletError}), then the original response is replayed instead, so the exception isn't handled and logged a
+ * second time under a different error_uid.
+ *
+ * <p>Container 404s that have no associated exception are rendered directly from a {@link
+ * PreSerializedErrorContractTemplate} for {@link ProjectApiErrors#getNotFoundApiError()}, and logged via the sampled
+ * {@link UnhandledServletContainerErrorHelper#logContainer404(ServletRequest, String)}, rather than by throwing a
+ * synthetic exception through the exception handler chain. The template is serialized, and the response gets its extra
+ * headers, through the injected {@link SpringApiExceptionHandler} so container 404s look like every other error
+ * response.
+ *
  * <p>NOTE: You'll need to configure your Servlet container to forward exceptions and errors it handles outside of
  * Spring (like 404s) to {@code /error} for this controller to be able to handle them.
  *
@@ -49,11 +69,33 @@ public class SpringContainerErrorController {
 
     protected final @NotNull ProjectApiErrors projectApiErrors;
     protected final @NotNull UnhandledServletContainerErrorHelper unhandledServletContainerErrorHelper;
+    protected final @Nullable SpringApiExceptionHandler apiExceptionHandler;
+    protected final @Nullable PreSerializedErrorContractTemplate notFoundResponseTemplate;
 
-    @SuppressWarnings("ConstantConditions")
+    /**
+     * Creates a new instance that renders container 404s with {@code DEFAULT_SMART_MAPPER} serialization and no
+     * extra response headers. Use the constructor that takes a {@link SpringApiExceptionHandler} to render them the
+     * same way as every other error response.
+     */
     public SpringContainerErrorController(
         @NotNull ProjectApiErrors projectApiErrors,
         @NotNull UnhandledServletContainerErrorHelper unhandledServletContainerErrorHelper
+    ) {
+        this(projectApiErrors, unhandledServletContainerErrorHelper, null);
+    }
+
+    /**
+     * @param apiExceptionHandler The {@link SpringApiExceptionHandler} used to render container 404s, so that they're
+     * serialized with the same {@link SpringApiExceptionHandlerUtils} and get the same extra response headers as
+     * every other error response. May be null, in which case container 404s are serialized with
+     * {@code DEFAULT_SMART_MAPPER} and get no extra response headers.
+     */
+    @Inject
+    @SuppressWarnings("ConstantConditions")
+    public SpringContainerErrorController(
+        @NotNull ProjectApiErrors projectApiErrors,
+        @NotNull UnhandledServletContainerErrorHelper unhandledServletContainerErrorHelper,
+        @Nullable SpringApiExceptionHandler apiExceptionHandler
     ) {
         if (projectApiErrors == null) {
             throw new NullPointerException("ProjectApiErrors cannot be null.");
@@ -65,9 +107,64 @@ public class SpringContainerErrorController {
 
         this.projectApiErrors = projectApiErrors;
         this.unhandledServletContainerErrorHelper = unhandledServletContainerErrorHelper;
+        this.apiExceptionHandler = apiExceptionHandler;
+
+        ApiError notFoundApiError = projectApiErrors.getNotFoundApiError();
+        if (notFoundApiError == null) {
+            this.notFoundResponseTemplate = null;
+        }
+        else if (apiExceptionHandler == null) {
+            this.notFoundResponseTemplate =
+                new PreSerializedErrorContractTemplate(notFoundApiError, DEFAULT_SMART_MAPPER);
+        }
+        else {
+            this.notFoundResponseTemplate =
+                apiExceptionHandler.createPreSerializedErrorContractTemplate(notFoundApiError);
+        }
     }
 
     @RequestMapping
+    public void error(ServletRequest request, ServletResponse response) throws Throwable {
+        // If Backstopper already handled this exception before it escaped to the container, then replay that
+        //      response rather than handling and logging the same exception again with a new error_uid.
+        HandledServletError previouslyHandledError =
+            unhandledServletContainerErrorHelper.findPreviouslyHandledError(request);
+        if (SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(previouslyHandledError, request, response)) {
+            return;
+        }
+
+        // Container 404s without an exception are very common (e.g. bot scanners), so render them directly from a
+        //      pre-serialized template with sampled logging, rather than creating and throwing a synthetic exception.
+        if (notFoundResponseTemplate != null
+            && request instanceof HttpServletRequest httpRequest
+            && response instanceof HttpServletResponse httpResponse
+            && unhandledServletContainerErrorHelper.isContainer404WithoutThrowable(request)
+        ) {
+            String errorUid = (apiExceptionHandler == null)
+                              ? ApiExceptionHandlerUtils.DEFAULT_IMPL.generateErrorUid()
+                              : apiExceptionHandler.generateErrorUid();
+            if (apiExceptionHandler == null) {
+                notFoundResponseTemplate.writeTo(httpResponse, errorUid);
+            }
+            else {
+                apiExceptionHandler.writeTemplatedErrorResponse(
+                    notFoundResponseTemplate, errorUid, httpRequest, httpResponse
+                );
+            }
+            unhandledServletContainerErrorHelper.logContainer404(request, errorUid);
+            return;
+        }
+
+        error(request);
+    }
+
+    /**
+     * Handles the container errors that {@link #error(ServletRequest, ServletResponse)} doesn't replay or render
+     * directly, by throwing the result of {@link
+     * UnhandledServletContainerErrorHelper#extractOrGenerateErrorForRequest(ServletRequest, ProjectApiErrors)} so
+     * Backstopper handles it. This was the request mapping method before the response was needed, and is kept so that
+     * existing subclass overrides and direct callers keep working.
+     */
     public void error(ServletRequest request) throws Throwable {
         throw unhandledServletContainerErrorHelper.extractOrGenerateErrorForRequest(request, projectApiErrors);
     }
@@ -93,7 +93,20 @@ public class SpringUnhandledExceptionHandler extends UnhandledExceptionHandlerSe
         Object handler,
         @NotNull Exception ex
     ) {
-        return handleException(ex, request, response).frameworkRepresentationObj;
+        // Same disconnected client and committed response fast path as SpringApiExceptionHandler.
+        if (SpringApiExceptionHandlerUtils.isClientDisconnected(request, ex)) {
+            return new ModelAndView();
+        }
+
+        //noinspection ConstantConditions
+        if (response != null && response.isCommitted()) {
+            return null;
+        }
+
+        // Write the response directly if it was pre-serialized (the default), otherwise let Spring render it.
+        return SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(
+            handleException(ex, request, response).frameworkRepresentationObj, response
+        );
     }
 
     /**
@@ -0,0 +1,92 @@
+package com.nike.backstopper.handler.spring;
+
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.ChunkedErrorContractJsonWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.servlet.View;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A {@link View} that serializes an error contract straight to the response's output stream when it's written,
+ * rather than serializing it to bytes up front like {@link PreSerializedJsonErrorView}. Memory use is bounded by
+ * Jackson's small output buffer instead of the size of the response, which matters for endpoints that can return
+ * thousands of errors. This is the view used by {@link SpringApiExceptionHandlerUtils} when it's in
+ * {@link SpringApiExceptionHandlerUtils.ErrorResponseRenderingMode#STREAMING_OUTPUT_STREAM} mode.
+ *
+ * <p>{@link SpringApiExceptionHandler} and {@link SpringUnhandledExceptionHandler} recognize this view and call
+ * {@link #writeTo(HttpServletResponse)} themselves, just like they do for {@link PreSerializedJsonErrorView}. The
+ * response headers are the same as {@link PreSerializedJsonErrorView}'s, except there's no content length since it
+ * isn't known until the contract has been written.
+ *
+ * <p>NOTE: If serialization fails partway through then part of the response may already have been sent, so there is
+ * no fallback response like there is for {@link PreSerializedJsonErrorView}.
+ */
+@SuppressWarnings("WeakerAccess")
+public class StreamingJsonErrorView implements View {
+
+    protected final @NotNull String contentType;
+    protected final @NotNull DefaultErrorContractDTO errorContract;
+    protected final @NotNull ObjectMapper objectMapper;
+
+    public StreamingJsonErrorView(
+        @NotNull String contentType,
+        @NotNull DefaultErrorContractDTO errorContract,
+        @NotNull ObjectMapper objectMapper
+    ) {
+        //noinspection ConstantConditions
+        if (contentType == null) {
+            throw new NullPointerException("contentType cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (errorContract == null) {
+            throw new NullPointerException("errorContract cannot be null.");
+        }
+
+        //noinspection ConstantConditions
+        if (objectMapper == null) {
+            throw new NullPointerException("objectMapper cannot be null.");
+        }
+
+        this.contentType = contentType;
+        this.errorContract = errorContract;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public @NotNull String getContentType() {
+        return contentType;
+    }
+
+    public @NotNull DefaultErrorContractDTO getErrorContract() {
+        return errorContract;
+    }
+
+    @Override
+    public void render(
+        Map<String, ?> model, @NotNull HttpServletRequest request, @NotNull HttpServletResponse response
+    ) throws IOException {
+        writeTo(response);
+    }
+
+    /**
+     * Writes the content type, character encoding, and cache control headers to the given response, and then
+     * serializes the error contract directly to the response's {@link java.io.OutputStream}.
+     */
+    public void writeTo(@NotNull HttpServletResponse response) throws IOException {
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.addHeader("Cache-Control", "no-store");
+
+        ChunkedErrorContractJsonWriter.writeTo(errorContract, objectMapper, response.getOutputStream());
+    }
+}
@@ -26,7 +26,9 @@ import jakarta.inject.Singleton;
 
 /**
  * An extension and concrete implementation of {@link OneOffSpringCommonFrameworkExceptionHandlerListener} that
- * knows how to handle Spring WebMVC specific exceptions.
+ * knows how to handle Spring WebMVC specific exceptions. Like the common exceptions, the decision of which branch
+ * handles a given exception class is made once and cached - see {@link
+ * #determineWebMvcFrameworkExceptionCategory(Class)}.
  *
  * @author Nic Munroe
  */
@@ -36,6 +38,27 @@ import jakarta.inject.Singleton;
 public class OneOffSpringWebMvcFrameworkExceptionHandlerListener
     extends OneOffSpringCommonFrameworkExceptionHandlerListener {
 
+    /**
+     * The handling branches {@link #handleSpringMvcOrWebfluxSpecificFrameworkExceptions(Throwable)} can dispatch an
+     * exception to, as determined by {@link #determineWebMvcFrameworkExceptionCategory(Class)}.
+     */
+    protected enum WebMvcFrameworkExceptionCategory {
+        SERVLET_REQUEST_BINDING,
+        MEDIA_TYPE_NOT_ACCEPTABLE,
+        MEDIA_TYPE_NOT_SUPPORTED,
+        REQUEST_METHOD_NOT_SUPPORTED,
+        MISSING_REQUEST_PART,
+        NOT_HANDLED
+    }
+
+    protected final ClassValue<WebMvcFrameworkExceptionCategory> webMvcFrameworkExceptionCategoryCache =
+        new ClassValue<>() {
+            @Override
+            protected WebMvcFrameworkExceptionCategory computeValue(Class<?> exClass) {
+                return determineWebMvcFrameworkExceptionCategory(exClass);
+            }
+        };
+
     /**
      * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding {@link
      * ApiError}s. Cannot be null.
@@ -52,36 +75,57 @@ public class OneOffSpringWebMvcFrameworkExceptionHandlerListener
     protected @NotNull ApiExceptionHandlerListenerResult handleSpringMvcOrWebfluxSpecificFrameworkExceptions(
         @NotNull Throwable ex
     ) {
-        List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>();
-        
-        if (ex instanceof ServletRequestBindingException) {
-            return handleServletRequestBindingException((ServletRequestBindingException)ex, extraDetailsForLogging);
+        return switch (webMvcFrameworkExceptionCategoryCache.get(ex.getClass())) {
+            case SERVLET_REQUEST_BINDING -> handleServletRequestBindingException(
+                (ServletRequestBindingException)ex, new ArrayList<>()
+            );
+            case MEDIA_TYPE_NOT_ACCEPTABLE ->
+                handleError(projectApiErrors.getNoAcceptableRepresentationApiError(), new ArrayList<>());
+            case MEDIA_TYPE_NOT_SUPPORTED ->
+                handleError(projectApiErrors.getUnsupportedMediaTypeApiError(), new ArrayList<>());
+            case REQUEST_METHOD_NOT_SUPPORTED ->
+                handleError(projectApiErrors.getMethodNotAllowedApiError(), new ArrayList<>());
+            case MISSING_REQUEST_PART -> handleError(
+                new ApiErrorWithMetadata(
+                    projectApiErrors.getMalformedRequestApiError(),
+                    Pair.of("missing_required_part", ((MissingServletRequestPartException)ex).getRequestPartName())
+                ),
+                new ArrayList<>()
+            );
+            // This exception is not handled here.
+            case NOT_HANDLED -> ApiExceptionHandlerListenerResult.ignoreResponse();
+        };
+    }
+
+    /**
+     * Determines which {@link #handleSpringMvcOrWebfluxSpecificFrameworkExceptions(Throwable)} branch handles the
+     * given exception class. This is only called once per exception class - the result is cached in {@link
+     * #webMvcFrameworkExceptionCategoryCache}.
+     */
+    protected @NotNull WebMvcFrameworkExceptionCategory determineWebMvcFrameworkExceptionCategory(
+        @NotNull Class<?> exClass
+    ) {
+        if (ServletRequestBindingException.class.isAssignableFrom(exClass)) {
+            return WebMvcFrameworkExceptionCategory.SERVLET_REQUEST_BINDING;
         }
 
-        if (ex instanceof HttpMediaTypeNotAcceptableException) {
-            return handleError(projectApiErrors.getNoAcceptableRepresentationApiError(), extraDetailsForLogging);
+        if (HttpMediaTypeNotAcceptableException.class.isAssignableFrom(exClass)) {
+            return WebMvcFrameworkExceptionCategory.MEDIA_TYPE_NOT_ACCEPTABLE;
         }
 
-        if (ex instanceof HttpMediaTypeNotSupportedException) {
-            return handleError(projectApiErrors.getUnsupportedMediaTypeApiError(), extraDetailsForLogging);
+        if (HttpMediaTypeNotSupportedException.class.isAssignableFrom(exClass)) {
+            return WebMvcFrameworkExceptionCategory.MEDIA_TYPE_NOT_SUPPORTED;
         }
 
-        if (ex instanceof HttpRequestMethodNotSupportedException) {
-            return handleError(projectApiErrors.getMethodNotAllowedApiError(), extraDetailsForLogging);
+        if (HttpRequestMethodNotSupportedException.class.isAssignableFrom(exClass)) {
+            return WebMvcFrameworkExceptionCategory.REQUEST_METHOD_NOT_SUPPORTED;
         }
 
-        if (ex instanceof MissingServletRequestPartException detailsEx) {
-            return handleError(
-                new ApiErrorWithMetadata(
-                    projectApiErrors.getMalformedRequestApiError(),
-                    Pair.of("missing_required_part", detailsEx.getRequestPartName())
-                ),
-                extraDetailsForLogging
-            );
+        if (MissingServletRequestPartException.class.isAssignableFrom(exClass)) {
+            return WebMvcFrameworkExceptionCategory.MISSING_REQUEST_PART;
         }
 
-        // This exception is not handled here.
-        return ApiExceptionHandlerListenerResult.ignoreResponse();
+        return WebMvcFrameworkExceptionCategory.NOT_HANDLED;
     }
 
     protected ApiExceptionHandlerListenerResult handleServletRequestBindingException(
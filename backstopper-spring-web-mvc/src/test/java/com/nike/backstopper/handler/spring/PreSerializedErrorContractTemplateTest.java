@@ -0,0 +1,146 @@
+package com.nike.backstopper.handler.spring;
+
+import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.sample.SampleCoreApiError;
+import com.nike.backstopper.exception.ApiException;
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+import com.nike.internal.util.MapBuilder;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link PreSerializedErrorContractTemplate}.
+ */
+public class PreSerializedErrorContractTemplateTest {
+
+    @Test
+    public void renderBody_matches_normal_serialization_of_error_contract() {
+        // given
+        ApiErrorWithMetadata apiError = new ApiErrorWithMetadata(
+            SampleCoreApiError.NOT_FOUND, MapBuilder.builder("foo", (Object) "bar\"baz").build()
+        );
+        PreSerializedErrorContractTemplate template = new PreSerializedErrorContractTemplate(
+            apiError, DEFAULT_SMART_MAPPER
+        );
+        String errorId = UUID.randomUUID().toString();
+
+        // when
+        byte[] result = template.renderBody(errorId);
+
+        // then
+        String expected = JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(
+            new DefaultErrorContractDTO(errorId, Collections.singletonList(apiError))
+        );
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(template.getApiError()).isSameAs(apiError);
+        assertThat(template.getHttpStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    public void getOriginalException_returns_a_shared_stackless_ApiException_for_the_api_error() {
+        // given
+        PreSerializedErrorContractTemplate template = new PreSerializedErrorContractTemplate(
+            SampleCoreApiError.NOT_FOUND, DEFAULT_SMART_MAPPER
+        );
+
+        // when
+        ApiException result = template.getOriginalException();
+
+        // then
+        assertThat(result).isSameAs(template.getOriginalException());
+        assertThat(result.getApiErrors()).containsExactly(SampleCoreApiError.NOT_FOUND);
+        assertThat(result.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void writeTo_writes_status_error_uid_header_and_body() throws IOException {
+        // given
+        PreSerializedErrorContractTemplate template = new PreSerializedErrorContractTemplate(
+            SampleCoreApiError.NOT_FOUND, DEFAULT_SMART_MAPPER
+        );
+        String errorId = UUID.randomUUID().toString();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        template.writeTo(response, errorId);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader("error_uid")).isEqualTo(errorId);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentAsByteArray()).isEqualTo(template.renderBody(errorId));
+    }
+
+    @Test
+    public void writeTo_with_view_and_extra_headers_adds_extra_headers() throws IOException {
+        // given
+        PreSerializedErrorContractTemplate template = new PreSerializedErrorContractTemplate(
+            SampleCoreApiError.NOT_FOUND, DEFAULT_SMART_MAPPER
+        );
+        String errorId = UUID.randomUUID().toString();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        template.writeTo(
+            response, errorId, template.renderView(errorId), Map.of("foo", List.of("bar1", "bar2"))
+        );
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader("error_uid")).isEqualTo(errorId);
+        assertThat(response.getHeaders("foo")).containsExactly("bar1", "bar2");
+        assertThat(response.getContentAsByteArray()).isEqualTo(template.renderBody(errorId));
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullApiErrorEx = catchThrowable(
+            () -> new PreSerializedErrorContractTemplate(null, DEFAULT_SMART_MAPPER)
+        );
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullMapperEx = catchThrowable(
+            () -> new PreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND, null)
+        );
+
+        // then
+        assertThat(nullApiErrorEx).isInstanceOf(NullPointerException.class).hasMessage("apiError cannot be null.");
+        assertThat(nullMapperEx).isInstanceOf(NullPointerException.class).hasMessage("objectMapper cannot be null.");
+    }
+
+    @Test
+    public void constructor_throws_IllegalStateException_if_ObjectMapper_does_not_output_error_id() {
+        // given
+        ObjectMapper mapperThatDropsErrorId =
+            new ObjectMapper().addMixIn(DefaultErrorContractDTO.class, IgnoreErrorIdMixin.class);
+
+        // when
+        Throwable ex = catchThrowable(
+            () -> new PreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND, mapperThatDropsErrorId)
+        );
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalStateException.class);
+    }
+
+    @JsonIgnoreProperties({"error_id"})
+    private abstract static class IgnoreErrorIdMixin {
+    }
+}
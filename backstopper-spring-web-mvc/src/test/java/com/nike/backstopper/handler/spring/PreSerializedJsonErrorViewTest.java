@@ -0,0 +1,84 @@
+package com.nike.backstopper.handler.spring;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link PreSerializedJsonErrorView}.
+ */
+public class PreSerializedJsonErrorViewTest {
+
+    private String contentType;
+    private byte[] body;
+    private PreSerializedJsonErrorView impl;
+
+    @Before
+    public void beforeMethod() {
+        contentType = PreSerializedJsonErrorView.DEFAULT_CONTENT_TYPE;
+        body = ("{\"error_id\":\"" + UUID.randomUUID() + "\"}").getBytes(StandardCharsets.UTF_8);
+        impl = new PreSerializedJsonErrorView(contentType, body);
+    }
+
+    @Test
+    public void constructor_sets_fields_as_expected() {
+        // expect
+        assertThat(impl.getContentType()).isSameAs(contentType);
+        assertThat(impl.getBody()).isSameAs(body);
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContentTypeEx = catchThrowable(() -> new PreSerializedJsonErrorView(null, body));
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullBodyEx = catchThrowable(() -> new PreSerializedJsonErrorView(contentType, null));
+
+        // then
+        assertThat(nullContentTypeEx).isInstanceOf(NullPointerException.class).hasMessage("contentType cannot be null.");
+        assertThat(nullBodyEx).isInstanceOf(NullPointerException.class).hasMessage("body cannot be null.");
+    }
+
+    @Test
+    public void writeTo_writes_headers_and_body_directly_to_response() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        impl.writeTo(response);
+
+        // then
+        verifyResponse(response);
+    }
+
+    @Test
+    public void render_delegates_to_writeTo() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        impl.render(Collections.emptyMap(), new MockHttpServletRequest(), response);
+
+        // then
+        verifyResponse(response);
+    }
+
+    private void verifyResponse(MockHttpServletResponse response) {
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(response.getContentLength()).isEqualTo(body.length);
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        assertThat(response.isCommitted()).isTrue();
+    }
+}
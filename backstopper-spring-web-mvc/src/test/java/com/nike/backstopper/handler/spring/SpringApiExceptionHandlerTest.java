@@ -1,24 +1,53 @@
 package com.nike.backstopper.handler.spring;
 
+import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.sample.SampleCoreApiError;
 import com.nike.backstopper.handler.ApiExceptionHandlerUtils;
+import com.nike.backstopper.handler.ErrorResponseInfo;
+import com.nike.backstopper.handler.RequestInfoForLogging;
 import com.nike.backstopper.handler.UnexpectedMajorExceptionHandlingError;
+import com.nike.backstopper.handler.adapter.RequestInfoForLoggingServletApiAdapter;
 import com.nike.backstopper.handler.spring.listener.ApiExceptionHandlerListenerList;
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+import com.nike.internal.util.testing.Glassbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.Ordered;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Tests the functionality of {@link SpringApiExceptionHandler}.
@@ -73,6 +102,181 @@ public class SpringApiExceptionHandlerTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    public void resolveException_writes_PreSerializedJsonErrorView_directly_to_response_and_returns_empty_ModelAndView()
+        throws UnexpectedMajorExceptionHandlingError, UnsupportedEncodingException {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Exception ex = new RuntimeException("kaboom");
+        String serializedBody = "{\"error_id\":\"" + UUID.randomUUID() + "\"}";
+        ModelAndView preSerializedMav = new ModelAndView(
+            new PreSerializedJsonErrorView("application/json", serializedBody.getBytes(StandardCharsets.UTF_8))
+        );
+        doReturn(new ErrorResponseInfo<>(400, preSerializedMav, Collections.emptyMap()))
+            .when(handlerSpy).maybeHandleException(ex, reqMock, response);
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, response, null, ex);
+
+        // then
+        assertThat(result).isNotNull().isNotSameAs(preSerializedMav);
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(response.getContentAsString()).isEqualTo(serializedBody);
+    }
+
+    @Test
+    public void resolveException_returns_ModelAndView_as_is_if_it_is_not_pre_serialized()
+        throws UnexpectedMajorExceptionHandlingError {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        Exception ex = new RuntimeException("kaboom");
+        ModelAndView normalMav = new ModelAndView(new MappingJackson2JsonView());
+        doReturn(new ErrorResponseInfo<>(400, normalMav, Collections.emptyMap()))
+            .when(handlerSpy).maybeHandleException(ex, reqMock, responseMock);
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, responseMock, null, ex);
+
+        // then
+        assertThat(result).isSameAs(normalMav);
+        verify(responseMock).isCommitted();
+        verifyNoMoreInteractions(responseMock);
+    }
+
+    @Test
+    public void resolveException_returns_empty_ModelAndView_without_handling_if_client_disconnected()
+        throws UnexpectedMajorExceptionHandlingError {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        Exception ex = new RuntimeException("Broken pipe");
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, responseMock, null, ex);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.isEmpty()).isTrue();
+        verify(handlerSpy, never()).maybeHandleException(any(Throwable.class), any(), any());
+        verifyNoInteractions(responseMock);
+    }
+
+    @Test
+    public void resolveException_returns_null_without_handling_if_response_is_committed()
+        throws UnexpectedMajorExceptionHandlingError {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        doReturn(true).when(responseMock).isCommitted();
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, responseMock, null, new RuntimeException("kaboom"));
+
+        // then
+        assertThat(result).isNull();
+        verify(handlerSpy, never()).maybeHandleException(any(Throwable.class), any(), any());
+    }
+
+    @Test
+    public void createPreSerializedErrorContractTemplate_uses_the_ObjectMapper_from_springUtils() {
+        // given
+        ObjectMapper indentingMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        SpringApiExceptionHandlerUtils customUtils = new SpringApiExceptionHandlerUtils() {
+            @Override
+            protected ObjectMapper getObjectMapperForJsonErrorResponseSerialization(
+                DefaultErrorContractDTO errorContractDTO, int httpStatusCode, Collection<ApiError> rawFilteredApiErrors,
+                Throwable originalException, RequestInfoForLogging request
+            ) {
+                return indentingMapper;
+            }
+        };
+        SpringApiExceptionHandler impl = new SpringApiExceptionHandler(
+            projectApiErrorsMock, listenerList, generalUtils, customUtils
+        );
+
+        // when
+        PreSerializedErrorContractTemplate template =
+            impl.createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+
+        // then
+        String errorId = UUID.randomUUID().toString();
+        assertThat(new String(template.renderBody(errorId), StandardCharsets.UTF_8)).isEqualTo(
+            JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(
+                new DefaultErrorContractDTO(errorId, Collections.singletonList(SampleCoreApiError.NOT_FOUND)),
+                indentingMapper
+            )
+        );
+    }
+
+    @Test
+    public void writeTemplatedErrorResponse_writes_template_with_extraHeadersForResponse() throws IOException {
+        // given
+        List<Object[]> extraHeadersArgs = new ArrayList<>();
+        SpringApiExceptionHandler impl = new SpringApiExceptionHandler(
+            projectApiErrorsMock, listenerList, generalUtils, springUtils
+        ) {
+            @Override
+            protected Map<String, List<String>> extraHeadersForResponse(
+                ModelAndView frameworkRepresentation, DefaultErrorContractDTO errorContractDTO, int httpStatusCode,
+                Collection<ApiError> rawFilteredApiErrors, Throwable originalException, RequestInfoForLogging request
+            ) {
+                extraHeadersArgs.add(new Object[]{
+                    frameworkRepresentation, errorContractDTO, httpStatusCode, rawFilteredApiErrors,
+                    originalException, request
+                });
+                return Collections.singletonMap("trace_id", Collections.singletonList("some-trace-id"));
+            }
+        };
+        PreSerializedErrorContractTemplate template =
+            impl.createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+        String errorId = UUID.randomUUID().toString();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        impl.writeTemplatedErrorResponse(template, errorId, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader("error_uid")).isEqualTo(errorId);
+        assertThat(response.getHeader("trace_id")).isEqualTo("some-trace-id");
+        assertThat(response.getContentAsByteArray()).isEqualTo(template.renderBody(errorId));
+
+        assertThat(extraHeadersArgs).hasSize(1);
+        Object[] args = extraHeadersArgs.get(0);
+        ModelAndView modelAndView = (ModelAndView) args[0];
+        assertThat(modelAndView.getView()).isInstanceOf(PreSerializedJsonErrorView.class);
+        DefaultErrorContractDTO errorContract = (DefaultErrorContractDTO) args[1];
+        assertThat(errorContract.error_id).isEqualTo(errorId);
+        assertThat(modelAndView.getModel().get(SpringApiExceptionHandlerUtils.ERROR_CONTRACT_MODEL_KEY))
+            .isSameAs(errorContract);
+        assertThat(args[2]).isEqualTo(404);
+        assertThat(args[3]).isEqualTo(Collections.singletonList(SampleCoreApiError.NOT_FOUND));
+        assertThat(args[4]).isSameAs(template.getOriginalException());
+        assertThat(args[5]).isSameAs(RequestInfoForLoggingServletApiAdapter.getOrCreateCached(request));
+    }
+
+    @Test
+    public void generateErrorUid_uses_ApiExceptionHandlerUtils() {
+        // given
+        ApiExceptionHandlerUtils customUtils = new ApiExceptionHandlerUtils() {
+            @Override
+            public String generateErrorUid() {
+                return "custom-error-uid";
+            }
+        };
+        SpringApiExceptionHandler impl = new SpringApiExceptionHandler(
+            projectApiErrorsMock, listenerList, customUtils, springUtils
+        );
+
+        // expect
+        assertThat(impl.generateErrorUid()).isEqualTo("custom-error-uid");
+    }
+
     @Test
     public void order_getters_and_setters_work() {
         // given
@@ -99,4 +303,17 @@ public class SpringApiExceptionHandlerTest {
         assertThat(defaultOrder).isEqualTo(Ordered.HIGHEST_PRECEDENCE + 1);
     }
 
+    @Test
+    public void mergeRepeatedFieldErrors_is_off_by_default_and_can_be_turned_on_via_constructor() {
+        // when
+        SpringApiExceptionHandler impl = new SpringApiExceptionHandler(
+            projectApiErrorsMock, listenerList, generalUtils, springUtils, true
+        );
+
+        // then
+        assertThat(Glassbox.getInternalState(impl, "mergeRepeatedFieldErrorsEnabled")).isEqualTo(true);
+        assertThat(impl.springUtils).isSameAs(springUtils);
+        assertThat(Glassbox.getInternalState(handlerSpy, "mergeRepeatedFieldErrorsEnabled")).isEqualTo(false);
+    }
+
 }
\ No newline at end of file
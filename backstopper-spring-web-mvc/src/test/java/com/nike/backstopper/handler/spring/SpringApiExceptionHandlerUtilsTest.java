@@ -1,16 +1,46 @@
 package com.nike.backstopper.handler.spring;
 
+import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.testing.base.BaseSpringEnabledValidationTestCase;
 import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
+import com.nike.backstopper.handler.DisconnectedClientHelper;
+import com.nike.backstopper.handler.ErrorResponseInfo;
+import com.nike.backstopper.handler.RequestInfoForLogging;
+import com.nike.backstopper.handler.spring.SpringApiExceptionHandlerUtils.ErrorResponseRenderingMode;
 import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+import com.nike.backstopper.servletapi.HandledServletError;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
 
+import static java.util.Objects.requireNonNull;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Tests the functionality of {@link com.nike.backstopper.handler.ApiExceptionHandlerUtils}.
@@ -29,4 +59,260 @@ public class SpringApiExceptionHandlerUtilsTest extends BaseSpringEnabledValidat
         assertThat(mav.getModel().size(), is(1));
         assertThat(mav.getModel().values().iterator().next() == erv, is(true));
     }
+
+    @Test
+    public void generateModelAndViewForErrorResponse_uses_PreSerializedJsonErrorView_in_DIRECT_OUTPUT_STREAM_mode() {
+        DefaultErrorContractDTO erv = new DefaultErrorContractDTO(
+            "someRequestId", Arrays.asList(BarebonesCoreApiErrorForTesting.NO_ACCEPTABLE_REPRESENTATION,
+                                           BarebonesCoreApiErrorForTesting.UNSUPPORTED_MEDIA_TYPE)
+        );
+        SpringApiExceptionHandlerUtils utils = new SpringApiExceptionHandlerUtils();
+
+        ModelAndView mav = utils.generateModelAndViewForErrorResponse(erv, 400, null, null, null);
+
+        assertThat(utils.getRenderingMode(), is(ErrorResponseRenderingMode.DIRECT_OUTPUT_STREAM));
+        assertThat(mav.getView(), instanceOf(PreSerializedJsonErrorView.class));
+        PreSerializedJsonErrorView view = (PreSerializedJsonErrorView) mav.getView();
+        assertThat(view.getContentType(), is("application/json"));
+        assertThat(
+            new String(view.getBody(), StandardCharsets.UTF_8),
+            is(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(erv))
+        );
+    }
+
+    @Test
+    public void generateModelAndViewForErrorResponse_honors_custom_ObjectMapper_in_DIRECT_OUTPUT_STREAM_mode() {
+        DefaultErrorContractDTO erv = new DefaultErrorContractDTO(
+            "someRequestId", Collections.singletonList(BarebonesCoreApiErrorForTesting.UNSUPPORTED_MEDIA_TYPE)
+        );
+        ObjectMapper customMapper = JsonUtilWithDefaultErrorContractDTOSupport.generateErrorContractObjectMapper(
+            false, false
+        );
+        SpringApiExceptionHandlerUtils utils = new SpringApiExceptionHandlerUtils() {
+            @Override
+            protected ObjectMapper getObjectMapperForJsonErrorResponseSerialization(
+                DefaultErrorContractDTO errorContractDTO, int httpStatusCode, Collection<ApiError> rawFilteredApiErrors,
+                Throwable originalException, RequestInfoForLogging request
+            ) {
+                return customMapper;
+            }
+        };
+
+        ModelAndView mav = utils.generateModelAndViewForErrorResponse(erv, 400, null, null, null);
+
+        PreSerializedJsonErrorView view = (PreSerializedJsonErrorView) mav.getView();
+        assertThat(
+            new String(requireNonNull(view).getBody(), StandardCharsets.UTF_8),
+            is(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(erv, customMapper))
+        );
+    }
+
+    @Test
+    public void generateModelAndViewForErrorResponse_uses_StreamingJsonErrorView_in_STREAMING_OUTPUT_STREAM_mode() {
+        DefaultErrorContractDTO erv = new DefaultErrorContractDTO(
+            "someRequestId", Arrays.asList(BarebonesCoreApiErrorForTesting.NO_ACCEPTABLE_REPRESENTATION,
+                                           BarebonesCoreApiErrorForTesting.UNSUPPORTED_MEDIA_TYPE)
+        );
+        SpringApiExceptionHandlerUtils utils = new SpringApiExceptionHandlerUtils(
+            ErrorResponseRenderingMode.STREAMING_OUTPUT_STREAM
+        );
+
+        ModelAndView mav = utils.generateModelAndViewForErrorResponse(erv, 400, null, null, null);
+
+        assertThat(utils.getRenderingMode(), is(ErrorResponseRenderingMode.STREAMING_OUTPUT_STREAM));
+        assertThat(mav.getView(), instanceOf(StreamingJsonErrorView.class));
+        StreamingJsonErrorView view = (StreamingJsonErrorView) mav.getView();
+        assertThat(requireNonNull(view).getContentType(), is("application/json"));
+        assertThat(view.getErrorContract(), sameInstance(erv));
+        assertThat(view.objectMapper, sameInstance(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER));
+        assertThat(mav.getModel().values().iterator().next() == erv, is(true));
+    }
+
+    @Test
+    public void renderDirectlyIfPreSerialized_streams_StreamingJsonErrorView_to_response() throws IOException {
+        DefaultErrorContractDTO erv = new DefaultErrorContractDTO(
+            "someRequestId", Collections.singletonList(BarebonesCoreApiErrorForTesting.UNSUPPORTED_MEDIA_TYPE)
+        );
+        ModelAndView mav = new ModelAndView(new StreamingJsonErrorView(
+            "application/json", erv, JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER
+        ));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ModelAndView result = SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(mav, response);
+
+        assertThat(result.isEmpty(), is(true));
+        assertThat(
+            response.getContentAsString(StandardCharsets.UTF_8),
+            is(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(erv))
+        );
+    }
+
+    @Test
+    public void generateModelAndViewForErrorResponse_reuses_cached_MappingJackson2JsonView_in_VIEW_mode() {
+        DefaultErrorContractDTO erv = new DefaultErrorContractDTO(
+            "someRequestId", Collections.singletonList(BarebonesCoreApiErrorForTesting.UNSUPPORTED_MEDIA_TYPE)
+        );
+        SpringApiExceptionHandlerUtils utils = new SpringApiExceptionHandlerUtils(ErrorResponseRenderingMode.VIEW);
+
+        ModelAndView firstMav = utils.generateModelAndViewForErrorResponse(erv, 400, null, null, null);
+        ModelAndView secondMav = utils.generateModelAndViewForErrorResponse(erv, 400, null, null, null);
+
+        assertThat(utils.getRenderingMode(), is(ErrorResponseRenderingMode.VIEW));
+        assertThat(firstMav.getView(), instanceOf(MappingJackson2JsonView.class));
+        assertThat(secondMav.getView(), sameInstance(firstMav.getView()));
+        MappingJackson2JsonView view = (MappingJackson2JsonView) firstMav.getView();
+        assertThat(
+            requireNonNull(view).getObjectMapper(),
+            sameInstance(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER)
+        );
+        assertThat(firstMav.getModel().size(), is(1));
+        assertThat(firstMav.getModel().values().iterator().next() == erv, is(true));
+    }
+
+    @Test
+    public void getOrCreateJsonView_replaces_cached_view_when_ObjectMapper_changes() {
+        SpringApiExceptionHandlerUtils utils = new SpringApiExceptionHandlerUtils(ErrorResponseRenderingMode.VIEW);
+        ObjectMapper otherMapper = new ObjectMapper();
+
+        MappingJackson2JsonView defaultView =
+            utils.getOrCreateJsonView(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER);
+        MappingJackson2JsonView otherView = utils.getOrCreateJsonView(otherMapper);
+
+        assertThat(otherView, not(sameInstance(defaultView)));
+        assertThat(otherView.getObjectMapper(), sameInstance(otherMapper));
+        assertThat(utils.getOrCreateJsonView(otherMapper), sameInstance(otherView));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void constructor_throws_NullPointerException_if_passed_null_rendering_mode() {
+        new SpringApiExceptionHandlerUtils(null);
+    }
+
+    @Test
+    public void renderDirectlyIfPreSerialized_returns_given_ModelAndView_if_not_pre_serialized() {
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        ModelAndView mav = new ModelAndView(new MappingJackson2JsonView());
+
+        assertThat(SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(mav, responseMock), sameInstance(mav));
+        assertThat(SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(null, responseMock), nullValue());
+        verifyNoInteractions(responseMock);
+    }
+
+    @Test
+    public void renderDirectlyIfPreSerialized_returns_empty_ModelAndView_even_if_write_fails() throws IOException {
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        doThrow(new IOException("Broken pipe")).when(responseMock).getOutputStream();
+        ModelAndView mav = new ModelAndView(
+            new PreSerializedJsonErrorView("application/json", "{}".getBytes(StandardCharsets.UTF_8))
+        );
+
+        long disconnectCountBefore = DisconnectedClientHelper.getDisconnectedClientCount();
+
+        ModelAndView result = SpringApiExceptionHandlerUtils.renderDirectlyIfPreSerialized(mav, responseMock);
+
+        assertThat(result.isEmpty(), is(true));
+        verify(responseMock).getOutputStream();
+        assertThat(DisconnectedClientHelper.getDisconnectedClientCount(), is(disconnectCountBefore + 1));
+    }
+
+    @Test
+    public void isClientDisconnected_returns_false_for_normal_exceptions() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        long disconnectCountBefore = DisconnectedClientHelper.getDisconnectedClientCount();
+
+        assertThat(SpringApiExceptionHandlerUtils.isClientDisconnected(request, new RuntimeException("foo")), is(false));
+        assertThat(request.getAttribute(DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY), nullValue());
+        assertThat(DisconnectedClientHelper.getDisconnectedClientCount(), is(disconnectCountBefore));
+    }
+
+    @Test
+    public void isClientDisconnected_returns_true_and_records_disconnect_once_per_request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Exception ex = new RuntimeException(new IOException("Connection reset by peer"));
+        long disconnectCountBefore = DisconnectedClientHelper.getDisconnectedClientCount();
+
+        assertThat(SpringApiExceptionHandlerUtils.isClientDisconnected(request, ex), is(true));
+        assertThat(SpringApiExceptionHandlerUtils.isClientDisconnected(request, ex), is(true));
+
+        assertThat(
+            request.getAttribute(DisconnectedClientHelper.DISCONNECTED_CLIENT_RECORDED_ATTR_KEY), is(Boolean.TRUE)
+        );
+        assertThat(DisconnectedClientHelper.getDisconnectedClientCount(), is(disconnectCountBefore + 1));
+    }
+
+    private HandledServletError handledServletError(Object frameworkRepresentation) {
+        return new HandledServletError(
+            new RuntimeException("intentional test exception"),
+            new ErrorResponseInfo<>(
+                400, frameworkRepresentation,
+                Collections.singletonMap("error_uid", Collections.singletonList("some-error-uid"))
+            )
+        );
+    }
+
+    @Test
+    public void replayPreviouslyHandledError_writes_recorded_PreSerializedJsonErrorView_response() throws Exception {
+        byte[] body = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+        HandledServletError handledError = handledServletError(
+            new ModelAndView(new PreSerializedJsonErrorView("application/json", body))
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean result = SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(
+            handledError, new MockHttpServletRequest(), response
+        );
+
+        assertThat(result, is(true));
+        assertThat(response.getStatus(), is(400));
+        assertThat(response.getHeaders("error_uid"), is(Collections.singletonList("some-error-uid")));
+        assertThat(response.getContentAsByteArray(), is(body));
+    }
+
+    @Test
+    public void replayPreviouslyHandledError_renders_recorded_view() throws Exception {
+        View viewMock = mock(View.class);
+        ModelAndView mav = new ModelAndView(viewMock, "someKey", "someValue");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean result = SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(
+            handledServletError(mav), request, response
+        );
+
+        assertThat(result, is(true));
+        assertThat(response.getStatus(), is(400));
+        verify(viewMock).render(mav.getModel(), request, response);
+    }
+
+    @Test
+    public void replayPreviouslyHandledError_returns_false_if_it_cannot_replay() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        HandledServletError replayable = handledServletError(new ModelAndView(mock(View.class)));
+
+        assertThat(SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(null, request, responseMock), is(false));
+        assertThat(
+            SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(handledServletError("notAMav"), request, responseMock),
+            is(false)
+        );
+        assertThat(
+            SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(
+                handledServletError(new ModelAndView("someViewName")), request, responseMock
+            ),
+            is(false)
+        );
+        assertThat(
+            SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(
+                replayable, mock(ServletRequest.class), responseMock
+            ),
+            is(false)
+        );
+        assertThat(
+            SpringApiExceptionHandlerUtils.replayPreviouslyHandledError(
+                replayable, request, mock(ServletResponse.class)
+            ),
+            is(false)
+        );
+        verifyNoInteractions(responseMock);
+    }
 }
@@ -1,17 +1,32 @@
 package com.nike.backstopper.handler.spring;
 
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
+import com.nike.backstopper.apierror.sample.SampleCoreApiError;
+import com.nike.backstopper.handler.ErrorResponseInfo;
+import com.nike.backstopper.servletapi.HandledServletError;
 import com.nike.backstopper.servletapi.UnhandledServletContainerErrorHelper;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
 
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletRequest;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -23,13 +38,15 @@ public class SpringContainerErrorControllerTest {
 
     private ProjectApiErrors projectApiErrorsMock;
     private UnhandledServletContainerErrorHelper unhandledContainerErrorHelperMock;
-    private ServletRequest servletRequestMock;
+    private HttpServletRequest servletRequestMock;
+    private HttpServletResponse servletResponseMock;
 
     @Before
     public void beforeMethod() {
         projectApiErrorsMock = mock(ProjectApiErrors.class);
         unhandledContainerErrorHelperMock = mock(UnhandledServletContainerErrorHelper.class);
-        servletRequestMock = mock(ServletRequest.class);
+        servletRequestMock = mock(HttpServletRequest.class);
+        servletResponseMock = mock(HttpServletResponse.class);
     }
 
     @Test
@@ -84,7 +101,7 @@ public class SpringContainerErrorControllerTest {
                            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
 
         // when
-        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock));
+        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock, servletResponseMock));
 
         // then
         assertThat(ex).isSameAs(expectedEx);
@@ -92,4 +109,181 @@ public class SpringContainerErrorControllerTest {
             .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
     }
 
-}
\ No newline at end of file
+    @Test
+    @SuppressWarnings("ThrowableNotThrown")
+    public void single_arg_error_method_throws_result_of_calling_UnhandledServletContainerErrorHelper() {
+        // given
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        );
+        Throwable expectedEx = new RuntimeException("intentional test exception");
+        doReturn(expectedEx).when(unhandledContainerErrorHelperMock)
+                            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+
+        // when
+        Throwable ex = catchThrowable(() -> impl.error(servletRequestMock));
+
+        // then
+        assertThat(ex).isSameAs(expectedEx);
+    }
+
+    @Test
+    public void error_method_delegates_to_single_arg_error_method_so_subclass_overrides_still_work() throws Throwable {
+        // given
+        ServletRequest[] requestHolder = new ServletRequest[1];
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        ) {
+            @Override
+            public void error(ServletRequest request) {
+                requestHolder[0] = request;
+            }
+        };
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        assertThat(requestHolder[0]).isSameAs(servletRequestMock);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void error_method_replays_previously_handled_error_instead_of_throwing() throws Throwable {
+        // given
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        );
+        View viewMock = mock(View.class);
+        ModelAndView modelAndView = new ModelAndView(viewMock, "someModelKey", "someModelValue");
+        HandledServletError previouslyHandledError = new HandledServletError(
+            new RuntimeException("intentional test exception"),
+            new ErrorResponseInfo<>(
+                400, modelAndView, Collections.singletonMap("error_uid", Collections.singletonList("some-error-uid"))
+            )
+        );
+        doReturn(previouslyHandledError).when(unhandledContainerErrorHelperMock)
+                                        .findPreviouslyHandledError(servletRequestMock);
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        verify(servletResponseMock).setStatus(400);
+        verify(servletResponseMock).setHeader("error_uid", "some-error-uid");
+        verify(viewMock).render(modelAndView.getModel(), servletRequestMock, servletResponseMock);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void constructor_creates_notFoundResponseTemplate_from_ProjectApiErrors() {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+
+        // when
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        );
+
+        // then
+        assertThat(impl.notFoundResponseTemplate).isNotNull();
+        assertThat(impl.notFoundResponseTemplate.getApiError()).isSameAs(SampleCoreApiError.NOT_FOUND);
+    }
+
+    @Test
+    public void constructor_leaves_notFoundResponseTemplate_null_if_ProjectApiErrors_has_no_not_found_error() {
+        // when
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        );
+
+        // then
+        assertThat(impl.notFoundResponseTemplate).isNull();
+    }
+
+    @Test
+    public void error_method_renders_container_404_directly_without_throwing() throws Throwable {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock
+        );
+        doReturn(true).when(unhandledContainerErrorHelperMock).isContainer404WithoutThrowable(servletRequestMock);
+        ByteArrayOutputStream bodyOutput = new ByteArrayOutputStream();
+        doReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                bodyOutput.write(b);
+            }
+        }).when(servletResponseMock).getOutputStream();
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        ArgumentCaptor<String> errorUidCaptor = ArgumentCaptor.forClass(String.class);
+        verify(servletResponseMock).setStatus(404);
+        verify(servletResponseMock).setHeader(eq("error_uid"), errorUidCaptor.capture());
+        String errorUid = errorUidCaptor.getValue();
+        assertThat(bodyOutput.toByteArray()).isEqualTo(impl.notFoundResponseTemplate.renderBody(errorUid));
+        verify(unhandledContainerErrorHelperMock).logContainer404(servletRequestMock, errorUid);
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+
+    @Test
+    public void constructor_creates_notFoundResponseTemplate_from_SpringApiExceptionHandler_if_available() {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        SpringApiExceptionHandler apiExceptionHandlerMock = mock(SpringApiExceptionHandler.class);
+        PreSerializedErrorContractTemplate template = mock(PreSerializedErrorContractTemplate.class);
+        doReturn(template).when(apiExceptionHandlerMock)
+                          .createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+
+        // when
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, apiExceptionHandlerMock
+        );
+
+        // then
+        assertThat(impl.apiExceptionHandler).isSameAs(apiExceptionHandlerMock);
+        assertThat(impl.notFoundResponseTemplate).isSameAs(template);
+    }
+
+    @Test
+    public void error_method_renders_container_404_via_SpringApiExceptionHandler_if_available() throws Throwable {
+        // given
+        doReturn(SampleCoreApiError.NOT_FOUND).when(projectApiErrorsMock).getNotFoundApiError();
+        SpringApiExceptionHandler apiExceptionHandlerMock = mock(SpringApiExceptionHandler.class);
+        PreSerializedErrorContractTemplate template = mock(PreSerializedErrorContractTemplate.class);
+        doReturn(template).when(apiExceptionHandlerMock)
+                          .createPreSerializedErrorContractTemplate(SampleCoreApiError.NOT_FOUND);
+        SpringContainerErrorController impl = new SpringContainerErrorController(
+            projectApiErrorsMock, unhandledContainerErrorHelperMock, apiExceptionHandlerMock
+        );
+        doReturn("custom-error-uid").when(apiExceptionHandlerMock).generateErrorUid();
+        doReturn(true).when(unhandledContainerErrorHelperMock).isContainer404WithoutThrowable(servletRequestMock);
+
+        // when
+        impl.error(servletRequestMock, servletResponseMock);
+
+        // then
+        verify(apiExceptionHandlerMock).writeTemplatedErrorResponse(
+            template, "custom-error-uid", servletRequestMock, servletResponseMock
+        );
+        verify(unhandledContainerErrorHelperMock).logContainer404(servletRequestMock, "custom-error-uid");
+        verify(unhandledContainerErrorHelperMock, never())
+            .extractOrGenerateErrorForRequest(servletRequestMock, projectApiErrorsMock);
+    }
+}
@@ -11,13 +11,14 @@ import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSuppor
 import com.nike.internal.util.MapBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.ModelAndView;
-import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,10 +32,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Tests the functionality of {@link SpringUnhandledExceptionHandler}.
@@ -79,14 +83,15 @@ public class SpringUnhandledExceptionHandlerTest {
         // then
         assertThat(response.httpStatusCode).isEqualTo(expectedHttpStatusCode);
         assertThat(response.headersToAddToResponse).isEqualTo(expectedHeadersMap);
-        assertThat(response.frameworkRepresentationObj.getView()).isInstanceOf(MappingJackson2JsonView.class);
-        ObjectMapper objectMapperUsed =
-            ((MappingJackson2JsonView) requireNonNull(response.frameworkRepresentationObj.getView())).getObjectMapper();
-        assertThat(objectMapperUsed).isSameAs(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER);
+        assertThat(response.frameworkRepresentationObj.getView()).isInstanceOf(PreSerializedJsonErrorView.class);
+        PreSerializedJsonErrorView view =
+            (PreSerializedJsonErrorView) requireNonNull(response.frameworkRepresentationObj.getView());
+        assertThat(new String(view.getBody(), StandardCharsets.UTF_8)).isEqualTo(expectedBodyPayload);
         assertThat(response.frameworkRepresentationObj.getModel()).hasSize(1);
         Object modelObj = response.frameworkRepresentationObj.getModel().values().iterator().next();
         assertThat(modelObj).isInstanceOf(DefaultErrorContractDTO.class);
-        assertThat(objectMapperUsed.writeValueAsString(modelObj)).isEqualTo(expectedBodyPayload);
+        assertThat(JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER.writeValueAsString(modelObj))
+            .isEqualTo(expectedBodyPayload);
     }
 
     @Test
@@ -130,6 +135,64 @@ public class SpringUnhandledExceptionHandlerTest {
         assertThat(result).isSameAs(handleExceptionResult.frameworkRepresentationObj);
     }
 
+    @Test
+    public void resolveException_writes_PreSerializedJsonErrorView_directly_to_response_and_returns_empty_ModelAndView()
+        throws UnsupportedEncodingException {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Exception originalEx = new RuntimeException("kaboom");
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, response, null, originalEx);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.isEmpty()).isTrue();
+        ApiError expectedGenericError = testProjectApiErrors.getGenericServiceError();
+        assertThat(response.getStatus()).isEqualTo(expectedGenericError.getHttpStatusCode());
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        String errorUid = response.getHeader("error_uid");
+        assertThat(errorUid).isNotBlank();
+        assertThat(response.getContentAsString()).isEqualTo(
+            JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsString(
+                new DefaultErrorContractDTO(errorUid, singletonList(expectedGenericError))
+            )
+        );
+    }
+
+    @Test
+    public void resolveException_returns_empty_ModelAndView_without_handling_if_client_disconnected() {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        Exception ex = new RuntimeException("Broken pipe");
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, responseMock, null, ex);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.isEmpty()).isTrue();
+        verify(handlerSpy, never()).handleException(any(Throwable.class), any(), any());
+        verifyNoInteractions(responseMock);
+    }
+
+    @Test
+    public void resolveException_returns_null_without_handling_if_response_is_committed() {
+        // given
+        HttpServletRequest reqMock = mock(HttpServletRequest.class);
+        HttpServletResponse responseMock = mock(HttpServletResponse.class);
+        doReturn(true).when(responseMock).isCommitted();
+
+        // when
+        ModelAndView result = handlerSpy.resolveException(reqMock, responseMock, null, new RuntimeException("kaboom"));
+
+        // then
+        assertThat(result).isNull();
+        verify(handlerSpy, never()).handleException(any(Throwable.class), any(), any());
+    }
+
     @Test
     public void order_getters_and_setters_work() {
         // given
@@ -0,0 +1,102 @@
+package com.nike.backstopper.handler.spring;
+
+import com.nike.backstopper.apierror.testutil.BarebonesCoreApiErrorForTesting;
+import com.nike.backstopper.model.DefaultErrorContractDTO;
+import com.nike.backstopper.model.util.JsonUtilWithDefaultErrorContractDTOSupport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests the functionality of {@link StreamingJsonErrorView}.
+ */
+public class StreamingJsonErrorViewTest {
+
+    private String contentType;
+    private DefaultErrorContractDTO errorContract;
+    private ObjectMapper objectMapper;
+    private StreamingJsonErrorView impl;
+
+    @Before
+    public void beforeMethod() {
+        contentType = PreSerializedJsonErrorView.DEFAULT_CONTENT_TYPE;
+        errorContract = new DefaultErrorContractDTO(
+            UUID.randomUUID().toString(),
+            Arrays.asList(BarebonesCoreApiErrorForTesting.MISSING_EXPECTED_CONTENT,
+                          BarebonesCoreApiErrorForTesting.TYPE_CONVERSION_ERROR)
+        );
+        objectMapper = JsonUtilWithDefaultErrorContractDTOSupport.DEFAULT_SMART_MAPPER;
+        impl = new StreamingJsonErrorView(contentType, errorContract, objectMapper);
+    }
+
+    @Test
+    public void constructor_sets_fields_as_expected() {
+        // expect
+        assertThat(impl.getContentType()).isSameAs(contentType);
+        assertThat(impl.getErrorContract()).isSameAs(errorContract);
+        assertThat(impl.objectMapper).isSameAs(objectMapper);
+    }
+
+    @Test
+    public void constructor_throws_NullPointerException_if_passed_null_args() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContentTypeEx = catchThrowable(
+            () -> new StreamingJsonErrorView(null, errorContract, objectMapper)
+        );
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullContractEx = catchThrowable(() -> new StreamingJsonErrorView(contentType, null, objectMapper));
+        @SuppressWarnings("DataFlowIssue")
+        Throwable nullMapperEx = catchThrowable(() -> new StreamingJsonErrorView(contentType, errorContract, null));
+
+        // then
+        assertThat(nullContentTypeEx).isInstanceOf(NullPointerException.class).hasMessage("contentType cannot be null.");
+        assertThat(nullContractEx).isInstanceOf(NullPointerException.class).hasMessage("errorContract cannot be null.");
+        assertThat(nullMapperEx).isInstanceOf(NullPointerException.class).hasMessage("objectMapper cannot be null.");
+    }
+
+    @Test
+    public void writeTo_streams_headers_and_body_directly_to_response() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        impl.writeTo(response);
+
+        // then
+        verifyResponse(response);
+    }
+
+    @Test
+    public void render_delegates_to_writeTo() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        impl.render(Collections.emptyMap(), new MockHttpServletRequest(), response);
+
+        // then
+        verifyResponse(response);
+    }
+
+    private void verifyResponse(MockHttpServletResponse response) {
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(response.getContentAsByteArray())
+            .isEqualTo(JsonUtilWithDefaultErrorContractDTOSupport.writeValueAsBytes(errorContract, objectMapper));
+        assertThat(response.isCommitted()).isTrue();
+    }
+}
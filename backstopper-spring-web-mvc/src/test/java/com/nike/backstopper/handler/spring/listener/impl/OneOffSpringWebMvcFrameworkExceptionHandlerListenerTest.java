@@ -137,6 +137,32 @@ public class OneOffSpringWebMvcFrameworkExceptionHandlerListenerTest {
         validateResponse(result, false, null);
     }
 
+    @DataProvider(value = {
+        "org.springframework.web.bind.ServletRequestBindingException            |   SERVLET_REQUEST_BINDING",
+        "org.springframework.web.bind.MissingRequestHeaderException             |   SERVLET_REQUEST_BINDING",
+        "org.springframework.web.HttpMediaTypeNotAcceptableException            |   MEDIA_TYPE_NOT_ACCEPTABLE",
+        "org.springframework.web.HttpMediaTypeNotSupportedException             |   MEDIA_TYPE_NOT_SUPPORTED",
+        "org.springframework.web.HttpRequestMethodNotSupportedException         |   REQUEST_METHOD_NOT_SUPPORTED",
+        "org.springframework.web.multipart.support.MissingServletRequestPartException   |   MISSING_REQUEST_PART",
+        "java.lang.RuntimeException                                             |   NOT_HANDLED",
+    }, splitBy = "\\|")
+    @Test
+    public void determineWebMvcFrameworkExceptionCategory_works_as_expected(
+        String exClassname,
+        OneOffSpringWebMvcFrameworkExceptionHandlerListener.WebMvcFrameworkExceptionCategory expectedCategory
+    ) throws ClassNotFoundException {
+        // given
+        Class<?> exClass = Class.forName(exClassname);
+
+        // when
+        OneOffSpringWebMvcFrameworkExceptionHandlerListener.WebMvcFrameworkExceptionCategory result =
+            listener.determineWebMvcFrameworkExceptionCategory(exClass);
+
+        // then
+        assertThat(result).isEqualTo(expectedCategory);
+        assertThat(listener.webMvcFrameworkExceptionCategoryCache.get(exClass)).isEqualTo(expectedCategory);
+    }
+
     @Test
     public void shouldHandleException_returns_METHOD_NOT_ALLOWED_for_HttpRequestMethodNotSupportedException() {
         // given
@@ -2,19 +2,19 @@ package com.nike.backstopper.handler.spring.listener.impl;
 
 import com.nike.backstopper.apierror.ApiError;
 import com.nike.backstopper.apierror.ApiErrorWithMetadata;
+import com.nike.backstopper.apierror.FieldApiErrorInternCache;
 import com.nike.backstopper.apierror.SortedApiErrorSet;
 import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListener;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -25,6 +25,9 @@ import jakarta.inject.Singleton;
  * following the convention where all JSR 303 error messages can be converted to {@link ApiError} (see {@link
  * #convertSpringErrorToApiError(ObjectError)}).
  *
+ * <p>The number of Spring errors converted for a single response can be limited by passing in
+ * {@link #cardinalityCaps} (there is no limit by default) - see {@link ValidationErrorCardinalityCaps} for details.
+ *
  * @author Nic Munroe
  */
 @Named
@@ -33,6 +36,12 @@ import jakarta.inject.Singleton;
 public class ConventionBasedSpringValidationErrorToApiErrorHandlerListener implements ApiExceptionHandlerListener {
 
     protected final ProjectApiErrors projectApiErrors;
+    protected final ValidationErrorCardinalityCaps cardinalityCaps;
+    /**
+     * Reuses the field-level {@link ApiErrorWithMetadata}s created by {@link #convertSpringErrorToApiError(ObjectError)},
+     * since the same combinations come up repeatedly.
+     */
+    protected final FieldApiErrorInternCache fieldApiErrorCache = new FieldApiErrorInternCache();
 
     /**
      * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding {@link
@@ -41,13 +50,33 @@ public class ConventionBasedSpringValidationErrorToApiErrorHandlerListener imple
     @Inject
     public ConventionBasedSpringValidationErrorToApiErrorHandlerListener(
         @NotNull ProjectApiErrors projectApiErrors
+    ) {
+        this(projectApiErrors, ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    /**
+     * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding {@link
+     *                         ApiError}s. Cannot be null.
+     * @param cardinalityCaps The caps on how many Spring errors are converted for a single response. You can pass in
+     *                        {@link ValidationErrorCardinalityCaps#DEFAULT} for reasonable caps, or
+     *                        {@link ValidationErrorCardinalityCaps#UNLIMITED} for none. Cannot be null.
+     */
+    public ConventionBasedSpringValidationErrorToApiErrorHandlerListener(
+        @NotNull ProjectApiErrors projectApiErrors,
+        @NotNull ValidationErrorCardinalityCaps cardinalityCaps
     ) {
         //noinspection ConstantConditions
         if (projectApiErrors == null) {
             throw new IllegalArgumentException("ProjectApiErrors cannot be null");
         }
 
+        //noinspection ConstantConditions
+        if (cardinalityCaps == null) {
+            throw new IllegalArgumentException("cardinalityCaps cannot be null");
+        }
+
         this.projectApiErrors = projectApiErrors;
+        this.cardinalityCaps = cardinalityCaps;
     }
 
     @Override
@@ -69,14 +98,22 @@ public class ConventionBasedSpringValidationErrorToApiErrorHandlerListener imple
 
     /**
      * Helper method for translating the given springErrors set into a set of {@link ApiError} objects by calling {@link
-     * #convertSpringErrorToApiError(ObjectError)} on each one.
+     * #convertSpringErrorToApiError(ObjectError)} on each one. Stops converting once {@link
+     * ValidationErrorCardinalityCaps#maxErrorsPerResponse} errors have been collected, and adds a marker error for the
+     * Spring errors that were skipped.
      */
     protected SortedApiErrorSet convertSpringErrorsToApiErrors(List<ObjectError> springErrors) {
         SortedApiErrorSet apiErrors = new SortedApiErrorSet();
+        int numConverted = 0;
         for (ObjectError springError : springErrors) {
+            if (apiErrors.size() >= cardinalityCaps.maxErrorsPerResponse)
+                break;
+
             apiErrors.add(convertSpringErrorToApiError(springError));
+            numConverted++;
         }
 
+        cardinalityCaps.addOmittedErrorsMarker(apiErrors, springErrors.size() - numConverted, projectApiErrors);
         return apiErrors;
     }
 
@@ -93,9 +130,7 @@ public class ConventionBasedSpringValidationErrorToApiErrorHandlerListener imple
             return projectApiErrors.getGenericServiceError();
 
         if (springError instanceof FieldError) {
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("field", ((FieldError)springError).getField());
-            apiError = new ApiErrorWithMetadata(apiError, metadata);
+            apiError = fieldApiErrorCache.getOrCreate(apiError, ((FieldError)springError).getField());
         }
 
         return apiError;
@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 import static com.nike.backstopper.apierror.SortedApiErrorSet.singletonSortedSetOf;
@@ -58,6 +59,12 @@ import static java.util.Collections.singleton;
  * servlet-api dependency included. Instead they are handled by the backstopper-spring-web-mvc's
  * {@code OneOffSpringWebMvcFrameworkExceptionHandlerListener} class.
  *
+ * <p>The decision of which handling branch an exception type belongs to (if any) is made once per exception class and
+ * cached via {@link ClassValue} - see {@link #determineCommonFrameworkExceptionCategory(Class)}. That decision is
+ * based on {@link #DEFAULT_TO_404_CLASSNAMES} and the other classname sets, so changes to those sets must happen
+ * before the first exception is handled. The generic {@link ApiError}s created for unusual {@link
+ * ResponseStatusException} status codes are likewise created once per status code and reused.
+ *
  * <p>NOTE: This class is abstract - concrete implementations must implement
  * {@link #handleSpringMvcOrWebfluxSpecificFrameworkExceptions(Throwable)} to handle the Spring WebMVC or WebFlux
  * exceptions relevant to the specific Spring environment flavor they're covering.
@@ -97,6 +104,36 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
     // Support 503 cases from competing dependencies using classname matching.
     protected final Set<String> DEFAULT_TO_503_CLASSNAMES = Collections.emptySet();
 
+    /**
+     * The handling branches {@link #shouldHandleException(Throwable)} can dispatch a (non-framework-specific) exception
+     * to, as determined by {@link #determineCommonFrameworkExceptionCategory(Class)}.
+     */
+    protected enum CommonFrameworkExceptionCategory {
+        RESPONSE_STATUS,
+        NOT_FOUND,
+        TYPE_MISMATCH,
+        HTTP_MESSAGE_CONVERSION,
+        TEMPORARY_SERVICE_PROBLEM,
+        UNAUTHORIZED,
+        FORBIDDEN,
+        NOT_HANDLED
+    }
+
+    // The lowest and highest status codes a ResponseStatusException can have - see HttpStatusCode.valueOf(int).
+    private static final int MIN_STATUS_CODE = 100;
+    private static final int MAX_STATUS_CODE = 999;
+
+    protected final ClassValue<CommonFrameworkExceptionCategory> commonFrameworkExceptionCategoryCache =
+        new ClassValue<>() {
+            @Override
+            protected CommonFrameworkExceptionCategory computeValue(Class<?> exClass) {
+                return determineCommonFrameworkExceptionCategory(exClass);
+            }
+        };
+
+    protected final AtomicReferenceArray<ApiError> genericApiErrorForResponseStatusCodeCache =
+        new AtomicReferenceArray<>(MAX_STATUS_CODE - MIN_STATUS_CODE + 1);
+
     /**
      * @param projectApiErrors The {@link ProjectApiErrors} that should be used by this instance when finding {@link
      *                         ApiError}s. Cannot be null.
@@ -141,40 +178,68 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
         }
 
         // Not a Spring MVC or WebFlux specific exception. See if it's an exception common to both.
-        List<Pair<String, String>> extraDetailsForLogging = new ArrayList<>();
+        CommonFrameworkExceptionCategory category = commonFrameworkExceptionCategoryCache.get(ex.getClass());
 
-        if (ex instanceof ResponseStatusException) {
-            return handleResponseStatusException((ResponseStatusException)ex);
+        return switch (category) {
+            case RESPONSE_STATUS -> handleResponseStatusException((ResponseStatusException)ex);
+            case NOT_FOUND -> handleError(projectApiErrors.getNotFoundApiError(), new ArrayList<>());
+            case TYPE_MISMATCH -> handleTypeMismatchException(
+                (TypeMismatchException)ex, new ArrayList<>(), true, null
+            );
+            case HTTP_MESSAGE_CONVERSION -> handleHttpMessageConversionException(
+                (HttpMessageConversionException)ex, new ArrayList<>()
+            );
+            case TEMPORARY_SERVICE_PROBLEM ->
+                handleError(projectApiErrors.getTemporaryServiceProblemApiError(), new ArrayList<>());
+            case UNAUTHORIZED -> handleError(projectApiErrors.getUnauthorizedApiError(), new ArrayList<>());
+            case FORBIDDEN -> handleError(projectApiErrors.getForbiddenApiError(), new ArrayList<>());
+            // This exception is not handled here.
+            case NOT_HANDLED -> ApiExceptionHandlerListenerResult.ignoreResponse();
+        };
+    }
+
+    /**
+     * Determines which {@link #shouldHandleException(Throwable)} branch handles the given exception class. This is
+     * only called once per exception class - the result is cached in {@link #commonFrameworkExceptionCategoryCache}.
+     * The checks are done in the same order {@link #shouldHandleException(Throwable)} has always done them, so the
+     * first matching category wins.
+     */
+    protected @NotNull CommonFrameworkExceptionCategory determineCommonFrameworkExceptionCategory(
+        @NotNull Class<?> exClass
+    ) {
+        if (ResponseStatusException.class.isAssignableFrom(exClass)) {
+            return CommonFrameworkExceptionCategory.RESPONSE_STATUS;
         }
 
-        String exClassname = ex.getClass().getName();
+        String exClassname = exClass.getName();
 
         if (isA404NotFoundExceptionClassname(exClassname)) {
-            return handleError(projectApiErrors.getNotFoundApiError(), extraDetailsForLogging);
+            return CommonFrameworkExceptionCategory.NOT_FOUND;
         }
 
-        if (ex instanceof TypeMismatchException) {
-            return handleTypeMismatchException((TypeMismatchException)ex, extraDetailsForLogging, true, null);
+        if (TypeMismatchException.class.isAssignableFrom(exClass)) {
+            return CommonFrameworkExceptionCategory.TYPE_MISMATCH;
         }
 
-        if (ex instanceof HttpMessageConversionException) {
-            return handleHttpMessageConversionException((HttpMessageConversionException)ex, extraDetailsForLogging);
+        if (HttpMessageConversionException.class.isAssignableFrom(exClass)) {
+            return CommonFrameworkExceptionCategory.HTTP_MESSAGE_CONVERSION;
         }
 
-        if (ex instanceof AsyncRequestTimeoutException || isA503TemporaryProblemExceptionClassname(exClassname)) {
-            return handleError(projectApiErrors.getTemporaryServiceProblemApiError(), extraDetailsForLogging);
+        if (AsyncRequestTimeoutException.class.isAssignableFrom(exClass)
+            || isA503TemporaryProblemExceptionClassname(exClassname)
+        ) {
+            return CommonFrameworkExceptionCategory.TEMPORARY_SERVICE_PROBLEM;
         }
 
         if (isA401UnauthorizedExceptionClassname(exClassname)) {
-            return handleError(projectApiErrors.getUnauthorizedApiError(), extraDetailsForLogging);
+            return CommonFrameworkExceptionCategory.UNAUTHORIZED;
         }
 
         if (isA403ForibddenExceptionClassname(exClassname)) {
-            return handleError(projectApiErrors.getForbiddenApiError(), extraDetailsForLogging);
+            return CommonFrameworkExceptionCategory.FORBIDDEN;
         }
 
-        // This exception is not handled here.
-        return ApiExceptionHandlerListenerResult.ignoreResponse();
+        return CommonFrameworkExceptionCategory.NOT_HANDLED;
     }
 
     protected ApiExceptionHandlerListenerResult handleError(
@@ -454,9 +519,8 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
 
         // Exception cause didn't help. Try parsing the reason message.
         String exReason = (ex.getReason() == null) ? "" : ex.getReason();
-        String[] exReasonWords = exReason.split(" ");
 
-        RequiredParamData missingRequiredParam = parseExReasonForMissingRequiredParam(ex, exReasonWords, exReason);
+        RequiredParamData missingRequiredParam = parseExReasonForMissingRequiredParam(ex, exReason);
         if (missingRequiredParam != null && statusCode == 400) {
             return handleError(
                 new ApiErrorWithMetadata(
@@ -567,11 +631,33 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
             case 503 -> projectApiErrors.getTemporaryServiceProblemApiError();
             default ->
                 // If we reach here then it wasn't a status code where we have a common ApiError in ProjectApiErrors.
-                //      Generate a generic ApiError to cover it.
-                generateGenericApiErrorForResponseStatusCode(statusCode);
+                //      Generate (or reuse) a generic ApiError to cover it.
+                getOrGenerateGenericApiErrorForResponseStatusCode(statusCode);
         };
     }
 
+    /**
+     * @return The {@link #generateGenericApiErrorForResponseStatusCode(int)} result for the given status code, which
+     * is generated the first time a given status code is seen and reused after that.
+     */
+    protected @NotNull ApiError getOrGenerateGenericApiErrorForResponseStatusCode(int statusCode) {
+        if (statusCode < MIN_STATUS_CODE || statusCode > MAX_STATUS_CODE) {
+            // Not a status code that HttpStatusCode allows, so not worth caching.
+            return generateGenericApiErrorForResponseStatusCode(statusCode);
+        }
+
+        int cacheIndex = statusCode - MIN_STATUS_CODE;
+        ApiError cached = genericApiErrorForResponseStatusCodeCache.get(cacheIndex);
+        if (cached == null) {
+            // Racing threads may both generate one, but they're equivalent and only the first is kept.
+            genericApiErrorForResponseStatusCodeCache.compareAndSet(
+                cacheIndex, null, generateGenericApiErrorForResponseStatusCode(statusCode)
+            );
+            cached = genericApiErrorForResponseStatusCodeCache.get(cacheIndex);
+        }
+        return cached;
+    }
+
     protected @NotNull ApiError generateGenericApiErrorForResponseStatusCode(int statusCode) {
         // Reuse the error code for the generic bad request ApiError, unless the status code is greater than or equal
         //      to 500. If status code >= 500, then use the generic service error status code instead.
@@ -588,8 +674,26 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
         );
     }
 
+    /**
+     * @deprecated The words are no longer needed - use {@link #parseExReasonForMissingRequiredParam(
+     * ResponseStatusException, String)} instead, which is what {@link #handleResponseStatusException(
+     * ResponseStatusException)} calls. This method simply delegates to it.
+     */
+    @Deprecated
     protected @Nullable RequiredParamData parseExReasonForMissingRequiredParam(
         @NotNull ResponseStatusException ex, @NotNull String[] exReasonWords, @NotNull String exReason
+    ) {
+        return parseExReasonForMissingRequiredParam(ex, exReason);
+    }
+
+    /**
+     * Looks for a missing required param, either directly from a {@link MissingRequestValueException}, or by parsing
+     * reasons that look like {@code Required [type] parameter '[name]' is not present}. The reason is parsed by
+     * scanning for the space separators in place, so no regex or {@link String#split(String)} arrays are involved,
+     * and the only allocations are the extracted type and name when the reason matches.
+     */
+    protected @Nullable RequiredParamData parseExReasonForMissingRequiredParam(
+        @NotNull ResponseStatusException ex, @NotNull String exReason
     ) {
         // Check for an exception type where we can get the info without parsing strings.
         if (ex instanceof MissingRequestValueException detailsEx) {
@@ -600,18 +704,37 @@ public abstract class OneOffSpringCommonFrameworkExceptionHandlerListener implem
             );
         }
 
-        if (exReasonWords.length != 7) {
+        if (!exReason.startsWith("Required ")
+            || !(exReason.endsWith("is not present.") || exReason.endsWith("is not present"))
+        ) {
             return null;
         }
 
-        if ("Required".equals(exReasonWords[0])
-            && "parameter".equals(exReasonWords[2])
-            && (exReason.endsWith("is not present.") || exReason.endsWith("is not present"))
-        ) {
-            return new RequiredParamData(exReasonWords[3].replace("'", ""), exReasonWords[1], null);
+        // The reason must be exactly 7 space-separated words: Required [type] parameter '[name]' is not present
+        int numSpaces = 0;
+        for (int i = 0; i < exReason.length(); i++) {
+            if (exReason.charAt(i) == ' ') {
+                numSpaces++;
+            }
         }
 
-        return null;
+        if (numSpaces != 6) {
+            return null;
+        }
+
+        int typeStart = "Required ".length();
+        int typeEnd = exReason.indexOf(' ', typeStart);
+        int nameStart = exReason.indexOf(' ', typeEnd + 1) + 1;
+        int nameEnd = exReason.indexOf(' ', nameStart);
+
+        // The third word must be "parameter".
+        if (nameStart - 1 - (typeEnd + 1) != "parameter".length() || !exReason.startsWith("parameter", typeEnd + 1)) {
+            return null;
+        }
+
+        String paramType = exReason.substring(typeStart, typeEnd);
+        String paramName = exReason.substring(nameStart, nameEnd).replace("'", "");
+        return new RequiredParamData(paramName, paramType, null);
     }
 
     protected record RequiredParamData(
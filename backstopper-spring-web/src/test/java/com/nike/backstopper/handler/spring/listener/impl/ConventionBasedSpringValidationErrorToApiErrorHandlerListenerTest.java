@@ -6,6 +6,7 @@ import com.nike.backstopper.apierror.projectspecificinfo.ProjectApiErrors;
 import com.nike.backstopper.apierror.testutil.ProjectApiErrorsForTesting;
 import com.nike.backstopper.exception.ApiException;
 import com.nike.backstopper.handler.listener.ApiExceptionHandlerListenerResult;
+import com.nike.backstopper.handler.listener.ValidationErrorCardinalityCaps;
 import com.nike.backstopper.handler.listener.impl.ListenerTestBase;
 import com.nike.internal.util.Pair;
 import com.nike.internal.util.testing.Glassbox;
@@ -25,6 +26,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.support.WebExchangeBindException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -62,6 +64,32 @@ public class ConventionBasedSpringValidationErrorToApiErrorHandlerListenerTest e
 
         // then
         assertThat(impl.projectApiErrors).isSameAs(projectErrorsMock);
+        assertThat(impl.cardinalityCaps).isSameAs(ValidationErrorCardinalityCaps.UNLIMITED);
+    }
+
+    @Test
+    public void constructor_sets_cardinalityCaps_to_passed_in_arg() {
+        // given
+        ValidationErrorCardinalityCaps caps = new ValidationErrorCardinalityCaps(1, 1);
+
+        // when
+        ConventionBasedSpringValidationErrorToApiErrorHandlerListener impl =
+            new ConventionBasedSpringValidationErrorToApiErrorHandlerListener(testProjectApiErrors, caps);
+
+        // then
+        assertThat(impl.cardinalityCaps).isSameAs(caps);
+    }
+
+    @Test
+    public void constructor_throws_IllegalArgumentException_if_passed_null_cardinalityCaps() {
+        // when
+        @SuppressWarnings("DataFlowIssue")
+        Throwable ex = Assertions.catchThrowable(
+            () -> new ConventionBasedSpringValidationErrorToApiErrorHandlerListener(testProjectApiErrors, null)
+        );
+
+        // then
+        assertThat(ex).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -201,4 +229,38 @@ public class ConventionBasedSpringValidationErrorToApiErrorHandlerListenerTest e
         validateResponse(result, true, Collections.singletonList(testProjectApiErrors.getGenericServiceError()));
     }
 
+    @Test
+    public void shouldHandleException_stops_converting_at_maxErrorsPerResponse_and_adds_omitted_marker() {
+        // given
+        ConventionBasedSpringValidationErrorToApiErrorHandlerListener cappedListener =
+            new ConventionBasedSpringValidationErrorToApiErrorHandlerListener(
+                testProjectApiErrors, new ValidationErrorCardinalityCaps(2, 2)
+            );
+        BindingResult bindingResult = mock(BindingResult.class);
+        ApiError fieldError = testProjectApiErrors.getMissingExpectedContentApiError();
+        List<ObjectError> errorsList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            errorsList.add(new FieldError("someObj", "items[" + i + "]", fieldError.getName()));
+        }
+        when(bindingResult.getAllErrors()).thenReturn(errorsList);
+
+        // when
+        ApiExceptionHandlerListenerResult result = cappedListener.shouldHandleException(new BindException(bindingResult));
+
+        // then
+        assertThat(result.shouldHandleResponse).isTrue();
+        assertThat(result.errors).hasSize(3);
+        assertThat(result.errors).contains(
+            new ApiErrorWithMetadata(fieldError, Pair.of("field", "items[0]")),
+            new ApiErrorWithMetadata(fieldError, Pair.of("field", "items[1]"))
+        );
+        ApiError marker = result.errors.stream()
+            .filter(e -> e.getMetadata().containsKey(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY))
+            .findFirst()
+            .orElseThrow();
+        assertThat(marker.getMetadata())
+            .containsEntry(ValidationErrorCardinalityCaps.OMITTED_ERROR_COUNT_METADATA_KEY, 3);
+        assertThat(marker.getHttpStatusCode()).isEqualTo(fieldError.getHttpStatusCode());
+    }
+
 }
@@ -80,6 +80,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -851,7 +852,11 @@ public class OneOffSpringCommonFrameworkExceptionHandlerListenerTest extends Lis
         "400    |   Required foo parameter is not present       |   null    |   null    |   GENERIC_BAD_REQUEST",
         "400    |   Blah foo parameter 'bar' is not present     |   null    |   null    |   GENERIC_BAD_REQUEST",
         "400    |   Required foo blah 'bar' is not present      |   null    |   null    |   GENERIC_BAD_REQUEST",
+        "400    |   Required foo parameterz 'bar' is not present    |   null    |   null    |   GENERIC_BAD_REQUEST",
         "400    |   Required foo parameter 'bar' is not blah    |   null    |   null    |   GENERIC_BAD_REQUEST",
+        "400    |   Required foo parameter 'bar' is not present.    |   foo     |   bar     |   MALFORMED_REQUEST",
+        "400    |   Required foo parameter 'b'a'r' is not present   |   foo     |   bar     |   MALFORMED_REQUEST",
+        "400    |   Required foo parameter 'bar' baz is not present |   null    |   null    |   GENERIC_BAD_REQUEST",
         "400    |   Some random reason                          |   null    |   null    |   GENERIC_BAD_REQUEST",
     }, splitBy = "\\|")
     @Test
@@ -957,6 +962,91 @@ public class OneOffSpringCommonFrameworkExceptionHandlerListenerTest extends Lis
         );
     }
 
+    @Test
+    public void determineApiErrorToUseForGenericResponseStatusCode_reuses_generated_ApiError_per_status_code() {
+        // given
+        OneOffSpringCommonFrameworkExceptionHandlerListener listenerSpy = spy(
+            new OneOffListenerBasicImpl(testProjectApiErrors, ApiExceptionHandlerUtils.DEFAULT_IMPL)
+        );
+
+        // when
+        ApiError first418 = listenerSpy.determineApiErrorToUseForGenericResponseStatusCode(418);
+        ApiError second418 = listenerSpy.determineApiErrorToUseForGenericResponseStatusCode(418);
+        ApiError first509 = listenerSpy.determineApiErrorToUseForGenericResponseStatusCode(509);
+
+        // then
+        assertThat(second418).isSameAs(first418);
+        assertThat(first418.getHttpStatusCode()).isEqualTo(418);
+        assertThat(first509.getHttpStatusCode()).isEqualTo(509);
+        verify(listenerSpy, times(1)).generateGenericApiErrorForResponseStatusCode(418);
+        verify(listenerSpy, times(1)).generateGenericApiErrorForResponseStatusCode(509);
+    }
+
+    @DataProvider(value = {
+        "42",
+        "1000"
+    })
+    @Test
+    public void getOrGenerateGenericApiErrorForResponseStatusCode_does_not_cache_out_of_range_status_codes(
+        int statusCode
+    ) {
+        // when
+        ApiError first = listener.getOrGenerateGenericApiErrorForResponseStatusCode(statusCode);
+        ApiError second = listener.getOrGenerateGenericApiErrorForResponseStatusCode(statusCode);
+
+        // then
+        assertThat(first).isNotSameAs(second).isEqualTo(second);
+        assertThat(first.getHttpStatusCode()).isEqualTo(statusCode);
+    }
+
+    @DataProvider(value = {
+        "org.springframework.web.server.ResponseStatusException                         |   RESPONSE_STATUS",
+        "org.springframework.web.server.MethodNotAllowedException                       |   RESPONSE_STATUS",
+        "org.springframework.web.servlet.NoHandlerFoundException                        |   NOT_FOUND",
+        "org.springframework.beans.TypeMismatchException                                |   TYPE_MISMATCH",
+        "org.springframework.beans.ConversionNotSupportedException                      |   TYPE_MISMATCH",
+        "org.springframework.http.converter.HttpMessageNotReadableException             |   HTTP_MESSAGE_CONVERSION",
+        "org.springframework.web.context.request.async.AsyncRequestTimeoutException     |   TEMPORARY_SERVICE_PROBLEM",
+        "org.springframework.security.authentication.BadCredentialsException            |   UNAUTHORIZED",
+        "org.springframework.security.access.AccessDeniedException                      |   FORBIDDEN",
+        "java.lang.RuntimeException                                                     |   NOT_HANDLED",
+    }, splitBy = "\\|")
+    @Test
+    public void determineCommonFrameworkExceptionCategory_works_as_expected(
+        String exClassname,
+        OneOffSpringCommonFrameworkExceptionHandlerListener.CommonFrameworkExceptionCategory expectedCategory
+    ) throws ClassNotFoundException {
+        // given
+        Class<?> exClass = Class.forName(exClassname);
+
+        // when
+        OneOffSpringCommonFrameworkExceptionHandlerListener.CommonFrameworkExceptionCategory result =
+            listener.determineCommonFrameworkExceptionCategory(exClass);
+
+        // then
+        assertThat(result).isEqualTo(expectedCategory);
+        assertThat(listener.commonFrameworkExceptionCategoryCache.get(exClass)).isEqualTo(expectedCategory);
+    }
+
+    @Test
+    public void deprecated_parseExReasonForMissingRequiredParam_delegates_to_non_deprecated_version() {
+        // given
+        OneOffSpringCommonFrameworkExceptionHandlerListener listenerSpy = spy(listener);
+        String reason = "Required foo parameter 'bar' is not present";
+        ResponseStatusException ex = new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+
+        // when
+        @SuppressWarnings("deprecation")
+        OneOffSpringCommonFrameworkExceptionHandlerListener.RequiredParamData result =
+            listenerSpy.parseExReasonForMissingRequiredParam(ex, reason.split(" "), reason);
+
+        // then
+        verify(listenerSpy).parseExReasonForMissingRequiredParam(ex, reason);
+        assertThat(result).isNotNull();
+        assertThat(result.paramName()).isEqualTo("bar");
+        assertThat(result.paramType()).isEqualTo("foo");
+    }
+
     @DataProvider(value = {
         "418",
         "509"